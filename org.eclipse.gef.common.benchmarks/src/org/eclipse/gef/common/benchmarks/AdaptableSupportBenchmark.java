@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.common.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.common.adapt.AdaptableSupport;
+import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.common.adapt.IAdaptable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.common.reflect.TypeToken;
+
+import javafx.beans.property.ReadOnlyMapProperty;
+import javafx.collections.ObservableMap;
+
+/**
+ * Measures looking up adapters via {@link IAdaptable#getAdapter(Class)} at an
+ * {@link IAdaptable} (backed by an {@link AdaptableSupport}) with an
+ * increasing number of registered adapters, as well as the lookup after an
+ * unrelated adapter has been registered.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AdaptableSupportBenchmark {
+
+	private static class Adaptable implements IAdaptable {
+
+		private AdaptableSupport<Adaptable> ads = new AdaptableSupport<>(
+				this);
+
+		@Override
+		public ReadOnlyMapProperty<AdapterKey<?>, Object> adaptersProperty() {
+			return ads.adaptersProperty();
+		}
+
+		@Override
+		public <T> T getAdapter(AdapterKey<T> key) {
+			return ads.getAdapter(key);
+		}
+
+		@Override
+		public <T> T getAdapter(Class<T> key) {
+			return ads.getAdapter(key);
+		}
+
+		@Override
+		public <T> T getAdapter(TypeToken<T> key) {
+			return ads.getAdapter(key);
+		}
+
+		@Override
+		public <T> AdapterKey<T> getAdapterKey(T adapter) {
+			return ads.getAdapterKey(adapter);
+		}
+
+		@Override
+		public ObservableMap<AdapterKey<?>, Object> getAdapters() {
+			return ads.getAdapters();
+		}
+
+		@Override
+		public <T> Map<AdapterKey<? extends T>, T> getAdapters(
+				Class<? super T> key) {
+			return ads.getAdapters(key);
+		}
+
+		@Override
+		public <T> Map<AdapterKey<? extends T>, T> getAdapters(
+				TypeToken<? super T> key) {
+			return ads.getAdapters(key);
+		}
+
+		@Override
+		public <T> void setAdapter(T adapter) {
+			ads.setAdapter(adapter);
+		}
+
+		@Override
+		public <T> void setAdapter(T adapter, String role) {
+			ads.setAdapter(adapter, role);
+		}
+
+		@Override
+		public <T> void setAdapter(TypeToken<T> adapterType, T adapter) {
+			ads.setAdapter(adapterType, adapter);
+		}
+
+		@Override
+		public <T> void setAdapter(TypeToken<T> adapterType, T adapter,
+				String role) {
+			ads.setAdapter(adapterType, adapter, role);
+		}
+
+		@Override
+		public <T> void unsetAdapter(T adapter) {
+			ads.unsetAdapter(adapter);
+		}
+	}
+
+	private static class RegisteredAdapter {
+	}
+
+	private static class RoleAdapter {
+	}
+
+	@Param({ "10", "100" })
+	private int adapters;
+
+	private Adaptable adaptable;
+	private RoleAdapter changedAdapter = new RoleAdapter();
+
+	/**
+	 * Registers and unregisters an adapter of another type and looks up the
+	 * registered adapter afterwards.
+	 *
+	 * @return The registered adapter.
+	 */
+	@Benchmark
+	public RegisteredAdapter getAdapter_afterChange() {
+		adaptable.setAdapter(changedAdapter, "changed");
+		adaptable.unsetAdapter(changedAdapter);
+		return adaptable.getAdapter(RegisteredAdapter.class);
+	}
+
+	/**
+	 * Looks up a type for which no adapter is registered.
+	 *
+	 * @return <code>null</code>.
+	 */
+	@Benchmark
+	public Runnable getAdapter_notRegistered() {
+		return adaptable.getAdapter(Runnable.class);
+	}
+
+	/**
+	 * Looks up the type of the registered adapter.
+	 *
+	 * @return The registered adapter.
+	 */
+	@Benchmark
+	public RegisteredAdapter getAdapter_registered() {
+		return adaptable.getAdapter(RegisteredAdapter.class);
+	}
+
+	/**
+	 * Creates the {@link IAdaptable} and registers the adapters (in different
+	 * roles).
+	 */
+	@Setup
+	public void setup() {
+		adaptable = new Adaptable();
+		for (int i = 0; i < adapters - 1; i++) {
+			adaptable.setAdapter(new RoleAdapter(), "role" + i);
+		}
+		adaptable.setAdapter(new RegisteredAdapter());
+	}
+
+}
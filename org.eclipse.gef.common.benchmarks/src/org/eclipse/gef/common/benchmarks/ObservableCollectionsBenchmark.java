@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.common.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.common.collections.CollectionUtils;
+import org.eclipse.gef.common.collections.MultisetChangeListener;
+import org.eclipse.gef.common.collections.ObservableMultiset;
+import org.eclipse.gef.common.collections.ObservableSetMultimap;
+import org.eclipse.gef.common.collections.SetMultimapChangeListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Measures sequentially adding an increasing number of elements to the
+ * observable collections of org.eclipse.gef.common, while a change listener
+ * (which does not retrieve the previous contents) is registered.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ObservableCollectionsBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int elements;
+
+	/**
+	 * Sequentially adds elements to an {@link ObservableList}.
+	 *
+	 * @return The {@link ObservableList}.
+	 */
+	@Benchmark
+	public ObservableList<Integer> add_ObservableList() {
+		ObservableList<Integer> list = CollectionUtils.observableArrayList();
+		list.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+			}
+		});
+		for (int i = 0; i < elements; i++) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	/**
+	 * Sequentially adds elements to an {@link ObservableMultiset}.
+	 *
+	 * @return The {@link ObservableMultiset}.
+	 */
+	@Benchmark
+	public ObservableMultiset<Integer> add_ObservableMultiset() {
+		ObservableMultiset<Integer> multiset = CollectionUtils
+				.observableHashMultiset();
+		multiset.addListener(new MultisetChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					MultisetChangeListener.Change<? extends Integer> change) {
+			}
+		});
+		for (int i = 0; i < elements; i++) {
+			multiset.add(i);
+		}
+		return multiset;
+	}
+
+	/**
+	 * Sequentially puts entries into an {@link ObservableSetMultimap}.
+	 *
+	 * @return The {@link ObservableSetMultimap}.
+	 */
+	@Benchmark
+	public ObservableSetMultimap<Integer, String> put_ObservableSetMultimap() {
+		ObservableSetMultimap<Integer, String> multimap = CollectionUtils
+				.observableHashMultimap();
+		multimap.addListener(new SetMultimapChangeListener<Integer, String>() {
+			@Override
+			public void onChanged(
+					SetMultimapChangeListener.Change<? extends Integer, ? extends String> change) {
+			}
+		});
+		for (int i = 0; i < elements; i++) {
+			multimap.put(i, Integer.toString(i));
+		}
+		return multimap;
+	}
+
+}
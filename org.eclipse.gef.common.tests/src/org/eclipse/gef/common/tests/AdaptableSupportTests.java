@@ -130,6 +130,39 @@ public class AdaptableSupportTests {
 	private class ParameterType2 extends Object {
 	}
 
+	@Test
+	public void lookupCacheInvalidatedOnChange() {
+		AdaptableSupportWrapper td = new AdaptableSupportWrapper();
+		ParameterType1 adapter1 = new ParameterType1();
+		td.setAdapter(adapter1);
+
+		// repeated lookups yield the same result
+		assertEquals(adapter1, td.getAdapter(ParameterType1.class));
+		assertEquals(adapter1, td.getAdapter(ParameterType1.class));
+		assertNull(td.getAdapter(ParameterType2.class));
+		assertNull(td.getAdapter(ParameterType2.class));
+		assertEquals(adapter1, td.getAdapter(Object.class));
+
+		// registering another adapter has to be reflected by lookups that
+		// previously failed as well as by lookups that succeeded
+		ParameterType2 adapter2 = new ParameterType2();
+		td.setAdapter(adapter2, "role");
+		assertEquals(adapter2, td.getAdapter(ParameterType2.class));
+		assertEquals(adapter2,
+				td.getAdapter(AdapterKey.get(ParameterType2.class, "role")));
+		// ambiguous, so resolved via the default role
+		assertEquals(adapter1, td.getAdapter(Object.class));
+
+		// unregistering has to be reflected as well
+		td.unsetAdapter(adapter1);
+		assertNull(td.getAdapter(ParameterType1.class));
+		assertEquals(adapter2, td.getAdapter(Object.class));
+		td.unsetAdapter(adapter2);
+		assertNull(td.getAdapter(ParameterType2.class));
+		assertNull(
+				td.getAdapter(AdapterKey.get(ParameterType2.class, "role")));
+	}
+
 	@SuppressWarnings({ "serial", "rawtypes" })
 	@Test
 	public void registrationWithAdapterTypeOnly() {
@@ -247,11 +247,9 @@ public class ObservableListTests {
 				assertEquals(expectedString.toString(), change.toString());
 			}
 
-			// check previous value of change (only in case of JavaFX change)
-			if (!(change instanceof AtomicChange)) {
-				assertEquals(previousValue,
-						CollectionUtils.getPreviousContents(change));
-			}
+			// check previous value of change
+			assertEquals(previousValue,
+					CollectionUtils.getPreviousContents(change));
 		}
 	}
 
@@ -438,6 +436,54 @@ public class ObservableListTests {
 		checkListeners();
 	}
 
+	@Test
+	public void add_previousContentsComputedOnDemand() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		// record changes, retrieving the previous contents of a single one
+		// while it is fired
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		final List<List<Integer>> retrievedContents = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+				if (changes.size() == 50) {
+					retrievedContents.add(getPreviousContents(change));
+				}
+			}
+		});
+
+		// sequentially add elements
+		List<Integer> expectedContents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			observable.add(i);
+			expectedContents.add(i);
+		}
+		assertEquals(expectedContents, observable);
+		assertEquals(100, changes.size());
+
+		// previous contents retrieved during notification are not affected
+		// by subsequent changes
+		assertEquals(expectedContents.subList(0, 49),
+				retrievedContents.get(0));
+		assertEquals(expectedContents.subList(0, 49),
+				getPreviousContents(changes.get(49)));
+
+		// previous contents of the other changes are computed on demand,
+		// preceding and succeeding the retrieved one
+		for (int i = changes.size() - 1; i >= 0; i -= 7) {
+			assertEquals(expectedContents.subList(0, i),
+					getPreviousContents(changes.get(i)));
+		}
+	}
+
 	@Before
 	public void before() {
 		observable = observableProvider.get();
@@ -1026,6 +1072,64 @@ public class ObservableListTests {
 		observable.addListener(listChangeListener);
 	}
 
+	@Test
+	public void previousContents_retrievedAfterSubsequentChanges() {
+		assumeTrue(
+				"Skip for all except ObservableListWrapperEx, SimpleListPropertyEx, or ReadOnlyListWrapperEx",
+				observable.getClass().getSimpleName()
+						.equals("ObservableListWrapperEx")
+						|| observable instanceof SimpleListPropertyEx
+						|| observable instanceof ReadOnlyListWrapperEx);
+
+		// record changes, but do not retrieve previous contents yet
+		final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new ListChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+
+		List<List<Integer>> previousContents = new ArrayList<>();
+		previousContents.add(new ArrayList<>(observable));
+		observable.addAll(5, 3, 1, 4, 2, 6);
+		previousContents.add(new ArrayList<>(observable));
+		observable.add(0, 7);
+		previousContents.add(new ArrayList<>(observable));
+		observable.remove(Integer.valueOf(1));
+		previousContents.add(new ArrayList<>(observable));
+		observable.set(1, 9);
+		previousContents.add(new ArrayList<>(observable));
+		observable.removeAll(7, 4, 2);
+		previousContents.add(new ArrayList<>(observable));
+		CollectionUtils.sort(observable);
+		previousContents.add(new ArrayList<>(observable));
+		observable.remove(0, 2);
+		previousContents.add(new ArrayList<>(observable));
+		observable.add(8);
+		previousContents.add(new ArrayList<>(observable));
+		observable.clear();
+		previousContents.add(new ArrayList<>(observable));
+		observable.addAll(1, 2);
+		assertEquals(previousContents.size(), changes.size());
+
+		// retrieve previous contents out of order
+		assertEquals(previousContents.get(5),
+				getPreviousContents(changes.get(5)));
+		for (int i = 0; i < changes.size(); i++) {
+			assertEquals(previousContents.get(i),
+					getPreviousContents(changes.get(i)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Integer> getPreviousContents(
+			ListChangeListener.Change<? extends Integer> change) {
+		return CollectionUtils
+				.getPreviousContents((ListChangeListener.Change<Integer>) change);
+	}
+
 	@Test
 	public void remove() {
 		// initialize list with some values
@@ -16,10 +16,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.eclipse.gef.common.beans.binding.MultisetExpressionHelper;
 import org.eclipse.gef.common.beans.property.ReadOnlyMultisetWrapper;
@@ -258,6 +260,49 @@ public class ObservableMultisetTests {
 		checkListeners();
 	}
 
+	@Test
+	public void add_previousContentsComputedOnDemand() {
+		// record changes, retrieving the previous contents of a single one
+		// while it is fired
+		final List<MultisetChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		final List<Multiset<Integer>> retrievedContents = new ArrayList<>();
+		observable.addListener(new MultisetChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					MultisetChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+				if (changes.size() == 50) {
+					retrievedContents.add(HashMultiset
+							.create(change.getPreviousContents()));
+				}
+			}
+		});
+
+		// sequentially add elements
+		List<Multiset<Integer>> expectedContents = new ArrayList<>();
+		Multiset<Integer> contents = HashMultiset.create();
+		for (int i = 0; i < 100; i++) {
+			expectedContents.add(HashMultiset.create(contents));
+			observable.add(i % 10);
+			contents.add(i % 10);
+		}
+		assertEquals(contents, observable);
+		assertEquals(100, changes.size());
+
+		// previous contents retrieved during notification are not affected
+		// by subsequent changes
+		assertEquals(expectedContents.get(49), retrievedContents.get(0));
+		assertEquals(expectedContents.get(49),
+				changes.get(49).getPreviousContents());
+
+		// previous contents of the other changes are computed on demand,
+		// preceding and succeeding the retrieved one
+		for (int i = changes.size() - 1; i >= 0; i -= 7) {
+			assertEquals(expectedContents.get(i),
+					changes.get(i).getPreviousContents());
+		}
+	}
+
 	@Test
 	public void add_withCount() {
 		// prepare backup multiset
@@ -578,6 +623,48 @@ public class ObservableMultisetTests {
 		observable.addListener(multisetChangeListener);
 	}
 
+	@Test
+	public void previousContents_retrievedAfterSubsequentChanges() {
+		// record changes, but do not retrieve previous contents yet
+		final List<MultisetChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+		observable.addListener(new MultisetChangeListener<Integer>() {
+			@Override
+			public void onChanged(
+					MultisetChangeListener.Change<? extends Integer> change) {
+				changes.add(change);
+			}
+		});
+
+		List<Multiset<Integer>> previousContents = new ArrayList<>();
+		previousContents.add(HashMultiset.create(observable));
+		observable.addAll(Arrays.asList(1, 1, 2, 3));
+		previousContents.add(HashMultiset.create(observable));
+		observable.add(2, 3);
+		previousContents.add(HashMultiset.create(observable));
+		observable.remove(1);
+		previousContents.add(HashMultiset.create(observable));
+		observable.setCount(3, 0);
+		previousContents.add(HashMultiset.create(observable));
+		observable.removeAll(Arrays.asList(1, 4));
+		previousContents.add(HashMultiset.create(observable));
+		observable.add(4);
+		previousContents.add(HashMultiset.create(observable));
+		observable.retainAll(Arrays.asList(4));
+		previousContents.add(HashMultiset.create(observable));
+		observable.clear();
+		previousContents.add(HashMultiset.create(observable));
+		observable.add(5, 2);
+		assertEquals(previousContents.size(), changes.size());
+
+		// retrieve previous contents out of order
+		assertEquals(previousContents.get(4),
+				changes.get(4).getPreviousContents());
+		for (int i = 0; i < changes.size(); i++) {
+			assertEquals(previousContents.get(i),
+					changes.get(i).getPreviousContents());
+		}
+	}
+
 	@Test
 	public void remove() {
 		// initialize multiset with some values
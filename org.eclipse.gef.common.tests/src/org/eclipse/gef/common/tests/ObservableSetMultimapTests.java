@@ -17,12 +17,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.gef.common.beans.binding.SetMultimapExpressionHelper;
@@ -539,6 +541,49 @@ public class ObservableSetMultimapTests {
 		setMultimapChangeListener.check();
 	}
 
+	@Test
+	public void previousContents_retrievedAfterSubsequentChanges() {
+		// record changes, but do not retrieve previous contents yet
+		final List<SetMultimapChangeListener.Change<? extends Integer, ? extends String>> changes = new ArrayList<>();
+		observable.addListener(new SetMultimapChangeListener<Integer, String>() {
+			@Override
+			public void onChanged(
+					SetMultimapChangeListener.Change<? extends Integer, ? extends String> change) {
+				changes.add(change);
+			}
+		});
+
+		List<SetMultimap<Integer, String>> previousContents = new ArrayList<>();
+		previousContents.add(HashMultimap.create(observable));
+		observable.putAll(1, Sets.newHashSet("1", "one"));
+		previousContents.add(HashMultimap.create(observable));
+		observable.put(2, "2");
+		previousContents.add(HashMultimap.create(observable));
+		observable.remove(1, "one");
+		previousContents.add(HashMultimap.create(observable));
+		observable.replaceValues(2, Sets.newHashSet("two", "zwei"));
+		previousContents.add(HashMultimap.create(observable));
+		SetMultimap<Integer, String> other = HashMultimap.create();
+		other.put(1, "eins");
+		other.put(3, "3");
+		observable.putAll(other);
+		previousContents.add(HashMultimap.create(observable));
+		observable.removeAll(2);
+		previousContents.add(HashMultimap.create(observable));
+		observable.clear();
+		previousContents.add(HashMultimap.create(observable));
+		observable.put(4, "4");
+		assertEquals(previousContents.size(), changes.size());
+
+		// retrieve previous contents out of order
+		assertEquals(previousContents.get(4),
+				changes.get(4).getPreviousContents());
+		for (int i = 0; i < changes.size(); i++) {
+			assertEquals(previousContents.get(i),
+					changes.get(i).getPreviousContents());
+		}
+	}
+
 	@Test
 	public void put() {
 		// prepare backup map
@@ -601,6 +646,49 @@ public class ObservableSetMultimapTests {
 		checkListeners();
 	}
 
+	@Test
+	public void put_previousContentsComputedOnDemand() {
+		// record changes, retrieving the previous contents of a single one
+		// while it is fired
+		final List<SetMultimapChangeListener.Change<? extends Integer, ? extends String>> changes = new ArrayList<>();
+		final List<SetMultimap<Integer, String>> retrievedContents = new ArrayList<>();
+		observable.addListener(new SetMultimapChangeListener<Integer, String>() {
+			@Override
+			public void onChanged(
+					SetMultimapChangeListener.Change<? extends Integer, ? extends String> change) {
+				changes.add(change);
+				if (changes.size() == 50) {
+					retrievedContents.add(HashMultimap
+							.create(change.getPreviousContents()));
+				}
+			}
+		});
+
+		// sequentially put entries
+		List<SetMultimap<Integer, String>> expectedContents = new ArrayList<>();
+		SetMultimap<Integer, String> contents = HashMultimap.create();
+		for (int i = 0; i < 100; i++) {
+			expectedContents.add(HashMultimap.create(contents));
+			observable.put(i % 10, Integer.toString(i));
+			contents.put(i % 10, Integer.toString(i));
+		}
+		assertEquals(contents, observable);
+		assertEquals(100, changes.size());
+
+		// previous contents retrieved during notification are not affected
+		// by subsequent changes
+		assertEquals(expectedContents.get(49), retrievedContents.get(0));
+		assertEquals(expectedContents.get(49),
+				changes.get(49).getPreviousContents());
+
+		// previous contents of the other changes are computed on demand,
+		// preceding and succeeding the retrieved one
+		for (int i = changes.size() - 1; i >= 0; i -= 7) {
+			assertEquals(expectedContents.get(i),
+					changes.get(i).getPreviousContents());
+		}
+	}
+
 	@Test
 	public void putAll_multipleKeys() {
 		// prepare backup SetMultimap
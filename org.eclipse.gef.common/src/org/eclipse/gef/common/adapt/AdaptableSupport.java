@@ -12,9 +12,13 @@
 package org.eclipse.gef.common.adapt;
 
 import java.beans.PropertyChangeSupport;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -44,9 +48,18 @@ import javafx.collections.ObservableMap;
  */
 public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 
+	// marks lookups that did not yield an adapter within the lookup cache
+	private static final Object NO_ADAPTER = new Object();
+
 	// XXX: We keep a sorted map of adapters to have a deterministic order
 	private ObservableMap<AdapterKey<?>, Object> adapters = FXCollections
 			.observableMap(new TreeMap<AdapterKey<?>, Object>());
+	// the keys under which each adapter (instance) is registered
+	private Map<Object, List<AdapterKey<?>>> adapterKeys = new IdentityHashMap<>();
+	// results of getAdapter(), keyed by the Class, TypeToken, or AdapterKey
+	// that was used for the lookup; invalidated when adapters of a matching
+	// type are registered or unregistered
+	private Map<Object, Object> adapterLookupCache = new HashMap<>();
 	private ObservableMap<AdapterKey<?>, Object> adaptersUnmodifiable;
 	private ReadOnlyMapWrapperEx<AdapterKey<?>, Object> adaptersUnmodifiableProperty;
 	private A source;
@@ -82,6 +95,12 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		return adaptersUnmodifiableProperty.getReadOnlyProperty();
 	}
 
+	private Object cacheAdapter(Object lookupKey, Object adapter) {
+		Object cachedAdapter = adapter == null ? NO_ADAPTER : adapter;
+		adapterLookupCache.put(lookupKey, cachedAdapter);
+		return cachedAdapter;
+	}
+
 	/**
 	 * Disposes this {@link AdaptableSupport}, which will unregister all
 	 * currently registered adapters, unbind them from their source
@@ -93,8 +112,10 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	public void dispose() {
 		Map<AdapterKey<?>, Object> oldAdapters = new HashMap<>(adapters);
 		for (AdapterKey<?> key : oldAdapters.keySet()) {
+			invalidateAdapterLookups(key);
 			Object adapter = adapters.remove(key);
 			if (adapter != null) {
+				adapterKeys.remove(adapter);
 				// unbind adapter (if its bound)
 				if (adapter instanceof IAdaptable.Bound) {
 					((IAdaptable.Bound<A>) adapter).setAdaptable(null);
@@ -107,6 +128,8 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			}
 		}
 
+		adapterLookupCache.clear();
+		adapterKeys.clear();
 		adapters.clear();
 		source = null;
 	}
@@ -126,22 +149,16 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(AdapterKey)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(AdapterKey<T> key) {
 		if (adapters.isEmpty()) {
 			return null;
 		}
-
-		// see if we can unambiguously retrieve a matching adapter
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(
-				key.getKey(), key.getRole());
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		Object adapter = adapterLookupCache.get(key);
+		if (adapter == null) {
+			adapter = cacheAdapter(key, lookupAdapter(key));
 		}
-
-		return null;
+		return adapter == NO_ADAPTER ? null : (T) adapter;
 	}
 
 	/**
@@ -160,8 +177,19 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(Class<T> key) {
-		return this.<T> getAdapter(TypeToken.of(key));
+		if (adapters.isEmpty()) {
+			return null;
+		}
+		// look up the class directly, so a TypeToken has only to be created
+		// when the cache misses
+		Object adapter = adapterLookupCache.get(key);
+		if (adapter == null) {
+			adapter = cacheAdapter(key,
+					this.<T> getAdapter(TypeToken.of(key)));
+		}
+		return adapter == NO_ADAPTER ? null : (T) adapter;
 	}
 
 	/**
@@ -182,26 +210,16 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 *
 	 * @see IAdaptable#getAdapter(TypeToken)
 	 */
+	@SuppressWarnings("unchecked")
 	public <T> T getAdapter(TypeToken<T> key) {
-		// if we have only one adapter (instance) for the given type key
-		// (disregarding the
-		// role), return this one
-		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(key,
-				null);
-
-		// an adapter instance may be registered under different keys
-		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
-		if (adapterCount == 1) {
-			return adaptersForTypeKey.values().iterator().next();
+		if (adapters.isEmpty()) {
+			return null;
 		}
-
-		if (adapterCount > 1) {
-			// if we have more than one adapter instance, try to retrieve one
-			// unambiguously by using the default role
-			return getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
+		Object adapter = adapterLookupCache.get(key);
+		if (adapter == null) {
+			adapter = cacheAdapter(key, lookupAdapter(key));
 		}
-
-		return null;
+		return adapter == NO_ADAPTER ? null : (T) adapter;
 	}
 
 	/**
@@ -214,14 +232,20 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 * @return The {@link AdapterKey} under which the respective adapter is
 	 *         bound, or <code>null</code> if the adapter is not registered.
 	 */
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public <T> AdapterKey<T> getAdapterKey(T adapter) {
-		for (AdapterKey<?> key : adapters.keySet()) {
-			if (adapters.get(key) == adapter) {
-				return (AdapterKey<T>) key;
+		List<AdapterKey<?>> keys = adapterKeys.get(adapter);
+		if (keys == null) {
+			return null;
+		}
+		// return the first key (in the order of the adapters map)
+		AdapterKey<?> firstKey = keys.get(0);
+		for (AdapterKey<?> key : keys) {
+			if (key.compareTo((AdapterKey) firstKey) < 0) {
+				firstKey = key;
 			}
 		}
-		return null;
+		return (AdapterKey<T>) firstKey;
 	}
 
 	/**
@@ -287,11 +311,11 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			return Collections.emptyMap();
 		}
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
-			if (Types.isAssignable(key, k.getKey())) {
+		for (Map.Entry<AdapterKey<?>, Object> e : adapters.entrySet()) {
+			if (Types.isAssignable(key, e.getKey().getKey())) {
 				// check type compliance...
-				typeSafeAdapters.put((AdapterKey<? extends T>) k,
-						(T) adapters.get(k));
+				typeSafeAdapters.put((AdapterKey<? extends T>) e.getKey(),
+						(T) e.getValue());
 			}
 		}
 		return typeSafeAdapters;
@@ -308,13 +332,14 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		}
 
 		Map<AdapterKey<? extends T>, T> typeSafeAdapters = new TreeMap<>();
-		for (AdapterKey<?> k : adapters.keySet()) {
+		for (Map.Entry<AdapterKey<?>, Object> e : adapters.entrySet()) {
+			AdapterKey<?> k = e.getKey();
 			if (role == null || k.getRole().equals(role)) {
 				// return all adapters assignable to the given type
 				// key
 				if (Types.isAssignable(typeKey, k.getKey())) {
 					typeSafeAdapters.put((AdapterKey<? extends T>) k,
-							(T) adapters.get(k));
+							(T) e.getValue());
 
 				}
 			}
@@ -322,6 +347,71 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 		return typeSafeAdapters;
 	}
 
+	private void invalidateAdapterLookups(AdapterKey<?> changedKey) {
+		if (adapterLookupCache.isEmpty()) {
+			return;
+		}
+		// only lookups for a super type of the changed key's type are affected
+		TypeToken<?> changedType = changedKey.getKey();
+		Iterator<Object> lookupKeys = adapterLookupCache.keySet().iterator();
+		while (lookupKeys.hasNext()) {
+			Object lookupKey = lookupKeys.next();
+			boolean affected;
+			if (lookupKey instanceof Class) {
+				affected = changedType.getType() instanceof Class
+						? ((Class<?>) lookupKey).isAssignableFrom(
+								(Class<?>) changedType.getType())
+						: Types.isAssignable(TypeToken.of((Class<?>) lookupKey),
+								changedType);
+			} else if (lookupKey instanceof TypeToken) {
+				affected = Types.isAssignable((TypeToken<?>) lookupKey,
+						changedType);
+			} else {
+				affected = Types.isAssignable(
+						((AdapterKey<?>) lookupKey).getKey(), changedType);
+			}
+			if (affected) {
+				lookupKeys.remove();
+			}
+		}
+	}
+
+	private <T> T lookupAdapter(AdapterKey<T> key) {
+		// see if we can unambiguously retrieve a matching adapter
+		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(
+				key.getKey(), key.getRole());
+
+		// an adapter instance may be registered under different keys
+		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
+		if (adapterCount == 1) {
+			return adaptersForTypeKey.values().iterator().next();
+		}
+
+		return null;
+	}
+
+	private <T> T lookupAdapter(TypeToken<T> key) {
+		// if we have only one adapter (instance) for the given type key
+		// (disregarding the
+		// role), return this one
+		Map<AdapterKey<? extends T>, T> adaptersForTypeKey = getAdapters(key,
+				null);
+
+		// an adapter instance may be registered under different keys
+		int adapterCount = new HashSet<>(adaptersForTypeKey.values()).size();
+		if (adapterCount == 1) {
+			return adaptersForTypeKey.values().iterator().next();
+		}
+
+		if (adapterCount > 1) {
+			// if we have more than one adapter instance, try to retrieve one
+			// unambiguously by using the default role
+			return getAdapter(AdapterKey.get(key, AdapterKey.DEFAULT_ROLE));
+		}
+
+		return null;
+	}
+
 	/**
 	 * Registers the given adapter under the default role (see
 	 * {@link AdapterKey#DEFAULT_ROLE}.
@@ -426,6 +516,15 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			}
 		}
 
+		if (adapters.get(key) != adapter) {
+			invalidateAdapterLookups(key);
+			List<AdapterKey<?>> keys = adapterKeys.get(adapter);
+			if (keys == null) {
+				keys = new ArrayList<>(1);
+				adapterKeys.put(adapter, keys);
+			}
+			keys.add(key);
+		}
 		adapters.put(key, adapter);
 
 		if (adapter instanceof IAdaptable.Bound) {
@@ -444,7 +543,8 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> void unsetAdapter(T adapter) {
-		if (!adapters.containsValue(adapter)) {
+		List<AdapterKey<?>> keys = adapterKeys.get(adapter);
+		if (keys == null && !adapters.containsValue(adapter)) {
 			throw new IllegalArgumentException(
 					"Given adapter is not registered.");
 		}
@@ -453,9 +553,11 @@ public class AdaptableSupport<A extends IAdaptable> implements IDisposable {
 			((IAdaptable.Bound<A>) adapter).setAdaptable(null);
 		}
 
-		// process all keys and remove those pointing to the given adapter
-		for (AdapterKey<?> key : new HashMap<>(adapters).keySet()) {
-			if (adapters.get(key) == adapter) {
+		// remove all keys pointing to the given adapter
+		if (keys != null) {
+			adapterKeys.remove(adapter);
+			for (AdapterKey<?> key : keys) {
+				invalidateAdapterLookups(key);
 				adapters.remove(key);
 			}
 		}
@@ -50,6 +50,12 @@ public class ListListenerHelperEx<E> {
 
 		private List<E> previousContents;
 
+		// in case the previous contents are not provided, they are computed on
+		// demand, either from the change this one was inferred from, or by
+		// undoing this and all succeeding changes of the source list
+		private AtomicChange<? extends E> inferredFrom;
+		private AtomicChange<E> successor;
+
 		/**
 		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
 		 * represents a change comprising a single elementary sub-change.
@@ -95,6 +101,48 @@ public class ListListenerHelperEx<E> {
 					.toArray(new ElementarySubChange[] {});
 		}
 
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising a single elementary sub-change, whose
+		 * previous contents are not copied eagerly but computed on demand.
+		 * <p>
+		 * The previous contents are inferred by undoing this change (as well
+		 * as all changes that were applied to the source
+		 * {@link ObservableList} after it) on the current contents of the
+		 * source {@link ObservableList}. The creator of the change thus has to
+		 * {@link #setSuccessor(AtomicChange) link} each succeeding change of
+		 * the source {@link ObservableList} to its predecessor.
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChange
+		 *            The elementary sub-change that has been applied.
+		 */
+		public AtomicChange(ObservableList<E> source,
+				ElementarySubChange<E> elementarySubChange) {
+			this(source, (List<E>) null, elementarySubChange);
+		}
+
+		/**
+		 * Creates a new {@link ListListenerHelperEx.AtomicChange} that
+		 * represents a change comprising multiple elementary sub-changes,
+		 * whose previous contents are not copied eagerly but computed on
+		 * demand (see
+		 * {@link #AtomicChange(ObservableList, ElementarySubChange)}).
+		 *
+		 * @param source
+		 *            The source {@link ObservableList} from which the change
+		 *            originated.
+		 * @param elementarySubChanges
+		 *            The elementary sub-changes that have been applied as part
+		 *            of this change.
+		 */
+		public AtomicChange(ObservableList<E> source,
+				List<ElementarySubChange<E>> elementarySubChanges) {
+			this(source, (List<E>) null, elementarySubChanges);
+		}
+
 		/**
 		 * Creates a new {@link ListListenerHelperEx.AtomicChange} for the
 		 * passed in source, based on the data provided in the passed-in change.
@@ -115,9 +163,15 @@ public class ListListenerHelperEx<E> {
 				ListChangeListener.Change<? extends E> change) {
 			super(source);
 
-			// copy previous contents
-			this.previousContents = new ArrayList<>(
-					CollectionUtils.getPreviousContents(change));
+			if (change instanceof AtomicChange) {
+				// previous contents are retrieved on demand (they are
+				// immutable, and may thus be shared)
+				this.inferredFrom = (AtomicChange<? extends E>) change;
+			} else {
+				// copy previous contents
+				this.previousContents = new ArrayList<>(
+						CollectionUtils.getPreviousContents(change));
+			}
 
 			// retrieve elementary sub-changes by iterating them
 			// TODO: we could introduce an initialized field inside Change
@@ -134,6 +188,11 @@ public class ListListenerHelperEx<E> {
 		}
 
 		private void checkCursor(String args) {
+			if (cursor != -1 && cursor < elementarySubChanges.length) {
+				// only retrieve the method name (which is expensive) in case
+				// of an error
+				return;
+			}
 			String methodName = Thread.currentThread().getStackTrace()[2]
 					.getMethodName();
 			if (methodName.equals("checkCursor")) {
@@ -187,9 +246,100 @@ public class ListListenerHelperEx<E> {
 		 *         list.
 		 */
 		public List<E> getPreviousContents() {
+			if (previousContents == null) {
+				if (inferredFrom != null) {
+					previousContents = new ArrayList<>(
+							inferredFrom.getPreviousContents());
+					inferredFrom = null;
+				} else {
+					previousContents = computePreviousContents();
+				}
+			}
 			return Collections.unmodifiableList(previousContents);
 		}
 
+		private List<E> computePreviousContents() {
+			// collect this and all succeeding changes, up to one whose previous
+			// contents are already known
+			List<AtomicChange<E>> changes = new ArrayList<>();
+			List<E> contents = null;
+			for (AtomicChange<E> c = this; c != null; c = c.successor) {
+				if (c != this && c.previousContents != null) {
+					contents = new ArrayList<>(c.previousContents);
+					break;
+				}
+				changes.add(c);
+			}
+			if (contents == null) {
+				contents = new ArrayList<>(getList());
+			}
+			// undo the changes in reverse order
+			for (int i = changes.size() - 1; i >= 0; i--) {
+				undo(contents, changes.get(i).elementarySubChanges);
+			}
+			// the succeeding changes are no longer needed
+			successor = null;
+			return contents;
+		}
+
+		/**
+		 * Returns whether the previous contents of this change are known, i.e.
+		 * whether they have been provided or already been computed. In this
+		 * case, succeeding changes do not have to be linked to this change.
+		 *
+		 * @return <code>true</code> if the previous contents are known,
+		 *         <code>false</code> otherwise.
+		 */
+		boolean isPreviousContentsKnown() {
+			return previousContents != null;
+		}
+
+		/**
+		 * Links the given change, which has to be the next change that is
+		 * applied to the source {@link ObservableList}, to this change, so
+		 * that the previous contents of this change can be computed on demand.
+		 *
+		 * @param successor
+		 *            The change that directly succeeds this change.
+		 */
+		public void setSuccessor(AtomicChange<E> successor) {
+			if (previousContents == null && inferredFrom == null) {
+				this.successor = successor;
+			}
+		}
+
+		private static <E> void undo(List<E> contents,
+				ElementarySubChange<E>[] elementarySubChanges) {
+			// elementary sub-changes are undone in reverse order, so the
+			// indexes of the preceding ones are not affected
+			for (int i = elementarySubChanges.length - 1; i >= 0; i--) {
+				ElementarySubChange<E> c = elementarySubChanges[i];
+				int from = c.getFrom();
+				int to = c.getTo();
+				switch (c.getKind()) {
+				case ADD:
+					contents.subList(from, to).clear();
+					break;
+				case REMOVE:
+					contents.addAll(from, c.getRemoved());
+					break;
+				case REPLACE:
+					contents.subList(from, to).clear();
+					contents.addAll(from, c.getRemoved());
+					break;
+				case PERMUTATE:
+					int[] permutation = c.getPermutation();
+					List<E> permutated = new ArrayList<>(
+							contents.subList(from, to));
+					for (int j = 0; j < permutation.length; j++) {
+						contents.set(from + j,
+								permutated.get(permutation[j] - from));
+					}
+					break;
+				}
+			}
+		}
+
 		@Override
 		public List<E> getRemoved() {
 			checkCursor();
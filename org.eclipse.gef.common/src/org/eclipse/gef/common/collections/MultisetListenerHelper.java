@@ -50,6 +50,12 @@ public class MultisetListenerHelper<E> {
 		private ElementarySubChange<E>[] elementarySubChanges;
 		private Multiset<E> previousContents;
 
+		// in case the previous contents are not provided, they are computed on
+		// demand, either from the change this one was inferred from, or by
+		// undoing this and all succeeding changes of the source multiset
+		private MultisetChangeListener.Change<? extends E> inferredFrom;
+		private AtomicChange<E> successor;
+
 		/**
 		 * Creates a new {@link MultisetListenerHelper.AtomicChange} that
 		 * represents a change comprising a single elementary sub-change.
@@ -97,6 +103,47 @@ public class MultisetListenerHelper<E> {
 					.toArray(new ElementarySubChange[] {});
 		}
 
+		/**
+		 * Creates a new {@link MultisetListenerHelper.AtomicChange} that
+		 * represents a change comprising a single elementary sub-change, whose
+		 * previous contents are not copied eagerly but computed on demand.
+		 * <p>
+		 * The previous contents are inferred by undoing this change (as well
+		 * as all changes that were applied to the source
+		 * {@link ObservableMultiset} after it) on the current contents of the
+		 * source {@link ObservableMultiset}. The creator of the change thus has
+		 * to {@link #setSuccessor(AtomicChange) link} each succeeding change of
+		 * the source {@link ObservableMultiset} to its predecessor.
+		 *
+		 * @param source
+		 *            The source {@link ObservableMultiset} from which the
+		 *            change originated.
+		 * @param elementarySubChange
+		 *            The elementary sub-change that has been applied.
+		 */
+		public AtomicChange(ObservableMultiset<E> source,
+				ElementarySubChange<E> elementarySubChange) {
+			this(source, (Multiset<E>) null, elementarySubChange);
+		}
+
+		/**
+		 * Creates a new {@link MultisetListenerHelper.AtomicChange} that
+		 * represents a change comprising multiple elementary sub-changes, whose
+		 * previous contents are not copied eagerly but computed on demand (see
+		 * {@link #AtomicChange(ObservableMultiset, ElementarySubChange)}).
+		 *
+		 * @param source
+		 *            The source {@link ObservableMultiset} from which the
+		 *            change originated.
+		 * @param elementarySubChanges
+		 *            The elementary sub-changes that have been applied as part
+		 *            of this change.
+		 */
+		public AtomicChange(ObservableMultiset<E> source,
+				List<ElementarySubChange<E>> elementarySubChanges) {
+			this(source, (Multiset<E>) null, elementarySubChanges);
+		}
+
 		/**
 		 * Creates a new {@link MultisetListenerHelper.AtomicChange} for the
 		 * passed in source, based on the data provided in the passed-in change.
@@ -117,9 +164,15 @@ public class MultisetListenerHelper<E> {
 				MultisetChangeListener.Change<? extends E> change) {
 			super(source);
 
-			// copy previous contents
-			this.previousContents = HashMultiset
-					.create(change.getPreviousContents());
+			if (change instanceof AtomicChange) {
+				// previous contents are retrieved on demand (they are
+				// immutable, and may thus be shared)
+				this.inferredFrom = change;
+			} else {
+				// copy previous contents
+				this.previousContents = HashMultiset
+						.create(change.getPreviousContents());
+			}
 
 			// retrieve elementary sub-changes by iterating them
 			// TODO: we could introduce an initialized field inside Change
@@ -137,6 +190,11 @@ public class MultisetListenerHelper<E> {
 		}
 
 		private void checkCursor() {
+			if (cursor != -1 && cursor < elementarySubChanges.length) {
+				// only retrieve the method name (which is expensive) in case
+				// of an error
+				return;
+			}
 			String methodName = Thread.currentThread().getStackTrace()[2]
 					.getMethodName();
 			if (cursor == -1) {
@@ -162,15 +220,79 @@ public class MultisetListenerHelper<E> {
 
 		@Override
 		public Multiset<E> getPreviousContents() {
+			if (previousContents == null) {
+				if (inferredFrom != null) {
+					previousContents = HashMultiset
+							.create(inferredFrom.getPreviousContents());
+					inferredFrom = null;
+				} else {
+					previousContents = computePreviousContents();
+				}
+			}
 			return Multisets.unmodifiableMultiset(previousContents);
 		}
 
+		private Multiset<E> computePreviousContents() {
+			// collect this and all succeeding changes, up to one whose previous
+			// contents are already known
+			List<AtomicChange<E>> changes = new ArrayList<>();
+			Multiset<E> contents = null;
+			for (AtomicChange<E> c = this; c != null; c = c.successor) {
+				if (c != this && c.previousContents != null) {
+					contents = HashMultiset.create(c.previousContents);
+					break;
+				}
+				changes.add(c);
+			}
+			if (contents == null) {
+				contents = HashMultiset.create(getMultiset());
+			}
+			// undo the changes in reverse order
+			for (int i = changes.size() - 1; i >= 0; i--) {
+				for (ElementarySubChange<E> c : changes
+						.get(i).elementarySubChanges) {
+					contents.setCount(c.getElement(),
+							contents.count(c.getElement()) - c.getAddCount()
+									+ c.getRemoveCount());
+				}
+			}
+			// the succeeding changes are no longer needed
+			successor = null;
+			return contents;
+		}
+
 		@Override
 		public int getRemoveCount() {
 			checkCursor();
 			return elementarySubChanges[cursor].getRemoveCount();
 		}
 
+		/**
+		 * Returns whether the previous contents of this change are known, i.e.
+		 * whether they have been provided or already been computed. In this
+		 * case, succeeding changes do not have to be linked to this change.
+		 *
+		 * @return <code>true</code> if the previous contents are known,
+		 *         <code>false</code> otherwise.
+		 */
+		boolean isPreviousContentsKnown() {
+			return previousContents != null;
+		}
+
+		/**
+		 * Links the given change, which has to be the next change that is
+		 * applied to the source {@link ObservableMultiset}, to this change, so
+		 * that the previous contents of this change can be computed on demand.
+		 *
+		 * @param successor
+		 *            The change that directly succeeds this change.
+		 */
+		public void setSuccessor(AtomicChange<E> successor) {
+			if (previousContents == null && inferredFrom == null) {
+				this.successor = successor;
+			}
+		}
+
 		@Override
 		public boolean next() {
 			cursor++;
@@ -60,6 +60,13 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 	private ListListenerHelperEx<E> helper = new ListListenerHelperEx<>(this);
 	private List<E> backingList;
 
+	// the last change that was fired; succeeding changes are linked to it, so
+	// its previous contents can be computed on demand
+	private ListListenerHelperEx.AtomicChange<E> lastChange;
+	// the number of changes that were linked since the last one whose
+	// previous contents are known
+	private int linkedChanges;
+
 	/**
 	 * Creates a new {@link ObservableList} wrapping the given {@link List}.
 	 *
@@ -73,40 +80,34 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean add(E element) {
-		List<E> previousContents = delegateCopy();
+		int index = size();
 		boolean result = super.add(element);
 		if (result) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.added(
-									Collections.singletonList(element),
-									previousContents.size(),
-									previousContents.size() + 1)));
+			fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+					ListListenerHelperEx.ElementarySubChange.added(
+							Collections.singletonList(element), index,
+							index + 1)));
 		}
 		return result;
 	}
 
 	@Override
 	public void add(int index, E element) {
-		List<E> previousContents = delegateCopy();
 		super.add(index, element);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								Collections.singletonList(element), index,
-								index + 1)));
+		fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.added(
+						Collections.singletonList(element), index,
+						index + 1)));
 	}
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
-		List<E> previousContents = delegateCopy();
+		int index = size();
 		boolean result = super.addAll(collection);
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents,
+		fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
 				ListListenerHelperEx.ElementarySubChange.added(
-						new ArrayList<>(collection), previousContents.size(),
-						previousContents.size() + collection.size())));
+						new ArrayList<>(collection), index,
+						index + collection.size())));
 		return result;
 	}
 
@@ -118,13 +119,11 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean addAll(int index, Collection<? extends E> elements) {
-		List<E> previousContents = delegateCopy();
 		boolean result = super.addAll(index, elements);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.added(
-								new ArrayList<>(elements), index,
-								index + elements.size())));
+		fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.added(
+						new ArrayList<>(elements), index,
+						index + elements.size())));
 		return result;
 	}
 
@@ -143,11 +142,9 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		List<E> previousContents = delegateCopy();
 		super.clear();
 		if (!previousContents.isEmpty()) {
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange
-									.removed(previousContents, 0, 0)));
+			fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+					previousContents, ListListenerHelperEx.ElementarySubChange
+							.removed(previousContents, 0, 0)));
 		}
 	}
 
@@ -166,43 +163,107 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 		return new ArrayList<>(backingList);
 	}
 
+	/**
+	 * Links the given change to the previously fired one (so that previous
+	 * contents can be computed on demand) and notifies all listeners.
+	 *
+	 * @param change
+	 *            The change to fire.
+	 */
+	private void fireValueChangedEvent(
+			ListListenerHelperEx.AtomicChange<E> change) {
+		if (lastChange != null) {
+			lastChange.setSuccessor(change);
+		}
+		lastChange = change;
+		helper.fireValueChangedEvent(change);
+		if (lastChange != change) {
+			return;
+		}
+		if (!change.isPreviousContentsKnown()
+				&& ++linkedChanges > backingList.size()) {
+			// bound the number of linked changes by computing the previous
+			// contents, which is amortized by the number of linked changes
+			change.getPreviousContents();
+		}
+		if (change.isPreviousContentsKnown()) {
+			// the change does not have to be retained to link its successor;
+			// this also ensures that a change retained by a listener does not
+			// pin the subsequent history
+			lastChange = null;
+			linkedChanges = 0;
+		}
+	}
+
+	/**
+	 * Computes the elementary sub-changes that result from removing all
+	 * elements that are (or are not) contained in the given collection.
+	 *
+	 * @param collection
+	 *            The {@link Collection} to test membership against.
+	 * @param contained
+	 *            <code>true</code> if elements contained in the collection
+	 *            are to be removed, <code>false</code> if those not contained
+	 *            are to be removed.
+	 * @return A list of elementary sub-changes, which is empty if no element
+	 *         will be removed.
+	 */
+	private List<ElementarySubChange<E>> getRemovals(Collection<?> collection,
+			boolean contained) {
+		List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
+		List<E> removed = null;
+		int from = -1;
+		int removeCount = 0;
+		int index = 0;
+		for (E e : backingList) {
+			if (collection.contains(e) == contained) {
+				if (removed == null) {
+					// create a new elementary change if elements are not
+					// 'continuous' (ensure that the count of elements that
+					// have already been deleted by preceding elementary
+					// changes is subtracted from the index)
+					removed = new ArrayList<>();
+					from = index - removeCount;
+				}
+				removed.add(e);
+			} else if (removed != null) {
+				elementaryChanges.add(
+						ElementarySubChange.removed(removed, from, from));
+				removeCount += removed.size();
+				removed = null;
+			}
+			index++;
+		}
+		if (removed != null) {
+			elementaryChanges
+					.add(ElementarySubChange.removed(removed, from, from));
+		}
+		return elementaryChanges;
+	}
+
 	@Override
 	public E remove(int index) {
-		List<E> previousContents = delegateCopy();
 		E result = super.remove(index);
-		helper.fireValueChangedEvent(
-				new ListListenerHelperEx.AtomicChange<>(this, previousContents,
-						ListListenerHelperEx.ElementarySubChange.removed(
-								Collections.singletonList(result), index,
-								index)));
+		fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.removed(
+						Collections.singletonList(result), index, index)));
 		return result;
 	}
 
 	@Override
 	public void remove(int from, int to) {
-		List<E> previousContents = delegateCopy();
-		List<E> removed = new ArrayList<>();
-		for (int i = to - 1; i >= from; i--) {
-			removed.add(0, super.remove(i));
-		}
-		helper.fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(
-				this, previousContents, ListListenerHelperEx.ElementarySubChange
-						.removed(removed, from, from)));
+		List<E> removed = new ArrayList<>(backingList.subList(from, to));
+		backingList.subList(from, to).clear();
+		fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+				ListListenerHelperEx.ElementarySubChange.removed(removed, from,
+						from)));
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object object) {
-		List<E> previousContents = delegateCopy();
-		if (super.remove(object)) {
-			// XXX: if remove was successful, its safe to cast here
-			int index = previousContents.indexOf(object);
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
-							ListListenerHelperEx.ElementarySubChange.removed(
-									Collections.singletonList((E) object),
-									index, index)));
+		int index = indexOf(object);
+		if (index >= 0) {
+			remove(index);
 			return true;
 		}
 		return false;
@@ -210,48 +271,11 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean removeAll(Collection<?> collection) {
-		List<E> previousContents = delegateCopy();
-		if (super.removeAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+		List<ElementarySubChange<E>> elementaryChanges = getRemovals(collection,
+				true);
+		if (!elementaryChanges.isEmpty() && super.removeAll(collection)) {
+			fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+					elementaryChanges));
 			return true;
 		}
 		return false;
@@ -275,48 +299,11 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
-		List<E> previousContents = delegateCopy();
-		if (super.retainAll(collection)) {
-			// check which have been removed
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			ElementarySubChange<E> currentElementaryChange = null;
-			int removeCount = 0;
-			for (E e : previousContents) {
-				if (!collection.contains(e)) {
-					// create a new elementary change, if elements are not
-					// 'continuous' (ensure that the count of elements that have
-					// already been deleted by preceding elementary changes is
-					// subtracted from the index)
-					if (currentElementaryChange == null
-							|| previousContents.indexOf(e)
-									- currentElementaryChange.getFrom() > 1) {
-						if (currentElementaryChange != null) {
-							removeCount += currentElementaryChange.getRemoved()
-									.size();
-						}
-						int index = previousContents.indexOf(e) - removeCount;
-						currentElementaryChange = ElementarySubChange.removed(
-								Collections.singletonList(e), index, index);
-						elementaryChanges.add(currentElementaryChange);
-					} else {
-						// replace current elementary change (i.e. append the
-						// removed element)
-						List<E> removed = new ArrayList<>(
-								currentElementaryChange.getRemoved());
-						removed.add(e);
-						int index = currentElementaryChange.getFrom();
-						elementaryChanges.remove(currentElementaryChange);
-						currentElementaryChange = ElementarySubChange
-								.removed(removed, index, index);
-						elementaryChanges.add(currentElementaryChange);
-					}
-				}
-			}
-			// determine lowest index that was removed (will be used as from and
-			// to index)
-			helper.fireValueChangedEvent(
-					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+		List<ElementarySubChange<E>> elementaryChanges = getRemovals(collection,
+				false);
+		if (!elementaryChanges.isEmpty() && super.retainAll(collection)) {
+			fireValueChangedEvent(new ListListenerHelperEx.AtomicChange<>(this,
+					elementaryChanges));
 			return true;
 		}
 		return false;
@@ -330,13 +317,10 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public E set(int index, E element) {
-		List<E> previousContents = delegateCopy();
 		if (get(index) != element) {
-			E result = super.remove(index);
-			super.add(index, element);
-			helper.fireValueChangedEvent(
+			E result = super.set(index, element);
+			fireValueChangedEvent(
 					new ListListenerHelperEx.AtomicChange<>(this,
-							previousContents,
 							ElementarySubChange.replaced(
 									Collections.singletonList(result),
 									Collections.singletonList(element), index,
@@ -348,11 +332,11 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 
 	@Override
 	public boolean setAll(Collection<? extends E> collection) {
-		List<E> previousContents = delegateCopy();
-		if (!previousContents.equals(collection)) {
+		if (!delegate().equals(collection)) {
+			List<E> previousContents = delegateCopy();
 			delegate().clear();
 			delegate().addAll(collection);
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new ListListenerHelperEx.AtomicChange<>(this,
 							previousContents, ElementarySubChange.replaced(
 									previousContents, delegate(), 0, size())));
@@ -418,7 +402,7 @@ class ObservableListWrapperEx<E> extends ForwardingList<E>
 			previousIndexIterator.remove();
 		}
 		if (changed) {
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new ListListenerHelperEx.AtomicChange<>(this,
 							previousContents,
 							ListListenerHelperEx.ElementarySubChange
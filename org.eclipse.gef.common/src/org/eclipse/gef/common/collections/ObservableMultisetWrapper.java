@@ -13,8 +13,9 @@ package org.eclipse.gef.common.collections;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.gef.common.collections.MultisetListenerHelper.ElementarySubChange;
 
@@ -41,6 +42,13 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 			this);
 	private Multiset<E> backingMultiset;
 
+	// the last change that was fired; succeeding changes are linked to it, so
+	// its previous contents can be computed on demand
+	private MultisetListenerHelper.AtomicChange<E> lastChange;
+	// the number of changes that were linked since the last one whose
+	// previous contents are known
+	private int linkedChanges;
+
 	/**
 	 * Creates a new {@link ObservableMultiset} wrapping the given
 	 * {@link Multiset}.
@@ -55,56 +63,45 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean add(E element) {
-		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.add(element);
 		if (changed) {
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents,
-							new ElementarySubChange<>(element, 0, 1)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>(element, 0, 1)));
 		}
 		return changed;
 	}
 
 	@Override
 	public int add(E element, int occurrences) {
-		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.add(element, occurrences);
 		if (count(element) > countBefore) {
 			// only fire change if occurrences have really been added.
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>(element,
-									0, count(element) - countBefore)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>(element, 0,
+							count(element) - countBefore)));
 		}
 		return countBefore;
 	}
 
 	@Override
 	public boolean addAll(Collection<? extends E> collection) {
-		Multiset<E> previousContents = delegateCopy();
+		// collection may contain element multiple times; as we only want to
+		// notify once per element, we have to iterate over the set of unique
+		// elements
+		Map<E, Integer> countsBefore = getCounts(collection);
 		boolean changed = super.addAll(collection);
 		if (changed) {
 			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			// collection may contain element multiple times; as we only want to
-			// notify once per element, we have to iterate over the set of
-			// unique elements
-			for (E e : new HashSet<>(collection)) {
-				if (previousContents.contains(e)) {
-					// already contained
-					if (count(e) > previousContents.count(e)) {
-						elementaryChanges.add(new ElementarySubChange<>(e, 0,
-								count(e) - previousContents.count(e)));
-					}
-				} else {
-					// newly added
-					elementaryChanges
-							.add(new ElementarySubChange<>(e, 0, count(e)));
+			for (Map.Entry<E, Integer> entry : countsBefore.entrySet()) {
+				E e = entry.getKey();
+				int countBefore = entry.getValue();
+				if (count(e) > countBefore) {
+					elementaryChanges.add(new ElementarySubChange<>(e, 0,
+							count(e) - countBefore));
 				}
 			}
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, elementaryChanges));
 		}
 		return changed;
 	}
@@ -129,9 +126,8 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 				elementaryChanges.add(new ElementarySubChange<>(e,
 						previousContents.count(e), 0));
 			}
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, previousContents, elementaryChanges));
 		}
 	}
 
@@ -150,17 +146,67 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 		return HashMultiset.create(backingMultiset);
 	}
 
+	/**
+	 * Links the given change to the previously fired one (so that previous
+	 * contents can be computed on demand) and notifies all listeners.
+	 *
+	 * @param change
+	 *            The change to fire.
+	 */
+	private void fireValueChangedEvent(
+			MultisetListenerHelper.AtomicChange<E> change) {
+		if (lastChange != null) {
+			lastChange.setSuccessor(change);
+		}
+		lastChange = change;
+		helper.fireValueChangedEvent(change);
+		if (lastChange != change) {
+			return;
+		}
+		if (!change.isPreviousContentsKnown()
+				&& ++linkedChanges > backingMultiset.size()) {
+			// bound the number of linked changes by computing the previous
+			// contents, which is amortized by the number of linked changes
+			change.getPreviousContents();
+		}
+		if (change.isPreviousContentsKnown()) {
+			// the change does not have to be retained to link its successor;
+			// this also ensures that a change retained by a listener does not
+			// pin the subsequent history
+			lastChange = null;
+			linkedChanges = 0;
+		}
+	}
+
+	/**
+	 * Returns the current counts of the (unique) elements of the given
+	 * collection that are of a type compatible to this multiset.
+	 *
+	 * @param collection
+	 *            The elements for which to retrieve the counts.
+	 * @return A map from element to its current count.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<E, Integer> getCounts(Collection<?> collection) {
+		Map<E, Integer> counts = new HashMap<>();
+		for (Object e : collection) {
+			if (!counts.containsKey(e)) {
+				// the cast is only used for the map key; count() is
+				// type-agnostic
+				counts.put((E) e, count(e));
+			}
+		}
+		return counts;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object object) {
-		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.remove(object);
 		if (changed) {
 			// if remove was successful, the cast to E should be safe.
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents,
-							new ElementarySubChange<>((E) object, 1, 0)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>((E) object, 1, 0)));
 		}
 		return changed;
 	}
@@ -168,45 +214,38 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 	@SuppressWarnings("unchecked")
 	@Override
 	public int remove(Object element, int occurrences) {
-		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.remove(element, occurrences);
 		if (countBefore > count(element)) {
 			// if the element has been removed, the cast to E should be safe
 			// here; we may actually remove fewer then the specified
 			// occurrences, thus we have to compute how many have actually be
 			// removed.
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents,
-							new ElementarySubChange<>((E) element,
-									countBefore - count(element), 0)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>((E) element,
+							countBefore - count(element), 0)));
 		}
 		return countBefore;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public boolean removeAll(Collection<?> collection) {
-		Multiset<E> previousContents = delegateCopy();
+		// collection may contain element multiple times; as we only want to
+		// notify once per element, we have to iterate over the set of unique
+		// elements
+		Map<E, Integer> countsBefore = getCounts(collection);
 		boolean changed = super.removeAll(collection);
 		if (changed) {
 			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			// collection may contain element multiple times; as we only want to
-			// notify once per element, we have to iterate over the set of
-			// unique elements
-			for (Object e : new HashSet<>(collection)) {
-				if (previousContents.contains(e)) {
-					// if the element was contained, its safe to cast to E in
-					// the following
-					if (previousContents.count(e) > count(e)) {
-						elementaryChanges.add(new ElementarySubChange<>((E) e,
-								previousContents.count(e), 0));
-					}
+			for (Map.Entry<E, Integer> entry : countsBefore.entrySet()) {
+				E e = entry.getKey();
+				int countBefore = entry.getValue();
+				if (countBefore > count(e)) {
+					elementaryChanges
+							.add(new ElementarySubChange<>(e, countBefore, 0));
 				}
 			}
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, elementaryChanges));
 		}
 		return changed;
 	}
@@ -244,9 +283,8 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 				elementaryChanges.add(new ElementarySubChange<>(e, 0,
 						addedElements.count(e)));
 			}
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, previousContents, elementaryChanges));
 			return true;
 		}
 		return false;
@@ -254,62 +292,49 @@ class ObservableMultisetWrapper<E> extends ForwardingMultiset<E>
 
 	@Override
 	public boolean retainAll(Collection<?> collection) {
-		Multiset<E> previousContents = delegateCopy();
+		List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
+		for (E e : elementSet()) {
+			if (!collection.contains(e)) {
+				elementaryChanges.add(new ElementarySubChange<>(e, count(e), 0));
+			}
+		}
 		boolean changed = super.retainAll(collection);
 		if (changed) {
-			List<ElementarySubChange<E>> elementaryChanges = new ArrayList<>();
-			// collection may contain element multiple times; as we only want to
-			// notify once per element, we have to iterate over the set of
-			// unique elements
-			for (E e : previousContents.elementSet()) {
-				if (!collection.contains(e)) {
-					elementaryChanges.add(new ElementarySubChange<>(e,
-							previousContents.count(e), 0));
-
-				}
-			}
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, elementaryChanges));
 		}
 		return changed;
 	}
 
 	@Override
 	public int setCount(E element, int count) {
-		Multiset<E> previousContents = delegateCopy();
 		int countBefore = super.setCount(element, count);
 		if (count(element) > countBefore) {
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>(element,
-									0, count(element) - countBefore)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>(element, 0,
+							count(element) - countBefore)));
 		} else if (count(element) < countBefore) {
-			helper.fireValueChangedEvent(
-					new MultisetListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>(element,
-									countBefore - count(element), 0)));
+			fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+					this, new ElementarySubChange<>(element,
+							countBefore - count(element), 0)));
 		}
 		return countBefore;
 	}
 
 	@Override
 	public boolean setCount(E element, int oldCount, int newCount) {
-		Multiset<E> previousContents = delegateCopy();
 		boolean changed = super.setCount(element, oldCount, newCount);
 		// if changed it means that the oldCound was matched and that now we
 		// have the new count
 		if (changed) {
 			if (newCount > oldCount) {
-				helper.fireValueChangedEvent(
-						new MultisetListenerHelper.AtomicChange<>(this,
-								previousContents, new ElementarySubChange<>(
-										element, 0, newCount - oldCount)));
+				fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+						this, new ElementarySubChange<>(element, 0,
+								newCount - oldCount)));
 			} else if (oldCount > newCount) {
-				helper.fireValueChangedEvent(
-						new MultisetListenerHelper.AtomicChange<>(this,
-								previousContents, new ElementarySubChange<>(
-										element, oldCount - newCount, 0)));
+				fireValueChangedEvent(new MultisetListenerHelper.AtomicChange<>(
+						this, new ElementarySubChange<>(element,
+								oldCount - newCount, 0)));
 			}
 		}
 		return changed;
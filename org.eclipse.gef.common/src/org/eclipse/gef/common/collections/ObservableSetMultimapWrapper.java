@@ -13,8 +13,10 @@ package org.eclipse.gef.common.collections;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.gef.common.collections.SetMultimapListenerHelper.ElementarySubChange;
@@ -45,6 +47,13 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	private SetMultimapListenerHelper<K, V> helper = new SetMultimapListenerHelper<>(
 			this);
 
+	// the last change that was fired; succeeding changes are linked to it, so
+	// its previous contents can be computed on demand
+	private SetMultimapListenerHelper.AtomicChange<K, V> lastChange;
+	// the number of changes that were linked since the last one whose
+	// previous contents are known
+	private int linkedChanges;
+
 	/**
 	 * Creates a new {@link ObservableSetMultimap} wrapping the given
 	 * {@link SetMultimap}.
@@ -78,7 +87,7 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 				elementaryChanges.add(new ElementarySubChange<>(key,
 						previousContents.get(key), Collections.<V> emptySet()));
 			}
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 		}
@@ -99,13 +108,43 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 		return HashMultimap.create(backingSetMultiMap);
 	}
 
+	/**
+	 * Links the given change to the previously fired one (so that previous
+	 * contents can be computed on demand) and notifies all listeners.
+	 *
+	 * @param change
+	 *            The change to fire.
+	 */
+	private void fireValueChangedEvent(
+			SetMultimapListenerHelper.AtomicChange<K, V> change) {
+		if (lastChange != null) {
+			lastChange.setSuccessor(change);
+		}
+		lastChange = change;
+		helper.fireValueChangedEvent(change);
+		if (lastChange != change) {
+			return;
+		}
+		if (!change.isPreviousContentsKnown()
+				&& ++linkedChanges > backingSetMultiMap.size()) {
+			// bound the number of linked changes by computing the previous
+			// contents, which is amortized by the number of linked changes
+			change.getPreviousContents();
+		}
+		if (change.isPreviousContentsKnown()) {
+			// the change does not have to be retained to link its successor;
+			// this also ensures that a change retained by a listener does not
+			// pin the subsequent history
+			lastChange = null;
+			linkedChanges = 0;
+		}
+	}
+
 	@Override
 	public boolean put(K key, V value) {
-		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.put(key, value)) {
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents,
 							new ElementarySubChange<>(key,
 									Collections.<V> emptySet(),
 									Collections.singleton(value))));
@@ -116,15 +155,15 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public boolean putAll(K key, Iterable<? extends V> values) {
-		SetMultimap<K, V> previousContents = delegateCopy();
+		Set<V> previousValues = new HashSet<>(get(key));
 		if (super.putAll(key, values)) {
-			Set<V> removedValues = new HashSet<>(previousContents.get(key));
+			Set<V> removedValues = new HashSet<>(previousValues);
 			removedValues.removeAll(get(key));
 			Set<V> addedValues = new HashSet<>(get(key));
-			addedValues.removeAll(previousContents.get(key));
-			helper.fireValueChangedEvent(
+			addedValues.removeAll(previousValues);
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>(key,
+							new ElementarySubChange<>(key,
 									removedValues, addedValues)));
 			return true;
 		}
@@ -133,22 +172,25 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public boolean putAll(Multimap<? extends K, ? extends V> multimap) {
-		SetMultimap<K, V> previousContents = delegateCopy();
+		Map<K, Set<V>> previousValues = new HashMap<>();
+		for (K key : multimap.keySet()) {
+			previousValues.put(key, new HashSet<>(get(key)));
+		}
 		if (super.putAll(multimap)) {
 			List<ElementarySubChange<K, V>> elementaryChanges = new ArrayList<>();
 			for (K key : multimap.keySet()) {
 				// this causes multiple change notifications, as an elementary
 				// change is related to a single key only
-				Set<V> removedValues = new HashSet<>(previousContents.get(key));
+				Set<V> removedValues = new HashSet<>(previousValues.get(key));
 				removedValues.removeAll(get(key));
 				Set<V> addedValues = new HashSet<>(get(key));
-				addedValues.removeAll(previousContents.get(key));
+				addedValues.removeAll(previousValues.get(key));
 				elementaryChanges.add(new ElementarySubChange<>(key,
 						removedValues, addedValues));
 			}
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents, elementaryChanges));
+							elementaryChanges));
 			return true;
 		}
 		return false;
@@ -157,13 +199,11 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean remove(Object key, Object value) {
-		SetMultimap<K, V> previousContents = delegateCopy();
 		if (super.remove(key, value)) {
 			// XXX: If the key or value are not of matching type, the super call
 			// should not have an effect; as such, the cast should be safe here.
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents,
 							new ElementarySubChange<>((K) key,
 									Collections.singleton((V) value),
 									Collections.<V> emptySet())));
@@ -175,14 +215,13 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 	@SuppressWarnings("unchecked")
 	@Override
 	public Set<V> removeAll(Object key) {
-		SetMultimap<K, V> previousContents = delegateCopy();
 		Set<V> oldValues = super.removeAll(key);
 		if (!oldValues.isEmpty()) {
 			// XXX: If values could be removed, the key should have the
 			// appropriate type. As such the cast here should be safe.
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>((K) key,
+							new ElementarySubChange<>((K) key,
 									oldValues, Collections.<V> emptySet())));
 		}
 		return oldValues;
@@ -234,7 +273,7 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 							new HashSet<>(get(key))));
 				}
 			}
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
 							previousContents, elementaryChanges));
 			return true;
@@ -244,12 +283,11 @@ class ObservableSetMultimapWrapper<K, V> extends ForwardingSetMultimap<K, V>
 
 	@Override
 	public Set<V> replaceValues(K key, Iterable<? extends V> values) {
-		SetMultimap<K, V> previousContents = delegateCopy();
 		Set<V> replacedValues = super.replaceValues(key, values);
 		if (!replacedValues.isEmpty()) {
-			helper.fireValueChangedEvent(
+			fireValueChangedEvent(
 					new SetMultimapListenerHelper.AtomicChange<>(this,
-							previousContents, new ElementarySubChange<>(key,
+							new ElementarySubChange<>(key,
 									replacedValues, Sets.newHashSet(values))));
 
 		}
@@ -57,6 +57,12 @@ public class SetMultimapListenerHelper<K, V> {
 		private ElementarySubChange<K, V>[] elementarySubChanges;
 		private int cursor = -1;
 
+		// in case the previous contents are not provided, they are computed on
+		// demand, either from the change this one was inferred from, or by
+		// undoing this and all succeeding changes of the source multimap
+		private SetMultimapChangeListener.Change<? extends K, ? extends V> inferredFrom;
+		private AtomicChange<K, V> successor;
+
 		/**
 		 * Creates a new {@link SetMultimapListenerHelper.AtomicChange} that
 		 * represents a change comprising a single elementary sub-change.
@@ -104,6 +110,48 @@ public class SetMultimapListenerHelper<K, V> {
 					.toArray(new ElementarySubChange[] {});
 		}
 
+		/**
+		 * Creates a new {@link SetMultimapListenerHelper.AtomicChange} that
+		 * represents a change comprising a single elementary sub-change, whose
+		 * previous contents are not copied eagerly but computed on demand.
+		 * <p>
+		 * The previous contents are inferred by undoing this change (as well
+		 * as all changes that were applied to the source
+		 * {@link ObservableSetMultimap} after it) on the current contents of
+		 * the source {@link ObservableSetMultimap}. The creator of the change
+		 * thus has to {@link #setSuccessor(AtomicChange) link} each succeeding
+		 * change of the source {@link ObservableSetMultimap} to its
+		 * predecessor.
+		 *
+		 * @param source
+		 *            The source {@link ObservableSetMultimap} from which the
+		 *            change originated.
+		 * @param elementarySubChange
+		 *            The elementary sub-change that has been applied.
+		 */
+		public AtomicChange(ObservableSetMultimap<K, V> source,
+				ElementarySubChange<K, V> elementarySubChange) {
+			this(source, (SetMultimap<K, V>) null, elementarySubChange);
+		}
+
+		/**
+		 * Creates a new {@link SetMultimapListenerHelper.AtomicChange} that
+		 * represents a change comprising multiple elementary sub-changes, whose
+		 * previous contents are not copied eagerly but computed on demand (see
+		 * {@link #AtomicChange(ObservableSetMultimap, ElementarySubChange)}).
+		 *
+		 * @param source
+		 *            The source {@link ObservableSetMultimap} from which the
+		 *            change originated.
+		 * @param elementarySubChanges
+		 *            The elementary sub-changes that have been applied as part
+		 *            of this change.
+		 */
+		public AtomicChange(ObservableSetMultimap<K, V> source,
+				List<ElementarySubChange<K, V>> elementarySubChanges) {
+			this(source, (SetMultimap<K, V>) null, elementarySubChanges);
+		}
+
 		/**
 		 * Creates a new {@link MultisetListenerHelper.AtomicChange} for the
 		 * passed in source, based on the data provided in the passed-in change.
@@ -124,9 +172,15 @@ public class SetMultimapListenerHelper<K, V> {
 				SetMultimapChangeListener.Change<? extends K, ? extends V> change) {
 			super(source);
 
-			// copy previous contents
-			this.previousContents = HashMultimap
-					.create(change.getPreviousContents());
+			if (change instanceof AtomicChange) {
+				// previous contents are retrieved on demand (they are
+				// immutable, and may thus be shared)
+				this.inferredFrom = change;
+			} else {
+				// copy previous contents
+				this.previousContents = HashMultimap
+						.create(change.getPreviousContents());
+			}
 			// retrieve elementary sub-changes by iterating them
 			// TODO: we could introduce an initialized field inside Change
 			// already, so we could check the passed in change is not already
@@ -143,6 +197,11 @@ public class SetMultimapListenerHelper<K, V> {
 		}
 
 		private void checkCursor() {
+			if (cursor != -1 && cursor < elementarySubChanges.length) {
+				// only retrieve the method name (which is expensive) in case
+				// of an error
+				return;
+			}
 			String methodName = Thread.currentThread().getStackTrace()[2]
 					.getMethodName();
 			if (cursor == -1) {
@@ -162,9 +221,77 @@ public class SetMultimapListenerHelper<K, V> {
 
 		@Override
 		public SetMultimap<K, V> getPreviousContents() {
+			if (previousContents == null) {
+				if (inferredFrom != null) {
+					previousContents = HashMultimap
+							.create(inferredFrom.getPreviousContents());
+					inferredFrom = null;
+				} else {
+					previousContents = computePreviousContents();
+				}
+			}
 			return Multimaps.unmodifiableSetMultimap(previousContents);
 		}
 
+		private SetMultimap<K, V> computePreviousContents() {
+			// collect this and all succeeding changes, up to one whose previous
+			// contents are already known
+			List<AtomicChange<K, V>> changes = new ArrayList<>();
+			SetMultimap<K, V> contents = null;
+			for (AtomicChange<K, V> c = this; c != null; c = c.successor) {
+				if (c != this && c.previousContents != null) {
+					contents = HashMultimap.create(c.previousContents);
+					break;
+				}
+				changes.add(c);
+			}
+			if (contents == null) {
+				contents = HashMultimap.create(getSetMultimap());
+			}
+			// undo the changes in reverse order
+			for (int i = changes.size() - 1; i >= 0; i--) {
+				ElementarySubChange<K, V>[] subChanges = changes
+						.get(i).elementarySubChanges;
+				for (int j = subChanges.length - 1; j >= 0; j--) {
+					K key = subChanges[j].getKey();
+					for (V value : subChanges[j].getValuesAdded()) {
+						contents.remove(key, value);
+					}
+					contents.putAll(key, subChanges[j].getValuesRemoved());
+				}
+			}
+			// the succeeding changes are no longer needed
+			successor = null;
+			return contents;
+		}
+
+		/**
+		 * Returns whether the previous contents of this change are known, i.e.
+		 * whether they have been provided or already been computed. In this
+		 * case, succeeding changes do not have to be linked to this change.
+		 *
+		 * @return <code>true</code> if the previous contents are known,
+		 *         <code>false</code> otherwise.
+		 */
+		boolean isPreviousContentsKnown() {
+			return previousContents != null;
+		}
+
+		/**
+		 * Links the given change, which has to be the next change that is
+		 * applied to the source {@link ObservableSetMultimap}, to this change,
+		 * so that the previous contents of this change can be computed on
+		 * demand.
+		 *
+		 * @param successor
+		 *            The change that directly succeeds this change.
+		 */
+		public void setSuccessor(AtomicChange<K, V> successor) {
+			if (previousContents == null && inferredFrom == null) {
+				this.successor = successor;
+			}
+		}
+
 		@Override
 		public Set<V> getValuesAdded() {
 			checkCursor();
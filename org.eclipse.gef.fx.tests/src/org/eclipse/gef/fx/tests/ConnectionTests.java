@@ -23,10 +23,43 @@ import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.fx.tests.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.fx.tests.rules.FXNonApplicationThreadRule.RunnableWithResult;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.junit.Rule;
 import org.junit.Test;
 
+import javafx.scene.Group;
+import javafx.scene.Scene;
+
 public class ConnectionTests {
 
+	/**
+	 * A {@link Connection} that counts its (top-level) refreshes.
+	 */
+	private static class RefreshCountingConnection extends Connection {
+		int refreshCount = 0;
+		private boolean refreshing = false;
+
+		@Override
+		protected void refresh() {
+			if (refreshing) {
+				super.refresh();
+				return;
+			}
+			refreshing = true;
+			refreshCount++;
+			try {
+				super.refresh();
+			} finally {
+				refreshing = false;
+			}
+		}
+	}
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
 	@Test
 	public void controlPoints() throws IllegalArgumentException, IllegalAccessException {
 		Connection connection = new Connection();
@@ -96,6 +129,78 @@ public class ConnectionTests {
 		assertEquals(2, connection.getControlPoints().size());
 	}
 
+	@Test
+	public void deferredRefresh() {
+		Connection connection = new Connection();
+		connection.setDeferredRefresh(true);
+		StaticAnchor startAnchor = new StaticAnchor(connection, new Point(10, 10));
+		connection.setStartAnchor(startAnchor);
+		connection.setEndPoint(new Point(100, 100));
+		assertEquals(new Point(10, 10), connection.getStartPoint());
+
+		// anchor position changes are still processed (and the connection is
+		// refreshed immediately, as it is not part of a scene)
+		startAnchor.setReferencePosition(new Point(20, 30));
+		assertEquals(new Point(20, 30), connection.getStartPoint());
+		assertEquals(new Polyline(20, 30, 100, 100), ((GeometryNode<?>) connection.getCurve()).getGeometry());
+
+		connection.setDeferredRefresh(false);
+		startAnchor.setReferencePosition(new Point(40, 50));
+		assertEquals(new Point(40, 50), connection.getStartPoint());
+		assertEquals(new Polyline(40, 50, 100, 100), ((GeometryNode<?>) connection.getCurve()).getGeometry());
+	}
+
+	@Test
+	public void deferredRefreshInScene() throws Throwable {
+		final RefreshCountingConnection connection = new RefreshCountingConnection();
+		final StaticAnchor startAnchor = new StaticAnchor(connection, new Point(10, 10));
+		final StaticAnchor endAnchor = new StaticAnchor(connection, new Point(100, 100));
+		ctx.runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				new Scene(new Group(connection));
+				connection.setDeferredRefresh(true);
+				connection.setStartAnchor(startAnchor);
+				connection.setEndAnchor(endAnchor);
+			}
+		});
+		ctx.waitForPulse();
+
+		// several anchor position changes within one pulse only update the
+		// points, but do not refresh the connection
+		int refreshCount = ctx.runAndWait(new RunnableWithResult<Integer>() {
+			@Override
+			public Integer run() {
+				int refreshCount = connection.refreshCount;
+				startAnchor.setReferencePosition(new Point(20, 30));
+				startAnchor.setReferencePosition(new Point(40, 50));
+				endAnchor.setReferencePosition(new Point(200, 200));
+				startAnchor.setReferencePosition(new Point(60, 70));
+				assertEquals(new Point(60, 70), connection.getStartPoint());
+				assertEquals(new Point(200, 200), connection.getEndPoint());
+				assertEquals(refreshCount, connection.refreshCount);
+				return refreshCount;
+			}
+		});
+
+		// the changes are collapsed into a single refresh within the next
+		// pulse
+		ctx.waitForPulse();
+		ctx.waitForPulse();
+		assertEquals(refreshCount + 1, (int) ctx.runAndWait(new RunnableWithResult<Integer>() {
+			@Override
+			public Integer run() {
+				return connection.refreshCount;
+			}
+		}));
+		assertEquals(new Polyline(60, 70, 200, 200), ctx.runAndWait(new RunnableWithResult<Object>() {
+			@Override
+			public Object run() {
+				return ((GeometryNode<?>) connection.getCurve()).getGeometry();
+			}
+		}));
+	}
+
 	@Test
 	public void exchangeCurve() {
 		// setup connection with start, control, end points
@@ -13,17 +13,67 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.RoundedRectangle;
 import org.junit.Test;
 
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeType;
 
 public class GeometryNodeTests {
 
+	private static Path getClickableArea(GeometryNode<?> n) {
+		for (Node child : n.getChildrenUnmodifiable()) {
+			if (child instanceof Path && child != n.getPath()) {
+				return (Path) child;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Ensures the clickable area is computed from the flattened curve if a
+	 * tolerance is set.
+	 */
+	@Test
+	public void flattenClickableArea() {
+		GeometryNode<PolyBezier> n = new GeometryNode<>();
+		n.setGeometry(PolyBezier.interpolateCubic(new Point(0, 0),
+				new Point(100, 50), new Point(200, 0)));
+		n.setClickableAreaWidth(10);
+		Path clickableArea = getClickableArea(n);
+		assertTrue(clickableArea.getElements().get(1) instanceof CubicCurveTo);
+
+		n.setClickableAreaTolerance(0.5);
+		int lineCount = clickableArea.getElements().size() - 1;
+		for (PathElement element : clickableArea.getElements().subList(1,
+				clickableArea.getElements().size())) {
+			assertTrue(element instanceof LineTo);
+		}
+		assertEquals(n.getGeometry().toPolyline(0.5).getPointCount() - 1,
+				lineCount);
+		// the geometric shape is not affected
+		assertTrue(n.getPath().getElements().get(1) instanceof CubicCurveTo);
+
+		// the clickable area is updated when the geometry changes
+		n.setGeometry(PolyBezier.interpolateCubic(new Point(0, 0),
+				new Point(100, 50), new Point(200, 0), new Point(300, 50)));
+		assertTrue(clickableArea.getElements().size() - 1 > lineCount);
+
+		n.setClickableAreaTolerance(0);
+		assertTrue(clickableArea.getElements().get(1) instanceof CubicCurveTo);
+	}
+
 	/**
 	 * Ensures setting/resizing the geometry will resize the visuals
 	 */
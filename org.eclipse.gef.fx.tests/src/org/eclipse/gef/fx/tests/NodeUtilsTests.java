@@ -12,14 +12,24 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.SpatialNodeIndex;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
+import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.StrokeType;
 
@@ -62,6 +72,123 @@ public class NodeUtilsTests {
 		assertEquals(new Rectangle(33, 43, 30, 40), NodeUtils.localToParent(geometryNode, geometricOutline).getBounds());
 	}
 
+	@Test
+	public void getNodesAt() {
+		Group root = new Group();
+		Group layer = new Group();
+		root.getChildren().add(layer);
+		javafx.scene.shape.Rectangle bottom = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		javafx.scene.shape.Rectangle top = new javafx.scene.shape.Rectangle(25, 25, 50, 50);
+		Group nested = new Group(new javafx.scene.shape.Rectangle(0, 0, 10, 10));
+		nested.relocate(30, 30);
+		layer.getChildren().addAll(bottom, top, nested);
+
+		// top-most first
+		assertEquals(Arrays.asList(bottom, layer, root), NodeUtils.getNodesAt(root, 10, 10));
+		assertEquals(Arrays.asList(nested.getChildren().get(0), nested, top, bottom, layer, root),
+				NodeUtils.getNodesAt(root, 35, 35));
+		assertEquals(Arrays.asList(), NodeUtils.getNodesAt(root, 100, 100));
+
+		// mouse transparent nodes and their children are not picked
+		layer.setMouseTransparent(true);
+		assertEquals(Arrays.asList(root), NodeUtils.getNodesAt(root, 10, 10));
+	}
+
+	@Test
+	public void getNodesAtWithSpatialIndex() {
+		Group root = new Group();
+		Group layer = new Group();
+		root.getChildren().add(layer);
+		List<Node> registered = new ArrayList<>();
+		Random random = new Random(0);
+		for (int i = 0; i < 200; i++) {
+			javafx.scene.shape.Rectangle rectangle = new javafx.scene.shape.Rectangle(random.nextInt(500),
+					random.nextInt(500), 5 + random.nextInt(50), 5 + random.nextInt(50));
+			if (i % 4 == 0) {
+				// unregistered siblings
+				(i % 8 == 0 ? root : layer).getChildren().add(rectangle);
+			} else if (i % 4 == 1) {
+				// registered groups with nested children
+				Group group = new Group(rectangle);
+				registered.add(group);
+				layer.getChildren().add(group);
+			} else {
+				registered.add(rectangle);
+				layer.getChildren().add(rectangle);
+			}
+		}
+		SpatialNodeIndex index = new SpatialNodeIndex(root);
+		assertSame(index, SpatialNodeIndex.get(root));
+		for (Node node : registered) {
+			index.add(node);
+		}
+
+		// the index yields the same result as the traversal (including the
+		// root, the layer, and unregistered nodes)
+		Group unindexedRoot = new Group(root);
+		for (int i = 0; i < 100; i++) {
+			// move nodes, so that the index has to be updated
+			Node moved = registered.get(random.nextInt(registered.size()));
+			moved.setTranslateX(random.nextInt(100));
+			Node reordered = layer.getChildren().get(random.nextInt(layer.getChildren().size()));
+			layer.getChildren().remove(reordered);
+			layer.getChildren().add(reordered);
+			double x = random.nextInt(550);
+			double y = random.nextInt(550);
+			List<Node> expected = new ArrayList<>(NodeUtils.getNodesAt(unindexedRoot, x, y));
+			expected.remove(unindexedRoot);
+			assertEquals(expected, NodeUtils.getNodesAt(root, x, y));
+		}
+
+		// unregistered nodes are processed by the traversal
+		for (Node node : registered) {
+			index.remove(node);
+		}
+		assertEquals(0, index.size());
+		List<Node> expected = new ArrayList<>(NodeUtils.getNodesAt(unindexedRoot, 10, 10));
+		expected.remove(unindexedRoot);
+		assertEquals(expected, NodeUtils.getNodesAt(root, 10, 10));
+
+		// disposing the index restores the traversal
+		index.dispose();
+		assertNull(SpatialNodeIndex.get(root));
+	}
+
+	@Test
+	public void getNodesAtWithSpatialIndexAndRegisteredChildrenOnly() {
+		Group root = new Group();
+		Group layer = new Group();
+		Group mixedLayer = new Group(new javafx.scene.shape.Rectangle(0, 0, 500, 500));
+		root.getChildren().addAll(layer, mixedLayer);
+		SpatialNodeIndex index = new SpatialNodeIndex(root);
+		Random random = new Random(0);
+		for (int i = 0; i < 100; i++) {
+			// overlapping rectangles, so that several candidates are found
+			javafx.scene.shape.Rectangle rectangle = new javafx.scene.shape.Rectangle(random.nextInt(400),
+					random.nextInt(400), 50 + random.nextInt(100), 50 + random.nextInt(100));
+			layer.getChildren().add(rectangle);
+			index.add(rectangle);
+		}
+
+		// the candidates are visited in paint order
+		Group unindexedRoot = new Group(root);
+		for (int i = 0; i < 100; i++) {
+			Node reordered = layer.getChildren().get(random.nextInt(layer.getChildren().size()));
+			reordered.toFront();
+			if (i % 10 == 0) {
+				// re-parent a registered node, so that both layers contain
+				// registered children
+				mixedLayer.getChildren().add(layer.getChildren().get(0));
+			}
+			double x = random.nextInt(550);
+			double y = random.nextInt(550);
+			List<Node> expected = new ArrayList<>(NodeUtils.getNodesAt(unindexedRoot, x, y));
+			expected.remove(unindexedRoot);
+			assertEquals(expected, NodeUtils.getNodesAt(root, x, y));
+		}
+		index.dispose();
+	}
+
 	@Test
 	public void getShapeOutline() {
 		// GeometryNode
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.gef.fx.nodes.BatchRouter;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.ObstacleAvoidingOrthogonalRouter;
+import org.eclipse.gef.fx.utils.NodeBoundsIndex;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+
+public class ObstacleAvoidingOrthogonalRouterTests {
+
+	@Test
+	public void routeAroundObstacle() {
+		Rectangle obstacle = new Rectangle(100, 10, 50, 60);
+		NodeBoundsIndex obstacles = new NodeBoundsIndex();
+		obstacles.add(obstacle);
+
+		Connection connection = new Connection();
+		new Group(obstacle, connection);
+		connection.setRouter(new ObstacleAvoidingOrthogonalRouter(obstacles));
+		connection.setStartPoint(new Point(0, 25));
+		connection.setEndPoint(new Point(300, 25));
+
+		// route above the obstacle (which is the shorter detour), keeping a
+		// margin of 10 (as start and end point are not connected, they may be
+		// left vertically)
+		assertEquals(Arrays.asList(new Point(0, 25), new Point(0, 0), new Point(300, 0), new Point(300, 25)),
+				connection.getPointsUnmodifiable());
+		// the inserted points are not user-defined
+		assertTrue(connection.getRouter().wasInserted(connection.getControlAnchor(0)));
+		assertTrue(connection.getRouter().wasInserted(connection.getControlAnchor(1)));
+
+		// the index reflects that the obstacle was moved
+		obstacle.setTranslateY(100);
+		connection.setEndPoint(new Point(310, 25));
+		assertEquals(Arrays.asList(new Point(0, 25), new Point(310, 25)), connection.getPointsUnmodifiable());
+
+		// routing around two adjacent obstacles
+		obstacle.setTranslateY(0);
+		Rectangle otherObstacle = new Rectangle(155, -50, 50, 100);
+		((Group) connection.getParent()).getChildren().add(otherObstacle);
+		obstacles.add(otherObstacle);
+		connection.setEndPoint(new Point(300, 25));
+		assertEquals(Arrays.asList(new Point(0, 25), new Point(0, 80), new Point(300, 80), new Point(300, 25)),
+				connection.getPointsUnmodifiable());
+	}
+
+	@Test
+	public void routeAroundObstacleAsynchronously() {
+		Rectangle obstacle = new Rectangle(100, 10, 50, 60);
+		NodeBoundsIndex obstacles = new NodeBoundsIndex();
+		obstacles.add(obstacle);
+		ObstacleAvoidingOrthogonalRouter router = new ObstacleAvoidingOrthogonalRouter(obstacles);
+
+		Group group = new Group(obstacle);
+		List<Connection> connections = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			Connection connection = new Connection();
+			group.getChildren().add(connection);
+			connection.setRouter(router);
+			connection.setStartPoint(new Point(0, 25 + 10 * i));
+			connection.setEndPoint(new Point(300, 25 + 10 * i));
+			connections.add(connection);
+		}
+
+		final List<Runnable> computations = new ArrayList<>();
+		final List<Runnable> applications = new ArrayList<>();
+		CompletableFuture<Void> future = BatchRouter.routeAsynchronously(connections, new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				computations.add(command);
+			}
+		}, new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				applications.add(command);
+			}
+		});
+
+		// the connections are routed preliminarily (passing the obstacle),
+		// while the path searches are deferred
+		assertEquals(Arrays.asList(new Point(0, 25), new Point(300, 25)), connections.get(0).getPointsUnmodifiable());
+		assertEquals(Arrays.asList(new Point(0, 35), new Point(300, 35)), connections.get(1).getPointsUnmodifiable());
+		assertEquals(1, computations.size());
+		assertFalse(future.isDone());
+
+		// perform the searches and apply the results
+		computations.get(0).run();
+		assertEquals(1, applications.size());
+		applications.get(0).run();
+		assertTrue(future.isDone());
+		assertEquals(Arrays.asList(new Point(0, 25), new Point(0, 0), new Point(300, 0), new Point(300, 25)),
+				connections.get(0).getPointsUnmodifiable());
+		assertEquals(Arrays.asList(new Point(0, 35), new Point(0, 0), new Point(300, 0), new Point(300, 35)),
+				connections.get(1).getPointsUnmodifiable());
+	}
+
+}
@@ -13,18 +13,29 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.gef.fx.anchors.AnchorKey;
+import org.eclipse.gef.fx.anchors.ChopBoxStrategy;
 import org.eclipse.gef.fx.anchors.DynamicAnchor;
 import org.eclipse.gef.fx.anchors.OrthogonalProjectionStrategy;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
+import org.eclipse.gef.fx.anchors.IComputationStrategy.Parameter;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
 import javafx.geometry.Orientation;
+import javafx.scene.Group;
+import javafx.scene.Node;
 
 public class OrthogonalProjectionStrategyTests {
 
@@ -52,6 +63,27 @@ public class OrthogonalProjectionStrategyTests {
 		assertEquals(new Point(50, 50), a.getPosition(anchorKey));
 	}
 	
+	@Test
+	public void chopBoxWithOverriddenOutlineSegments() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(100, 0, 50, 50);
+		new Group(anchorage, anchored);
+		ChopBoxStrategy strategy = new ChopBoxStrategy() {
+			@Override
+			protected List<ICurve> getOutlineSegmentsInScene(Node anchorage,
+					IGeometry anchorageReferenceGeometryInLocal) {
+				return Collections.<ICurve> singletonList(new Rectangle(0, 0, 100, 50).getOutline());
+			}
+		};
+
+		Set<Parameter<?>> parameters = new HashSet<>();
+		parameters.add(new AnchorageReferenceGeometry(new Rectangle(0, 0, 50, 50)));
+		parameters.add(new AnchoredReferencePoint(new Point(125, 25)));
+		// the overridden outline segments are intersected with the reference
+		// line from the center of the reference geometry
+		assertEquals(new Point(100, 25), strategy.computePositionInScene(anchorage, anchored, parameters));
+	}
+
 	@Test
 	public void projectionOnDiamondWithOrientationPreference() {
 		javafx.scene.shape.Polygon anchorage = new javafx.scene.shape.Polygon(0, 25, 25, 0, 50, 25, 25, 50);
@@ -77,7 +109,32 @@ public class OrthogonalProjectionStrategyTests {
 		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 12.5));
 		assertEquals(new Point(37.5, 12.5), a.getPosition(anchorKey));
 	}
-	
-	
+
+	@Test
+	public void projectionOnRelocatedAnchorage() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(100, 0, 50, 50);
+		new Group(anchorage, anchored);
+		OrthogonalProjectionStrategy strategy = new OrthogonalProjectionStrategy();
+
+		AnchorageReferenceGeometry geometry = new AnchorageReferenceGeometry(new Rectangle(0, 0, 50, 50));
+		AnchoredReferencePoint referencePoint = new AnchoredReferencePoint(new Point(125, 25));
+		Set<Parameter<?>> parameters = new HashSet<>();
+		parameters.add(geometry);
+		parameters.add(referencePoint);
+		parameters.add(new PreferredOrientation());
+		assertEquals(new Point(50, 25), strategy.computePositionInScene(anchorage, anchored, parameters));
+		referencePoint.set(new Point(125, 50));
+		assertEquals(new Point(50, 50), strategy.computePositionInScene(anchorage, anchored, parameters));
+
+		// the (cached) anchorage outline has to reflect the new location
+		anchorage.setTranslateX(10);
+		anchorage.setTranslateY(10);
+		assertEquals(new Point(60, 50), strategy.computePositionInScene(anchorage, anchored, parameters));
+
+		// as well as a changed reference geometry
+		geometry.set(new Rectangle(0, 0, 30, 30));
+		assertEquals(new Point(40, 40), strategy.computePositionInScene(anchorage, anchored, parameters));
+	}
 
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests.rules;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+
+/**
+ * A {@link TestRule} to ensure the JavaFX Toolkit is properly initialized
+ * before tests are executed, which are not executed on the JavaFX Application
+ * Thread, but may schedule code to be executed on it (see
+ * {@link #runAndWait(RunnableWithResult)}), or wait for the next pulse (see
+ * {@link #waitForPulse()}).
+ *
+ * @author agent
+ *
+ */
+public class FXNonApplicationThreadRule implements TestRule {
+
+	/**
+	 * A runnable that returns a result.
+	 *
+	 * @param <T>
+	 *            The type of the result.
+	 */
+	public interface RunnableWithResult<T> {
+		public T run();
+	}
+
+	/**
+	 * The timeout (in milliseconds) for waiting for the JavaFX Application
+	 * Thread.
+	 */
+	public static final long TIMEOUT_MILLIS = 10000;
+
+	private static boolean initializedJavaFxToolkit = false;
+
+	@Override
+	public Statement apply(final Statement base, Description description) {
+		if (Platform.isFxApplicationThread()) {
+			throw new IllegalStateException(
+					"Tests may not be executed from FX application thread.");
+		}
+		return new Statement() {
+			@Override
+			public void evaluate() throws Throwable {
+				if (!initializedJavaFxToolkit) {
+					final CountDownLatch latch = new CountDownLatch(1);
+					SwingUtilities.invokeLater(new Runnable() {
+						@Override
+						public void run() {
+							new JFXPanel(); // initializes JavaFX environment
+							initializedJavaFxToolkit = true;
+							latch.countDown();
+						}
+					});
+					latch.await();
+				}
+				base.evaluate();
+			}
+		};
+	}
+
+	/**
+	 * Schedules the given {@link Runnable} on the JavaFX application thread and
+	 * waits for its execution to finish.
+	 *
+	 * @param runnable
+	 *            The {@link Runnable} to execute.
+	 * @throws Throwable
+	 *             if the execution of the {@link Runnable} failed, or timed
+	 *             out.
+	 */
+	public void runAndWait(final Runnable runnable) throws Throwable {
+		runAndWait(new RunnableWithResult<Void>() {
+			@Override
+			public Void run() {
+				runnable.run();
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Schedules the given {@link RunnableWithResult} on the JavaFX application
+	 * thread and waits for its execution to finish.
+	 *
+	 * @param runnableWithResult
+	 *            The {@link RunnableWithResult} to execute.
+	 * @return The result of the {@link RunnableWithResult}.
+	 * @throws Throwable
+	 *             if the execution of the {@link RunnableWithResult} failed,
+	 *             or timed out.
+	 */
+	public <T> T runAndWait(final RunnableWithResult<T> runnableWithResult)
+			throws Throwable {
+		final AtomicReference<Throwable> throwableRef = new AtomicReference<>();
+		final AtomicReference<T> resultRef = new AtomicReference<>();
+		final CountDownLatch latch = new CountDownLatch(1);
+		Platform.runLater(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					resultRef.set(runnableWithResult.run());
+				} catch (Throwable t) {
+					throwableRef.set(t);
+				} finally {
+					latch.countDown();
+				}
+			}
+		});
+		if (!latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+			throw new IllegalStateException("TIMEOUT");
+		}
+		Throwable throwable = throwableRef.get();
+		if (throwable != null) {
+			throw throwable;
+		}
+		return resultRef.get();
+	}
+
+	/**
+	 * Waits until the next pulse has been processed by the JavaFX application
+	 * thread, including the animation timers that were started before.
+	 *
+	 * @throws Throwable
+	 *             if the pulse was not processed in time.
+	 */
+	public void waitForPulse() throws Throwable {
+		final CountDownLatch latch = new CountDownLatch(1);
+		runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				new AnimationTimer() {
+					@Override
+					public void handle(long now) {
+						stop();
+						latch.countDown();
+					}
+				}.start();
+			}
+		});
+		if (!latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+			throw new IllegalStateException("TIMEOUT");
+		}
+	}
+
+}
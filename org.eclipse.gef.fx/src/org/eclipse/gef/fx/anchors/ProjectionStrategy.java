@@ -15,16 +15,20 @@ package org.eclipse.gef.fx.anchors;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
 
 import javafx.scene.Node;
 
@@ -37,7 +41,9 @@ import javafx.scene.Node;
  * In detail, the computation is done as follows:
  * <ol>
  * <li>Compute the anchorage outlines (in scene) based on the anchorage
- * reference geometry,using {@link #getOutlineSegments(IGeometry)}.</li>
+ * reference geometry,using {@link #getOutlineSegments(IGeometry)}. The
+ * outlines are cached per anchorage (see
+ * {@link #getOutlineSegmentsInScene(Node, IGeometry)}).</li>
  * <li>Transform the given anchored reference point to scene coordinates.</li>
  * <li>Project the anchored reference point (in scene) onto the anchorage
  * outlines.</li>
@@ -49,6 +55,32 @@ import javafx.scene.Node;
  */
 public class ProjectionStrategy implements IComputationStrategy {
 
+	/**
+	 * The outline segments of an anchorage reference geometry in scene
+	 * coordinates, together with the geometry and the local-to-scene transform
+	 * of the anchorage they were computed for.
+	 */
+	static class AnchorageOutline {
+		private final IGeometry geometryInLocal;
+		private final AffineTransform localToSceneTx;
+		final List<ICurve> outlinesInScene;
+		final Rectangle[] outlineBoundsInScene;
+
+		AnchorageOutline(IGeometry geometryInLocal,
+				AffineTransform localToSceneTx, List<ICurve> outlinesInScene) {
+			this.geometryInLocal = geometryInLocal;
+			this.localToSceneTx = localToSceneTx;
+			this.outlinesInScene = Collections
+					.unmodifiableList(outlinesInScene);
+			outlineBoundsInScene = new Rectangle[outlinesInScene.size()];
+			for (int i = 0; i < outlineBoundsInScene.length; i++) {
+				outlineBoundsInScene[i] = outlinesInScene.get(i).getBounds();
+			}
+		}
+	}
+
+	private final Map<Node, AnchorageOutline> anchorageOutlines = new WeakHashMap<>();
+
 	@Override
 	public Point computePositionInScene(Node anchorage, Node anchored,
 			Set<Parameter<?>> parameters) {
@@ -58,13 +90,9 @@ public class ProjectionStrategy implements IComputationStrategy {
 		Point anchoredReferencePointInLocal = Parameter
 				.get(parameters, AnchoredReferencePoint.class).get();
 
-		// determine anchorage geometry in scene
-		IGeometry anchorageGeometryInScene = NodeUtils.localToScene(anchorage,
-				anchorageReferenceGeometryInLocal);
-
 		// determine anchorage outlines in scene
-		List<ICurve> anchorageOutlinesInScene = getOutlineSegments(
-				anchorageGeometryInScene);
+		List<ICurve> anchorageOutlinesInScene = getOutlineSegmentsInScene(
+				anchorage, anchorageReferenceGeometryInLocal);
 
 		// transform anchored reference point to scene
 		Point anchoredReferencePointInScene = NodeUtils.localToScene(anchored,
@@ -124,6 +152,72 @@ public class ProjectionStrategy implements IComputationStrategy {
 		}
 	}
 
+	/**
+	 * Returns the outline of the given anchorage reference geometry
+	 * (transformed into scene coordinates), which is cached per anchorage.
+	 */
+	AnchorageOutline getAnchorageOutline(Node anchorage,
+			IGeometry anchorageReferenceGeometryInLocal) {
+		AffineTransform localToSceneTx = NodeUtils.getLocalToSceneTx(anchorage);
+		AnchorageOutline outline = anchorageOutlines.get(anchorage);
+		if (outline == null
+				|| outline.geometryInLocal != anchorageReferenceGeometryInLocal
+				|| !outline.localToSceneTx.equals(localToSceneTx)) {
+			outline = new AnchorageOutline(anchorageReferenceGeometryInLocal,
+					localToSceneTx,
+					getOutlineSegments(anchorageReferenceGeometryInLocal
+							.getTransformed(localToSceneTx)));
+			anchorageOutlines.put(anchorage, outline);
+		}
+		return outline;
+	}
+
+	/**
+	 * Returns the bounds of the given outline segments of the given
+	 * anchorage, which are cached along with the outline in case the segments
+	 * were provided by {@link #getAnchorageOutline(Node, IGeometry)} (and not
+	 * by an overridden {@link #getOutlineSegmentsInScene(Node, IGeometry)}).
+	 */
+	Rectangle[] getOutlineBoundsInScene(Node anchorage,
+			List<ICurve> outlinesInScene) {
+		AnchorageOutline outline = anchorageOutlines.get(anchorage);
+		if (outline != null && outline.outlinesInScene == outlinesInScene) {
+			return outline.outlineBoundsInScene;
+		}
+		Rectangle[] outlineBoundsInScene = new Rectangle[outlinesInScene
+				.size()];
+		for (int i = 0; i < outlineBoundsInScene.length; i++) {
+			outlineBoundsInScene[i] = outlinesInScene.get(i).getBounds();
+		}
+		return outlineBoundsInScene;
+	}
+
+	/**
+	 * Determines the outline of the given anchorage reference geometry,
+	 * transformed into scene coordinates, represented as a list of
+	 * {@link ICurve}s (see {@link #getOutlineSegments(IGeometry)}).
+	 * <p>
+	 * The outline is cached per anchorage, and only recomputed in case the
+	 * anchorage reference geometry (which is compared by identity) or the
+	 * local-to-scene transform of the anchorage changed. Therefore, the
+	 * positions of all {@link AnchorKey}s that are attached to the same
+	 * anchorage can be computed based on a single transformation of the
+	 * anchorage reference geometry. The returned list may not be modified.
+	 *
+	 * @param anchorage
+	 *            The anchorage visual.
+	 * @param anchorageReferenceGeometryInLocal
+	 *            The anchorage reference geometry within the local coordinate
+	 *            system of the anchorage visual.
+	 * @return A list of {@link ICurve}s representing the outline of the given
+	 *         anchorage reference geometry in scene coordinates.
+	 */
+	protected List<ICurve> getOutlineSegmentsInScene(Node anchorage,
+			IGeometry anchorageReferenceGeometryInLocal) {
+		return getAnchorageOutline(anchorage, anchorageReferenceGeometryInLocal)
+				.outlinesInScene;
+	}
+
 	@Override
 	public Set<Class<? extends Parameter<?>>> getRequiredParameters() {
 		Set<Class<? extends Parameter<?>>> parameters = new HashSet<>();
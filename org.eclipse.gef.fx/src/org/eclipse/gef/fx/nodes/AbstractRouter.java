@@ -264,6 +264,20 @@ public abstract class AbstractRouter implements IConnectionRouter {
 
 	private Connection connection;
 
+	/**
+	 * Called by the {@link BatchRouter} before the {@link Connection}s of a
+	 * batch that use this router are routed. Within an asynchronous batch,
+	 * computations that do not need to access the scene graph may be deferred
+	 * (see {@link #endBatch()}), so that the {@link Connection}s are only
+	 * routed preliminarily. The default implementation does nothing.
+	 *
+	 * @param isAsynchronous
+	 *            <code>true</code> if the batch is routed asynchronously,
+	 *            <code>false</code> otherwise.
+	 */
+	protected void beginBatch(boolean isAsynchronous) {
+	}
+
 	/**
 	 * Returns a newly created {@link ControlPointManipulator} that can be used
 	 * to insert control points into the given {@link Connection}.
@@ -279,6 +293,25 @@ public abstract class AbstractRouter implements IConnectionRouter {
 		return new ControlPointManipulator(connection);
 	}
 
+	/**
+	 * Called by the {@link BatchRouter} after the {@link Connection}s of a
+	 * batch that use this router have been routed. Returns a {@link Runnable}
+	 * that performs the computations that were deferred within an asynchronous
+	 * batch (see {@link #beginBatch(boolean)}), or <code>null</code> if no
+	 * computations were deferred. The {@link Runnable} is executed on a worker
+	 * thread, so it may not access the scene graph. Afterwards, the
+	 * {@link Connection}s are routed again (within a synchronous batch), so
+	 * that the results of the computations can be applied. The default
+	 * implementation does not defer any computations and returns
+	 * <code>null</code>.
+	 *
+	 * @return A {@link Runnable} performing the deferred computations, or
+	 *         <code>null</code>.
+	 */
+	protected Runnable endBatch() {
+		return null;
+	}
+
 	/**
 	 * Retrieves the geometry of the anchorage at the given index within the
 	 * coordinate system of the {@link Connection}, in case the respective
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+
+/**
+ * The {@link BatchRouter} routes a set of {@link Connection}s in a single
+ * pass (e.g. after a layout pass has relocated the nodes they are attached
+ * to), so that each {@link Connection} is routed exactly once. The routers of
+ * the {@link Connection}s are notified about the batch (see
+ * {@link AbstractRouter#beginBatch(boolean)} and
+ * {@link AbstractRouter#endBatch()}), so that they can share work across the
+ * {@link Connection}s.
+ * <p>
+ * A batch may also be routed asynchronously (see
+ * {@link #routeAsynchronously(Collection, Executor)}): The {@link Connection}s
+ * are routed preliminarily on the JavaFX application thread, while the
+ * routers defer expensive computations (that do not need to access the scene
+ * graph) to a worker thread. Once these are finished, the {@link Connection}s
+ * are routed again on the JavaFX application thread, applying the results.
+ *
+ * @author agent
+ *
+ */
+public class BatchRouter {
+
+	private static Set<AbstractRouter> beginBatch(
+			Collection<? extends Connection> connections,
+			boolean isAsynchronous) {
+		Set<AbstractRouter> routers = Collections
+				.newSetFromMap(new IdentityHashMap<AbstractRouter, Boolean>());
+		for (Connection connection : connections) {
+			IConnectionRouter router = connection.getRouter();
+			if (router instanceof AbstractRouter
+					&& routers.add((AbstractRouter) router)) {
+				((AbstractRouter) router).beginBatch(isAsynchronous);
+			}
+		}
+		return routers;
+	}
+
+	/**
+	 * Routes the given {@link Connection}s within a single (synchronous)
+	 * batch. Has to be called on the JavaFX application thread.
+	 *
+	 * @param connections
+	 *            The {@link Connection}s to route.
+	 */
+	public static void route(Collection<? extends Connection> connections) {
+		Set<AbstractRouter> routers = beginBatch(connections, false);
+		try {
+			for (Connection connection : connections) {
+				connection.refresh();
+			}
+		} finally {
+			for (AbstractRouter router : routers) {
+				router.endBatch();
+			}
+		}
+	}
+
+	/**
+	 * Routes the given {@link Connection}s within a single asynchronous batch,
+	 * using the given {@link Executor} to perform the deferred computations,
+	 * and applying the results on the JavaFX application thread. Has to be
+	 * called on the JavaFX application thread.
+	 *
+	 * @param connections
+	 *            The {@link Connection}s to route.
+	 * @param executor
+	 *            The {@link Executor} that is used to perform the deferred
+	 *            computations.
+	 * @return A {@link CompletableFuture} that is completed (on the JavaFX
+	 *         application thread) after the results have been applied.
+	 */
+	public static CompletableFuture<Void> routeAsynchronously(
+			Collection<? extends Connection> connections, Executor executor) {
+		return routeAsynchronously(connections, executor, new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				Platform.runLater(command);
+			}
+		});
+	}
+
+	/**
+	 * Routes the given {@link Connection}s within a single asynchronous batch,
+	 * using the given computation {@link Executor} to perform the deferred
+	 * computations, and the given application {@link Executor} to apply the
+	 * results. Has to be called on the thread that is used by the application
+	 * {@link Executor} (which usually is the JavaFX application thread).
+	 *
+	 * @param connections
+	 *            The {@link Connection}s to route.
+	 * @param computationExecutor
+	 *            The {@link Executor} that is used to perform the deferred
+	 *            computations.
+	 * @param applicationExecutor
+	 *            The {@link Executor} that is used to apply the results.
+	 * @return A {@link CompletableFuture} that is completed (by the
+	 *         application {@link Executor}) after the results have been
+	 *         applied.
+	 */
+	public static CompletableFuture<Void> routeAsynchronously(
+			Collection<? extends Connection> connections,
+			Executor computationExecutor, final Executor applicationExecutor) {
+		// route preliminarily, collecting the deferred computations
+		Set<AbstractRouter> routers = beginBatch(connections, true);
+		final List<Runnable> computations = new ArrayList<>();
+		final Set<AbstractRouter> deferringRouters = Collections
+				.newSetFromMap(new IdentityHashMap<AbstractRouter, Boolean>());
+		try {
+			for (Connection connection : connections) {
+				connection.refresh();
+			}
+		} finally {
+			for (AbstractRouter router : routers) {
+				Runnable computation = router.endBatch();
+				if (computation != null) {
+					computations.add(computation);
+					deferringRouters.add(router);
+				}
+			}
+		}
+
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		if (computations.isEmpty()) {
+			future.complete(null);
+			return future;
+		}
+
+		// only those connections need to be routed again whose routers
+		// deferred computations
+		final List<Connection> deferred = new ArrayList<>();
+		for (Connection connection : connections) {
+			if (deferringRouters.contains(connection.getRouter())) {
+				deferred.add(connection);
+			}
+		}
+		computationExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					for (Runnable computation : computations) {
+						computation.run();
+					}
+				} catch (final Throwable t) {
+					applicationExecutor.execute(new Runnable() {
+						@Override
+						public void run() {
+							future.completeExceptionally(t);
+						}
+					});
+					return;
+				}
+				applicationExecutor.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							route(deferred);
+							future.complete(null);
+						} catch (Throwable t) {
+							future.completeExceptionally(t);
+						}
+					}
+				});
+			}
+		});
+		return future;
+	}
+
+	private BatchRouter() {
+		// this class should not be instantiated by clients
+	}
+
+}
@@ -18,8 +18,10 @@ import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.gef.common.beans.property.ReadOnlyListPropertyBaseEx;
@@ -39,6 +41,7 @@ import org.eclipse.gef.geometry.planar.PolyBezier;
 
 import com.google.common.collect.Iterators;
 
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
@@ -235,6 +238,14 @@ public class Connection extends Group {
 	 */
 	private static final String CONTROL_POINT_ROLE_PREFIX = "controlpoint-";
 
+	/**
+	 * The {@link Connection}s for which a deferred refresh is pending (see
+	 * {@link #setDeferredRefresh(boolean)}). They are refreshed within the
+	 * next pulse by the {@link #deferredRefreshTimer}.
+	 */
+	private static final Set<Connection> deferredRefreshes = new LinkedHashSet<>();
+	private static AnimationTimer deferredRefreshTimer = null;
+
 	private ObjectProperty<Node> curveProperty = new SimpleObjectProperty<>();
 	private ObjectProperty<Node> startDecorationProperty = null;
 	private ObjectProperty<Node> endDecorationProperty = null;
@@ -312,6 +323,8 @@ public class Connection extends Group {
 		}
 	};
 	private boolean inRefresh = false;
+	private boolean isDeferredRefresh = false;
+	private List<Point> refreshedPoints = null;
 
 	/**
 	 * Constructs a new {@link Connection} whose start and end point are set to
@@ -571,9 +584,11 @@ public class Connection extends Group {
 			@Override
 			public void onChanged(
 					MapChangeListener.Change<? extends AnchorKey, ? extends Point> change) {
-				// if (inRefresh) {
-				// return;
-				// }
+				// PCLs stay registered during refresh(), which updates the
+				// points on its own
+				if (inRefresh) {
+					return;
+				}
 				if (change.getKey().equals(anchorKey)) {
 					if (change.wasAdded() && change.wasRemoved()) {
 						Point newPoint = FX2Geometry
@@ -582,7 +597,11 @@ public class Connection extends Group {
 						if (!points.get(getAnchorIndex(anchorKey))
 								.equals(newPoint)) {
 							points.set(getAnchorIndex(anchorKey), newPoint);
-							refresh();
+							if (isDeferredRefresh) {
+								scheduleRefresh();
+							} else {
+								refresh();
+							}
 						}
 					}
 				}
@@ -1006,6 +1025,17 @@ public class Connection extends Group {
 		return interpolatorProperty;
 	}
 
+	/**
+	 * Returns whether refreshes in response to anchor position changes are
+	 * deferred to the next pulse (see {@link #setDeferredRefresh(boolean)}).
+	 *
+	 * @return <code>true</code> if refreshes are deferred, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isDeferredRefresh() {
+		return isDeferredRefresh;
+	}
+
 	/**
 	 * Return <code>true</code> in case the anchor is bound to an anchorage
 	 * unequal to this connection.
@@ -1190,12 +1220,11 @@ public class Connection extends Group {
 	 * inserting volatile anchors, computing a curve geometry, and updating the
 	 * visualization to that geometry. In addition, the position change
 	 * listeners registered at the individual
-	 * {@link AbstractAnchor#positionsUnmodifiableProperty()} need to be
-	 * disabled during {@link #refresh()} to prevent
+	 * {@link AbstractAnchor#positionsUnmodifiableProperty()} ignore position
+	 * changes during {@link #refresh()} to prevent
 	 * {@link ConcurrentModificationException}. The process can be described by
 	 * the following steps:
 	 * <ol>
-	 * <li>The connection unregisters all position change listeners.
 	 * <li>The connection queries all points from its anchors and transforms
 	 * them from curve to connection coordinates (curve-to-connection-transform,
 	 * c2ctx).
@@ -1225,7 +1254,6 @@ public class Connection extends Group {
 	 * from the bindings, which triggers a recomputation of the anchor
 	 * positions.
 	 * <li>The connection refreshed its points manually again.
-	 * <li>The connection registers all position change listeners.
 	 * </ol>
 	 */
 	protected void refresh() {
@@ -1234,17 +1262,10 @@ public class Connection extends Group {
 			return;
 		}
 		inRefresh = true;
+		// a pending deferred refresh is fulfilled by this refresh
+		deferredRefreshes.remove(this);
 		// System.out.println("+--- Refresh ---+");
 
-		// unregister PCLs
-		// TODO: Investigate if the fields need to be up-to-date or if the
-		// removal and addition of listeners can happen locally (i.e. without
-		// affecting anchorPCLs etc.)
-
-		for (AnchorKey ak : anchorsByKeys.keySet()) {
-			unregisterPCL(ak, anchorsByKeys.get(ak));
-		}
-
 		// clear visuals except for the curveProperty
 		getChildren().retainAll(getCurve());
 
@@ -1320,13 +1341,13 @@ public class Connection extends Group {
 			pointsUnmodifiableProperty.fireValueChangedEvent();
 		}
 
-		// reregister PCLs
-		// TODO: Investigate if the fields need to be up-to-date or if the
-		// removal and addition of listeners can happen locally (i.e. without
-		// affecting anchorPCLs etc.)
-
-		for (AnchorKey ak : anchorsByKeys.keySet()) {
-			registerPCL(ak, anchorsByKeys.get(ak));
+		// remember the points, so that a deferred refresh can be skipped if
+		// the points did not change in the meantime
+		if (isDeferredRefresh) {
+			refreshedPoints = new ArrayList<>(points.size());
+			for (Point p : points) {
+				refreshedPoints.add(p.getCopy());
+			}
 		}
 
 		// react to events again
@@ -1527,6 +1548,43 @@ public class Connection extends Group {
 		return routerProperty;
 	}
 
+	/**
+	 * Schedules a deferred refresh, which is performed within the next pulse.
+	 * Multiple requests within the same pulse are coalesced into a single
+	 * refresh.
+	 */
+	private void scheduleRefresh() {
+		if (getScene() == null) {
+			// not rendered, so there are no pulses to wait for
+			refresh();
+			return;
+		}
+		if (deferredRefreshTimer == null) {
+			deferredRefreshTimer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					while (!deferredRefreshes.isEmpty()) {
+						// refreshing a connection may schedule the refresh of
+						// another one (e.g. if it serves as an anchorage)
+						Connection connection = deferredRefreshes.iterator()
+								.next();
+						deferredRefreshes.remove(connection);
+						// skip the refresh if the points did not change
+						if (!connection.points
+								.equals(connection.refreshedPoints)) {
+							connection.refresh();
+						}
+					}
+					stop();
+				}
+			};
+		}
+		if (deferredRefreshes.isEmpty()) {
+			deferredRefreshTimer.start();
+		}
+		deferredRefreshes.add(this);
+	}
+
 	/**
 	 * Replaces the anchor currently registered for the given {@link AnchorKey}
 	 * with the given {@link IAnchor}.
@@ -1712,6 +1770,32 @@ public class Connection extends Group {
 		this.curveProperty.set(curve);
 	}
 
+	/**
+	 * Specifies whether refreshes in response to anchor position changes are
+	 * deferred to the next pulse. If enabled, this {@link Connection} updates
+	 * the affected points immediately, but routes and interpolates its curve
+	 * only once per pulse, no matter how many anchor positions changed in the
+	 * meantime. The refresh is skipped in case the points did not change
+	 * compared to the last refresh. All other changes (e.g. of the anchors,
+	 * the router, or the interpolator) are still processed immediately.
+	 * Deferred refreshes are disabled by default.
+	 *
+	 * @param deferredRefresh
+	 *            <code>true</code> to defer refreshes, <code>false</code> to
+	 *            refresh immediately.
+	 */
+	public void setDeferredRefresh(boolean deferredRefresh) {
+		if (isDeferredRefresh == deferredRefresh) {
+			return;
+		}
+		isDeferredRefresh = deferredRefresh;
+		refreshedPoints = null;
+		if (!deferredRefresh && deferredRefreshes.contains(this)) {
+			// perform pending refresh
+			refresh();
+		}
+	}
+
 	/**
 	 * Sets the end {@link IAnchor} of this {@link Connection} to the given
 	 * value.
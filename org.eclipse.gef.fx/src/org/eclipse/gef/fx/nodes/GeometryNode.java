@@ -16,6 +16,7 @@ package org.eclipse.gef.fx.nodes;
 import org.eclipse.gef.fx.utils.Geometry2Shape;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Arc;
+import org.eclipse.gef.geometry.planar.BezierCurve;
 import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IScalable;
@@ -23,6 +24,8 @@ import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.ITranslatable;
 import org.eclipse.gef.geometry.planar.Pie;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.geometry.planar.RoundedRectangle;
 
@@ -61,7 +64,10 @@ import javafx.scene.shape.StrokeType;
  * {@link IGeometry}, and to which all visual properties are delegated. The
  * 'clickable' area is realized by a transparent, non-mouse transparent overlay
  * that uses the same {@link IGeometry}, extended by the
- * {@link #clickableAreaWidthProperty() clickable area width}.
+ * {@link #clickableAreaWidthProperty() clickable area width}. For curved
+ * geometries ({@link BezierCurve}, {@link PolyBezier}), the clickable area may
+ * be computed from a flattened representation instead (see
+ * {@link #clickableAreaToleranceProperty()}), which is cheaper to hit-test.
  * <p>
  * Please note that because {@link IGeometry} does not support change
  * notifications itself, changes to the underlying {@link IGeometry} will not be
@@ -83,6 +89,7 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	private Path geometricShape = new Path();
 	private Path clickableAreaShape = null;
 	private DoubleProperty clickableAreaWidth = new SimpleDoubleProperty();
+	private DoubleProperty clickableAreaTolerance = new SimpleDoubleProperty();
 	private ObjectProperty<T> geometryProperty = new SimpleObjectProperty<>();
 
 	private ChangeListener<T> geometryChangeListener = new ChangeListener<T>() {
@@ -242,6 +249,18 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		// relocate geometry in case layoutX, layoutY change
 		layoutXProperty().addListener(layoutXListener);
 		layoutYProperty().addListener(layoutYListener);
+
+		// update clickable area in case the flattening tolerance changes
+		clickableAreaTolerance.addListener(new ChangeListener<Number>() {
+			@Override
+			public void changed(ObservableValue<? extends Number> observable,
+					Number oldValue, Number newValue) {
+				if (clickableAreaShape != null
+						&& geometryProperty.get() != null) {
+					updateShapes();
+				}
+			}
+		});
 	}
 
 	/**
@@ -256,6 +275,22 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		setGeometry(geom);
 	}
 
+	/**
+	 * Returns a (writable) property that controls the tolerance that is used to
+	 * flatten a curved geometry ({@link BezierCurve}, {@link PolyBezier}) for
+	 * the clickable area (see {@link BezierCurve#toPolyline(double)}). If the
+	 * value of the property is greater than <code>0</code>, the clickable area
+	 * is computed from the flattened representation, which is cheaper to
+	 * hit-test for long curves (e.g. the curve of a {@link Connection}).
+	 * Otherwise (the default), the geometry itself is used.
+	 *
+	 * @return A property to control the flattening tolerance of the clickable
+	 *         area of this {@link GeometryNode}.
+	 */
+	public DoubleProperty clickableAreaToleranceProperty() {
+		return clickableAreaTolerance;
+	}
+
 	/**
 	 * Returns a (writable) property that controls the width of the clickable
 	 * area. The clickable area is a transparent 'fat' curve overlaying the
@@ -355,6 +390,17 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometryProperty;
 	}
 
+	/**
+	 * Retrieves the value of the clickable area tolerance property (
+	 * {@link #clickableAreaToleranceProperty()}).
+	 *
+	 * @return The current value of the
+	 *         {@link #clickableAreaToleranceProperty()}.
+	 */
+	public double getClickableAreaTolerance() {
+		return clickableAreaTolerance.get();
+	}
+
 	/**
 	 * Retrieves the value of the clickable area width property (
 	 * {@link #clickableAreaWidthProperty()}).
@@ -417,6 +463,25 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape;
 	}
 
+	private PathElement[] getClickableAreaPathElements(
+			PathElement[] pathElements) {
+		double tolerance = clickableAreaTolerance.get();
+		if (tolerance > 0) {
+			T geometry = geometryProperty.get();
+			Polyline flattened = null;
+			if (geometry instanceof BezierCurve) {
+				flattened = ((BezierCurve) geometry).toPolyline(tolerance);
+			} else if (geometry instanceof PolyBezier) {
+				flattened = ((PolyBezier) geometry).toPolyline(tolerance);
+			}
+			if (flattened != null) {
+				return Geometry2Shape.toPathElements(flattened
+						.translate(-getLayoutX(), -getLayoutY()).toPath());
+			}
+		}
+		return pathElements;
+	}
+
 	private PathElement[] getPathElements() {
 		return Geometry2Shape.toPathElements(geometryProperty.get()
 				.getTransformed(new AffineTransform()
@@ -716,6 +781,18 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		updateShapes();
 	}
 
+	/**
+	 * Sets the value of the property {@link #clickableAreaToleranceProperty()
+	 * clickable area tolerance} property.
+	 *
+	 * @param clickableAreaTolerance
+	 *            The new value of the {@link #clickableAreaToleranceProperty()
+	 *            clickable area tolerance} property.
+	 */
+	public void setClickableAreaTolerance(double clickableAreaTolerance) {
+		this.clickableAreaTolerance.set(clickableAreaTolerance);
+	}
+
 	/**
 	 * Sets the value of the property {@link #clickableAreaWidthProperty()
 	 * clickable area width} property.
@@ -806,7 +883,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 						&& clickableAreaShape == null
 						&& geometryProperty.getValue() != null) {
 					// create and configure clickable area shape
-					clickableAreaShape = new Path(getPathElements());
+					clickableAreaShape = new Path(
+							getClickableAreaPathElements(getPathElements()));
 					clickableAreaShape
 							.setId("clickable area of GeometryNode " + this);
 					clickableAreaShape.setStroke(Color.TRANSPARENT);
@@ -1038,17 +1116,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	 * its visual counter part.
 	 */
 	private void updateShapes() {
-		if (clickableAreaShape != null) {
-			updateShapes(geometricShape, clickableAreaShape);
-		} else {
-			updateShapes(geometricShape);
-		}
-	}
-
-	private void updateShapes(Path... paths) {
 		PathElement[] pathElements = getPathElements();
-		for (Path p : paths) {
-			p.getElements().setAll(pathElements);
+		geometricShape.getElements().setAll(pathElements);
+		if (clickableAreaShape != null) {
+			clickableAreaShape.getElements()
+					.setAll(getClickableAreaPathElements(pathElements));
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,699 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.gef.fx.anchors.IAnchor;
+import org.eclipse.gef.fx.utils.NodeBoundsIndex;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.Point;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * An {@link IConnectionRouter} that routes a {@link Connection} orthogonally
+ * (see {@link OrthogonalRouter}), and in addition routes it around obstacles.
+ * The obstacles are the {@link Node}s that are registered at a
+ * {@link NodeBoundsIndex}, which may be shared by all connections (and is
+ * updated incrementally when the obstacles change).
+ * <p>
+ * Each part of the orthogonal route between two successive user-defined
+ * anchors that passes through an obstacle is replaced by the shortest
+ * orthogonal path (weighting each bend like a segment of length 20) that
+ * keeps a margin of 10 to the obstacles. The path is computed by an A* search
+ * on a sparse orthogonal grid, which is constituted by the end points of the
+ * part and the (expanded) bounds of the nearby obstacles only. Therefore,
+ * routing a connection only depends on the number of obstacles in its
+ * vicinity. Obstacles that contain an end point of a part (e.g. a container of
+ * the connected node) are not avoided.
+ * <p>
+ * When connections are routed asynchronously by a {@link BatchRouter}, the
+ * path searches are performed on a worker thread, while the connections are
+ * preliminarily routed without avoiding obstacles.
+ *
+ * @author agent
+ *
+ */
+public class ObstacleAvoidingOrthogonalRouter extends OrthogonalRouter {
+
+	/**
+	 * The input of a path search, which is independent of the scene graph, so
+	 * that the search can be performed on a worker thread. Searches are equal
+	 * if their inputs are equal, so that their results can be reused.
+	 */
+	private static final class DetourSearch {
+		final double[] xs;
+		final double[] ys;
+		final List<double[]> obstacles;
+		final Point start;
+		final Point end;
+		final int startOrientation;
+		final int endOrientation;
+
+		DetourSearch(double[] xs, double[] ys, List<double[]> obstacles,
+				Point start, Point end, int startOrientation,
+				int endOrientation) {
+			this.xs = xs;
+			this.ys = ys;
+			this.obstacles = obstacles;
+			this.start = start;
+			this.end = end;
+			this.startOrientation = startOrientation;
+			this.endOrientation = endOrientation;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof DetourSearch)) {
+				return false;
+			}
+			DetourSearch other = (DetourSearch) obj;
+			if (startOrientation != other.startOrientation
+					|| endOrientation != other.endOrientation
+					|| !start.equals(other.start) || !end.equals(other.end)
+					|| !Arrays.equals(xs, other.xs)
+					|| !Arrays.equals(ys, other.ys)
+					|| obstacles.size() != other.obstacles.size()) {
+				return false;
+			}
+			for (int i = 0; i < obstacles.size(); i++) {
+				if (!Arrays.equals(obstacles.get(i), other.obstacles.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(xs) + Arrays.hashCode(ys);
+		}
+	}
+
+	private static final class SearchState implements Comparable<SearchState> {
+		final int id;
+		final double cost;
+		final double estimate;
+		final SearchState predecessor;
+
+		SearchState(int id, double cost, double estimate,
+				SearchState predecessor) {
+			this.id = id;
+			this.cost = cost;
+			this.estimate = estimate;
+			this.predecessor = predecessor;
+		}
+
+		@Override
+		public int compareTo(SearchState o) {
+			int result = Double.compare(cost + estimate, o.cost + o.estimate);
+			// prefer states that are closer to the target in case of equal
+			// total costs, so that fewer of the equivalent paths are explored
+			return result != 0 ? result : Double.compare(estimate, o.estimate);
+		}
+	}
+
+	// the orientations of the segments within the search graph
+	private static final int HORIZONTAL = 0;
+	private static final int VERTICAL = 1;
+	private static final int NONE = -1;
+
+	// tolerance used to decide whether a point lies within an obstacle
+	private static final double EPSILON = 1e-6;
+
+	// the margin that is kept to obstacles
+	private static final double MARGIN = 10;
+
+	// the costs of a bend in relation to the length of a segment
+	private static final double BEND_COSTS = 2 * MARGIN;
+
+	private static double[] distinctSorted(double[] values, int size) {
+		Arrays.sort(values, 0, size);
+		int distinct = 0;
+		for (int i = 0; i < size; i++) {
+			if (distinct == 0 || values[i] - values[distinct - 1] > EPSILON) {
+				values[distinct++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, distinct);
+	}
+
+	private static int getOrientation(Point p, Point q) {
+		if (Math.abs(p.y - q.y) <= EPSILON) {
+			return HORIZONTAL;
+		} else if (Math.abs(p.x - q.x) <= EPSILON) {
+			return VERTICAL;
+		}
+		return NONE;
+	}
+
+	private static boolean intersectsInterior(double[] obstacle,
+			double margin, double minX, double minY, double maxX,
+			double maxY) {
+		return minX < obstacle[2] + margin - EPSILON
+				&& maxX > obstacle[0] - margin + EPSILON
+				&& minY < obstacle[3] + margin - EPSILON
+				&& maxY > obstacle[1] - margin + EPSILON;
+	}
+
+	private static boolean overlaps(double[] intervals, double min,
+			double max) {
+		// find the last interval that starts before the given maximum (which
+		// is the one with the greatest end, as the intervals are disjoint)
+		int low = 0;
+		int high = intervals.length / 2 - 1;
+		int found = -1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (intervals[2 * middle] < max - EPSILON) {
+				found = middle;
+				low = middle + 1;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return found >= 0 && intervals[2 * found + 1] > min + EPSILON;
+	}
+
+	private static final Comparator<double[]> OBSTACLE_COMPARATOR = new Comparator<double[]>() {
+		@Override
+		public int compare(double[] o1, double[] o2) {
+			for (int i = 0; i < 4; i++) {
+				int result = Double.compare(o1[i], o2[i]);
+				if (result != 0) {
+					return result;
+				}
+			}
+			return 0;
+		}
+	};
+
+	private final NodeBoundsIndex obstacleIndex;
+
+	// the searches that are deferred within an asynchronous batch, and the
+	// paths that were computed for them (on a worker thread)
+	private List<DetourSearch> deferredSearches = null;
+	private volatile Map<DetourSearch, List<Point>> computedPaths = Collections
+			.emptyMap();
+
+	/**
+	 * Constructs a new {@link ObstacleAvoidingOrthogonalRouter} that avoids
+	 * the {@link Node}s registered at the given {@link NodeBoundsIndex}.
+	 *
+	 * @param obstacleIndex
+	 *            The {@link NodeBoundsIndex} that provides the obstacles.
+	 */
+	public ObstacleAvoidingOrthogonalRouter(NodeBoundsIndex obstacleIndex) {
+		if (obstacleIndex == null) {
+			throw new IllegalArgumentException(
+					"obstacleIndex may not be null.");
+		}
+		this.obstacleIndex = obstacleIndex;
+	}
+
+	/**
+	 * Replaces all parts of the given {@link Connection} that pass through an
+	 * obstacle by orthogonal paths around the obstacles. Each part between two
+	 * successive user-defined anchors (i.e. anchors that were not
+	 * {@link #wasInserted(IAnchor) inserted} by the router) is handled
+	 * separately, replacing the anchors that were inserted for it.
+	 *
+	 * @param connection
+	 *            The {@link Connection} to adjust.
+	 */
+	protected void avoidObstacles(Connection connection) {
+		// determine the connection's points (in the coordinate system of the
+		// connection)
+		List<IAnchor> anchors = connection.getAnchorsUnmodifiable();
+		List<Point> points = new ArrayList<>();
+		for (int i = 0; i < anchors.size(); i++) {
+			Point position = anchors.get(i)
+					.getPosition(connection.getAnchorKey(i));
+			points.add(FX2Geometry.toPoint(connection.getCurve()
+					.localToParent(Geometry2FX.toFXPoint(position))));
+		}
+
+		List<IAnchor> controlAnchors = new ArrayList<>();
+		boolean isChanged = false;
+		int legStart = 0;
+		for (int i = 1; i < anchors.size(); i++) {
+			if (i < anchors.size() - 1 && wasInserted(anchors.get(i))) {
+				continue;
+			}
+			// prefer to continue in the direction of the preceding and
+			// succeeding segments; a connected start or end point is left in
+			// the original direction (as it was computed with respect to the
+			// anchorage outline), while there is no preference for an
+			// unconnected one
+			int startOrientation = legStart > 0
+					? getOrientation(points.get(legStart - 1),
+							points.get(legStart))
+					: connection.isStartConnected()
+							? getOrientation(points.get(0), points.get(1))
+							: NONE;
+			int endOrientation = i < anchors.size() - 1
+					? getOrientation(points.get(i), points.get(i + 1))
+					: connection.isEndConnected()
+							? getOrientation(points.get(i - 1), points.get(i))
+							: NONE;
+			List<Point> detour = findDetour(connection,
+					points.subList(legStart, i + 1), startOrientation,
+					endOrientation);
+			if (detour == null) {
+				controlAnchors.addAll(anchors.subList(legStart + 1, i));
+			} else {
+				for (Point p : detour) {
+					controlAnchors.add(new VolatileStaticAnchor(connection, p));
+				}
+				isChanged = true;
+			}
+			if (i < anchors.size() - 1) {
+				controlAnchors.add(anchors.get(i));
+			}
+			legStart = i;
+		}
+		if (isChanged) {
+			// exchange the connection's points all at once
+			connection.setControlAnchors(controlAnchors);
+		}
+	}
+
+	@Override
+	protected void beginBatch(boolean isAsynchronous) {
+		if (isAsynchronous) {
+			// defer the path searches, so that they can be performed on a
+			// worker thread
+			deferredSearches = new ArrayList<>();
+		}
+	}
+
+	@Override
+	protected Runnable endBatch() {
+		if (deferredSearches == null) {
+			// the paths of a preceding asynchronous batch (if any) have been
+			// applied
+			computedPaths = Collections.emptyMap();
+			return null;
+		}
+		final List<DetourSearch> searches = deferredSearches;
+		deferredSearches = null;
+		if (searches.isEmpty()) {
+			return null;
+		}
+		return new Runnable() {
+			@Override
+			public void run() {
+				Map<DetourSearch, List<Point>> paths = new HashMap<>();
+				for (DetourSearch search : searches) {
+					if (!paths.containsKey(search)) {
+						paths.put(search, findPath(search));
+					}
+				}
+				computedPaths = paths;
+			}
+		};
+	}
+
+	private List<Point> findDetour(Connection connection, List<Point> points,
+			int startOrientation, int endOrientation) {
+		Point start = points.get(0);
+		Point end = points.get(points.size() - 1);
+
+		// determine whether a segment passes an obstacle (obstacles that
+		// cannot be avoided are mapped to null)
+		Map<Node, double[]> obstacles = new IdentityHashMap<>();
+		List<double[]> obstacleList = new ArrayList<>();
+		boolean isBlocked = false;
+		double minX = start.x;
+		double minY = start.y;
+		double maxX = start.x;
+		double maxY = start.y;
+		for (int i = 0; i < points.size() - 1; i++) {
+			Point p = points.get(i);
+			Point q = points.get(i + 1);
+			double segmentMinX = Math.min(p.x, q.x);
+			double segmentMinY = Math.min(p.y, q.y);
+			double segmentMaxX = Math.max(p.x, q.x);
+			double segmentMaxY = Math.max(p.y, q.y);
+			obstacleList.addAll(getObstacles(connection, start, end,
+					segmentMinX, segmentMinY, segmentMaxX, segmentMaxY,
+					obstacles));
+			isBlocked |= isBlocked(obstacleList, 0, segmentMinX, segmentMinY,
+					segmentMaxX, segmentMaxY);
+			minX = Math.min(minX, segmentMinX);
+			minY = Math.min(minY, segmentMinY);
+			maxX = Math.max(maxX, segmentMaxX);
+			maxY = Math.max(maxY, segmentMaxY);
+		}
+		if (!isBlocked) {
+			return null;
+		}
+
+		// collect the obstacles in the vicinity, i.e. successively extend the
+		// search area by the obstacles that overlap it
+		List<double[]> added = obstacleList;
+		while (!added.isEmpty()) {
+			boolean isExtended = false;
+			for (double[] obstacle : added) {
+				if (obstacle[0] - 2 * MARGIN < minX) {
+					minX = obstacle[0] - 2 * MARGIN;
+					isExtended = true;
+				}
+				if (obstacle[1] - 2 * MARGIN < minY) {
+					minY = obstacle[1] - 2 * MARGIN;
+					isExtended = true;
+				}
+				if (obstacle[2] + 2 * MARGIN > maxX) {
+					maxX = obstacle[2] + 2 * MARGIN;
+					isExtended = true;
+				}
+				if (obstacle[3] + 2 * MARGIN > maxY) {
+					maxY = obstacle[3] + 2 * MARGIN;
+					isExtended = true;
+				}
+			}
+			if (!isExtended) {
+				break;
+			}
+			added = getObstacles(connection, start, end, minX, minY, maxX,
+					maxY, obstacles);
+			obstacleList.addAll(added);
+		}
+
+		// sort the obstacles, so that the search does not depend on the order
+		// in which they were provided by the index
+		Collections.sort(obstacleList, OBSTACLE_COMPARATOR);
+
+		// build the sparse grid
+		double[] xs = new double[2 * obstacleList.size() + 4];
+		double[] ys = new double[xs.length];
+		int size = 0;
+		xs[size] = start.x;
+		ys[size++] = start.y;
+		xs[size] = end.x;
+		ys[size++] = end.y;
+		xs[size] = minX - MARGIN;
+		ys[size++] = minY - MARGIN;
+		xs[size] = maxX + MARGIN;
+		ys[size++] = maxY + MARGIN;
+		for (double[] obstacle : obstacleList) {
+			xs[size] = obstacle[0] - MARGIN;
+			ys[size++] = obstacle[1] - MARGIN;
+			xs[size] = obstacle[2] + MARGIN;
+			ys[size++] = obstacle[3] + MARGIN;
+		}
+		xs = distinctSorted(xs, size);
+		ys = distinctSorted(ys, size);
+
+		// search the path (or keep the segment if no path is found), unless
+		// it has already been computed or is deferred
+		DetourSearch search = new DetourSearch(xs, ys, obstacleList, start,
+				end, startOrientation, endOrientation);
+		Map<DetourSearch, List<Point>> paths = computedPaths;
+		if (paths.containsKey(search)) {
+			return paths.get(search);
+		}
+		if (deferredSearches != null) {
+			deferredSearches.add(search);
+			return null;
+		}
+		return findPath(search);
+	}
+
+	private List<Point> findPath(DetourSearch search) {
+		double[] xs = search.xs;
+		double[] ys = search.ys;
+		List<double[]> obstacles = search.obstacles;
+		Point start = search.start;
+		Point end = search.end;
+		int startOrientation = search.startOrientation;
+		int endOrientation = search.endOrientation;
+		int startX = indexOf(xs, start.x);
+		int startY = indexOf(ys, start.y);
+		int endX = indexOf(xs, end.x);
+		int endY = indexOf(ys, end.y);
+
+		// A* search, where each state corresponds to a grid point and the
+		// orientation in which it was reached; as only a fraction of the grid
+		// is usually visited, states and blocked intervals are determined
+		// lazily
+		int columns = xs.length;
+		double[][] blockedInRow = new double[ys.length][];
+		double[][] blockedInColumn = new double[columns][];
+		Map<Integer, SearchState> reached = new HashMap<>();
+		PriorityQueue<SearchState> queue = new PriorityQueue<>();
+		for (int orientation = HORIZONTAL; orientation <= VERTICAL; orientation++) {
+			SearchState state = new SearchState(
+					(startY * columns + startX) * 2 + orientation,
+					startOrientation == NONE || startOrientation == orientation
+							? 0 : BEND_COSTS,
+					getEstimate(start.x, start.y, orientation, end), null);
+			reached.put(state.id, state);
+			queue.add(state);
+		}
+		SearchState best = null;
+		double bestCost = Double.POSITIVE_INFINITY;
+		while (!queue.isEmpty()) {
+			SearchState state = queue.poll();
+			if (state != reached.get(state.id)) {
+				// outdated
+				continue;
+			}
+			if (state.cost + state.estimate >= bestCost) {
+				break;
+			}
+			int orientation = state.id % 2;
+			int x = state.id / 2 % columns;
+			int y = state.id / 2 / columns;
+			if (x == endX && y == endY) {
+				double cost = state.cost + (endOrientation == NONE
+						|| endOrientation == orientation ? 0 : BEND_COSTS);
+				if (cost < bestCost) {
+					bestCost = cost;
+					best = state;
+				}
+				continue;
+			}
+			// expand to the neighboring grid points
+			for (int d = 0; d < 4; d++) {
+				int nx = x + (d == 0 ? 1 : d == 1 ? -1 : 0);
+				int ny = y + (d == 2 ? 1 : d == 3 ? -1 : 0);
+				if (nx < 0 || ny < 0 || nx >= columns || ny >= ys.length) {
+					continue;
+				}
+				// the margin has to be kept, except when leaving the start
+				// point or approaching the end point in the preferred
+				// direction
+				int nextOrientation = d < 2 ? HORIZONTAL : VERTICAL;
+				boolean isPort = x == startX && y == startY
+						&& (startOrientation == NONE
+								|| startOrientation == nextOrientation)
+						|| nx == endX && ny == endY && (endOrientation == NONE
+								|| endOrientation == nextOrientation);
+				double minX = xs[Math.min(x, nx)];
+				double minY = ys[Math.min(y, ny)];
+				double maxX = xs[Math.max(x, nx)];
+				double maxY = ys[Math.max(y, ny)];
+				if (isPort) {
+					if (isBlocked(obstacles, 0, minX, minY, maxX, maxY)) {
+						continue;
+					}
+				} else if (nextOrientation == HORIZONTAL) {
+					if (blockedInRow[y] == null) {
+						blockedInRow[y] = getBlockedIntervals(obstacles,
+								HORIZONTAL, ys[y]);
+					}
+					if (overlaps(blockedInRow[y], minX, maxX)) {
+						continue;
+					}
+				} else {
+					if (blockedInColumn[x] == null) {
+						blockedInColumn[x] = getBlockedIntervals(obstacles,
+								VERTICAL, xs[x]);
+					}
+					if (overlaps(blockedInColumn[x], minY, maxY)) {
+						continue;
+					}
+				}
+				double cost = state.cost + maxX - minX + maxY - minY
+						+ (nextOrientation == orientation ? 0 : BEND_COSTS);
+				int id = (ny * columns + nx) * 2 + nextOrientation;
+				SearchState next = reached.get(id);
+				if (next == null || cost < next.cost) {
+					next = new SearchState(id, cost,
+							getEstimate(xs[nx], ys[ny], nextOrientation, end),
+							state);
+					reached.put(id, next);
+					queue.add(next);
+				}
+			}
+		}
+		if (best == null) {
+			return null;
+		}
+
+		// collect the bend points (excluding start and end point)
+		List<Point> path = new ArrayList<>();
+		for (SearchState state = best; state.predecessor != null
+				&& state.predecessor.predecessor != null; state = state.predecessor) {
+			// a change of the orientation indicates a bend (bends at the
+			// start point do not require an additional point)
+			if (state.predecessor.id % 2 != state.id % 2) {
+				int gridPoint = state.predecessor.id / 2;
+				path.add(new Point(xs[gridPoint % columns],
+						ys[gridPoint / columns]));
+			}
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * Returns the intervals (as a sorted array of disjoint [min, max] pairs)
+	 * in which a horizontal (or vertical) line at the given coordinate passes
+	 * the given obstacles (expanded by the margin).
+	 */
+	private double[] getBlockedIntervals(List<double[]> obstacles,
+			int orientation, double coordinate) {
+		int axis = orientation == HORIZONTAL ? 0 : 1;
+		List<double[]> intervals = new ArrayList<>();
+		for (double[] obstacle : obstacles) {
+			if (coordinate > obstacle[1 - axis] - MARGIN + EPSILON
+					&& coordinate < obstacle[3 - axis] + MARGIN - EPSILON) {
+				intervals.add(new double[] { obstacle[axis] - MARGIN,
+						obstacle[axis + 2] + MARGIN });
+			}
+		}
+		Collections.sort(intervals, new Comparator<double[]>() {
+			@Override
+			public int compare(double[] i1, double[] i2) {
+				return Double.compare(i1[0], i2[0]);
+			}
+		});
+		double[] merged = new double[2 * intervals.size()];
+		int size = 0;
+		for (double[] interval : intervals) {
+			if (size > 0 && interval[0] <= merged[size - 1]) {
+				merged[size - 1] = Math.max(merged[size - 1], interval[1]);
+			} else {
+				merged[size++] = interval[0];
+				merged[size++] = interval[1];
+			}
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	/**
+	 * Returns a lower bound for the costs of a path from the given position,
+	 * which is reached in the given orientation, to the given end point.
+	 */
+	private double getEstimate(double x, double y, int orientation,
+			Point end) {
+		double dx = Math.abs(end.x - x);
+		double dy = Math.abs(end.y - y);
+		// at least one bend is needed if the end point is not located on the
+		// line along the current orientation
+		boolean isBendNeeded = orientation == HORIZONTAL ? dy > EPSILON
+				: dx > EPSILON;
+		return dx + dy + (isBendNeeded ? BEND_COSTS : 0);
+	}
+
+	/**
+	 * Returns the {@link NodeBoundsIndex} that provides the obstacles, which
+	 * are avoided by this {@link ObstacleAvoidingOrthogonalRouter}.
+	 *
+	 * @return The {@link NodeBoundsIndex} that provides the obstacles.
+	 */
+	public NodeBoundsIndex getObstacleIndex() {
+		return obstacleIndex;
+	}
+
+	/**
+	 * Adds the bounds (in the coordinate system of the connection) of all
+	 * obstacles that intersect the given area and that are not yet contained
+	 * in the given map to it, and returns the newly added bounds.
+	 */
+	private List<double[]> getObstacles(Connection connection, Point start,
+			Point end, double minX, double minY, double maxX, double maxY,
+			Map<Node, double[]> obstacles) {
+		Bounds area = connection.localToScene(
+				new BoundingBox(minX, minY, maxX - minX, maxY - minY));
+		List<double[]> added = new ArrayList<>();
+		for (Node node : obstacleIndex.getNodesIntersecting(area)) {
+			if (obstacles.containsKey(node) || node == connection
+					|| connection == node.getParent()
+					|| node instanceof Parent && NodeUtils
+							.isNested((Parent) node, connection)) {
+				continue;
+			}
+			Bounds bounds = connection
+					.sceneToLocal(obstacleIndex.getBoundsInScene(node));
+			double[] obstacle = new double[] { bounds.getMinX(),
+					bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY() };
+			if (intersectsInterior(obstacle, 0, start.x, start.y, start.x,
+					start.y)
+					|| intersectsInterior(obstacle, 0, end.x, end.y, end.x,
+							end.y)) {
+				// an end point lies within the obstacle, so that it cannot be
+				// avoided
+				obstacles.put(node, null);
+				continue;
+			}
+			obstacles.put(node, obstacle);
+			added.add(obstacle);
+		}
+		return added;
+	}
+
+	private int indexOf(double[] values, double value) {
+		int index = 0;
+		for (int i = 1; i < values.length; i++) {
+			if (Math.abs(values[i] - value) < Math
+					.abs(values[index] - value)) {
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	@Override
+	protected void insertRouterAnchors(Connection connection) {
+		super.insertRouterAnchors(connection);
+		avoidObstacles(connection);
+	}
+
+	private boolean isBlocked(List<double[]> obstacles, double margin,
+			double minX, double minY, double maxX, double maxY) {
+		for (double[] obstacle : obstacles) {
+			if (intersectsInterior(obstacle, margin, minX, minY, maxX, maxY)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * A {@link NodeBoundsIndex} maintains the bounds (in scene coordinates) of a
+ * set of registered {@link Node}s within an R-tree, so that the registered
+ * {@link Node}s whose bounds contain a given position or intersect a given
+ * area can be determined without iterating all of them. The bounds of a
+ * registered {@link Node} are updated lazily, i.e. the {@link Node} is only
+ * marked as dirty when its local bounds or its local-to-scene transform
+ * changes, and re-indexed upon the next query.
+ * <p>
+ * A {@link NodeBoundsIndex} may be shared, e.g. by all connections that are
+ * routed around the same set of obstacles, or it may serve as the basis for
+ * picking (see {@link SpatialNodeIndex}).
+ *
+ * @author agent
+ *
+ */
+public class NodeBoundsIndex {
+
+	private class Registration implements InvalidationListener {
+		private final Node node;
+		private Bounds boundsInScene;
+		private boolean isDirty = false;
+
+		Registration(Node node) {
+			this.node = node;
+		}
+
+		@Override
+		public void invalidated(Observable observable) {
+			if (!isDirty) {
+				isDirty = true;
+				dirtyRegistrations.add(this);
+			}
+		}
+
+		void update() {
+			isDirty = false;
+			// query the properties to re-validate them, so that we get notified
+			// about subsequent changes
+			boundsInScene = node.getLocalToSceneTransform()
+					.transform(node.getBoundsInLocal());
+			if (isValid(boundsInScene)) {
+				index.insert(node, boundsInScene.getMinX(),
+						boundsInScene.getMinY(), boundsInScene.getMaxX(),
+						boundsInScene.getMaxY());
+			} else {
+				boundsInScene = null;
+				index.remove(node);
+			}
+		}
+	}
+
+	private static boolean isValid(Bounds b) {
+		return !b.isEmpty() && !Double.isNaN(b.getMinX())
+				&& !Double.isNaN(b.getMinY()) && !Double.isNaN(b.getMaxX())
+				&& !Double.isNaN(b.getMaxY());
+	}
+
+	private final RTree<Node> index = new RTree<>();
+	private final Map<Node, Registration> registrations = new IdentityHashMap<>();
+	private final List<Registration> dirtyRegistrations = new ArrayList<>();
+
+	/**
+	 * Registers the given {@link Node}, so that it is considered by the
+	 * queries of this {@link NodeBoundsIndex}.
+	 *
+	 * @param node
+	 *            The {@link Node} to register.
+	 */
+	public void add(Node node) {
+		if (registrations.containsKey(node)) {
+			return;
+		}
+		Registration registration = new Registration(node);
+		registrations.put(node, registration);
+		node.boundsInLocalProperty().addListener(registration);
+		node.localToSceneTransformProperty().addListener(registration);
+		registration.invalidated(null);
+	}
+
+	/**
+	 * Unregisters all {@link Node}s.
+	 */
+	public void clear() {
+		for (Node node : new ArrayList<>(registrations.keySet())) {
+			remove(node);
+		}
+	}
+
+	/**
+	 * Returns whether the given {@link Node} is registered.
+	 *
+	 * @param node
+	 *            The {@link Node} to test.
+	 * @return <code>true</code> if the given {@link Node} is registered,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean contains(Node node) {
+		return registrations.containsKey(node);
+	}
+
+	private void flush() {
+		if (dirtyRegistrations.isEmpty()) {
+			return;
+		}
+		if (dirtyRegistrations.size() > registrations.size() / 2) {
+			// rebuilding is cheaper for bulk changes (e.g. after scrolling)
+			index.clear();
+			for (Registration registration : registrations.values()) {
+				registration.update();
+			}
+		} else {
+			for (Registration registration : dirtyRegistrations) {
+				registration.update();
+			}
+		}
+		dirtyRegistrations.clear();
+	}
+
+	/**
+	 * Returns the (indexed) bounds of the given registered {@link Node} in
+	 * scene coordinates, or <code>null</code> if the {@link Node} is not
+	 * registered or if its bounds are empty.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the bounds.
+	 * @return The bounds of the given {@link Node} in scene coordinates, or
+	 *         <code>null</code>.
+	 */
+	public Bounds getBoundsInScene(Node node) {
+		Registration registration = registrations.get(node);
+		if (registration == null) {
+			return null;
+		}
+		flush();
+		return registration.boundsInScene;
+	}
+
+	/**
+	 * Returns all registered {@link Node}s.
+	 *
+	 * @return A list of the registered {@link Node}s.
+	 */
+	public List<Node> getNodes() {
+		return new ArrayList<>(registrations.keySet());
+	}
+
+	/**
+	 * Returns all registered {@link Node}s whose bounds (in scene coordinates)
+	 * contain the given position.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position, interpreted in scene
+	 *            coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position, interpreted in scene
+	 *            coordinate space.
+	 * @return A list of the registered {@link Node}s whose bounds contain the
+	 *         given position.
+	 */
+	public List<Node> getNodesAt(double sceneX, double sceneY) {
+		flush();
+		List<Node> nodes = new ArrayList<>();
+		index.getItemsAt(sceneX, sceneY, nodes);
+		return nodes;
+	}
+
+	/**
+	 * Returns all registered {@link Node}s whose bounds (in scene coordinates)
+	 * intersect (or touch) the given bounds.
+	 *
+	 * @param boundsInScene
+	 *            The bounds to test, interpreted in scene coordinate space.
+	 * @return A list of the registered {@link Node}s whose bounds intersect
+	 *         the given bounds.
+	 */
+	public List<Node> getNodesIntersecting(Bounds boundsInScene) {
+		flush();
+		List<Node> nodes = new ArrayList<>();
+		index.getItemsIntersecting(boundsInScene.getMinX(),
+				boundsInScene.getMinY(), boundsInScene.getMaxX(),
+				boundsInScene.getMaxY(), nodes);
+		return nodes;
+	}
+
+	/**
+	 * Unregisters the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} to unregister.
+	 */
+	public void remove(Node node) {
+		Registration registration = registrations.remove(node);
+		if (registration == null) {
+			return;
+		}
+		node.boundsInLocalProperty().removeListener(registration);
+		node.localToSceneTransformProperty().removeListener(registration);
+		if (registration.isDirty) {
+			dirtyRegistrations.remove(registration);
+		}
+		index.remove(node);
+	}
+
+	/**
+	 * Returns the number of registered {@link Node}s.
+	 *
+	 * @return The number of registered {@link Node}s.
+	 */
+	public int size() {
+		return registrations.size();
+	}
+
+}
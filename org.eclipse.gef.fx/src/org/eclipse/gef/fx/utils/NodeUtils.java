@@ -14,10 +14,12 @@
 package org.eclipse.gef.fx.utils;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.GeometryNode;
@@ -242,6 +244,12 @@ public class NodeUtils {
 	/**
 	 * Performs picking on the scene graph beginning at the specified root node
 	 * and processing its transitive children.
+	 * <p>
+	 * If a {@link SpatialNodeIndex} was created for the given root node, it is
+	 * queried for the registered nodes whose bounds contain the given
+	 * position, so that only those are visited (see
+	 * {@link SpatialNodeIndex#getNodesAt(double, double)}), which does not
+	 * change the result.
 	 *
 	 * @param sceneX
 	 *            The x-coordinate of the position to pick nodes at, interpreted
@@ -255,31 +263,12 @@ public class NodeUtils {
 	 */
 	public static List<Node> getNodesAt(Node root, double sceneX,
 			double sceneY) {
-		List<Node> picked = new ArrayList<>();
-
-		// start with given root node
-		List<Node> nodes = new ArrayList<>();
-		nodes.add(root);
-
-		while (!nodes.isEmpty()) {
-			Node current = nodes.remove(0);
-			// transform to local coordinates
-			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
-			// check if bounds contains (necessary to find children in mouse
-			// transparent regions)
-			if (!current.isMouseTransparent()
-					&& current.getBoundsInLocal().contains(pLocal)) {
-				// check precisely
-				if (current.contains(pLocal)) {
-					picked.add(0, current);
-				}
-				// test all children, too
-				if (current instanceof Parent) {
-					nodes.addAll(0,
-							((Parent) current).getChildrenUnmodifiable());
-				}
-			}
+		SpatialNodeIndex index = SpatialNodeIndex.get(root);
+		if (index != null) {
+			return index.getNodesAt(sceneX, sceneY);
 		}
+		List<Node> picked = new ArrayList<>();
+		pick(root, sceneX, sceneY, null, picked);
 		return picked;
 	}
 
@@ -473,6 +462,54 @@ public class NodeUtils {
 		return localToSceneTx.getTransformed(p);
 	}
 
+	/**
+	 * Picks the nodes below the given root node (including the root node) that
+	 * contain the given scene position and appends them (top-most first) to
+	 * the given {@link List}. If a {@link Function} is given, only those
+	 * children of a {@link Parent} are visited that are provided by it (in
+	 * paint order), which is used by the {@link SpatialNodeIndex} to visit only
+	 * the registered nodes whose bounds contain the position.
+	 */
+	static void pick(Node root, double sceneX, double sceneY,
+			Function<Parent, List<Node>> childrenToVisit, List<Node> picked) {
+		// process the nodes in depth-first order, so that children are visited
+		// after their parent and in their paint order
+		List<Node> visited = new ArrayList<>();
+		ArrayDeque<Node> nodes = new ArrayDeque<>();
+		ArrayDeque<Point2D> positions = new ArrayDeque<>();
+		nodes.push(root);
+		positions.push(root.sceneToLocal(sceneX, sceneY));
+		while (!nodes.isEmpty()) {
+			Node current = nodes.pop();
+			Point2D pLocal = positions.pop();
+			// check if bounds contains (necessary to find children in mouse
+			// transparent regions)
+			if (!current.isMouseTransparent()
+					&& current.getBoundsInLocal().contains(pLocal)) {
+				// check precisely
+				if (current.contains(pLocal)) {
+					visited.add(current);
+				}
+				// test all children, too
+				if (current instanceof Parent) {
+					List<Node> children = childrenToVisit == null
+							? ((Parent) current).getChildrenUnmodifiable()
+							: childrenToVisit.apply((Parent) current);
+					for (int i = children.size() - 1; i >= 0; i--) {
+						Node child = children.get(i);
+						nodes.push(child);
+						// transform to local coordinates
+						positions.push(child.parentToLocal(pLocal));
+					}
+				}
+			}
+		}
+		// nodes that are painted later are picked first
+		for (int i = visited.size() - 1; i >= 0; i--) {
+			picked.add(visited.get(i));
+		}
+	}
+
 	/**
 	 * Transforms the given {@link IGeometry} from the parent coordinate system
 	 * of the given {@link Node} into the local coordinate system of the
@@ -0,0 +1,414 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A simple R-tree (using the quadratic split of Guttman), which stores items
+ * together with their axis-aligned bounds, so that the items whose bounds
+ * contain a given point (or intersect given bounds) can be determined in
+ * logarithmic time. Items are compared by identity.
+ *
+ * @param <T>
+ *            The type of the stored items.
+ *
+ * @author agent
+ *
+ */
+class RTree<T> {
+
+	private static class Bounds {
+		double minX;
+		double minY;
+		double maxX;
+		double maxY;
+
+		double area() {
+			return (maxX - minX) * (maxY - minY);
+		}
+
+		boolean contains(double x, double y) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY;
+		}
+
+		double enlargedArea(Bounds b) {
+			return (Math.max(maxX, b.maxX) - Math.min(minX, b.minX))
+					* (Math.max(maxY, b.maxY) - Math.min(minY, b.minY));
+		}
+
+		boolean intersects(double minX, double minY, double maxX,
+				double maxY) {
+			return minX <= this.maxX && maxX >= this.minX && minY <= this.maxY
+					&& maxY >= this.minY;
+		}
+
+		void set(Bounds b) {
+			minX = b.minX;
+			minY = b.minY;
+			maxX = b.maxX;
+			maxY = b.maxY;
+		}
+
+		void union(Bounds b) {
+			minX = Math.min(minX, b.minX);
+			minY = Math.min(minY, b.minY);
+			maxX = Math.max(maxX, b.maxX);
+			maxY = Math.max(maxY, b.maxY);
+		}
+	}
+
+	private static class Entry<T> extends Bounds {
+		final T item;
+		Node<T> leaf;
+
+		Entry(T item, double minX, double minY, double maxX, double maxY) {
+			this.item = item;
+			this.minX = minX;
+			this.minY = minY;
+			this.maxX = maxX;
+			this.maxY = maxY;
+		}
+	}
+
+	private static class Node<T> extends Bounds {
+		final boolean isLeaf;
+		Node<T> parent;
+		// either child nodes (inner node) or entries (leaf)
+		final List<Bounds> children = new ArrayList<>(MAX_CHILDREN + 1);
+
+		Node(boolean isLeaf) {
+			this.isLeaf = isLeaf;
+		}
+
+		void add(Bounds child) {
+			if (children.isEmpty()) {
+				set(child);
+			} else {
+				union(child);
+			}
+			children.add(child);
+			setParent(child);
+		}
+
+		@SuppressWarnings("unchecked")
+		void setParent(Bounds child) {
+			if (isLeaf) {
+				((Entry<T>) child).leaf = this;
+			} else {
+				((Node<T>) child).parent = this;
+			}
+		}
+
+		void updateBounds() {
+			set(children.get(0));
+			for (int i = 1; i < children.size(); i++) {
+				union(children.get(i));
+			}
+		}
+	}
+
+	private static final int MAX_CHILDREN = 16;
+	private static final int MIN_CHILDREN = 6;
+
+	private Node<T> root = new Node<>(true);
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+	private void adjustTree(Node<T> node, Node<T> split) {
+		while (true) {
+			Node<T> parent = node.parent;
+			if (parent == null) {
+				if (split != null) {
+					// grow tree
+					root = new Node<>(false);
+					root.add(node);
+					root.add(split);
+				}
+				return;
+			}
+			if (split != null) {
+				parent.add(split);
+				split = parent.children.size() > MAX_CHILDREN ? split(parent)
+						: null;
+			}
+			parent.updateBounds();
+			node = parent;
+		}
+	}
+
+	private Node<T> chooseLeaf(Entry<T> entry) {
+		Node<T> node = root;
+		while (!node.isLeaf) {
+			Node<T> best = null;
+			double bestEnlargement = Double.POSITIVE_INFINITY;
+			double bestArea = Double.POSITIVE_INFINITY;
+			for (Bounds b : node.children) {
+				@SuppressWarnings("unchecked")
+				Node<T> child = (Node<T>) b;
+				double area = child.area();
+				double enlargement = child.enlargedArea(entry) - area;
+				if (enlargement < bestEnlargement
+						|| enlargement == bestEnlargement && area < bestArea) {
+					best = child;
+					bestEnlargement = enlargement;
+					bestArea = area;
+				}
+			}
+			node = best;
+		}
+		return node;
+	}
+
+	/**
+	 * Removes all items.
+	 */
+	public void clear() {
+		root = new Node<>(true);
+		entries.clear();
+	}
+
+	/**
+	 * Returns whether the given item is stored in this {@link RTree}.
+	 *
+	 * @param item
+	 *            The item to test.
+	 * @return <code>true</code> if the item is stored, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean contains(T item) {
+		return entries.containsKey(item);
+	}
+
+	/**
+	 * Adds all items whose bounds contain the given point to the given
+	 * {@link List}.
+	 *
+	 * @param x
+	 *            The x-coordinate of the point.
+	 * @param y
+	 *            The y-coordinate of the point.
+	 * @param result
+	 *            The {@link List} to which the items are added.
+	 */
+	@SuppressWarnings("unchecked")
+	public void getItemsAt(double x, double y, List<T> result) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		List<Node<T>> stack = new ArrayList<>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Node<T> node = stack.remove(stack.size() - 1);
+			if (!node.contains(x, y)) {
+				continue;
+			}
+			for (Bounds child : node.children) {
+				if (node.isLeaf) {
+					if (child.contains(x, y)) {
+						result.add(((Entry<T>) child).item);
+					}
+				} else {
+					stack.add((Node<T>) child);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds all items whose bounds intersect (or touch) the given bounds to the
+	 * given {@link List}.
+	 *
+	 * @param minX
+	 *            The minimum x-coordinate of the bounds.
+	 * @param minY
+	 *            The minimum y-coordinate of the bounds.
+	 * @param maxX
+	 *            The maximum x-coordinate of the bounds.
+	 * @param maxY
+	 *            The maximum y-coordinate of the bounds.
+	 * @param result
+	 *            The {@link List} to which the items are added.
+	 */
+	@SuppressWarnings("unchecked")
+	public void getItemsIntersecting(double minX, double minY, double maxX,
+			double maxY, List<T> result) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		List<Node<T>> stack = new ArrayList<>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Node<T> node = stack.remove(stack.size() - 1);
+			if (!node.intersects(minX, minY, maxX, maxY)) {
+				continue;
+			}
+			for (Bounds child : node.children) {
+				if (node.isLeaf) {
+					if (child.intersects(minX, minY, maxX, maxY)) {
+						result.add(((Entry<T>) child).item);
+					}
+				} else {
+					stack.add((Node<T>) child);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Inserts the given item with the given bounds. In case the item is
+	 * already stored, its bounds are updated.
+	 *
+	 * @param item
+	 *            The item to insert.
+	 * @param minX
+	 *            The minimum x-coordinate of the item's bounds.
+	 * @param minY
+	 *            The minimum y-coordinate of the item's bounds.
+	 * @param maxX
+	 *            The maximum x-coordinate of the item's bounds.
+	 * @param maxY
+	 *            The maximum y-coordinate of the item's bounds.
+	 */
+	public void insert(T item, double minX, double minY, double maxX,
+			double maxY) {
+		remove(item);
+		Entry<T> entry = new Entry<>(item, minX, minY, maxX, maxY);
+		entries.put(item, entry);
+		Node<T> leaf = chooseLeaf(entry);
+		leaf.add(entry);
+		adjustTree(leaf,
+				leaf.children.size() > MAX_CHILDREN ? split(leaf) : null);
+	}
+
+	private void pickSeeds(List<Bounds> children, Node<T> first,
+			Node<T> second) {
+		int seed1 = 0;
+		int seed2 = 1;
+		double worstWaste = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < children.size(); i++) {
+			Bounds b1 = children.get(i);
+			for (int j = i + 1; j < children.size(); j++) {
+				Bounds b2 = children.get(j);
+				double waste = b1.enlargedArea(b2) - b1.area() - b2.area();
+				if (waste > worstWaste) {
+					worstWaste = waste;
+					seed1 = i;
+					seed2 = j;
+				}
+			}
+		}
+		// remove the second seed first, so that the first index stays valid
+		second.add(children.remove(seed2));
+		first.add(children.remove(seed1));
+	}
+
+	/**
+	 * Removes the given item.
+	 *
+	 * @param item
+	 *            The item to remove.
+	 * @return <code>true</code> if the item was stored, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean remove(T item) {
+		Entry<T> entry = entries.remove(item);
+		if (entry == null) {
+			return false;
+		}
+		Node<T> node = entry.leaf;
+		node.children.remove(entry);
+		// remove empty nodes and shrink the bounds of the ancestors (underfull
+		// nodes are tolerated)
+		while (node.parent != null && node.children.isEmpty()) {
+			node.parent.children.remove(node);
+			node = node.parent;
+		}
+		for (Node<T> n = node; n != null; n = n.parent) {
+			if (!n.children.isEmpty()) {
+				n.updateBounds();
+			}
+		}
+		// shrink the tree
+		while (!root.isLeaf && root.children.size() == 1) {
+			@SuppressWarnings("unchecked")
+			Node<T> child = (Node<T>) root.children.get(0);
+			root = child;
+			root.parent = null;
+		}
+		if (!root.isLeaf && root.children.isEmpty()) {
+			root = new Node<>(true);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of stored items.
+	 *
+	 * @return The number of stored items.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private Node<T> split(Node<T> node) {
+		List<Bounds> remaining = new ArrayList<>(node.children);
+		node.children.clear();
+		Node<T> sibling = new Node<>(node.isLeaf);
+		pickSeeds(remaining, node, sibling);
+		while (!remaining.isEmpty()) {
+			// ensure both nodes get the minimum number of children
+			if (node.children.size() + remaining.size() == MIN_CHILDREN) {
+				for (Bounds b : remaining) {
+					node.add(b);
+				}
+				break;
+			}
+			if (sibling.children.size() + remaining.size() == MIN_CHILDREN) {
+				for (Bounds b : remaining) {
+					sibling.add(b);
+				}
+				break;
+			}
+			// pick the child with the greatest preference for one node
+			int next = 0;
+			double maxDifference = Double.NEGATIVE_INFINITY;
+			double nextEnlargement1 = 0;
+			double nextEnlargement2 = 0;
+			for (int i = 0; i < remaining.size(); i++) {
+				Bounds b = remaining.get(i);
+				double enlargement1 = node.enlargedArea(b) - node.area();
+				double enlargement2 = sibling.enlargedArea(b) - sibling.area();
+				double difference = Math.abs(enlargement1 - enlargement2);
+				if (difference > maxDifference) {
+					maxDifference = difference;
+					next = i;
+					nextEnlargement1 = enlargement1;
+					nextEnlargement2 = enlargement2;
+				}
+			}
+			Bounds b = remaining.remove(next);
+			if (nextEnlargement1 < nextEnlargement2
+					|| nextEnlargement1 == nextEnlargement2 && node.children
+							.size() <= sibling.children.size()) {
+				node.add(b);
+			} else {
+				sibling.add(b);
+			}
+		}
+		return sibling;
+	}
+
+}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * A {@link SpatialNodeIndex} maintains the bounds (in scene coordinates) of a
+ * set of registered {@link Node}s below a root {@link Node} within a
+ * {@link NodeBoundsIndex}, so that picking ({@link #getNodesAt(double, double)})
+ * only visits the registered {@link Node}s whose bounds contain the pick
+ * position (as well as their transitive children), rather than processing the
+ * complete scene graph below the root {@link Node}. The children of a
+ * {@link Parent} that only has registered children are not iterated at all.
+ * <p>
+ * When a {@link SpatialNodeIndex} is created for a root {@link Node},
+ * {@link NodeUtils#getNodesAt(Node, double, double)} uses it for picking below
+ * that root {@link Node}, until the {@link SpatialNodeIndex} is disposed (see
+ * {@link #dispose()}).
+ *
+ * @author agent
+ *
+ */
+public class SpatialNodeIndex {
+
+	private static final String INDEX_PROPERTY = SpatialNodeIndex.class
+			.getName();
+
+	/**
+	 * Returns the {@link SpatialNodeIndex} that was created for the given root
+	 * {@link Node} (and not yet disposed), or <code>null</code> if no such
+	 * index exists.
+	 *
+	 * @param root
+	 *            The root {@link Node} for which to return the
+	 *            {@link SpatialNodeIndex}.
+	 * @return The {@link SpatialNodeIndex} for the given root {@link Node}, or
+	 *         <code>null</code>.
+	 */
+	public static SpatialNodeIndex get(Node root) {
+		if (!root.hasProperties()) {
+			return null;
+		}
+		return (SpatialNodeIndex) root.getProperties().get(INDEX_PROPERTY);
+	}
+
+	private final Node root;
+	private final NodeBoundsIndex index = new NodeBoundsIndex();
+	// the number of registered children per parent, so that picking can
+	// determine whether a parent has unregistered children, which have to be
+	// visited as well
+	private final Map<Parent, Integer> registeredChildCounts = new IdentityHashMap<>();
+	private final ChangeListener<Parent> parentObserver = new ChangeListener<Parent>() {
+		@Override
+		public void changed(ObservableValue<? extends Parent> observable,
+				Parent oldParent, Parent newParent) {
+			updateRegisteredChildCount(oldParent, -1);
+			updateRegisteredChildCount(newParent, 1);
+		}
+	};
+
+	/**
+	 * Creates a new {@link SpatialNodeIndex} for picking below the given root
+	 * {@link Node}. In case another {@link SpatialNodeIndex} was created for
+	 * the given root {@link Node} before, it is disposed.
+	 *
+	 * @param root
+	 *            The root {@link Node}.
+	 */
+	public SpatialNodeIndex(Node root) {
+		if (root == null) {
+			throw new IllegalArgumentException("root may not be null.");
+		}
+		this.root = root;
+		SpatialNodeIndex previous = get(root);
+		if (previous != null) {
+			previous.dispose();
+		}
+		root.getProperties().put(INDEX_PROPERTY, this);
+	}
+
+	/**
+	 * Registers the given {@link Node}, so that it (and its transitive
+	 * children) are skipped by {@link #getNodesAt(double, double)} in case its
+	 * bounds do not contain the pick position.
+	 *
+	 * @param node
+	 *            The {@link Node} to register.
+	 */
+	public void add(Node node) {
+		if (index.contains(node)) {
+			return;
+		}
+		index.add(node);
+		node.parentProperty().addListener(parentObserver);
+		updateRegisteredChildCount(node.getParent(), 1);
+	}
+
+	/**
+	 * Returns whether the given {@link Node} is registered.
+	 *
+	 * @param node
+	 *            The {@link Node} to test.
+	 * @return <code>true</code> if the given {@link Node} is registered,
+	 *         <code>false</code> otherwise.
+	 */
+	public boolean contains(Node node) {
+		return index.contains(node);
+	}
+
+	/**
+	 * Unregisters all {@link Node}s and detaches this {@link SpatialNodeIndex}
+	 * from its root {@link Node}, so that
+	 * {@link NodeUtils#getNodesAt(Node, double, double)} processes the
+	 * complete scene graph again.
+	 */
+	public void dispose() {
+		for (Node node : index.getNodes()) {
+			remove(node);
+		}
+		if (root.hasProperties()
+				&& root.getProperties().get(INDEX_PROPERTY) == this) {
+			root.getProperties().remove(INDEX_PROPERTY);
+		}
+	}
+
+	/**
+	 * Returns the children of the given {@link Parent} (in paint order) that
+	 * have to be visited by picking, i.e. its unregistered children and the
+	 * given candidates. In case the {@link Parent} has no unregistered
+	 * children, its children are not iterated, but only the candidates are
+	 * sorted.
+	 */
+	private List<Node> getChildrenToVisit(Parent parent, Set<Node> candidates,
+			List<Node> candidateChildren) {
+		final List<Node> children = parent.getChildrenUnmodifiable();
+		Integer registeredChildCount = registeredChildCounts.get(parent);
+		if (registeredChildCount == null) {
+			// no registered children
+			return children;
+		}
+		if (registeredChildCount == children.size()) {
+			// only registered children
+			if (candidateChildren == null) {
+				return Collections.emptyList();
+			}
+			if (candidateChildren.size() > 1) {
+				final Map<Node, Integer> paintOrder = new IdentityHashMap<>();
+				for (Node candidate : candidateChildren) {
+					paintOrder.put(candidate, children.indexOf(candidate));
+				}
+				Collections.sort(candidateChildren, new Comparator<Node>() {
+					@Override
+					public int compare(Node n1, Node n2) {
+						return Integer.compare(paintOrder.get(n1),
+								paintOrder.get(n2));
+					}
+				});
+			}
+			return candidateChildren;
+		}
+		// registered and unregistered children
+		List<Node> childrenToVisit = new ArrayList<>();
+		for (Node child : children) {
+			if (candidates.contains(child) || !index.contains(child)) {
+				childrenToVisit.add(child);
+			}
+		}
+		return childrenToVisit;
+	}
+
+	/**
+	 * Performs picking on the scene graph below the root {@link Node}, which
+	 * yields the same result as the traversal of
+	 * {@link NodeUtils#getNodesAt(Node, double, double)}, i.e. including the
+	 * root {@link Node}, the ancestors of the registered {@link Node}s, and any
+	 * unregistered {@link Node}s. However, the registered {@link Node}s whose
+	 * (scene) bounds contain the given position are determined by the index,
+	 * and only these (and their transitive children) are visited, in paint
+	 * order. The picked {@link Node}s are returned top-most first.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @return A list of {@link Node}s which contain the the given coordinate.
+	 */
+	public List<Node> getNodesAt(double sceneX, double sceneY) {
+		// group the candidates (the registered nodes whose bounds contain the
+		// position) by their parents
+		final Set<Node> candidates = Collections
+				.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+		final Map<Parent, List<Node>> candidatesPerParent = new IdentityHashMap<>();
+		for (Node candidate : index.getNodesAt(sceneX, sceneY)) {
+			Parent parent = candidate.getParent();
+			if (parent == null) {
+				continue;
+			}
+			candidates.add(candidate);
+			List<Node> siblings = candidatesPerParent.get(parent);
+			if (siblings == null) {
+				siblings = new ArrayList<>();
+				candidatesPerParent.put(parent, siblings);
+			}
+			siblings.add(candidate);
+		}
+		List<Node> picked = new ArrayList<>();
+		NodeUtils.pick(root, sceneX, sceneY,
+				new Function<Parent, List<Node>>() {
+					@Override
+					public List<Node> apply(Parent parent) {
+						return getChildrenToVisit(parent, candidates,
+								candidatesPerParent.get(parent));
+					}
+				}, picked);
+		return picked;
+	}
+
+	/**
+	 * Unregisters the given {@link Node}.
+	 *
+	 * @param node
+	 *            The {@link Node} to unregister.
+	 */
+	public void remove(Node node) {
+		if (!index.contains(node)) {
+			return;
+		}
+		index.remove(node);
+		node.parentProperty().removeListener(parentObserver);
+		updateRegisteredChildCount(node.getParent(), -1);
+	}
+
+	/**
+	 * Returns the number of registered {@link Node}s.
+	 *
+	 * @return The number of registered {@link Node}s.
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	private void updateRegisteredChildCount(Parent parent, int delta) {
+		if (parent == null) {
+			return;
+		}
+		Integer count = registeredChildCounts.get(parent);
+		int newCount = (count == null ? 0 : count) + delta;
+		if (newCount == 0) {
+			registeredChildCounts.remove(parent);
+		} else {
+			registeredChildCounts.put(parent, newCount);
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the application of an {@link AffineTransform} to an increasing
+ * number of {@link Point}s, given as {@link Point}s, as a {@link Polygon}, and
+ * as coordinates.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AffineTransformBenchmark {
+
+	@Param({ "100", "10000", "1000000" })
+	private int points;
+
+	private AffineTransform transform;
+	private Point[] pointArray;
+	private Polygon polygon;
+	private double[] coordinates;
+	private double[] transformedCoordinates;
+
+	/**
+	 * Transforms the {@link Point}s.
+	 *
+	 * @return The transformed {@link Point}s.
+	 */
+	@Benchmark
+	public Point[] getTransformed_Points() {
+		return transform.getTransformed(pointArray);
+	}
+
+	/**
+	 * Transforms the {@link Polygon}.
+	 *
+	 * @return The transformed {@link Polygon}.
+	 */
+	@Benchmark
+	public Polygon getTransformed_Polygon() {
+		return polygon.getTransformed(transform);
+	}
+
+	/**
+	 * Creates the input {@link AffineTransform} and {@link Point}s.
+	 */
+	@Setup
+	public void setup() {
+		transform = new AffineTransform().translate(10, 20)
+				.rotate(Angle.fromDeg(30).rad()).scale(2, 3);
+		pointArray = BenchmarkInputs.createStar(points, 0);
+		polygon = new Polygon(pointArray);
+		coordinates = polygon.getCoordinates();
+		transformedCoordinates = new double[coordinates.length];
+	}
+
+	/**
+	 * Transforms the coordinates.
+	 *
+	 * @return The transformed coordinates.
+	 */
+	@Benchmark
+	public double[] transform_Coordinates() {
+		transform.transform(coordinates, 0, transformedCoordinates, 0,
+				points);
+		return transformedCoordinates;
+	}
+
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Point;
+
+/**
+ * Creates the (reproducible) inputs of the benchmarks.
+ *
+ * @author agent
+ *
+ */
+final class BenchmarkInputs {
+
+	/**
+	 * Creates the given number of {@link Point}s, which form a star-shaped
+	 * ring around (500, 500), i.e. the {@link Point}s are ordered by their
+	 * angle, while their distance to the center varies randomly between 300
+	 * and 450. Hence, the {@link Point}s constitute a simple polygon, and the
+	 * rings created for different seeds intersect each other multiple times.
+	 *
+	 * @param count
+	 *            The number of {@link Point}s to create.
+	 * @param seed
+	 *            The seed for the random distances.
+	 * @return The created {@link Point}s.
+	 */
+	static Point[] createStar(int count, long seed) {
+		Random random = new Random(seed);
+		Point[] points = new Point[count];
+		for (int i = 0; i < count; i++) {
+			double angle = 2 * Math.PI * i / count;
+			double radius = 300 + random.nextDouble() * 150;
+			points[i] = new Point(500 + radius * Math.cos(angle),
+					500 + radius * Math.sin(angle));
+		}
+		return points;
+	}
+
+	private BenchmarkInputs() {
+		// this class should not be instantiated by clients
+	}
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the computation of the intersections between two
+ * {@link PolyBezier}s of an increasing number of cubic {@link BezierCurve}
+ * segments (starting with a single {@link BezierCurve}).
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BezierCurveIntersectionBenchmark {
+
+	@Param({ "1", "10", "100", "1000" })
+	private int segments;
+
+	private PolyBezier polyBezier1;
+	private PolyBezier polyBezier2;
+
+	/**
+	 * Intersects two {@link PolyBezier}s of the given number of segments.
+	 *
+	 * @return The points of intersection.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		return polyBezier1.getIntersections(polyBezier2);
+	}
+
+	/**
+	 * Creates the input {@link PolyBezier}s.
+	 */
+	@Setup
+	public void setup() {
+		polyBezier1 = PolyBezier
+				.interpolateCubic(BenchmarkInputs.createStar(segments + 1, 0));
+		polyBezier2 = PolyBezier
+				.interpolateCubic(BenchmarkInputs.createStar(segments + 1, 1));
+	}
+
+}
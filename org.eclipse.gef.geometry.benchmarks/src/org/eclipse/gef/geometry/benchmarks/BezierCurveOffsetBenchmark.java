@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the computation of the offset (see
+ * {@link BezierCurve#getOffset(double)}) of the segments of a
+ * {@link PolyBezier} with an increasing number of segments.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BezierCurveOffsetBenchmark {
+
+	private static final double DISTANCE = 10;
+
+	@Param({ "1", "10", "100" })
+	private int segments;
+
+	private BezierCurve[] curves;
+
+	/**
+	 * Computes the offsets of all segments.
+	 *
+	 * @param blackhole
+	 *            The {@link Blackhole} that consumes the offsets.
+	 */
+	@Benchmark
+	public void getOffset(Blackhole blackhole) {
+		for (BezierCurve curve : curves) {
+			blackhole.consume(curve.getOffset(DISTANCE));
+		}
+	}
+
+	/**
+	 * Creates the input {@link BezierCurve}s.
+	 */
+	@Setup
+	public void setup() {
+		curves = PolyBezier
+				.interpolateCubic(BenchmarkInputs.createStar(segments + 1, 0))
+				.toBezier();
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the boolean operations on {@link Path}s (see
+ * {@link Path#add(Path, Path)}, {@link Path#intersect(Path, Path)}, and
+ * {@link Path#subtract(Path, Path)}) for {@link Path}s with an increasing
+ * number of (linear and cubic) segments.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathBooleanOperationsBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int segments;
+
+	private Path linear;
+	private Path cubic;
+
+	/**
+	 * Computes the union of the {@link Path}s.
+	 *
+	 * @return The union.
+	 */
+	@Benchmark
+	public Path add() {
+		return Path.add(linear, cubic);
+	}
+
+	/**
+	 * Computes the intersection of the {@link Path}s.
+	 *
+	 * @return The intersection.
+	 */
+	@Benchmark
+	public Path intersect() {
+		return Path.intersect(linear, cubic);
+	}
+
+	/**
+	 * Creates the input {@link Path}s.
+	 */
+	@Setup
+	public void setup() {
+		linear = new Polygon(BenchmarkInputs.createStar(segments, 0))
+				.toPath();
+		cubic = PolyBezier
+				.interpolateCubic(BenchmarkInputs.createStar(segments + 1, 1))
+				.toPath().close();
+	}
+
+	/**
+	 * Computes the difference of the {@link Path}s.
+	 *
+	 * @return The difference.
+	 */
+	@Benchmark
+	public Path subtract() {
+		return Path.subtract(linear, cubic);
+	}
+
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the triangulation (see {@link Polygon#getTriangulation()}) of
+ * simple {@link Polygon}s with an increasing number of vertices.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PolygonTriangulationBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int vertices;
+
+	private Polygon polygon;
+
+	/**
+	 * Triangulates the {@link Polygon}.
+	 *
+	 * @return The triangles.
+	 */
+	@Benchmark
+	public Polygon[] getTriangulation() {
+		return polygon.getTriangulation();
+	}
+
+	/**
+	 * Creates the input {@link Polygon}.
+	 */
+	@Setup
+	public void setup() {
+		polygon = new Polygon(BenchmarkInputs.createStar(vertices, 0));
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the computation of the intersections between a {@link Polyline}
+ * and a {@link Polygon} outline of an increasing number of edges, which
+ * prunes the pairs of segments by their bounds, with the intersection of all
+ * pairs of segments.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PolylineIntersectionBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int edges;
+
+	private Polyline polyline;
+	private Polygon polygon;
+
+	/**
+	 * Intersects the {@link Polyline} with the {@link Polygon} outline.
+	 *
+	 * @return The points of intersection.
+	 */
+	@Benchmark
+	public Point[] getIntersections() {
+		return polyline.getIntersections(polygon.getOutline());
+	}
+
+	/**
+	 * Intersects each segment of the {@link Polyline} with each segment of the
+	 * outline of the {@link Polygon}.
+	 *
+	 * @return The points of intersection.
+	 */
+	@Benchmark
+	public Point[] getIntersections_pairwise() {
+		Set<Point> intersections = new HashSet<>();
+		BezierCurve[] segments2 = polygon.getOutline().toBezier();
+		for (BezierCurve segment1 : polyline.toBezier()) {
+			for (BezierCurve segment2 : segments2) {
+				intersections.addAll(
+						Arrays.asList(segment1.getIntersections(segment2)));
+			}
+		}
+		return intersections.toArray(new Point[] {});
+	}
+
+	/**
+	 * Creates the input {@link Polyline} and {@link Polygon}.
+	 */
+	@Setup
+	public void setup() {
+		polyline = new Polyline(BenchmarkInputs.createStar(edges + 1, 0));
+		polygon = new Polygon(BenchmarkInputs.createStar(edges, 1));
+	}
+
+}
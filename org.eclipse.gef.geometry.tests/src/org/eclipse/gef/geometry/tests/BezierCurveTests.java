@@ -33,6 +33,7 @@ import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 import org.eclipse.gef.geometry.planar.QuadraticCurve;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
@@ -799,6 +800,38 @@ public class BezierCurveTests {
 		// TODO: check complicated curves, too
 	}
 
+	@Test
+	public void test_toPolyline() {
+		BezierCurve linear = new BezierCurve(0, 0, 1, 1);
+		assertEquals(new Polyline(0, 0, 1, 1), linear.toPolyline(0.1));
+
+		BezierCurve c = new BezierCurve(10, 10, 5, 150, 200, -100, 150, 100,
+				300, 10);
+		for (double tolerance : new double[] { 10, 1, 0.1, 0.01 }) {
+			Polyline polyline = c.toPolyline(tolerance);
+			assertEquals(c.getP1(), polyline.getP1());
+			assertEquals(c.getP2(), polyline.getP2());
+			for (int i = 0; i <= 100; i++) {
+				Point p = c.get(i / 100d);
+				assertTrue(polyline.getProjection(p)
+						.getDistance(p) <= tolerance);
+			}
+		}
+		// a smaller tolerance results in more segments
+		assertTrue(c.toPolyline(0.01).getPointCount() > c.toPolyline(1)
+				.getPointCount());
+
+		// the cached result is not affected by modifications of the returned
+		// polyline, but invalidated by modifications of the curve
+		Polyline polyline = c.toPolyline(1);
+		polyline.translate(5, 5);
+		assertEquals(polyline.getTranslated(-5, -5), c.toPolyline(1));
+		c.translate(5, 5);
+		assertEquals(polyline, c.toPolyline(1));
+		c.setP2(new Point(0, 0));
+		assertEquals(new Point(0, 0), c.toPolyline(1).getP2());
+	}
+
 	@Test
 	public void test_toQuadratic() {
 		BezierCurve c0 = new BezierCurve(1, 1);
@@ -16,7 +16,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Straight;
@@ -260,6 +262,37 @@ public class CurveUtilsTests {
 		assertEquals(0, yAxis.getIntersections(curve).length);
 	}
 
+	@Test
+	public void test_getIntersections_many_segments() {
+		// the segments of both polylines are pruned by their bounds, so
+		// compare against the intersections of all pairs of segments
+		Random rng = new Random(SEED);
+		Point[] points1 = new Point[200];
+		Point[] points2 = new Point[200];
+		for (int i = 0; i < points1.length; i++) {
+			points1[i] = new Point(i, rng.nextDouble() * 10);
+			points2[i] = new Point(i + 0.5, rng.nextDouble() * 10);
+		}
+		Polyline polyline1 = new Polyline(points1);
+		Polyline polyline2 = new Polyline(points2);
+
+		Set<Point> expected = new HashSet<>();
+		for (Line line1 : polyline1.getCurves()) {
+			for (Line line2 : polyline2.getCurves()) {
+				Point intersection = line1.getIntersection(line2);
+				if (intersection != null) {
+					expected.add(intersection);
+				}
+			}
+		}
+		Point[] intersections = polyline1.getIntersections(polyline2);
+		assertEquals(expected.size(), intersections.length);
+		for (Point intersection : intersections) {
+			assertTrue(expected.contains(intersection));
+		}
+		assertTrue(polyline1.intersects(polyline2));
+	}
+
 	@Test
 	public void test_getIntersections_overlapping() {
 		/*
@@ -16,8 +16,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.awt.geom.Path2D;
 import java.util.List;
+import java.util.Random;
 
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -35,6 +39,17 @@ public class PathTests {
 		assertTrue(unionPath.contains(r1.getCenter()));
 	}
 
+	@Test
+	public void test_CAG_add_adjacent() {
+		// the shared edge is not part of the union, and the collinear lines
+		// are merged
+		Path unionPath = Path.add(new Rectangle(0, 0, 50, 50).toPath(),
+				new Rectangle(50, 0, 50, 50).toPath());
+		assertEquals(new Rectangle(0, 0, 100, 50), unionPath.getBounds());
+		assertEquals(4, unionPath.getOutlines().size());
+		assertTrue(unionPath.contains(new Point(50, 25)));
+	}
+
 	@Test
 	public void test_CAG_exclusiveOr() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -55,6 +70,50 @@ public class PathTests {
 		assertFalse(intersectionPath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_CAG_intersect_curves() {
+		// the curves are preserved
+		Path intersectionPath = Path.intersect(
+				new Ellipse(0, 0, 100, 100).toPath(),
+				new Rectangle(50, 0, 100, 100).toPath());
+		boolean cubic = false;
+		for (Path.Segment s : intersectionPath.getSegments()) {
+			cubic |= s.getType() == Path.Segment.CUBIC_TO;
+		}
+		assertTrue(cubic);
+		assertEquals(new Rectangle(50, 0, 50, 100),
+				intersectionPath.getBounds());
+		assertTrue(intersectionPath.contains(new Point(75, 50)));
+		assertFalse(intersectionPath.contains(new Point(25, 50)));
+		assertFalse(intersectionPath.contains(new Point(95, 5)));
+	}
+
+	@Test
+	public void test_CAG_sameAsDefinition() {
+		Random rng = new Random(123);
+		for (int i = 0; i < 25; i++) {
+			Path pa = createRandomPath(rng, i % 2 == 0 ? Path.WIND_EVEN_ODD
+					: Path.WIND_NON_ZERO);
+			Path pb = createRandomPath(rng, i % 3 == 0 ? Path.WIND_EVEN_ODD
+					: Path.WIND_NON_ZERO);
+			Path add = Path.add(pa, pb);
+			Path intersect = Path.intersect(pa, pb);
+			Path subtract = Path.subtract(pa, pb);
+			Path exclusiveOr = Path.exclusiveOr(pa, pb);
+			for (int j = 0; j < 100; j++) {
+				// test points that (most likely) do not lie on an outline
+				Point p = new Point(rng.nextDouble() * 100,
+						rng.nextDouble() * 100);
+				boolean a = pa.contains(p);
+				boolean b = pb.contains(p);
+				assertEquals(a || b, add.contains(p));
+				assertEquals(a && b, intersect.contains(p));
+				assertEquals(a && !b, subtract.contains(p));
+				assertEquals(a != b, exclusiveOr.contains(p));
+			}
+		}
+	}
+
 	@Test
 	public void test_CAG_subtract() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -69,6 +128,54 @@ public class PathTests {
 		assertFalse(differencePath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_contains_afterModification() {
+		Path path = new Path().moveTo(0, 0).lineTo(100, 0).lineTo(100, 100)
+				.lineTo(0, 100).close();
+		assertTrue(path.contains(new Point(50, 50)));
+		assertFalse(path.contains(new Point(180, 50)));
+
+		// changes have to be respected by subsequent containment tests
+		path.moveTo(120, 0).lineTo(200, 0).lineTo(200, 100).close();
+		assertTrue(path.contains(new Point(180, 50)));
+		path.reset();
+		assertFalse(path.contains(new Point(50, 50)));
+	}
+
+	@Test
+	public void test_contains_sameAsAWT() {
+		Random rng = new Random(123);
+		for (int i = 0; i < 100; i++) {
+			// a random path with two sub-paths, consisting of linear,
+			// quadratic, and cubic segments
+			Path path = new Path(
+					i % 2 == 0 ? Path.WIND_EVEN_ODD : Path.WIND_NON_ZERO);
+			for (int j = 0; j < 2; j++) {
+				path.moveTo(nextCoordinate(rng), nextCoordinate(rng));
+				path.lineTo(nextCoordinate(rng), nextCoordinate(rng));
+				path.quadTo(nextCoordinate(rng), nextCoordinate(rng),
+						nextCoordinate(rng), nextCoordinate(rng));
+				path.cubicTo(nextCoordinate(rng), nextCoordinate(rng),
+						nextCoordinate(rng), nextCoordinate(rng),
+						nextCoordinate(rng), nextCoordinate(rng));
+				if (j == 0) {
+					path.close();
+				}
+			}
+			Path2D awtPath = Geometry2AWT.toAWTPath(path);
+			for (int j = 0; j < 100; j++) {
+				Point p = new Point(nextCoordinate(rng), nextCoordinate(rng));
+				assertEquals(awtPath.contains(p.x, p.y), path.contains(p));
+				Rectangle r = new Rectangle(p, new Point(nextCoordinate(rng),
+						nextCoordinate(rng)));
+				assertEquals(awtPath.contains(r.getX(), r.getY(), r.getWidth(),
+						r.getHeight()), path.contains(r));
+				assertEquals(awtPath.intersects(r.getX(), r.getY(),
+						r.getWidth(), r.getHeight()), path.touches(r));
+			}
+		}
+	}
+
 	@Test
 	public void test_getBounds_cubic() {
 		// create path using all segment types
@@ -160,4 +267,28 @@ public class PathTests {
 		assertEquals(outlineBounds, bounds);
 	}
 
+	private Path createRandomPath(Random rng, int windingRule) {
+		// a random path with two sub-paths, consisting of linear, quadratic,
+		// and cubic segments
+		Path path = new Path(windingRule);
+		for (int j = 0; j < 2; j++) {
+			path.moveTo(nextCoordinate(rng), nextCoordinate(rng));
+			path.lineTo(nextCoordinate(rng), nextCoordinate(rng));
+			path.quadTo(nextCoordinate(rng), nextCoordinate(rng),
+					nextCoordinate(rng), nextCoordinate(rng));
+			path.cubicTo(nextCoordinate(rng), nextCoordinate(rng),
+					nextCoordinate(rng), nextCoordinate(rng),
+					nextCoordinate(rng), nextCoordinate(rng));
+			if (j == 0) {
+				path.close();
+			}
+		}
+		return path;
+	}
+
+	private double nextCoordinate(Random rng) {
+		// use a coarse grid, so that points on the outline are tested as well
+		return rng.nextInt(21) * 5;
+	}
+
 }
@@ -13,10 +13,13 @@
 package org.eclipse.gef.geometry.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.gef.geometry.planar.BezierCurve;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 import org.junit.Test;
 
 public class PolyBezierTests {
@@ -33,4 +36,27 @@ public class PolyBezierTests {
 		assertEquals(new Point(), beziers[1].getP2());
 	}
 
+	@Test
+	public void test_toPolyline() {
+		PolyBezier polyBezier = PolyBezier.interpolateCubic(new Point(0, 0),
+				new Point(100, 50), new Point(200, 0), new Point(300, 100));
+		Polyline polyline = polyBezier.toPolyline(0.1);
+		assertEquals(polyBezier.getP1(), polyline.getP1());
+		assertEquals(polyBezier.getP2(), polyline.getP2());
+
+		// the shared end points of the segments are not duplicated
+		int pointCount = 0;
+		for (BezierCurve bezier : polyBezier.toBezier()) {
+			pointCount += bezier.toPolyline(0.1).getPointCount();
+		}
+		assertEquals(pointCount - 2, polyline.getPointCount());
+		for (int i = 1; i < polyline.getPointCount(); i++) {
+			assertFalse(polyline.getPoint(i - 1).equals(polyline.getPoint(i)));
+		}
+
+		// modifications are reflected
+		polyBezier.translate(10, 0);
+		assertEquals(new Point(10, 0), polyBezier.toPolyline(0.1).getP1());
+	}
+
 }
@@ -18,6 +18,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 import org.eclipse.gef.geometry.planar.Ellipse;
@@ -640,6 +647,24 @@ public class PolygonTests {
 						new Point(2, 2)));
 	}
 
+	@Test
+	public void test_serialization() throws IOException, ClassNotFoundException {
+		// the points are serialized as a Point[] field named "points"
+		ObjectStreamClass streamClass = ObjectStreamClass.lookup(Polygon.class.getSuperclass());
+		assertEquals(1, streamClass.getFields().length);
+		assertEquals(Point[].class, streamClass.getField("points").getType());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(RHOMB);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		Object deserialized = in.readObject();
+		in.close();
+		assertEquals(RHOMB, deserialized);
+		assertEquals(RHOMB.getPointCount(), ((Polygon) deserialized).getPointCount());
+	}
+
 	@Test
 	public void test_toString() {
 		assertEquals("Polygon: <no points>",
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polyline;
@@ -55,10 +56,39 @@ public class PolylineTests {
 		assertEquals(POLYLINE, new Polyline(points.toArray(new Point[] {})));
 	}
 
+	@Test
+	public void test_getCoordinates() {
+		assertEquals(3, POLYLINE.getPointCount());
+		for (int i = 0; i < POINTS.length; i++) {
+			assertEquals(POINTS[i].x, POLYLINE.getX(i), 0);
+			assertEquals(POINTS[i].y, POLYLINE.getY(i), 0);
+			assertEquals(POINTS[i], POLYLINE.getPoint(i));
+		}
+		assertTrue(Arrays.equals(new double[] { 0, 0, 1, 0, 6, 5 },
+				POLYLINE.getCoordinates()));
+
+		// an odd trailing coordinate is ignored
+		assertEquals(1, new Polyline(1, 2, 3).getPointCount());
+	}
+
 	@Test
 	public void test_toBezier() {
 		Line[] beziers = new Polyline(new double[] {}).toBezier();
 		assertEquals(0, beziers.length);
 	}
 
+	@Test
+	public void test_transform() {
+		AffineTransform t = new AffineTransform().translate(1, 2).scale(2,
+				2);
+		Polyline transformed = POLYLINE.getTransformed(t);
+		assertEquals(new Polyline(1, 2, 3, 2, 13, 12), transformed);
+		// the original is not modified
+		assertEquals(new Polyline(POINTS), POLYLINE);
+
+		Polyline copy = POLYLINE.getCopy();
+		assertTrue(copy == copy.transform(t));
+		assertEquals(transformed, copy);
+	}
+
 }
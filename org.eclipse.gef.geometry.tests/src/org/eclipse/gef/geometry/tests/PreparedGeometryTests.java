@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.PreparedGeometry;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Region;
+import org.eclipse.gef.geometry.planar.Ring;
+import org.junit.Test;
+
+public class PreparedGeometryTests {
+
+	private static final long SEED = 123;
+
+	private static Polygon createStar(int vertexCount, Random rng) {
+		Point[] points = new Point[vertexCount];
+		for (int i = 0; i < vertexCount; i++) {
+			double angle = 2 * Math.PI * i / vertexCount;
+			double radius = 20 + rng.nextInt(30);
+			// round to a grid, so that vertices and edges are hit by the
+			// tested points
+			points[i] = new Point(Math.round(50 + radius * Math.cos(angle)),
+					Math.round(50 + radius * Math.sin(angle)));
+		}
+		return new Polygon(points);
+	}
+
+	private static Point nextPoint(Random rng) {
+		return new Point(rng.nextInt(101), rng.nextInt(101));
+	}
+
+	@Test
+	public void test_contains_Geometry_Curve() {
+		Line line = new Line(0, 0, 10, 10);
+		PreparedGeometry prepared = new PreparedGeometry(line);
+		assertTrue(prepared.contains(line));
+		assertTrue(prepared.contains(new Line(2, 2, 5, 5)));
+		assertFalse(prepared.contains(new Line(2, 2, 5, 6)));
+		assertFalse(prepared.contains(new Line(5, 5, 15, 15)));
+		assertFalse(prepared.contains(new Rectangle(1, 1, 2, 2)));
+
+		Polyline polyline = new Polyline(0, 0, 10, 0, 10, 10);
+		prepared = new PreparedGeometry(polyline);
+		assertTrue(prepared.contains(new Polyline(2, 0, 10, 0, 10, 5)));
+		assertFalse(prepared.contains(new Line(0, 0, 10, 10)));
+	}
+
+	@Test
+	public void test_contains_Geometry_Path() {
+		Path path = new Ellipse(0, 0, 100, 50).toPath();
+		PreparedGeometry prepared = new PreparedGeometry(path);
+		Random rng = new Random(SEED);
+		for (int i = 0; i < 40; i++) {
+			Rectangle rectangle = new Rectangle(nextPoint(rng),
+					nextPoint(rng));
+			assertEquals(path.contains(rectangle),
+					prepared.contains(rectangle));
+		}
+		assertTrue(prepared.contains(new Rectangle(1, 1, 2, 2)
+				.getTranslated(40, 20)));
+		assertTrue(prepared.contains(new Line(10, 25, 90, 25)));
+		assertFalse(prepared.contains(new Line(10, 25, 110, 25)));
+		assertTrue(prepared.contains(new Ellipse(10, 10, 80, 30)));
+		assertTrue(prepared.contains(new Ellipse(10, 10, 80, 30).toPath()));
+		assertFalse(prepared.contains(new Ellipse(10, 10, 80, 50).toPath()));
+
+		// paths are tested via their outlines by shapes
+		prepared = new PreparedGeometry(new Rectangle(0, 0, 100, 50));
+		assertTrue(prepared.contains(new Ellipse(10, 10, 80, 30).toPath()));
+		assertFalse(prepared.contains(new Ellipse(10, 10, 80, 50).toPath()));
+	}
+
+	@Test
+	public void test_contains_Geometry_Polygon() {
+		Random rng = new Random(SEED);
+		for (int i = 0; i < 5; i++) {
+			Polygon polygon = createStar(50, rng);
+			PreparedGeometry prepared = new PreparedGeometry(polygon);
+			for (int j = 0; j < 40; j++) {
+				Point p1 = nextPoint(rng);
+				Point p2 = nextPoint(rng);
+				Point p3 = nextPoint(rng);
+				IGeometry[] geometries = new IGeometry[] { new Line(p1, p2),
+						new Polyline(p1, p2, p3), new Polygon(p1, p2, p3),
+						new Rectangle(p1, p2),
+						new CubicCurve(p1, p2, p3, p1.getTranslated(1, 1)),
+						new Rectangle(p1, p2).getTranslated(0.5, 0.5) };
+				for (IGeometry g : geometries) {
+					assertEquals(polygon.contains(g), prepared.contains(g));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_contains_Geometry_Ring() {
+		Random rng = new Random(SEED);
+		Ring ring = new Ring(createStar(20, rng),
+				createStar(20, rng).getTranslated(30, 10));
+		PreparedGeometry prepared = new PreparedGeometry(ring);
+		for (int i = 0; i < 20; i++) {
+			Line line = new Line(nextPoint(rng), nextPoint(rng));
+			assertEquals(ring.contains(line), prepared.contains(line));
+		}
+	}
+
+	@Test
+	public void test_contains_Point_delegated() {
+		Ellipse ellipse = new Ellipse(0, 0, 100, 50);
+		PreparedGeometry prepared = new PreparedGeometry(ellipse);
+		assertTrue(prepared.contains(new Point(50, 25)));
+		assertTrue(prepared.contains(new Point(0, 25)));
+		assertFalse(prepared.contains(new Point(1, 1)));
+		assertTrue(prepared.contains(new Rectangle(40, 20, 20, 10)));
+	}
+
+	@Test
+	public void test_contains_Point_Polygon() {
+		Random rng = new Random(SEED);
+		for (int i = 0; i < 2; i++) {
+			Polygon polygon = createStar(50, rng);
+			PreparedGeometry prepared = new PreparedGeometry(polygon);
+			for (int x = 0; x <= 100; x++) {
+				for (int y = 0; y <= 100; y++) {
+					Point p = new Point(x, y);
+					assertEquals(polygon.contains(p), prepared.contains(p));
+				}
+			}
+			// the vertices are contained as well
+			for (Point p : polygon.getPoints()) {
+				assertTrue(prepared.contains(p));
+			}
+		}
+	}
+
+	@Test
+	public void test_contains_Point_Region() {
+		Region region = new Region(new Rectangle(0, 0, 15, 10),
+				new Rectangle(10, 5, 10, 20), new Rectangle(50, 50, 5, 5));
+		PreparedGeometry prepared = new PreparedGeometry(region);
+		for (int x = -1; x <= 60; x++) {
+			for (int y = -1; y <= 60; y++) {
+				Point p = new Point(x, y);
+				assertEquals(region.contains(p), prepared.contains(p));
+			}
+		}
+	}
+
+	@Test
+	public void test_contains_Point_Ring() {
+		Random rng = new Random(SEED);
+		Ring ring = new Ring(createStar(20, rng),
+				createStar(20, rng).getTranslated(30, 10));
+		PreparedGeometry prepared = new PreparedGeometry(ring);
+		for (int x = 0; x <= 130; x++) {
+			for (int y = 0; y <= 110; y++) {
+				Point p = new Point(x, y);
+				assertEquals(ring.contains(p), prepared.contains(p));
+			}
+		}
+	}
+
+	@Test
+	public void test_getGeometry() {
+		Polygon polygon = new Polygon(0, 0, 10, 0, 10, 10, 0, 10);
+		PreparedGeometry prepared = new PreparedGeometry(polygon);
+		assertEquals(polygon, prepared.getGeometry());
+
+		// changes to the passed-in geometry are not reflected
+		polygon.translate(100, 100);
+		assertTrue(prepared.contains(new Point(5, 5)));
+		assertFalse(prepared.contains(new Point(105, 105)));
+	}
+
+}
@@ -130,6 +130,35 @@ public class PointListUtils {
 		return points;
 	}
 
+	/**
+	 * Converts the given array of alternating x and y coordinates into an
+	 * array of {@link Line} segments, linking each two adjacent points (see
+	 * {@link #toSegmentsArray(Point[], boolean)}).
+	 *
+	 * @param coordinates
+	 *            the array of alternating x and y coordinates to convert
+	 * @param close
+	 *            a flag indicating whether a line segment will be created from
+	 *            the last point back to the first one
+	 * @return an array of {@link Line} segments
+	 */
+	public static Line[] toSegmentsArray(double[] coordinates, boolean close) {
+		int pointCount = coordinates == null ? 0 : coordinates.length / 2;
+		// cannot construct lines for less than 2 points
+		if (pointCount < 2) {
+			return new Line[] {};
+		}
+
+		int segmentCount = close ? pointCount : pointCount - 1;
+		Line[] segments = new Line[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int j = i + 1 < pointCount ? i + 1 : 0;
+			segments[i] = new Line(coordinates[2 * i], coordinates[2 * i + 1],
+					coordinates[2 * j], coordinates[2 * j + 1]);
+		}
+		return segments;
+	}
+
 	/**
 	 * Transforms a sequence of {@link Point} coordinates into a sequence of
 	 * {@link Line} segments, by creating a {@link Line} segment for each two
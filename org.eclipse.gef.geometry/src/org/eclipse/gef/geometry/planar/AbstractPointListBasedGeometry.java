@@ -13,13 +13,25 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
+
 import org.eclipse.gef.geometry.euclidean.Angle;
-import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 
 /**
  * Abstract superclass of geometries that are defined by means of a point list.
  * <p>
+ * The points are internally stored as a packed array of alternating x and y
+ * coordinates, which can be accessed without copying via
+ * {@link #getPointCount()}, {@link #getX(int)}, and {@link #getY(int)}. The
+ * {@link Point}-based accessors (e.g. {@link #getPoints()}) create new
+ * {@link Point}s on each call.
+ * </p>
+ * <p>
  * The type parameter <code>T</code> specifies the type of the inheriting class.
  * This is to be able to return the correct type, so that a type cast is
  * unnecessary.
@@ -40,9 +52,17 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * The points constituting this {@link AbstractPointListBasedGeometry}.
+	 * The points are serialized as a {@link Point} array (as they were stored
+	 * before), so that the serialized form remains compatible.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("points", Point[].class) };
+
+	/**
+	 * The alternating x and y coordinates of the points constituting this
+	 * {@link AbstractPointListBasedGeometry}.
 	 */
-	Point[] points;
+	double[] coordinates;
 
 	/**
 	 * Constructs a new {@link AbstractPointListBasedGeometry} from a
@@ -55,10 +75,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 * @see #AbstractPointListBasedGeometry(Point...)
 	 */
 	public AbstractPointListBasedGeometry(double... coordinates) {
-		points = new Point[coordinates.length / 2];
-		for (int i = 0; i < coordinates.length / 2; i++) {
-			points[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
-		}
+		this.coordinates = Arrays.copyOf(coordinates,
+				coordinates.length / 2 * 2);
 	}
 
 	/**
@@ -70,12 +88,25 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *            {@link AbstractPointListBasedGeometry} is to be created.
 	 */
 	public AbstractPointListBasedGeometry(Point... points) {
-		this.points = Point.getCopy(points);
+		this.coordinates = PointListUtils.toCoordinatesArray(points);
 	}
 
 	@Override
 	public final Rectangle getBounds() {
-		return Point.getBounds(points);
+		if (coordinates.length == 0) {
+			return new Rectangle();
+		}
+		double minX = coordinates[0];
+		double minY = coordinates[1];
+		double maxX = minX;
+		double maxY = minY;
+		for (int i = 2; i < coordinates.length; i += 2) {
+			minX = Math.min(minX, coordinates[i]);
+			minY = Math.min(minY, coordinates[i + 1]);
+			maxX = Math.max(maxX, coordinates[i]);
+			maxY = Math.max(maxY, coordinates[i + 1]);
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
 	}
 
 	/**
@@ -88,9 +119,31 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *
 	 * @return the center {@link Point} (or centroid) of this
 	 *         {@link AbstractPointListBasedGeometry}
+	 * @see Point#getCentroid(Point...)
 	 */
 	public Point getCentroid() {
-		return Point.getCentroid(points);
+		int n = getPointCount();
+		if (n == 0) {
+			return null;
+		} else if (n == 1) {
+			return getPoint(0);
+		}
+
+		double cx = 0, cy = 0, a, sa = 0;
+		for (int i = 0; i < n; i++) {
+			// include the closing segment
+			int j = i + 1 < n ? i + 1 : 0;
+			a = getX(i) * getY(j) - getY(i) * getX(j);
+			sa += a;
+			cx += (getX(i) + getX(j)) * a;
+			cy += (getY(i) + getY(j)) * a;
+		}
+
+		if (sa == 0) {
+			return new Point(cx, cy);
+		} else {
+			return new Point(cx / (3 * sa), cy / (3 * sa));
+		}
 	}
 
 	/**
@@ -102,7 +155,29 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         this {@link AbstractPointListBasedGeometry}'s points
 	 */
 	public final double[] getCoordinates() {
-		return PointListUtils.toCoordinatesArray(points);
+		return coordinates.clone();
+	}
+
+	/**
+	 * Returns a new {@link Point} at the given index of this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @param i
+	 *            the index of the {@link Point} to return
+	 * @return a new {@link Point} at the given index
+	 */
+	public final Point getPoint(int i) {
+		return new Point(coordinates[2 * i], coordinates[2 * i + 1]);
+	}
+
+	/**
+	 * Returns the number of {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @return the number of {@link Point}s
+	 */
+	public final int getPointCount() {
+		return coordinates.length / 2;
 	}
 
 	/**
@@ -113,7 +188,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         make up this {@link AbstractPointListBasedGeometry}
 	 */
 	public final Point[] getPoints() {
-		return Point.getCopy(points);
+		return PointListUtils.toPointsArray(coordinates);
 	}
 
 	@Override
@@ -194,6 +269,50 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).translate(pt);
 	}
 
+	/**
+	 * Returns the x-coordinate of the {@link Point} at the given index of this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @return the x-coordinate of the {@link Point} at the given index
+	 */
+	public final double getX(int i) {
+		return coordinates[2 * i];
+	}
+
+	/**
+	 * Returns the y-coordinate of the {@link Point} at the given index of this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @return the y-coordinate of the {@link Point} at the given index
+	 */
+	public final double getY(int i) {
+		return coordinates[2 * i + 1];
+	}
+
+	private void readObject(ObjectInputStream in)
+			throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		coordinates = PointListUtils
+				.toCoordinatesArray((Point[]) fields.get("points", null));
+	}
+
+	private void rotate(double alpha, Point center) {
+		translate(-center.x, -center.y);
+		double cos = Math.cos(alpha);
+		double sin = Math.sin(alpha);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			double x = coordinates[i];
+			double y = coordinates[i + 1];
+			coordinates[i] = x * cos - y * sin;
+			coordinates[i + 1] = x * sin + y * cos;
+		}
+		translate(center.x, center.y);
+	}
+
 	/**
 	 * Rotates this {@link AbstractPointListBasedGeometry} counter-clockwise
 	 * (CCW) by the given {@link Angle} around its centroid (see
@@ -249,13 +368,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 */
 	@SuppressWarnings("unchecked")
 	public T rotateCCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
-		}
-		translate(center);
+		rotate(alpha.getOppositeFull().rad(), center);
 		return (T) this;
 	}
 
@@ -313,13 +426,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 */
 	@SuppressWarnings("unchecked")
 	public T rotateCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
-		}
-		translate(center);
+		rotate(alpha.rad(), center);
 		return (T) this;
 	}
 
@@ -346,10 +453,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@Override
 	@SuppressWarnings("unchecked")
 	public T scale(double fx, double fy, Point center) {
-		for (Point p : points) {
-			Point np = p.getScaled(fx, fy, center);
-			p.x = np.x;
-			p.y = np.y;
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = (coordinates[i] - center.x) * fx + center.x;
+			coordinates[i + 1] = (coordinates[i + 1] - center.y) * fy
+					+ center.y;
 		}
 		return (T) this;
 	}
@@ -359,10 +466,27 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return scale(factor, factor, center);
 	}
 
+	/**
+	 * Transforms this {@link AbstractPointListBasedGeometry} in-place by the
+	 * given {@link AffineTransform}.
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return <code>this</code> for convenience
+	 */
+	@SuppressWarnings("unchecked")
+	public T transform(AffineTransform t) {
+		t.transform(coordinates, 0, coordinates, 0, getPointCount());
+		return (T) this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public T translate(double dx, double dy) {
-		Point.translate(points, dx, dy);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] += dx;
+			coordinates[i + 1] += dy;
+		}
 		return (T) this;
 	}
 
@@ -371,4 +495,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return translate(p.x, p.y);
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("points", getPoints());
+		out.writeFields();
+	}
+
 }
@@ -797,6 +797,31 @@ public class AffineTransform implements Cloneable {
 		return delegate.toString();
 	}
 
+	/**
+	 * Transforms an array of x and y coordinates with this
+	 * {@link AffineTransform}. The source and destination arrays may be the
+	 * same, so that the coordinates are transformed in-place.
+	 *
+	 * @param srcPts
+	 *            the array of x and y coordinates specifying the {@link Point}s
+	 *            that are transformed
+	 * @param srcOff
+	 *            the index of the <i>srcPts</i> array where the x coordinate of
+	 *            the first {@link Point} to transform is found
+	 * @param dstPts
+	 *            the destination array of x and y coordinates for the result of
+	 *            the transformation
+	 * @param dstOff
+	 *            the index of the <i>dstPts</i> array where the x coordinate of
+	 *            the first transformed {@link Point} is stored
+	 * @param numPts
+	 *            the number of {@link Point}s to transform
+	 */
+	public void transform(double[] srcPts, int srcOff, double[] dstPts,
+			int dstOff, int numPts) {
+		delegate.transform(srcPts, srcOff, dstPts, dstOff, numPts);
+	}
+
 	/**
 	 * Sets the translation values of the x and y coordinates of the
 	 * transformation matrix of this {@link AffineTransform}.
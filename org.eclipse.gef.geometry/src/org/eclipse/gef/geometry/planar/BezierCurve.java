@@ -708,6 +708,96 @@ public class BezierCurve extends AbstractGeometry
 
 	}
 
+	/**
+	 * A {@link Flattener} approximates a {@link BezierCurve} by a polyline,
+	 * adaptively subdividing it (at parameter value <code>0.5</code>) until the
+	 * control points of each part lie within the given tolerance of the part's
+	 * chord. As a {@link BezierCurve} lies within the convex hull of its
+	 * control points, the chord is then guaranteed to be no further away from
+	 * the part than the tolerance.
+	 */
+	private static class Flattener {
+
+		private final double toleranceSquared;
+		private double[] coordinates = new double[16];
+		private int size = 0;
+
+		public Flattener(double tolerance) {
+			toleranceSquared = tolerance * tolerance;
+		}
+
+		private void add(double x, double y) {
+			if (size + 2 > coordinates.length) {
+				coordinates = Arrays.copyOf(coordinates,
+						coordinates.length * 2);
+			}
+			coordinates[size++] = x;
+			coordinates[size++] = y;
+		}
+
+		public double[] flatten(double[] controlPoints) {
+			add(controlPoints[0], controlPoints[1]);
+			if (controlPoints.length > 2) {
+				flatten(controlPoints, 0);
+			}
+			return Arrays.copyOf(coordinates, size);
+		}
+
+		private void flatten(double[] controlPoints, int depth) {
+			int last = controlPoints.length - 2;
+			if (depth >= MAX_FLATTENING_DEPTH || isFlat(controlPoints)) {
+				add(controlPoints[last], controlPoints[last + 1]);
+				return;
+			}
+
+			// subdivide at t = 0.5 (de Casteljau)
+			int n = controlPoints.length / 2;
+			double[] left = new double[controlPoints.length];
+			double[] right = new double[controlPoints.length];
+			double[] mids = controlPoints.clone();
+			left[0] = mids[0];
+			left[1] = mids[1];
+			right[last] = mids[last];
+			right[last + 1] = mids[last + 1];
+			for (int k = 1; k < n; k++) {
+				for (int i = 0; i < n - k; i++) {
+					mids[2 * i] = (mids[2 * i] + mids[2 * i + 2]) / 2;
+					mids[2 * i + 1] = (mids[2 * i + 1] + mids[2 * i + 3]) / 2;
+				}
+				left[2 * k] = mids[0];
+				left[2 * k + 1] = mids[1];
+				right[2 * (n - 1 - k)] = mids[2 * (n - 1 - k)];
+				right[2 * (n - 1 - k) + 1] = mids[2 * (n - 1 - k) + 1];
+			}
+			flatten(left, depth + 1);
+			flatten(right, depth + 1);
+		}
+
+		private boolean isFlat(double[] controlPoints) {
+			int last = controlPoints.length - 2;
+			double x1 = controlPoints[0];
+			double y1 = controlPoints[1];
+			double dx = controlPoints[last] - x1;
+			double dy = controlPoints[last + 1] - y1;
+			double lengthSquared = dx * dx + dy * dy;
+			for (int i = 2; i < last; i += 2) {
+				// squared distance of the control point to the chord
+				double px = controlPoints[i] - x1;
+				double py = controlPoints[i + 1] - y1;
+				double t = lengthSquared == 0 ? 0
+						: Math.max(0, Math.min(1,
+								(px * dx + py * dy) / lengthSquared));
+				double ex = px - t * dx;
+				double ey = py - t * dy;
+				if (ex * ex + ey * ey > toleranceSquared) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 	/**
 	 * An {@link Interval} records a lower and an upper limit that define the
 	 * mathematical interval [a;b] (inclusively). It is used to represent
@@ -1611,6 +1701,8 @@ public class BezierCurve extends AbstractGeometry
 
 	private static final int CHUNK_SHIFT = -3;
 
+	private static final int MAX_FLATTENING_DEPTH = 16;
+
 	private static final boolean ORTHOGONAL = true;
 
 	private static final boolean PARALLEL = false;
@@ -2409,6 +2501,18 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private final Vector3D[] points;
 
+	/**
+	 * The coordinates of the most recently computed {@link #toPolyline(double)
+	 * flattened} representation of this {@link BezierCurve}, which is reset
+	 * when this {@link BezierCurve} is modified.
+	 */
+	private transient double[] flattened;
+
+	/**
+	 * The tolerance that was used to compute {@link #flattened}.
+	 */
+	private transient double flatteningTolerance;
+
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
 	 *
@@ -2975,13 +3079,7 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public final Point[] getIntersections(ICurve curve) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (BezierCurve c : curve.toBezier()) {
-			intersections.addAll(Arrays.asList(getIntersections(c)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return CurveUtils.getIntersections(this, curve);
 	}
 
 	/**
@@ -3401,6 +3499,7 @@ public class BezierCurve extends AbstractGeometry
 							.getRotatedCCW(angle).toPoint()
 							.getTranslated(center));
 		}
+		flattened = null;
 		return this;
 	}
 
@@ -3537,6 +3636,7 @@ public class BezierCurve extends AbstractGeometry
 					+ (points.length - 1) + ".");
 		}
 		points[i] = new Vector3D(p);
+		flattened = null;
 		return this;
 	}
 
@@ -3772,6 +3872,44 @@ public class BezierCurve extends AbstractGeometry
 		return null;
 	}
 
+	/**
+	 * Computes an approximation of this {@link BezierCurve} by a
+	 * {@link Polyline}, which deviates from this {@link BezierCurve} by at
+	 * most the given tolerance. In contrast to {@link #toLineStrip(double)},
+	 * the subdivision operates on the control points directly and is limited
+	 * to a maximum depth (of {@value #MAX_FLATTENING_DEPTH}), so that only
+	 * strongly bent parts of this {@link BezierCurve} are approximated by many
+	 * segments.
+	 * <p>
+	 * The computed approximation is cached, so that subsequent calls with the
+	 * same tolerance (e.g. when rendering and hit-testing) do not re-compute
+	 * it, unless this {@link BezierCurve} is modified in the meantime.
+	 * </p>
+	 *
+	 * @param tolerance
+	 *            the maximum distance of the {@link Polyline} to this
+	 *            {@link BezierCurve}, which has to be positive
+	 * @return a {@link Polyline} approximating this {@link BezierCurve}
+	 */
+	public Polyline toPolyline(double tolerance) {
+		if (!(tolerance > 0)) {
+			throw new IllegalArgumentException(
+					"The tolerance has to be positive: toPolyline(" + tolerance
+							+ ")");
+		}
+		if (flattened == null || flatteningTolerance != tolerance) {
+			double[] controlPoints = new double[points.length * 2];
+			for (int i = 0; i < points.length; i++) {
+				Point p = points[i].toPoint();
+				controlPoints[2 * i] = p.x;
+				controlPoints[2 * i + 1] = p.y;
+			}
+			flattened = new Flattener(tolerance).flatten(controlPoints);
+			flatteningTolerance = tolerance;
+		}
+		return new Polyline(flattened);
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer str = new StringBuffer();
@@ -12,19 +12,166 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
 /**
  * The {@link CurveUtils} class provides functionality that can be used for all
  * {@link ICurve}s, independent on their construction kind.
+ * <p>
+ * Intersections and overlaps are computed on the {@link BezierCurve} segments
+ * of the given geometries, where only those pairs of segments are processed
+ * whose control bounds overlap. These pairs are determined by a sweep over the
+ * horizontal extent of the control bounds, so that geometries consisting of
+ * many segments can be processed in (nearly) linear time.
  *
  * @author mwienand
  *
  */
 class CurveUtils {
 
+	/**
+	 * A visitor for the pairs of segments whose control bounds overlap.
+	 */
+	private static interface ISegmentPairVisitor {
+
+		/**
+		 * Visits the given pair of segments.
+		 *
+		 * @param segment1
+		 *            The segment of the first geometry.
+		 * @param segment2
+		 *            The segment of the second geometry.
+		 * @return <code>true</code> to continue with the next pair,
+		 *         <code>false</code> to stop.
+		 */
+		public boolean visit(BezierCurve segment1, BezierCurve segment2);
+	}
+
+	/**
+	 * The tolerance that is used when comparing the control bounds of
+	 * segments. It is larger than the one used when computing intersections,
+	 * so that no intersections are missed.
+	 */
+	private static final double BOUNDS_TOLERANCE = PrecisionUtils
+			.calculateFraction(-2);
+
+	/**
+	 * The number of segment pairs up to which all pairs are tested, because
+	 * sorting the segments is not worth the effort.
+	 */
+	private static final int SWEEP_THRESHOLD = 64;
+
+	private static boolean boundsOverlap(double[] bounds1, int i,
+			double[] bounds2, int j) {
+		return bounds1[4 * i] <= bounds2[4 * j + 2] + BOUNDS_TOLERANCE
+				&& bounds2[4 * j] <= bounds1[4 * i + 2] + BOUNDS_TOLERANCE
+				&& bounds1[4 * i + 1] <= bounds2[4 * j + 3] + BOUNDS_TOLERANCE
+				&& bounds2[4 * j + 1] <= bounds1[4 * i + 3] + BOUNDS_TOLERANCE;
+	}
+
+	/**
+	 * Passes all pairs of the given segments (one of each array) whose control
+	 * bounds overlap to the given {@link ISegmentPairVisitor}, until it
+	 * returns <code>false</code>. Returns <code>false</code> in this case,
+	 * <code>true</code> otherwise.
+	 */
+	private static boolean forEachOverlappingPair(BezierCurve[] segments1,
+			BezierCurve[] segments2, ISegmentPairVisitor visitor) {
+		double[] bounds1 = getControlBounds(segments1);
+		double[] bounds2 = getControlBounds(segments2);
+
+		if (segments1.length * segments2.length <= SWEEP_THRESHOLD) {
+			for (int i = 0; i < segments1.length; i++) {
+				for (int j = 0; j < segments2.length; j++) {
+					if (boundsOverlap(bounds1, i, bounds2, j)
+							&& !visitor.visit(segments1[i], segments2[j])) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		// process the segments of both arrays in the order of their minimum
+		// x-coordinates, testing each segment against the active segments of
+		// the other array (i.e. those that were processed before and may still
+		// overlap horizontally)
+		int[] order1 = sortByMinX(bounds1);
+		int[] order2 = sortByMinX(bounds2);
+		int[] active1 = new int[segments1.length];
+		int[] active2 = new int[segments2.length];
+		int activeCount1 = 0;
+		int activeCount2 = 0;
+		int next1 = 0;
+		int next2 = 0;
+		while (next1 < order1.length && next2 < order2.length
+				|| next1 < order1.length && activeCount2 > 0
+				|| next2 < order2.length && activeCount1 > 0) {
+			if (next2 == order2.length || next1 < order1.length
+					&& bounds1[4 * order1[next1]] <= bounds2[4
+							* order2[next2]]) {
+				int i = order1[next1++];
+				for (int k = 0; k < activeCount2;) {
+					int j = active2[k];
+					if (bounds2[4 * j + 2] + BOUNDS_TOLERANCE < bounds1[4 * i]) {
+						// cannot overlap with any of the remaining segments
+						active2[k] = active2[--activeCount2];
+						continue;
+					}
+					if (boundsOverlap(bounds1, i, bounds2, j)
+							&& !visitor.visit(segments1[i], segments2[j])) {
+						return false;
+					}
+					k++;
+				}
+				active1[activeCount1++] = i;
+			} else {
+				int j = order2[next2++];
+				for (int k = 0; k < activeCount1;) {
+					int i = active1[k];
+					if (bounds1[4 * i + 2] + BOUNDS_TOLERANCE < bounds2[4 * j]) {
+						// cannot overlap with any of the remaining segments
+						active1[k] = active1[--activeCount1];
+						continue;
+					}
+					if (boundsOverlap(bounds1, i, bounds2, j)
+							&& !visitor.visit(segments1[i], segments2[j])) {
+						return false;
+					}
+					k++;
+				}
+				active2[activeCount2++] = j;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the control bounds of the given segments as an array of (minX,
+	 * minY, maxX, maxY) quadruples.
+	 */
+	private static double[] getControlBounds(BezierCurve[] segments) {
+		double[] bounds = new double[4 * segments.length];
+		for (int i = 0; i < segments.length; i++) {
+			Rectangle controlBounds = segments[i].getControlBounds();
+			bounds[4 * i] = controlBounds.getX();
+			bounds[4 * i + 1] = controlBounds.getY();
+			bounds[4 * i + 2] = controlBounds.getX()
+					+ controlBounds.getWidth();
+			bounds[4 * i + 3] = controlBounds.getY()
+					+ controlBounds.getHeight();
+		}
+		return bounds;
+	}
+
 	/**
 	 * Creates copies of the given {@link BezierCurve}s.
 	 *
@@ -41,7 +188,55 @@ class CurveUtils {
 	}
 
 	/**
-	 * Delegates to the {@link BezierCurve#getIntersections(ICurve)} method.
+	 * Returns the given {@link Point}s without duplicates (w.r.t.
+	 * {@link Point#equals(Object)}). As {@link Point} cannot provide a
+	 * meaningful hash code, the {@link Point}s are sorted by their
+	 * x-coordinates, so that each {@link Point} only needs to be compared to
+	 * those with an (imprecisely) equal x-coordinate.
+	 */
+	private static Point[] getDistinct(List<Point> points) {
+		Collections.sort(points, new Comparator<Point>() {
+			@Override
+			public int compare(Point p1, Point p2) {
+				return Double.compare(p1.x, p2.x);
+			}
+		});
+		List<Point> distinct = new ArrayList<>();
+		for (Point p : points) {
+			boolean isDuplicate = false;
+			for (int i = distinct.size() - 1; i >= 0
+					&& PrecisionUtils.equal(distinct.get(i).x, p.x); i--) {
+				if (distinct.get(i).equals(p)) {
+					isDuplicate = true;
+					break;
+				}
+			}
+			if (!isDuplicate) {
+				distinct.add(p);
+			}
+		}
+		return distinct.toArray(new Point[] {});
+	}
+
+	private static Point[] getIntersections(BezierCurve[] segments1,
+			BezierCurve[] segments2) {
+		final List<Point> intersections = new ArrayList<>();
+		forEachOverlappingPair(segments1, segments2,
+				new ISegmentPairVisitor() {
+					@Override
+					public boolean visit(BezierCurve segment1,
+							BezierCurve segment2) {
+						intersections.addAll(Arrays
+								.asList(segment1.getIntersections(segment2)));
+						return true;
+					}
+				});
+		return getDistinct(intersections);
+	}
+
+	/**
+	 * Computes the intersections of the {@link BezierCurve} segments of both
+	 * given {@link ICurve}s (see {@link BezierCurve#getIntersections(ICurve)}).
 	 *
 	 * @param curve1
 	 *            The first {@link ICurve} to intersect
@@ -50,14 +245,7 @@ class CurveUtils {
 	 * @return An array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve1, ICurve curve2) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (BezierCurve bezier : curve1.toBezier()) {
-			intersections
-					.addAll(Arrays.asList(bezier.getIntersections(curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(getSegments(curve1), getSegments(curve2));
 	}
 
 	/**
@@ -86,7 +274,8 @@ class CurveUtils {
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, IShape)} method.
+	 * Computes the intersections of the given {@link ICurve} with the outlines
+	 * of the {@link IShape}s of the given {@link IMultiShape}.
 	 *
 	 * @param curve
 	 *            the {@link ICurve} to intersect
@@ -96,17 +285,12 @@ class CurveUtils {
 	 */
 	public static Point[] getIntersections(ICurve curve,
 			IMultiShape multiShape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (IShape shape : multiShape.getShapes()) {
-			intersections.addAll(Arrays.asList(getIntersections(curve, shape)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(getSegments(curve), getSegments(multiShape));
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, ICurve)} method.
+	 * Computes the intersections of the given {@link ICurve} with the outline
+	 * of the given {@link IShape}.
 	 *
 	 * @param curve
 	 *            the {@link ICurve} to intersect
@@ -115,18 +299,13 @@ class CurveUtils {
 	 * @return an array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve, IShape shape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (ICurve curve2 : shape.getOutlineSegments()) {
-			intersections
-					.addAll(Arrays.asList(getIntersections(curve, curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(getSegments(curve), getSegments(shape));
 	}
 
 	/**
-	 * Delegates to the {@link #getIntersections(ICurve, IGeometry)} method.
+	 * Computes the intersections of the given {@link IGeometry}s, i.e. of the
+	 * {@link ICurve}s or the outlines of the {@link IShape}s and
+	 * {@link IMultiShape}s.
 	 *
 	 * @param geom1
 	 *            the first {@link IGeometry} to intersect
@@ -135,29 +314,7 @@ class CurveUtils {
 	 * @return points of intersection
 	 */
 	public static Point[] getIntersections(IGeometry geom1, IGeometry geom2) {
-		if (geom1 instanceof ICurve) {
-			return getIntersections((ICurve) geom1, geom2);
-		} else {
-			Set<Point> intersections = new HashSet<>();
-
-			if (geom1 instanceof IShape) {
-				for (ICurve curve : ((IShape) geom1).getOutlineSegments()) {
-					intersections.addAll(
-							Arrays.asList(getIntersections(curve, geom2)));
-				}
-			} else if (geom1 instanceof IMultiShape) {
-				for (IShape shape : ((IMultiShape) geom1).getShapes()) {
-					for (ICurve curve : shape.getOutlineSegments()) {
-						intersections.addAll(
-								Arrays.asList(getIntersections(curve, geom2)));
-					}
-				}
-			} else {
-				throw new UnsupportedOperationException("Not yet implemented.");
-			}
-
-			return intersections.toArray(new Point[] {});
-		}
+		return getIntersections(getSegments(geom1), getSegments(geom2));
 	}
 
 	/**
@@ -173,18 +330,53 @@ class CurveUtils {
 	 *         overlap.
 	 */
 	public static ICurve[] getOverlaps(ICurve curve1, ICurve curve2) {
-		Set<ICurve> overlaps = new HashSet<>();
+		final Set<ICurve> overlaps = new HashSet<>();
+		forEachOverlappingPair(getSegments(curve1), getSegments(curve2),
+				new ISegmentPairVisitor() {
+					@Override
+					public boolean visit(BezierCurve segment1,
+							BezierCurve segment2) {
+						BezierCurve overlap = segment1.getOverlap(segment2);
+						if (overlap != null) {
+							overlaps.add(overlap);
+						}
+						return true;
+					}
+				});
+		return overlaps.toArray(new ICurve[] {});
+	}
 
-		for (BezierCurve bezier1 : curve1.toBezier()) {
-			for (BezierCurve bezier2 : curve2.toBezier()) {
-				BezierCurve overlap = bezier1.getOverlap(bezier2);
-				if (overlap != null) {
-					overlaps.add(overlap);
-				}
+	/**
+	 * Returns the {@link BezierCurve} segments of the given {@link IGeometry},
+	 * i.e. of the {@link ICurve} or the outline(s) of the {@link IShape} or
+	 * {@link IMultiShape}. The segments of a {@link PolyBezier} are not
+	 * copied, so the returned segments may not be modified.
+	 */
+	private static BezierCurve[] getSegments(IGeometry geom) {
+		if (geom instanceof PolyBezier) {
+			return ((PolyBezier) geom).getSegments();
+		} else if (geom instanceof ICurve) {
+			return ((ICurve) geom).toBezier();
+		} else if (geom instanceof IShape) {
+			return toBezier(((IShape) geom).getOutlineSegments());
+		} else if (geom instanceof IMultiShape) {
+			IShape[] shapes = ((IMultiShape) geom).getShapes();
+			ICurve[][] outlines = new ICurve[shapes.length][];
+			int count = 0;
+			for (int i = 0; i < shapes.length; i++) {
+				outlines[i] = shapes[i].getOutlineSegments();
+				count += outlines[i].length;
+			}
+			ICurve[] curves = new ICurve[count];
+			count = 0;
+			for (ICurve[] outline : outlines) {
+				System.arraycopy(outline, 0, curves, count, outline.length);
+				count += outline.length;
 			}
+			return toBezier(curves);
+		} else {
+			throw new UnsupportedOperationException("Not yet implemented.");
 		}
-
-		return overlaps.toArray(new ICurve[] {});
 	}
 
 	/**
@@ -201,7 +393,15 @@ class CurveUtils {
 	 *         intersection {@link Point}s, otherwise <code>false</code>
 	 */
 	public static boolean intersect(ICurve c1, ICurve c2) {
-		return getIntersections(c1, c2).length > 0;
+		return !forEachOverlappingPair(getSegments(c1), getSegments(c2),
+				new ISegmentPairVisitor() {
+					@Override
+					public boolean visit(BezierCurve segment1,
+							BezierCurve segment2) {
+						// stop at the first intersection
+						return segment1.getIntersections(segment2).length == 0;
+					}
+				});
 	}
 
 	/**
@@ -216,15 +416,56 @@ class CurveUtils {
 	 *         <code>false</code>
 	 */
 	public static boolean overlap(ICurve c1, ICurve c2) {
-		for (BezierCurve seg1 : c1.toBezier()) {
-			for (BezierCurve seg2 : c2.toBezier()) {
-				if (seg1.overlaps(seg2)) {
-					return true;
-				}
+		return !forEachOverlappingPair(getSegments(c1), getSegments(c2),
+				new ISegmentPairVisitor() {
+					@Override
+					public boolean visit(BezierCurve segment1,
+							BezierCurve segment2) {
+						// stop at the first overlap
+						return !segment1.overlaps(segment2);
+					}
+				});
+	}
+
+	/**
+	 * Returns the indices of the segments described by the given control
+	 * bounds, sorted by the minimum x-coordinates of the control bounds.
+	 */
+	private static int[] sortByMinX(final double[] bounds) {
+		Integer[] indices = new Integer[bounds.length / 4];
+		for (int i = 0; i < indices.length; i++) {
+			indices[i] = i;
+		}
+		Arrays.sort(indices, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				return Double.compare(bounds[4 * i1], bounds[4 * i2]);
 			}
+		});
+		int[] order = new int[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			order[i] = indices[i];
 		}
+		return order;
+	}
 
-		return false;
+	private static BezierCurve[] toBezier(ICurve[] curves) {
+		if (curves.length == 1) {
+			return getSegments(curves[0]);
+		}
+		BezierCurve[][] segments = new BezierCurve[curves.length][];
+		int count = 0;
+		for (int i = 0; i < curves.length; i++) {
+			segments[i] = getSegments(curves[i]);
+			count += segments[i].length;
+		}
+		BezierCurve[] result = new BezierCurve[count];
+		count = 0;
+		for (BezierCurve[] s : segments) {
+			System.arraycopy(s, 0, result, count, s.length);
+			count += s.length;
+		}
+		return result;
 	}
 
 	/**
@@ -12,14 +12,10 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
-import java.awt.geom.Area;
-import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
-import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
@@ -254,10 +250,8 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.add(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PathBooleanOperation.compute(PathBooleanOperation.ADD, pa,
+				pb);
 	}
 
 	/**
@@ -271,10 +265,8 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.exclusiveOr(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PathBooleanOperation.compute(PathBooleanOperation.EXCLUSIVE_OR,
+				pa, pb);
 	}
 
 	/**
@@ -288,10 +280,8 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.intersect(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PathBooleanOperation.compute(PathBooleanOperation.INTERSECT, pa,
+				pb);
 	}
 
 	/**
@@ -304,16 +294,17 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.subtract(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PathBooleanOperation.compute(PathBooleanOperation.SUBTRACT, pa,
+				pb);
 	}
 
 	private int windingRule = WIND_NON_ZERO;
 
 	private List<Segment> segments = new ArrayList<>();
 
+	// lazily created on the first containment test, reset on every change
+	private transient PreparedPath preparedPath;
+
 	/**
 	 * Creates a new empty path with a default winding rule of
 	 * {@link #WIND_NON_ZERO}.
@@ -368,6 +359,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path add(List<Segment> segments) {
 		this.segments.addAll(segments);
+		preparedPath = null;
 		return this;
 	}
 
@@ -380,6 +372,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path add(Segment... segments) {
 		this.segments.addAll(Arrays.asList(segments));
+		preparedPath = null;
 		return this;
 	}
 
@@ -391,13 +384,13 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path close() {
 		segments.add(new Segment(Segment.CLOSE));
+		preparedPath = null;
 		return this;
 	}
 
 	@Override
 	public boolean contains(Point p) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTPoint(p));
+		return getPreparedPath().contains(p.x, p.y);
 	}
 
 	/**
@@ -412,8 +405,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         within this {@link IGeometry}
 	 */
 	public boolean contains(Rectangle r) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTRectangle(r));
+		return getPreparedPath().contains(r);
 	}
 
 	/**
@@ -440,6 +432,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 		segments.add(
 				new Segment(Segment.CUBIC_TO, new Point(control1X, control1Y),
 						new Point(control2X, control2Y), new Point(x, y)));
+		preparedPath = null;
 		return this;
 	}
 
@@ -532,6 +525,13 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return curves;
 	}
 
+	private PreparedPath getPreparedPath() {
+		if (preparedPath == null) {
+			preparedPath = new PreparedPath(windingRule, segments);
+		}
+		return preparedPath;
+	}
+
 	/**
 	 * Returns the segments that make up this path.
 	 *
@@ -548,9 +548,12 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Path getTransformed(AffineTransform t) {
-		return AWT2Geometry
-				.toPath(new Path2D.Double(Geometry2AWT.toAWTPath(this),
-						Geometry2AWT.toAWTAffineTransform(t)));
+		Path transformed = new Path(windingRule);
+		for (Segment s : segments) {
+			transformed.segments.add(
+					new Segment(s.getType(), t.getTransformed(s.getPoints())));
+		}
+		return transformed;
 	}
 
 	/**
@@ -575,6 +578,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path lineTo(double x, double y) {
 		segments.add(new Segment(Segment.LINE_TO, new Point(x, y)));
+		preparedPath = null;
 		return this;
 	}
 
@@ -590,6 +594,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path moveTo(double x, double y) {
 		segments.add(new Segment(Segment.MOVE_TO, new Point(x, y)));
+		preparedPath = null;
 		return this;
 	}
 
@@ -612,6 +617,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 			double y) {
 		segments.add(new Segment(Segment.QUAD_TO, new Point(controlX, controlY),
 				new Point(x, y)));
+		preparedPath = null;
 		return this;
 	}
 
@@ -622,6 +628,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path reset() {
 		segments.clear();
+		preparedPath = null;
 		return this;
 	}
 
@@ -639,6 +646,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public Path setWindingRule(int windingRule) {
 		this.windingRule = windingRule;
+		preparedPath = null;
 		return this;
 	}
 
@@ -662,8 +670,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @see IGeometry#touches(IGeometry)
 	 */
 	public boolean touches(Rectangle r) {
-		return Geometry2AWT.toAWTPath(this)
-				.intersects(Geometry2AWT.toAWTRectangle(r));
+		return getPreparedPath().touches(r);
 	}
 
 }
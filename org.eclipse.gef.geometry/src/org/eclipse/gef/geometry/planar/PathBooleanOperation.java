@@ -0,0 +1,804 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * Computes the boolean operations on {@link Path}s (see
+ * {@link Path#add(Path, Path)}, {@link Path#intersect(Path, Path)},
+ * {@link Path#subtract(Path, Path)}, and
+ * {@link Path#exclusiveOr(Path, Path)}) directly on their (linear, quadratic,
+ * and cubic) segments, so that the curves are preserved:
+ * <ol>
+ * <li>The segments of both {@link Path}s (including those that implicitly
+ * close the sub-paths) are split into monotone pieces, which are split at all
+ * their points of intersection (and at the end points of overlapping pieces).
+ * <li>Each of the resulting pieces is classified by testing the points
+ * slightly to its left and right against both {@link Path}s (using their
+ * winding rules). A piece belongs to the outline of the result if exactly one
+ * of these points lies within the result, and it is oriented so that the
+ * result lies to its left. Coincident pieces are only considered once.
+ * <li>The oriented pieces are chained into closed sub-paths, merging
+ * consecutive collinear lines.
+ * </ol>
+ * As the outline of the result is consistently oriented, the result is
+ * independent of its winding rule, which is {@link Path#WIND_NON_ZERO}.
+ *
+ * @author agent
+ *
+ */
+final class PathBooleanOperation {
+
+	/**
+	 * The points of the split segments, where points that are regarded to be
+	 * equal (see {@link Point#equals(Object)}) are identified with each other.
+	 */
+	private static class Vertices {
+
+		// points are regarded to be equal if their distance does not exceed
+		// the tolerance in either dimension, so they lie within neighboring
+		// cells
+		private static final double CELL_SIZE = 2
+				* PrecisionUtils.calculateFraction(0);
+
+		private static long getCellKey(long cellX, long cellY) {
+			return cellX * 0x9E3779B97F4A7C15L + cellY;
+		}
+
+		private final List<Point> points = new ArrayList<>();
+		private final Map<Long, List<Integer>> cells = new HashMap<>();
+
+		Point get(int vertex) {
+			return points.get(vertex);
+		}
+
+		/**
+		 * Returns the index of the vertex that is regarded to be equal to the
+		 * given {@link Point}, which is registered if no such vertex exists.
+		 */
+		int getVertex(Point p) {
+			long cellX = (long) Math.floor(p.x / CELL_SIZE);
+			long cellY = (long) Math.floor(p.y / CELL_SIZE);
+			for (long x = cellX - 1; x <= cellX + 1; x++) {
+				for (long y = cellY - 1; y <= cellY + 1; y++) {
+					List<Integer> cell = cells.get(getCellKey(x, y));
+					if (cell != null) {
+						for (int vertex : cell) {
+							if (points.get(vertex).equals(p)) {
+								return vertex;
+							}
+						}
+					}
+				}
+			}
+			int vertex = points.size();
+			points.add(p.getCopy());
+			Long key = getCellKey(cellX, cellY);
+			List<Integer> cell = cells.get(key);
+			if (cell == null) {
+				cell = new ArrayList<>(1);
+				cells.put(key, cell);
+			}
+			cell.add(vertex);
+			return vertex;
+		}
+	}
+
+	/**
+	 * A segment (or piece of a segment) between two vertices. The curve is
+	 * not snapped to the vertices before the outline of the result is
+	 * composed, so that the classification is based on the exact geometry.
+	 */
+	private static class Edge {
+		final BezierCurve curve;
+		final int start;
+		final int end;
+		final Rectangle bounds;
+		// the parameter values and vertices at which the edge is split
+		final List<double[]> splits = new ArrayList<>();
+		// the preceding monotone piece of the same curve (if any), which it
+		// cannot intersect (except for their common end point)
+		Edge previous;
+		private BezierCurve derivative;
+
+		Edge(BezierCurve curve, int start, int end) {
+			this.curve = curve;
+			this.start = start;
+			this.end = end;
+			this.bounds = curve.getControlBounds();
+		}
+
+		void addSplit(double t, int vertex) {
+			if (vertex != start && vertex != end) {
+				splits.add(new double[] { t, vertex });
+			}
+		}
+
+		BezierCurve getDerivative() {
+			if (derivative == null) {
+				derivative = curve.getDerivative();
+			}
+			return derivative;
+		}
+
+		/**
+		 * Returns the parameter value of the point on this edge that is
+		 * nearest to the given {@link Point}. As the edges are monotone, it is
+		 * approximated by the nearest of some sample points, which is refined
+		 * by Newton iterations.
+		 */
+		double getParameter(Point p) {
+			int samples = curve.getPoints().length == 2 ? 1 : 8;
+			double t = 0;
+			double distance = Double.POSITIVE_INFINITY;
+			for (int i = 0; i <= samples; i++) {
+				double sample = (double) i / samples;
+				double sampleDistance = curve.get(sample).getDistance(p);
+				if (sampleDistance < distance) {
+					t = sample;
+					distance = sampleDistance;
+				}
+			}
+			for (int i = 0; i < 8; i++) {
+				Point c = curve.get(t);
+				Point d = getDerivative().get(t);
+				double dd = d.x * d.x + d.y * d.y;
+				if (dd == 0) {
+					break;
+				}
+				t = Math.max(0, Math.min(1,
+						t + ((p.x - c.x) * d.x + (p.y - c.y) * d.y) / dd));
+			}
+			return t;
+		}
+
+		Edge getReverse() {
+			Point[] points = curve.getPoints();
+			Point[] reversed = new Point[points.length];
+			for (int i = 0; i < points.length; i++) {
+				reversed[i] = points[points.length - 1 - i];
+			}
+			return new Edge(new BezierCurve(reversed), end, start);
+		}
+	}
+
+	/**
+	 * The operation that computes the union.
+	 */
+	static final int ADD = 0;
+
+	/**
+	 * The operation that computes the intersection.
+	 */
+	static final int INTERSECT = 1;
+
+	/**
+	 * The operation that computes the difference.
+	 */
+	static final int SUBTRACT = 2;
+
+	/**
+	 * The operation that computes the symmetric difference.
+	 */
+	static final int EXCLUSIVE_OR = 3;
+
+	/**
+	 * Computes the given operation for the given {@link Path}s.
+	 *
+	 * @param operation
+	 *            The operation to compute, i.e. one of {@link #ADD},
+	 *            {@link #INTERSECT}, {@link #SUBTRACT}, or
+	 *            {@link #EXCLUSIVE_OR}.
+	 * @param pa
+	 *            The first operand.
+	 * @param pb
+	 *            The second operand.
+	 * @return A new {@link Path} representing the result of the operation.
+	 */
+	static Path compute(int operation, Path pa, Path pb) {
+		return new PathBooleanOperation(operation, pa, pb).compute();
+	}
+
+	/**
+	 * Returns the roots of the derivative of the quadratic or cubic Bezier
+	 * polynomial with the given coefficients.
+	 */
+	private static double[] getDerivativeRoots(double... c) {
+		if (c.length == 3) {
+			// the root of (c1 - c0)(1-t) + (c2 - c1)t
+			double a = c[1] - c[0];
+			double b = c[2] - c[1];
+			return a == b ? new double[0] : new double[] { a / (a - b) };
+		}
+		// the roots of a(1-t)^2 + 2bt(1-t) + ct^2
+		double a = c[1] - c[0];
+		double b = c[2] - c[1];
+		double d = c[3] - c[2];
+		double qa = a - 2 * b + d;
+		double qb = 2 * (b - a);
+		if (qa == 0) {
+			return qb == 0 ? new double[0] : new double[] { -a / qb };
+		}
+		double discriminant = qb * qb - 4 * qa * a;
+		if (discriminant < 0) {
+			return new double[0];
+		}
+		double sqrt = Math.sqrt(discriminant);
+		return new double[] { (-qb - sqrt) / (2 * qa),
+				(-qb + sqrt) / (2 * qa) };
+	}
+
+	/**
+	 * Returns the (ascending) parameter values within (0, 1) of the x- and
+	 * y-extrema of the quadratic or cubic curve with the given control points,
+	 * followed by 1.
+	 */
+	private static double[] getExtrema(Point[] controlPoints) {
+		double[] x = new double[controlPoints.length];
+		double[] y = new double[controlPoints.length];
+		for (int i = 0; i < controlPoints.length; i++) {
+			x[i] = controlPoints[i].x;
+			y[i] = controlPoints[i].y;
+		}
+		double[] xRoots = getDerivativeRoots(x);
+		double[] yRoots = getDerivativeRoots(y);
+		double[] extrema = new double[xRoots.length + yRoots.length + 1];
+		int count = 0;
+		for (double[] roots : new double[][] { xRoots, yRoots }) {
+			for (double root : roots) {
+				if (root > 0 && root < 1) {
+					extrema[count++] = root;
+				}
+			}
+		}
+		Arrays.sort(extrema, 0, count);
+		extrema[count++] = 1;
+		return Arrays.copyOf(extrema, count);
+	}
+
+	/**
+	 * Returns the unit vector from the given vertex to the first of the given
+	 * (control) points that differs from it, or <code>null</code> if there is
+	 * none.
+	 */
+	private static Point getDirection(Point vertex, Point[] points) {
+		for (Point p : points) {
+			if (!p.equals(vertex)) {
+				double length = p.getDistance(vertex);
+				return new Point((p.x - vertex.x) / length,
+						(p.y - vertex.y) / length);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the control points of the given {@link Edge}, starting at the
+	 * given (start or end) vertex.
+	 */
+	private static Point[] getPointsFrom(Edge edge, int vertex) {
+		Point[] points = edge.curve.getPoints();
+		if (vertex == edge.start) {
+			return points;
+		}
+		Point[] reversed = new Point[points.length];
+		for (int i = 0; i < points.length; i++) {
+			reversed[i] = points[points.length - 1 - i];
+		}
+		return reversed;
+	}
+
+	private static boolean isCollinear(BezierCurve c1, BezierCurve c2) {
+		if (c1.getPoints().length != 2 || c2.getPoints().length != 2) {
+			return false;
+		}
+		Point p0 = c1.getP1();
+		Point p1 = c1.getP2();
+		Point p2 = c2.getP2();
+		double dx1 = p1.x - p0.x;
+		double dy1 = p1.y - p0.y;
+		double dx2 = p2.x - p1.x;
+		double dy2 = p2.y - p1.y;
+		double cross = dx1 * dy2 - dy1 * dx2;
+		double dot = dx1 * dx2 + dy1 * dy2;
+		return dot > 0 && PrecisionUtils.equal(
+				cross / Math.hypot(dx1, dy1) / Math.hypot(dx2, dy2), 0);
+	}
+
+	private final int operation;
+	private final Path pa;
+	private final Path pb;
+	private final Vertices vertices = new Vertices();
+
+	private PathBooleanOperation(int operation, Path pa, Path pb) {
+		this.operation = operation;
+		this.pa = pa;
+		this.pb = pb;
+	}
+
+	/**
+	 * Appends the {@link Edge}s of the given {@link Path} to the given
+	 * {@link List}, including those that implicitly close the sub-paths.
+	 */
+	private void addEdges(Path path, List<Edge> edges) {
+		Point start = null;
+		Point current = null;
+		for (Segment s : path.getSegments()) {
+			Point[] points = s.getPoints();
+			if (s.getType() == Segment.MOVE_TO) {
+				addEdge(edges, current, start);
+				start = current = points[0];
+			} else if (s.getType() == Segment.CLOSE) {
+				addEdge(edges, current, start);
+				current = start;
+			} else if (current == null) {
+				throw new IllegalStateException(
+						"This Path does not start with a MOVE_TO, therefore, no start position could be determined.");
+			} else {
+				addEdge(edges, current, points);
+				current = points[points.length - 1];
+			}
+		}
+		addEdge(edges, current, start);
+	}
+
+	private void addEdge(List<Edge> edges, Point start, Point... points) {
+		if (start == null || points[0] == null) {
+			return;
+		}
+		Point[] controlPoints = new Point[points.length + 1];
+		controlPoints[0] = start;
+		System.arraycopy(points, 0, controlPoints, 1, points.length);
+		// lines are intersected more efficiently
+		BezierCurve curve = controlPoints.length == 2
+				? new Line(controlPoints[0], controlPoints[1])
+				: new BezierCurve(controlPoints);
+		int startVertex = vertices.getVertex(start);
+		int endVertex = vertices.getVertex(points[points.length - 1]);
+		if (startVertex == endVertex && isDegenerate(curve)) {
+			return;
+		}
+		if (controlPoints.length == 2) {
+			edges.add(new Edge(curve, startVertex, endVertex));
+			return;
+		}
+		// split curves into monotone pieces, so that self-intersections and
+		// self-overlaps are detected as intersections and overlaps of these
+		double t = 0;
+		int vertex = startVertex;
+		Edge previous = null;
+		for (double nextT : getExtrema(controlPoints)) {
+			int nextVertex = nextT == 1 ? endVertex
+					: vertices.getVertex(curve.get(nextT));
+			BezierCurve piece = curve.getClipped(t, nextT);
+			if (nextVertex != vertex || !isDegenerate(piece)) {
+				// monotone pieces of degenerate curves are intersected as lines
+				Edge edge = new Edge(isStraight(piece)
+						? new Line(piece.getP1(), piece.getP2()) : piece,
+						vertex, nextVertex);
+				edge.previous = previous;
+				edges.add(edge);
+				previous = edge;
+			}
+			t = nextT;
+			vertex = nextVertex;
+		}
+	}
+
+	/**
+	 * Orients the given {@link Edge} so that the result lies to its left, or
+	 * returns <code>null</code> if it does not belong to the outline of the
+	 * result.
+	 */
+	private Edge classify(Edge edge) {
+		BezierCurve curve = edge.curve;
+		Point mid = curve.get(0.5);
+		Point tangent = edge.getDerivative().get(0.5);
+		if (PrecisionUtils.equal(tangent.x, 0)
+				&& PrecisionUtils.equal(tangent.y, 0)) {
+			// the derivative vanishes at a cusp
+			tangent = curve.get(0.51).getTranslated(curve.get(0.49).negate());
+		}
+		double length = Math.hypot(tangent.x, tangent.y);
+		if (length == 0) {
+			return null;
+		}
+		// offset the middle by a distance that is well below the tolerance of
+		// the vertices, but well above the precision of its coordinates
+		double distance = Math.max(PrecisionUtils.calculateFraction(1),
+				1024 * Math.ulp(Math.max(Math.abs(mid.x), Math.abs(mid.y))));
+		double nx = -tangent.y / length * distance;
+		double ny = tangent.x / length * distance;
+		boolean left = isInside(new Point(mid.x + nx, mid.y + ny));
+		boolean right = isInside(new Point(mid.x - nx, mid.y - ny));
+		if (left == right) {
+			return null;
+		}
+		return left ? edge : edge.getReverse();
+	}
+
+	private Path compute() {
+		List<Edge> edges = new ArrayList<>();
+		addEdges(pa, edges);
+		addEdges(pb, edges);
+		split(edges);
+
+		// determine the outline of the result, considering coincident edges
+		// only once
+		Map<Long, List<Edge>> edgesByVertices = new HashMap<>();
+		Map<Integer, Deque<Edge>> outgoing = new HashMap<>();
+		List<Edge> outline = new ArrayList<>();
+		for (Edge edge : getPieces(edges)) {
+			long key = (long) Math.min(edge.start, edge.end) << 32
+					| Math.max(edge.start, edge.end);
+			List<Edge> coincident = edgesByVertices.get(key);
+			if (coincident == null) {
+				coincident = new ArrayList<>(1);
+				edgesByVertices.put(key, coincident);
+			} else if (isCoincident(edge, coincident)) {
+				continue;
+			}
+			coincident.add(edge);
+			Edge oriented = classify(edge);
+			if (oriented != null) {
+				outline.add(oriented);
+				Deque<Edge> out = outgoing.get(oriented.start);
+				if (out == null) {
+					out = new ArrayDeque<>(2);
+					outgoing.put(oriented.start, out);
+				}
+				out.add(oriented);
+			}
+		}
+
+		// chain the oriented edges into closed sub-paths
+		Path result = new Path(Path.WIND_NON_ZERO);
+		for (Edge first : outline) {
+			if (!outgoing.get(first.start).remove(first)) {
+				// already chained
+				continue;
+			}
+			List<BezierCurve> loop = new ArrayList<>();
+			Edge edge = first;
+			while (edge != null) {
+				// snap the curve to the vertices
+				BezierCurve curve = edge.curve.getCopy()
+						.setP1(vertices.get(edge.start))
+						.setP2(vertices.get(edge.end));
+				if (!loop.isEmpty()
+						&& isCollinear(loop.get(loop.size() - 1), curve)) {
+					loop.get(loop.size() - 1).setP2(curve.getP2());
+				} else {
+					loop.add(curve);
+				}
+				Deque<Edge> out = outgoing.get(edge.end);
+				edge = edge.end == first.start || out == null ? null
+						: out.poll();
+			}
+			if (loop.size() > 1
+					&& isCollinear(loop.get(loop.size() - 1), loop.get(0))) {
+				loop.get(0).setP1(loop.remove(loop.size() - 1).getP1());
+			}
+			result.moveTo(loop.get(0).getX1(), loop.get(0).getY1());
+			for (int i = 0; i < loop.size(); i++) {
+				Point[] points = loop.get(i).getPoints();
+				if (points.length == 2) {
+					if (i == loop.size() - 1) {
+						// the closing line is implied by close()
+						break;
+					}
+					result.lineTo(points[1].x, points[1].y);
+				} else if (points.length == 3) {
+					result.quadTo(points[1].x, points[1].y, points[2].x,
+							points[2].y);
+				} else {
+					result.cubicTo(points[1].x, points[1].y, points[2].x,
+							points[2].y, points[3].x, points[3].y);
+				}
+			}
+			result.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the pieces into which the given {@link Edge}s are split.
+	 */
+	private List<Edge> getPieces(List<Edge> edges) {
+		List<Edge> pieces = new ArrayList<>();
+		for (Edge edge : edges) {
+			if (edge.splits.isEmpty()) {
+				pieces.add(edge);
+				continue;
+			}
+			Collections.sort(edge.splits, new Comparator<double[]>() {
+				@Override
+				public int compare(double[] s1, double[] s2) {
+					return Double.compare(s1[0], s2[0]);
+				}
+			});
+			double t = 0;
+			int vertex = edge.start;
+			for (int i = 0; i <= edge.splits.size(); i++) {
+				double nextT = i < edge.splits.size() ? edge.splits.get(i)[0]
+						: 1;
+				int nextVertex = i < edge.splits.size()
+						? (int) edge.splits.get(i)[1] : edge.end;
+				// distinct vertices at the same parameter value (which may be
+				// clamped to the end of the edge) are connected by a line
+				BezierCurve piece = nextT > t ? edge.curve.getClipped(t, nextT)
+						: new Line(vertices.get(vertex),
+								vertices.get(nextVertex));
+				if (nextVertex != vertex || !isDegenerate(piece)) {
+					pieces.add(new Edge(piece, vertex, nextVertex));
+				}
+				t = nextT;
+				vertex = nextVertex;
+			}
+		}
+		return pieces;
+	}
+
+	private boolean isCoincident(Edge edge, List<Edge> edges) {
+		Point mid = edge.curve.get(0.5);
+		for (Edge e : edges) {
+			if (e.curve.get(0.5).equals(mid)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isDegenerate(BezierCurve curve) {
+		Point p1 = curve.getP1();
+		for (Point p : curve.getPoints()) {
+			if (!p.equals(p1)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the first {@link Edge} is a line and all control points of
+	 * the second {@link Edge} (except for an end point that is a common vertex)
+	 * lie strictly on one side of it, so that they do not intersect (except
+	 * for their common vertex).
+	 */
+	private boolean isSeparated(Edge line, Edge edge) {
+		if (!(line.curve instanceof Line)) {
+			return false;
+		}
+		Point p1 = line.curve.getP1();
+		Point p2 = line.curve.getP2();
+		double dx = p2.x - p1.x;
+		double dy = p2.y - p1.y;
+		double length = Math.hypot(dx, dy);
+		if (length == 0) {
+			return false;
+		}
+		Point[] points = edge.curve.getPoints();
+		int first = edge.start == line.start || edge.start == line.end ? 1
+				: 0;
+		int last = edge.end == line.start || edge.end == line.end
+				? points.length - 2 : points.length - 1;
+		double tolerance = PrecisionUtils.calculateFraction(0);
+		int side = 0;
+		for (int i = first; i <= last; i++) {
+			double distance = (dx * (points[i].y - p1.y)
+					- dy * (points[i].x - p1.x)) / length;
+			int pointSide = distance > tolerance ? 1
+					: distance < -tolerance ? -1 : 0;
+			if (pointSide == 0 || side != 0 && pointSide != side) {
+				return false;
+			}
+			side = pointSide;
+		}
+		return side != 0;
+	}
+
+	/**
+	 * Tests whether the given {@link Edge}s have exactly one common vertex,
+	 * and whether the control points of the first (except for the common
+	 * vertex) lie strictly before it, and those of the second strictly behind
+	 * it, w.r.t. the difference of the directions in which they leave it, so
+	 * that they do not intersect (except for their common vertex).
+	 */
+	private boolean isSeparatedAtVertex(Edge e1, Edge e2) {
+		boolean start = e1.start == e2.start || e1.start == e2.end;
+		boolean end = e1.end == e2.start || e1.end == e2.end;
+		if (start == end) {
+			return false;
+		}
+		int vertex = start ? e1.start : e1.end;
+		Point[] points1 = getPointsFrom(e1, vertex);
+		Point[] points2 = getPointsFrom(e2, vertex);
+		Point v = vertices.get(vertex);
+		Point d1 = getDirection(v, points1);
+		Point d2 = getDirection(v, points2);
+		if (d1 == null || d2 == null) {
+			return false;
+		}
+		double dx = d2.x - d1.x;
+		double dy = d2.y - d1.y;
+		double length = Math.hypot(dx, dy);
+		if (PrecisionUtils.equal(length, 0)) {
+			return false;
+		}
+		double tolerance = PrecisionUtils.calculateFraction(0);
+		for (int i = 1; i < points1.length; i++) {
+			if ((points1[i].x - v.x) * dx
+					+ (points1[i].y - v.y) * dy >= -tolerance * length) {
+				return false;
+			}
+		}
+		for (int i = 1; i < points2.length; i++) {
+			if ((points2[i].x - v.x) * dx
+					+ (points2[i].y - v.y) * dy <= tolerance * length) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether all control points of the given {@link BezierCurve} lie on
+	 * the line through its end points.
+	 */
+	private boolean isStraight(BezierCurve curve) {
+		Line chord = new Line(curve.getP1(), curve.getP2());
+		for (Point p : curve.getPoints()) {
+			if (!chord.contains(p)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the given {@link Point} lies within the result.
+	 */
+	private boolean isInside(Point p) {
+		boolean a = pa.contains(p);
+		boolean b = pb.contains(p);
+		switch (operation) {
+		case ADD:
+			return a || b;
+		case INTERSECT:
+			return a && b;
+		case SUBTRACT:
+			return a && !b;
+		case EXCLUSIVE_OR:
+			return a != b;
+		default:
+			throw new IllegalArgumentException(
+					"Unknown operation <" + operation + ">.");
+		}
+	}
+
+	/**
+	 * Determines the points at which the given {@link Edge}s (of both
+	 * {@link Path}s) intersect each other, and records them as splits of the
+	 * respective {@link Edge}s.
+	 */
+	private void split(List<Edge> edges) {
+		// sweep along the x-axis, so that only edges with overlapping control
+		// bounds are intersected
+		List<Edge> sorted = new ArrayList<>(edges);
+		Collections.sort(sorted, new Comparator<Edge>() {
+			@Override
+			public int compare(Edge e1, Edge e2) {
+				return Double.compare(e1.bounds.getX(), e2.bounds.getX());
+			}
+		});
+		double tolerance = PrecisionUtils.calculateFraction(0);
+		for (int i = 0; i < sorted.size(); i++) {
+			Edge e1 = sorted.get(i);
+			Rectangle b1 = e1.bounds.getExpanded(tolerance, tolerance);
+			for (int j = i + 1; j < sorted.size(); j++) {
+				Edge e2 = sorted.get(j);
+				if (e2.bounds.getX() > b1.getX() + b1.getWidth()) {
+					break;
+				}
+				if (!b1.touches(e2.bounds) || e1.previous == e2
+						|| e2.previous == e1 || isSeparated(e1, e2)
+						|| isSeparated(e2, e1) || isSeparatedAtVertex(e1, e2)) {
+					continue;
+				}
+				for (Point p : e1.curve.getIntersections(e2.curve)) {
+					splitAtIntersection(e1, e2, p);
+				}
+				if (!(e1.curve instanceof Line && e2.curve instanceof Line)) {
+					// the intersections of curves are not determined
+					// symmetrically, so that some are only found in one
+					// direction
+					for (Point p : e2.curve.getIntersections(e1.curve)) {
+						splitAtIntersection(e1, e2, p);
+					}
+				}
+				// the end points of overlapping edges are not reported as
+				// intersections
+				splitAtEndPoint(e1, e2.start);
+				splitAtEndPoint(e1, e2.end);
+				splitAtEndPoint(e2, e1.start);
+				splitAtEndPoint(e2, e1.end);
+			}
+		}
+	}
+
+	private void splitAtEndPoint(Edge edge, int vertex) {
+		Point p = vertices.get(vertex);
+		if (vertex != edge.start && vertex != edge.end
+				&& edge.bounds.getExpanded(PrecisionUtils.calculateFraction(0),
+						PrecisionUtils.calculateFraction(0)).contains(p)
+				&& edge.curve.contains(p)) {
+			edge.addSplit(edge.getParameter(p), vertex);
+		}
+	}
+
+	/**
+	 * Splits the given {@link Edge}s at the given (approximate) point of
+	 * intersection, which is refined by Newton iterations on both curves, so
+	 * that the different approximations of an intersection are identified
+	 * with the same vertex.
+	 */
+	private void splitAtIntersection(Edge e1, Edge e2, Point p) {
+		double t1 = e1.getParameter(p);
+		double t2 = e2.getParameter(p);
+		Point c1 = e1.curve.get(t1);
+		Point c2 = e2.curve.get(t2);
+		for (int i = 0; i < 8; i++) {
+			// solve c1 + d1 * dt1 = c2 + d2 * dt2
+			Point d1 = e1.getDerivative().get(t1);
+			Point d2 = e2.getDerivative().get(t2);
+			double determinant = d2.x * d1.y - d1.x * d2.y;
+			if (determinant == 0) {
+				break;
+			}
+			double dx = c2.x - c1.x;
+			double dy = c2.y - c1.y;
+			double nextT1 = t1 + (d2.x * dy - d2.y * dx) / determinant;
+			double nextT2 = t2 + (d1.x * dy - d1.y * dx) / determinant;
+			if (!(nextT1 >= 0 && nextT1 <= 1 && nextT2 >= 0 && nextT2 <= 1)) {
+				// diverged (or the tangents are almost parallel)
+				break;
+			}
+			Point nextC1 = e1.curve.get(nextT1);
+			Point nextC2 = e2.curve.get(nextT2);
+			if (nextC1.getDistance(nextC2) >= c1.getDistance(c2)) {
+				// no further convergence
+				break;
+			}
+			t1 = nextT1;
+			t2 = nextT2;
+			c1 = nextC1;
+			c2 = nextC2;
+		}
+		int vertex = vertices.getVertex(c1);
+		e1.addSplit(t1, vertex);
+		e2.addSplit(t2, vertex);
+	}
+
+}
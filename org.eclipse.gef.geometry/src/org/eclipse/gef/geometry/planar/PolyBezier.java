@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
  * A {@link PolyBezier} is an {@link ICurve} which consists of one or more
@@ -356,6 +357,19 @@ public class PolyBezier extends AbstractGeometry
 		return getCopy().translate(d.x, d.y);
 	}
 
+	/**
+	 * Returns the {@link BezierCurve} segments of this {@link PolyBezier}
+	 * without copying them (as opposed to {@link #toBezier()}), so that they
+	 * can be processed efficiently within this package. The returned segments
+	 * may not be modified.
+	 *
+	 * @return The (uncopied) {@link BezierCurve} segments of this
+	 *         {@link PolyBezier}.
+	 */
+	BezierCurve[] getSegments() {
+		return beziers;
+	}
+
 	@Override
 	public double getX1() {
 		return getP1().x;
@@ -542,6 +556,47 @@ public class PolyBezier extends AbstractGeometry
 		return CurveUtils.toPath(beziers);
 	}
 
+	/**
+	 * Computes an approximation of this {@link PolyBezier} by a
+	 * {@link Polyline}, which deviates from this {@link PolyBezier} by at most
+	 * the given tolerance. The approximations of the individual
+	 * {@link BezierCurve}s are cached by them (see
+	 * {@link BezierCurve#toPolyline(double)}), so that only those segments
+	 * that have been modified since the last call are re-computed.
+	 *
+	 * @param tolerance
+	 *            the maximum distance of the {@link Polyline} to this
+	 *            {@link PolyBezier}, which has to be positive
+	 * @return a {@link Polyline} approximating this {@link PolyBezier}
+	 */
+	public Polyline toPolyline(double tolerance) {
+		if (beziers.length == 1) {
+			return beziers[0].toPolyline(tolerance);
+		}
+		Polyline[] parts = new Polyline[beziers.length];
+		int length = 0;
+		for (int i = 0; i < beziers.length; i++) {
+			parts[i] = beziers[i].toPolyline(tolerance);
+			length += parts[i].coordinates.length;
+		}
+		double[] coordinates = new double[length];
+		int size = 0;
+		for (Polyline part : parts) {
+			double[] partCoordinates = part.coordinates;
+			// skip the start point of a part if it equals the end point of
+			// its predecessor (which is the case for connected segments)
+			int start = size > 0
+					&& PrecisionUtils.equal(coordinates[size - 2],
+							partCoordinates[0])
+					&& PrecisionUtils.equal(coordinates[size - 1],
+							partCoordinates[1]) ? 2 : 0;
+			System.arraycopy(partCoordinates, start, coordinates, size,
+					partCoordinates.length - start);
+			size += partCoordinates.length - start;
+		}
+		return new Polyline(Arrays.copyOf(coordinates, size));
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer str = new StringBuffer();
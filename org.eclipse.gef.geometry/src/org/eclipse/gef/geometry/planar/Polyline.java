@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
-import java.util.Arrays;
 
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
@@ -93,10 +92,9 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public boolean contains(Point p) {
-		for (int i = 0; i + 1 < points.length; i++) {
-			Point p1 = points[i];
-			Point p2 = points[i + 1];
-			if (new Line(p1, p2).contains(p)) {
+		for (int i = 0; i + 1 < getPointCount(); i++) {
+			if (new Line(getX(i), getY(i), getX(i + 1), getY(i + 1))
+					.contains(p)) {
 				return true;
 			}
 		}
@@ -128,16 +126,28 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         via the array of points are regarded to form the same segments
 	 */
 	public boolean equals(Point... points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
-		return Arrays.equals(this.points, points)
-				|| Arrays.equals(this.points, Point.getReverseCopy(points));
+		boolean equal = true;
+		for (int i = 0; equal && i < points.length; i++) {
+			equal = points[i].equals(getX(i), getY(i));
+		}
+		if (equal) {
+			return true;
+		}
+		// a polyline is equal to its reverse
+		for (int i = 0; i < points.length; i++) {
+			if (!points[points.length - 1 - i].equals(getX(i), getY(i))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public Polyline getCopy() {
-		return new Polyline(getPoints());
+		return new Polyline(coordinates);
 	}
 
 	/**
@@ -149,7 +159,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         this {@link Polyline}
 	 */
 	public Line[] getCurves() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return PointListUtils.toSegmentsArray(coordinates, false);
 	}
 
 	@Override
@@ -180,12 +190,12 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Point getP1() {
-		return points[0].getCopy();
+		return getPoint(0);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].getCopy();
+		return getPoint(getPointCount() - 1);
 	}
 
 	@Override
@@ -205,27 +215,27 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Polyline getTransformed(AffineTransform t) {
-		return new Polyline(t.getTransformed(points));
+		return getCopy().transform(t);
 	}
 
 	@Override
 	public double getX1() {
-		return getP1().x;
+		return getX(0);
 	}
 
 	@Override
 	public double getX2() {
-		return getP2().x;
+		return getX(getPointCount() - 1);
 	}
 
 	@Override
 	public double getY1() {
-		return getP1().y;
+		return getY(0);
 	}
 
 	@Override
 	public double getY2() {
-		return getP2().y;
+		return getY(getPointCount() - 1);
 	}
 
 	@Override
@@ -240,16 +250,16 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Line[] toBezier() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return PointListUtils.toSegmentsArray(coordinates, false);
 	}
 
 	@Override
 	public Path toPath() {
 		Path path = new Path();
-		if (points.length > 0) {
-			path.moveTo(points[0].x, points[0].y);
-			for (int i = 1; i < points.length; i++) {
-				path.lineTo(points[i].x, points[i].y);
+		if (getPointCount() > 0) {
+			path.moveTo(getX(0), getY(0));
+			for (int i = 1; i < getPointCount(); i++) {
+				path.lineTo(getX(i), getY(i));
 			}
 		}
 		return path;
@@ -261,18 +271,17 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 * @return a {@link PolyBezier} representing this {@link Polyline}
 	 */
 	public PolyBezier toPolyBezier() {
-		Line[] segments = PointListUtils.toSegmentsArray(points, false);
+		Line[] segments = PointListUtils.toSegmentsArray(coordinates, false);
 		return new PolyBezier(segments);
 	}
 
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polyline: ");
-		if (points.length > 0) {
-			for (int i = 0; i < points.length; i++) {
-				stringBuffer
-						.append("(" + points[i].x + ", " + points[i].y + ")");
-				if (i < points.length - 1) {
+		if (getPointCount() > 0) {
+			for (int i = 0; i < getPointCount(); i++) {
+				stringBuffer.append("(" + getX(i) + ", " + getY(i) + ")");
+				if (i < getPointCount() - 1) {
 					stringBuffer.append(" -> ");
 				}
 			}
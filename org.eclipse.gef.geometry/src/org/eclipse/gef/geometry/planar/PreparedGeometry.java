@@ -0,0 +1,548 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.BezierCurve.IntervalPair;
+
+/**
+ * A {@link PreparedGeometry} wraps an {@link IGeometry} and pre-computes
+ * acceleration structures, so that repeated containment tests against the
+ * same {@link IGeometry} (as performed when snapping, marquee selecting, or
+ * hit-testing) do not have to re-derive its outline from scratch.
+ * <p>
+ * For {@link Polygon}s and {@link IMultiShape}s (e.g. {@link Ring} and
+ * {@link Region}), the outline segments (and the sub-shapes of an
+ * {@link IMultiShape}) are distributed into horizontal bands, so that a
+ * containment test only has to consider those segments (or sub-shapes) that
+ * lie within the same band(s) as the tested {@link Point} or curve. The
+ * results are the same as those of the {@link IGeometry}'s own containment
+ * tests. For a {@link Path}, {@link Point}s and {@link Rectangle}s are tested
+ * via its (cached) prepared representation (see {@link Path#contains(Point)}
+ * and {@link Path#contains(Rectangle)}), while the outline segments are
+ * indexed as well, so that curves can be tested against them. For all other
+ * {@link IGeometry}s, the containment tests are delegated to the
+ * {@link IGeometry}.
+ * <p>
+ * As the {@link IGeometry} is copied upon construction, later changes to the
+ * passed-in {@link IGeometry} are not reflected.
+ *
+ * @author agent
+ *
+ */
+public class PreparedGeometry {
+
+	/**
+	 * Distributes items (given by their bounds) into horizontal bands of equal
+	 * height.
+	 */
+	private static final class BandIndex {
+
+		private final double minY;
+		private final double bandHeight;
+		private final int bandCount;
+		private final int[] offsets;
+		private final int[] items;
+
+		public BandIndex(double[] bounds) {
+			int itemCount = bounds.length / 4;
+			double minY = Double.POSITIVE_INFINITY;
+			double maxY = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < itemCount; i++) {
+				minY = Math.min(minY, bounds[4 * i + 1]);
+				maxY = Math.max(maxY, bounds[4 * i + 3]);
+			}
+			this.minY = minY - TOLERANCE;
+			double height = maxY - minY + 2 * TOLERANCE;
+
+			// start with one band per item and halve the number of bands as
+			// long as the items span too many bands
+			int bandCount = Math.max(1, itemCount);
+			while (bandCount > 1 && getEntryCount(bounds, this.minY,
+					height / bandCount, bandCount) > 4 * itemCount) {
+				bandCount /= 2;
+			}
+			this.bandCount = bandCount;
+			this.bandHeight = height / bandCount;
+
+			// register each item within all bands it spans
+			offsets = new int[bandCount + 1];
+			for (int i = 0; i < itemCount; i++) {
+				for (int b = getFirstBand(bounds, i); b <= getLastBand(bounds,
+						i); b++) {
+					offsets[b + 1]++;
+				}
+			}
+			for (int b = 0; b < bandCount; b++) {
+				offsets[b + 1] += offsets[b];
+			}
+			items = new int[offsets[bandCount]];
+			int[] next = Arrays.copyOf(offsets, bandCount);
+			for (int i = 0; i < itemCount; i++) {
+				for (int b = getFirstBand(bounds, i); b <= getLastBand(bounds,
+						i); b++) {
+					items[next[b]++] = i;
+				}
+			}
+		}
+
+		private int getEntryCount(double[] bounds, double minY,
+				double bandHeight, int bandCount) {
+			int count = 0;
+			for (int i = 0; i < bounds.length / 4; i++) {
+				count += getBand(bounds[4 * i + 3] + TOLERANCE, minY,
+						bandHeight, bandCount)
+						- getBand(bounds[4 * i + 1] - TOLERANCE, minY,
+								bandHeight, bandCount)
+						+ 1;
+			}
+			return count;
+		}
+
+		public int getBand(double y) {
+			return getBand(y, minY, bandHeight, bandCount);
+		}
+
+		private int getBand(double y, double minY, double bandHeight,
+				int bandCount) {
+			int band = (int) Math.floor((y - minY) / bandHeight);
+			return Math.max(0, Math.min(bandCount - 1, band));
+		}
+
+		public int getEnd(int band) {
+			return offsets[band + 1];
+		}
+
+		public int getFirstBand(double[] bounds, int item) {
+			return getBand(bounds[4 * item + 1] - TOLERANCE);
+		}
+
+		public int getItem(int index) {
+			return items[index];
+		}
+
+		public int getLastBand(double[] bounds, int item) {
+			return getBand(bounds[4 * item + 3] + TOLERANCE);
+		}
+
+		public int getStart(int band) {
+			return offsets[band];
+		}
+	}
+
+	/**
+	 * The tolerance that is used when selecting the candidates for a
+	 * containment test. It is larger than the one used by the containment
+	 * tests themselves, so that no candidates are missed.
+	 */
+	private static final double TOLERANCE = PrecisionUtils
+			.calculateFraction(-2);
+
+	private static double[] getBounds(IGeometry[] geometries) {
+		double[] bounds = new double[4 * geometries.length];
+		for (int i = 0; i < geometries.length; i++) {
+			Rectangle r = geometries[i] instanceof BezierCurve
+					? ((BezierCurve) geometries[i]).getControlBounds()
+					: geometries[i].getBounds();
+			bounds[4 * i] = r.getX();
+			bounds[4 * i + 1] = r.getY();
+			bounds[4 * i + 2] = r.getX() + r.getWidth();
+			bounds[4 * i + 3] = r.getY() + r.getHeight();
+		}
+		return bounds;
+	}
+
+	private static Double[] getSorted(Set<Double> params) {
+		Double[] sorted = params.toArray(new Double[] {});
+		Arrays.sort(sorted, new Comparator<Double>() {
+			@Override
+			public int compare(Double t, Double u) {
+				double d = t - u;
+				return d < 0 ? -1 : d > 0 ? 1 : 0;
+			}
+		});
+		return sorted;
+	}
+
+	private static BezierCurve[] toBezier(List<ICurve> curves) {
+		List<BezierCurve> beziers = new ArrayList<>();
+		for (ICurve curve : curves) {
+			beziers.addAll(Arrays.asList(curve.toBezier()));
+		}
+		return beziers.toArray(new BezierCurve[] {});
+	}
+
+	private final IGeometry geometry;
+	private boolean isPolygon;
+	private Rectangle bounds;
+
+	// the outline segments of a polygon, multi-shape, or path
+	private BezierCurve[] outline;
+	private double[] outlineBounds;
+	private BandIndex outlineIndex;
+
+	// the sub-shapes of a multi-shape
+	private IShape[] shapes;
+	private double[] shapeBounds;
+	private BandIndex shapeIndex;
+
+	/**
+	 * Creates a new {@link PreparedGeometry} for (a copy of) the given
+	 * {@link IGeometry}.
+	 *
+	 * @param geometry
+	 *            The {@link IGeometry} to prepare.
+	 */
+	public PreparedGeometry(IGeometry geometry) {
+		this.geometry = geometry.getCopy();
+		if (this.geometry instanceof Polygon
+				&& ((Polygon) this.geometry).getPoints().length > 2) {
+			Polygon polygon = (Polygon) this.geometry;
+			isPolygon = true;
+			bounds = polygon.getBounds();
+			outline = polygon.getOutlineSegments();
+		} else if (this.geometry instanceof Path) {
+			outline = toBezier(((Path) this.geometry).getOutlines());
+		} else if (this.geometry instanceof IMultiShape) {
+			IMultiShape multiShape = (IMultiShape) this.geometry;
+			shapes = multiShape.getShapes();
+			shapeBounds = getBounds(shapes);
+			if (shapes.length > 0) {
+				shapeIndex = new BandIndex(shapeBounds);
+			}
+			outline = toBezier(
+					Arrays.asList(multiShape.getOutlineSegments()));
+		}
+		if (outline != null && outline.length > 0) {
+			outlineBounds = getBounds(outline);
+			outlineIndex = new BandIndex(outlineBounds);
+		}
+	}
+
+	/**
+	 * Collects the parameters (with regard to the given {@link BezierCurve})
+	 * of the intersections between the given {@link BezierCurve} and those
+	 * outline segments whose control bounds overlap with it. If the given
+	 * {@link BezierCurve} is a {@link Line} that is tested against the outline
+	 * of a {@link Polygon}, the intersections are computed as in
+	 * {@link Polygon#contains(Line)}, otherwise as in
+	 * {@link ShapeUtils#contains(IShape, BezierCurve)} or
+	 * {@link ShapeUtils#contains(IMultiShape, BezierCurve)} (where overlaps are
+	 * included).
+	 */
+	private Set<Double> collectIntersectionParameters(BezierCurve c,
+			boolean isLineTest, boolean includeOverlaps) {
+		Set<Double> intersectionParams = new HashSet<>();
+		if (outlineIndex == null) {
+			return intersectionParams;
+		}
+		Rectangle cBounds = c.getControlBounds();
+		double minX = cBounds.getX() - TOLERANCE;
+		double minY = cBounds.getY() - TOLERANCE;
+		double maxX = cBounds.getX() + cBounds.getWidth() + TOLERANCE;
+		double maxY = cBounds.getY() + cBounds.getHeight() + TOLERANCE;
+		int firstBand = outlineIndex.getBand(minY);
+		int lastBand = outlineIndex.getBand(maxY);
+		for (int b = firstBand; b <= lastBand; b++) {
+			for (int k = outlineIndex.getStart(b); k < outlineIndex
+					.getEnd(b); k++) {
+				int i = outlineIndex.getItem(k);
+				// process each segment only within the first band in which it
+				// is encountered
+				if (Math.max(firstBand,
+						outlineIndex.getFirstBand(outlineBounds, i)) != b
+						|| outlineBounds[4 * i] > maxX
+						|| outlineBounds[4 * i + 1] > maxY
+						|| outlineBounds[4 * i + 2] < minX
+						|| outlineBounds[4 * i + 3] < minY) {
+					continue;
+				}
+				if (isLineTest) {
+					Point poi = ((Line) outline[i]).getIntersection((Line) c);
+					if (poi != null) {
+						intersectionParams.add(c.getParameterAt(poi));
+					}
+				} else {
+					Set<Point> inters = new HashSet<>();
+					Set<IntervalPair> ips = c
+							.getIntersectionIntervalPairs(outline[i], inters);
+					if (includeOverlaps) {
+						for (IntervalPair ip : ips) {
+							intersectionParams.add(ip.p == c ? ip.pi.getMid()
+									: ip.qi.getMid());
+						}
+					}
+					for (Point poi : inters) {
+						intersectionParams.add(c.getParameterAt(poi));
+					}
+				}
+			}
+		}
+		return intersectionParams;
+	}
+
+	/**
+	 * Tests whether the given {@link BezierCurve} is fully contained, using
+	 * the same approach as {@link Polygon#contains(Line)} and
+	 * {@link ShapeUtils#contains(IShape, BezierCurve)}.
+	 */
+	private boolean contains(BezierCurve c, boolean isLineTest,
+			boolean includeOverlaps) {
+		if (!contains(c.getP1()) || !contains(c.getP2())) {
+			return false;
+		}
+		Set<Double> intersectionParams = collectIntersectionParameters(c,
+				isLineTest, includeOverlaps);
+		if (intersectionParams.size() <= 1) {
+			return true;
+		}
+
+		// check the points between the intersections for containment
+		Double[] poiParams = getSorted(intersectionParams);
+		if (!contains(c.get(poiParams[0] / 2))) {
+			return false;
+		}
+		for (int i = 0; i < poiParams.length - 1; i++) {
+			if (!contains(c.get((poiParams[i] + poiParams[i + 1]) / 2))) {
+				return false;
+			}
+		}
+		return contains(c.get((poiParams[poiParams.length - 1] + 1) / 2));
+	}
+
+	/**
+	 * Tests whether the given {@link IGeometry} is fully contained by the
+	 * prepared {@link IGeometry}. The result is the same as that of
+	 * {@link IShape#contains(IGeometry)} or
+	 * {@link IMultiShape#contains(IGeometry)}, respectively, where a
+	 * {@link Path} is tested via its outline segments. A {@link Path}
+	 * contains a {@link Rectangle} as determined by
+	 * {@link Path#contains(Rectangle)}, and any other {@link IGeometry} if
+	 * its outline segments are contained (as tested for an
+	 * {@link IMultiShape}). An {@link ICurve} only contains other
+	 * {@link ICurve}s, each of whose {@link BezierCurve}s has to be contained
+	 * by one of its {@link BezierCurve}s (see
+	 * {@link BezierCurve#contains(BezierCurve)}).
+	 *
+	 * @param g
+	 *            The {@link IGeometry} to test.
+	 * @return <code>true</code> if the given {@link IGeometry} is contained,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean contains(IGeometry g) {
+		if (geometry instanceof ICurve) {
+			return containsInCurve(g);
+		} else if (geometry instanceof Path && g instanceof Rectangle) {
+			return ((Path) geometry).contains((Rectangle) g);
+		} else if (outline == null) {
+			if (g instanceof Path) {
+				// shapes do not support paths, so their outlines are tested
+				for (ICurve curve : ((Path) g).getOutlines()) {
+					if (!contains(curve)) {
+						return false;
+					}
+				}
+				return true;
+			} else if (geometry instanceof IShape) {
+				return ((IShape) geometry).contains(g);
+			}
+			return ((IMultiShape) geometry).contains(g);
+		}
+
+		// a polygon tests lines (and line-based geometries) via the
+		// intersections of lines (see Polygon#contains(IGeometry)), all other
+		// geometries are tested via their Bezier curves (see ShapeUtils)
+		Line[] lines = null;
+		if (isPolygon) {
+			if (g instanceof Line) {
+				lines = new Line[] { (Line) g };
+			} else if (g instanceof Polygon) {
+				lines = ((Polygon) g).getOutlineSegments();
+			} else if (g instanceof Polyline) {
+				lines = ((Polyline) g).getCurves();
+			} else if (g instanceof Rectangle) {
+				lines = ((Rectangle) g).toPolygon().getOutlineSegments();
+			}
+		}
+		if (lines != null) {
+			for (Line line : lines) {
+				if (!contains(line, true, false)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		List<ICurve> curves = new ArrayList<>();
+		if (g instanceof ICurve) {
+			curves.add((ICurve) g);
+		} else if (g instanceof IShape) {
+			curves.addAll(Arrays.asList(((IShape) g).getOutlineSegments()));
+		} else if (g instanceof IMultiShape) {
+			for (IShape shape : ((IMultiShape) g).getShapes()) {
+				curves.addAll(Arrays.asList(shape.getOutlineSegments()));
+			}
+		} else if (g instanceof Path) {
+			curves.addAll(((Path) g).getOutlines());
+		}
+		for (ICurve curve : curves) {
+			for (BezierCurve c : curve.toBezier()) {
+				if (!contains(c, false, !isPolygon)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the given {@link Point} is contained by the prepared
+	 * {@link IGeometry}. The result is the same as that of
+	 * {@link IGeometry#contains(Point)}.
+	 *
+	 * @param p
+	 *            The {@link Point} to test.
+	 * @return <code>true</code> if the {@link Point} is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(Point p) {
+		if (shapes != null) {
+			return containsInShapes(p);
+		} else if (isPolygon) {
+			return containsInPolygon(p);
+		}
+		return geometry.contains(p);
+	}
+
+	/**
+	 * Tests whether the given {@link IGeometry} is contained by the prepared
+	 * {@link ICurve}, i.e. whether it is an {@link ICurve} whose
+	 * {@link BezierCurve}s are each contained by one of the
+	 * {@link BezierCurve}s of the prepared {@link ICurve}.
+	 */
+	private boolean containsInCurve(IGeometry g) {
+		if (!(g instanceof ICurve)) {
+			return false;
+		}
+		BezierCurve[] curves = ((ICurve) geometry).toBezier();
+		for (BezierCurve c : ((ICurve) g).toBezier()) {
+			boolean isContained = false;
+			for (BezierCurve curve : curves) {
+				if (curve.contains(c)) {
+					isContained = true;
+					break;
+				}
+			}
+			if (!isContained) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Tests whether the given {@link Point} is contained by the prepared
+	 * {@link Polygon}, using the same approach as
+	 * {@link Polygon#contains(Point)}, restricted to the outline segments
+	 * within the band of the {@link Point}.
+	 */
+	private boolean containsInPolygon(Point p) {
+		if (!bounds.contains(p)) {
+			return false;
+		}
+		Line testLine = new Line(p,
+				new Point(p.x + bounds.getWidth() + 1, p.y));
+		boolean odd = false;
+		int band = outlineIndex.getBand(p.y);
+		for (int k = outlineIndex.getStart(band); k < outlineIndex
+				.getEnd(band); k++) {
+			int i = outlineIndex.getItem(k);
+			if (outlineBounds[4 * i + 1] - TOLERANCE > p.y
+					|| outlineBounds[4 * i + 3] + TOLERANCE < p.y
+					|| outlineBounds[4 * i + 2] + TOLERANCE < p.x) {
+				// neither contains the point nor crosses the test line
+				continue;
+			}
+			Line segment = (Line) outline[i];
+			Point p1 = segment.getP1();
+			Point p2 = segment.getP2();
+
+			// check whether the point is located on the current side
+			if (p1.equals(p2)) {
+				if (p1.equals(p)) {
+					return true;
+				}
+				continue;
+			}
+			if (segment.contains(p)) {
+				return true;
+			}
+
+			// count vertices on the test line only once (see
+			// Polygon#contains(Point))
+			boolean p1contained = testLine.contains(p1);
+			boolean p2contained = testLine.contains(p2);
+			if (p1contained || p2contained) {
+				if (p1contained && p1.y > p2.y) {
+					odd = !odd;
+				}
+				if (p2contained && p2.y > p1.y) {
+					odd = !odd;
+				}
+				continue;
+			}
+
+			Point poi = testLine.getIntersection(segment);
+			if (poi != null && poi.x >= p.x) {
+				odd = !odd;
+			}
+		}
+		return odd;
+	}
+
+	private boolean containsInShapes(Point p) {
+		if (shapeIndex == null) {
+			return false;
+		}
+		int band = shapeIndex.getBand(p.y);
+		for (int k = shapeIndex.getStart(band); k < shapeIndex
+				.getEnd(band); k++) {
+			int i = shapeIndex.getItem(k);
+			if (shapeBounds[4 * i] - TOLERANCE <= p.x
+					&& shapeBounds[4 * i + 2] + TOLERANCE >= p.x
+					&& shapeBounds[4 * i + 1] - TOLERANCE <= p.y
+					&& shapeBounds[4 * i + 3] + TOLERANCE >= p.y
+					&& shapes[i].contains(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a copy of the prepared {@link IGeometry}.
+	 *
+	 * @return A copy of the prepared {@link IGeometry}.
+	 */
+	public IGeometry getGeometry() {
+		return geometry.getCopy();
+	}
+
+}
@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * A {@link PreparedPath} is a representation of the {@link Segment}s of a
+ * {@link Path} that is optimized for repeated containment and intersection
+ * tests. The control points of all (linear, quadratic, and cubic) segments,
+ * including those that implicitly close the sub-paths, are stored in a single
+ * coordinate array, together with their control bounds.
+ * <p>
+ * Containment is determined by counting the (directed) crossings of a
+ * horizontal ray with the segments, where curved segments are subdivided only
+ * in the vicinity of the ray. The results are the same as for
+ * {@link java.awt.geom.Path2D}, i.e. a point on the left or upper border of the
+ * {@link Path} is regarded to be contained, while a point on the right or lower
+ * border is not.
+ *
+ * @author agent
+ *
+ */
+final class PreparedPath {
+
+	// the maximum number of subdivisions, after which a curve is regarded to
+	// be linear
+	private static final int MAX_SUBDIVISION_LEVEL = 52;
+
+	private static boolean isInside(double x, double y, double minX,
+			double minY, double maxX, double maxY) {
+		return x > minX && x < maxX && y > minY && y < maxY;
+	}
+
+	private static boolean lineIntersectsInterior(double x0, double y0,
+			double x1, double y1, double minX, double minY, double maxX,
+			double maxY) {
+		// clip the line against the rectangle (Liang-Barsky)
+		double dx = x1 - x0;
+		double dy = y1 - y0;
+		double[] p = new double[] { -dx, dx, -dy, dy };
+		double[] q = new double[] { x0 - minX, maxX - x0, y0 - minY,
+				maxY - y0 };
+		double t0 = 0;
+		double t1 = 1;
+		for (int i = 0; i < 4; i++) {
+			if (p[i] == 0) {
+				if (q[i] < 0) {
+					return false;
+				}
+			} else {
+				double t = q[i] / p[i];
+				if (p[i] < 0) {
+					if (t > t1) {
+						return false;
+					}
+					t0 = Math.max(t0, t);
+				} else {
+					if (t < t0) {
+						return false;
+					}
+					t1 = Math.min(t1, t);
+				}
+			}
+		}
+		if (t0 >= t1) {
+			return false;
+		}
+		// the clipped line lies within the interior, unless it lies on the
+		// border, in which case its middle lies on the border as well
+		double t = (t0 + t1) / 2;
+		return isInside(x0 + t * dx, y0 + t * dy, minX, minY, maxX, maxY);
+	}
+
+	private static int lineCrossings(double x0, double y0, double x1,
+			double y1, double px, double py) {
+		if (py < y0 && py < y1 || py >= y0 && py >= y1
+				|| px >= x0 && px >= x1) {
+			return 0;
+		}
+		if (px >= x0 || px >= x1) {
+			double x = x0 + (py - y0) * (x1 - x0) / (y1 - y0);
+			if (px >= x) {
+				return 0;
+			}
+		}
+		return y0 < y1 ? 1 : -1;
+	}
+
+	/**
+	 * Splits the curve of the given degree (whose control points are stored
+	 * in the given array, starting at the given offset) at its middle, and
+	 * returns the control points of both halves (where the last control point
+	 * of the first half is the first one of the second half).
+	 */
+	private static double[] subdivide(double[] c, int offset, int degree) {
+		int n = 2 * (degree + 1);
+		double[] halves = new double[2 * n - 2];
+		double[] work = Arrays.copyOfRange(c, offset, offset + n);
+		for (int i = 0; i <= degree; i++) {
+			halves[2 * i] = work[0];
+			halves[2 * i + 1] = work[1];
+			halves[2 * (2 * degree - i)] = work[2 * (degree - i)];
+			halves[2 * (2 * degree - i) + 1] = work[2 * (degree - i) + 1];
+			for (int j = 0; j < degree - i; j++) {
+				work[2 * j] = (work[2 * j] + work[2 * j + 2]) / 2;
+				work[2 * j + 1] = (work[2 * j + 1] + work[2 * j + 3]) / 2;
+			}
+		}
+		return halves;
+	}
+
+	private final int windingRule;
+	private int segmentCount;
+	private int[] degrees;
+	private int[] offsets;
+	private double[] coordinates;
+	private int length;
+	private double[] bounds;
+	private Rectangle pathBounds;
+
+	/**
+	 * Creates a new {@link PreparedPath} for the given {@link Segment}s and
+	 * winding rule.
+	 *
+	 * @param windingRule
+	 *            The winding rule, i.e. one of {@link Path#WIND_EVEN_ODD} or
+	 *            {@link Path#WIND_NON_ZERO}.
+	 * @param segments
+	 *            The {@link Segment}s of the {@link Path}.
+	 */
+	PreparedPath(int windingRule, List<Segment> segments) {
+		this.windingRule = windingRule;
+
+		// each segment contributes at most 4 control points, and each sub-path
+		// at most one closing line
+		int capacity = 2 * segments.size() + 1;
+		degrees = new int[capacity];
+		offsets = new int[capacity];
+		coordinates = new double[8 * capacity];
+		Point start = null;
+		Point current = null;
+		for (Segment s : segments) {
+			Point[] points = s.getPoints();
+			if (s.getType() == Segment.MOVE_TO) {
+				close(current, start);
+				start = current = points[0];
+			} else if (s.getType() == Segment.CLOSE) {
+				close(current, start);
+				current = start;
+			} else if (current == null) {
+				throw new IllegalStateException(
+						"This Path does not start with a MOVE_TO, therefore, no start position could be determined.");
+			} else {
+				append(current, points);
+				current = points[points.length - 1];
+			}
+		}
+		close(current, start);
+		computeBounds();
+	}
+
+	private void append(Point start, Point... points) {
+		offsets[segmentCount] = length;
+		degrees[segmentCount++] = points.length;
+		coordinates[length++] = start.x;
+		coordinates[length++] = start.y;
+		for (Point p : points) {
+			coordinates[length++] = p.x;
+			coordinates[length++] = p.y;
+		}
+	}
+
+	private void close(Point current, Point start) {
+		// sub-paths are implicitly closed
+		if (current != null
+				&& (current.x != start.x || current.y != start.y)) {
+			append(current, start);
+		}
+	}
+
+	private void computeBounds() {
+		bounds = new double[4 * segmentCount];
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < segmentCount; i++) {
+			bounds[4 * i] = bounds[4 * i + 2] = coordinates[offsets[i]];
+			bounds[4 * i + 1] = bounds[4 * i + 3] = coordinates[offsets[i]
+					+ 1];
+			for (int j = 1; j <= degrees[i]; j++) {
+				double x = coordinates[offsets[i] + 2 * j];
+				double y = coordinates[offsets[i] + 2 * j + 1];
+				bounds[4 * i] = Math.min(bounds[4 * i], x);
+				bounds[4 * i + 1] = Math.min(bounds[4 * i + 1], y);
+				bounds[4 * i + 2] = Math.max(bounds[4 * i + 2], x);
+				bounds[4 * i + 3] = Math.max(bounds[4 * i + 3], y);
+			}
+			minX = Math.min(minX, bounds[4 * i]);
+			minY = Math.min(minY, bounds[4 * i + 1]);
+			maxX = Math.max(maxX, bounds[4 * i + 2]);
+			maxY = Math.max(maxY, bounds[4 * i + 3]);
+		}
+		pathBounds = segmentCount == 0 ? null
+				: new Rectangle(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	/**
+	 * Tests whether the given point lies within the interior of the
+	 * {@link Path}, using its winding rule.
+	 *
+	 * @param x
+	 *            The x-coordinate of the point to test.
+	 * @param y
+	 *            The y-coordinate of the point to test.
+	 * @return <code>true</code> if the point is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(double x, double y) {
+		if (pathBounds == null || Double.isNaN(x) || Double.isNaN(y)
+				|| x < pathBounds.getX() || y < pathBounds.getY()
+				|| x >= pathBounds.getX() + pathBounds.getWidth()
+				|| y >= pathBounds.getY() + pathBounds.getHeight()) {
+			// the winding number is zero outside of the bounds
+			return false;
+		}
+		int crossings = 0;
+		for (int i = 0; i < segmentCount; i++) {
+			if (y < bounds[4 * i + 1] || y >= bounds[4 * i + 3]
+					|| x >= bounds[4 * i + 2]) {
+				continue;
+			}
+			crossings += crossings(coordinates, offsets[i], degrees[i], x, y,
+					0);
+		}
+		return isInside(crossings);
+	}
+
+	/**
+	 * Tests whether the given {@link Rectangle} lies completely within the
+	 * interior of the {@link Path}, i.e. none of the segments intersects the
+	 * interior of the {@link Rectangle}, and its center is contained.
+	 *
+	 * @param r
+	 *            The {@link Rectangle} to test.
+	 * @return <code>true</code> if the {@link Rectangle} is contained,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean contains(Rectangle r) {
+		if (r.getWidth() <= 0 || r.getHeight() <= 0) {
+			return false;
+		}
+		return !intersectsInterior(r)
+				&& contains(r.getCenter().x, r.getCenter().y);
+	}
+
+	private int crossings(double[] c, int offset, int degree, double px,
+			double py, int level) {
+		double minX = c[offset];
+		double maxX = minX;
+		double minY = c[offset + 1];
+		double maxY = minY;
+		for (int i = 1; i <= degree; i++) {
+			minX = Math.min(minX, c[offset + 2 * i]);
+			maxX = Math.max(maxX, c[offset + 2 * i]);
+			minY = Math.min(minY, c[offset + 2 * i + 1]);
+			maxY = Math.max(maxY, c[offset + 2 * i + 1]);
+		}
+		if (py < minY || py >= maxY || px >= maxX) {
+			return 0;
+		}
+		double y0 = c[offset + 1];
+		double y1 = c[offset + 2 * degree + 1];
+		if (px < minX) {
+			// the curve lies completely right of the point, so only the
+			// end points determine the crossing
+			if (py >= y0) {
+				return py < y1 ? 1 : 0;
+			}
+			return py >= y1 ? -1 : 0;
+		}
+		if (degree == 1 || level > MAX_SUBDIVISION_LEVEL) {
+			return lineCrossings(c[offset], y0, c[offset + 2 * degree], y1, px,
+					py);
+		}
+		double[] halves = subdivide(c, offset, degree);
+		return crossings(halves, 0, degree, px, py, level + 1)
+				+ crossings(halves, 2 * degree, degree, px, py, level + 1);
+	}
+
+	private boolean intersectsInterior(double[] c, int offset, int degree,
+			double minX, double minY, double maxX, double maxY, int level) {
+		double cMinX = c[offset];
+		double cMaxX = cMinX;
+		double cMinY = c[offset + 1];
+		double cMaxY = cMinY;
+		for (int i = 1; i <= degree; i++) {
+			cMinX = Math.min(cMinX, c[offset + 2 * i]);
+			cMaxX = Math.max(cMaxX, c[offset + 2 * i]);
+			cMinY = Math.min(cMinY, c[offset + 2 * i + 1]);
+			cMaxY = Math.max(cMaxY, c[offset + 2 * i + 1]);
+		}
+		if (cMaxX <= minX || cMinX >= maxX || cMaxY <= minY
+				|| cMinY >= maxY) {
+			return false;
+		}
+		if (isInside(c[offset], c[offset + 1], minX, minY, maxX, maxY)
+				|| isInside(c[offset + 2 * degree], c[offset + 2 * degree + 1],
+						minX, minY, maxX, maxY)) {
+			return true;
+		}
+		if (degree == 1 || level > MAX_SUBDIVISION_LEVEL) {
+			return lineIntersectsInterior(c[offset], c[offset + 1],
+					c[offset + 2 * degree], c[offset + 2 * degree + 1], minX,
+					minY, maxX, maxY);
+		}
+		double[] halves = subdivide(c, offset, degree);
+		return intersectsInterior(halves, 0, degree, minX, minY, maxX, maxY,
+				level + 1)
+				|| intersectsInterior(halves, 2 * degree, degree, minX, minY,
+						maxX, maxY, level + 1);
+	}
+
+	private boolean intersectsInterior(Rectangle r) {
+		double minX = r.getX();
+		double minY = r.getY();
+		double maxX = minX + r.getWidth();
+		double maxY = minY + r.getHeight();
+		for (int i = 0; i < segmentCount; i++) {
+			if (bounds[4 * i + 2] <= minX || bounds[4 * i] >= maxX
+					|| bounds[4 * i + 3] <= minY || bounds[4 * i + 1] >= maxY) {
+				continue;
+			}
+			if (intersectsInterior(coordinates, offsets[i], degrees[i], minX,
+					minY, maxX, maxY, 0)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isInside(int crossings) {
+		int mask = windingRule == Path.WIND_NON_ZERO ? -1 : 1;
+		return (crossings & mask) != 0;
+	}
+
+	/**
+	 * Tests whether the interior of the {@link Path} and the interior of the
+	 * given {@link Rectangle} have at least one point in common.
+	 *
+	 * @param r
+	 *            The {@link Rectangle} to test.
+	 * @return <code>true</code> if the interiors intersect, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean touches(Rectangle r) {
+		if (r.getWidth() <= 0 || r.getHeight() <= 0) {
+			return false;
+		}
+		return intersectsInterior(r)
+				|| contains(r.getCenter().x, r.getCenter().y);
+	}
+
+}
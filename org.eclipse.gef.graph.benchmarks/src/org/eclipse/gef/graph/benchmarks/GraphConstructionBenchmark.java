@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.common.attributes.IAttributeCopier;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.GraphCopier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how the construction of a {@link Graph} (via a
+ * {@link Graph.Builder}) and its copying (via a {@link GraphCopier}) scale
+ * with the number of nodes of a random graph. The time per operation should
+ * grow linearly with the number of nodes.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class GraphConstructionBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int nodes;
+
+	private int[] sources;
+	private int[] targets;
+	private Graph graph;
+
+	/**
+	 * Builds the {@link Graph} via a {@link Graph.Builder}.
+	 *
+	 * @return The built {@link Graph}.
+	 */
+	@Benchmark
+	public Graph build() {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < nodes; i++) {
+			builder.node(i);
+		}
+		for (int i = 0; i < sources.length; i++) {
+			builder.edge(sources[i], targets[i]);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Copies the {@link Graph} via a {@link GraphCopier}.
+	 *
+	 * @return The copied {@link Graph}.
+	 */
+	@Benchmark
+	public Graph copy() {
+		return new GraphCopier(IAttributeCopier.SHALLOW_COPY).copy(graph);
+	}
+
+	/**
+	 * Determines the (random) end points of the edges and builds the
+	 * {@link Graph} that is copied.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(0);
+		sources = new int[nodes * 3 / 2];
+		targets = new int[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			sources[i] = random.nextInt(nodes);
+			targets[i] = random.nextInt(nodes);
+		}
+		graph = build();
+	}
+
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.GraphSnapshot;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.graph.algorithms.GraphAlgorithms;
+import org.eclipse.gef.graph.algorithms.GraphAlgorithms.Direction;
+import org.junit.Test;
+
+public class GraphAlgorithmsTests {
+
+	/**
+	 * Creates a snapshot with the given number of nodes and an edge from
+	 * <code>edges[2 * i]</code> to <code>edges[2 * i + 1]</code> for each i.
+	 */
+	private static GraphSnapshot createGraph(int nodeCount, int... edges) {
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			nodes.add(new Node());
+		}
+		List<Edge> edgeList = new ArrayList<>();
+		for (int i = 0; i < edges.length; i += 2) {
+			edgeList.add(new Edge(nodes.get(edges[i]), nodes.get(edges[i + 1])));
+		}
+		return new GraphSnapshot(nodes, edgeList);
+	}
+
+	private static GraphSnapshot createRandomGraph(int nodeCount, int edgeCount, long seed) {
+		Random random = new Random(seed);
+		int[] edges = new int[2 * edgeCount];
+		for (int i = 0; i < edges.length; i++) {
+			edges[i] = random.nextInt(nodeCount);
+		}
+		return createGraph(nodeCount, edges);
+	}
+
+	@Test
+	public void breadthFirstOrder() {
+		// 0 -> 1 -> 3, 0 -> 2, 4 -> 0
+		GraphSnapshot graph = createGraph(5, 0, 1, 0, 2, 1, 3, 4, 0);
+		int[] predecessors = new int[5];
+		assertArrayEquals(new int[] { 0, 1, 2, 3 },
+				GraphAlgorithms.breadthFirstOrder(graph, Direction.OUTGOING, new int[] { 0 }, predecessors));
+		assertArrayEquals(new int[] { -1, 0, 0, 1, -1 }, predecessors);
+		assertArrayEquals(new int[] { 3, 1, 0, 4 },
+				GraphAlgorithms.breadthFirstOrder(graph, Direction.INCOMING, new int[] { 3 }, null));
+		assertArrayEquals(new int[] { 3, 1, 0, 2, 4 },
+				GraphAlgorithms.breadthFirstOrder(graph, Direction.BOTH, new int[] { 3 }, null));
+	}
+
+	@Test
+	public void connectedComponents() {
+		GraphSnapshot graph = createGraph(5, 1, 0, 3, 4, 4, 3);
+		assertArrayEquals(new int[] { 0, 0, 1, 2, 2 }, GraphAlgorithms.connectedComponents(graph));
+	}
+
+	@Test
+	public void depthFirstOrder() {
+		// 0 -> 1 -> 3, 0 -> 2, 3 -> 0
+		GraphSnapshot graph = createGraph(5, 0, 1, 0, 2, 1, 3, 3, 0);
+		assertArrayEquals(new int[] { 0, 1, 3, 2 },
+				GraphAlgorithms.depthFirstOrder(graph, Direction.OUTGOING, new int[] { 0 }));
+		assertArrayEquals(new int[] { 4, 2, 0, 1, 3 },
+				GraphAlgorithms.depthFirstOrder(graph, Direction.OUTGOING, new int[] { 4, 2, 0 }));
+	}
+
+	@Test
+	public void depthFirstOrderDoesNotOverflowStack() {
+		int n = 100000;
+		int[] edges = new int[2 * (n - 1)];
+		for (int i = 0; i < n - 1; i++) {
+			edges[2 * i] = i;
+			edges[2 * i + 1] = i + 1;
+		}
+		GraphSnapshot graph = createGraph(n, edges);
+		assertEquals(n, GraphAlgorithms.depthFirstOrder(graph, Direction.OUTGOING, new int[] { 0 }).length);
+		assertEquals(n, GraphAlgorithms.stronglyConnectedComponents(graph)[0] + 1);
+	}
+
+	@Test
+	public void feedbackArcSetBreaksAllCycles() {
+		for (int seed = 0; seed < 20; seed++) {
+			GraphSnapshot graph = createRandomGraph(50, 150, seed);
+			boolean[] feedbackArcs = GraphAlgorithms.feedbackArcSet(graph);
+			List<Node> nodes = new ArrayList<>();
+			for (int i = 0; i < graph.getNodeCount(); i++) {
+				nodes.add(graph.getNode(i));
+			}
+			// build the graph with feedback arcs reversed (and self-loops
+			// dropped), which has to be acyclic
+			List<Edge> edges = new ArrayList<>();
+			for (int e = 0; e < graph.getEdgeCount(); e++) {
+				int source = graph.getSource(e);
+				int target = graph.getTarget(e);
+				if (source == target) {
+					assertFalse(feedbackArcs[e]);
+				} else if (feedbackArcs[e]) {
+					edges.add(new Edge(nodes.get(target), nodes.get(source)));
+				} else {
+					edges.add(graph.getEdge(e));
+				}
+			}
+			assertNotNull(GraphAlgorithms.topologicalOrder(new GraphSnapshot(nodes, edges)));
+		}
+	}
+
+	@Test
+	public void feedbackArcSetOfAcyclicGraphIsEmpty() {
+		GraphSnapshot graph = createGraph(4, 0, 1, 1, 2, 0, 2, 2, 3, 0, 3);
+		for (boolean feedbackArc : GraphAlgorithms.feedbackArcSet(graph)) {
+			assertFalse(feedbackArc);
+		}
+		// a single cycle is broken by reversing a single edge
+		boolean[] feedbackArcs = GraphAlgorithms.feedbackArcSet(createGraph(3, 0, 1, 1, 2, 2, 0));
+		assertEquals(1, (feedbackArcs[0] ? 1 : 0) + (feedbackArcs[1] ? 1 : 0) + (feedbackArcs[2] ? 1 : 0));
+	}
+
+	@Test
+	public void shortestPaths() {
+		// 0 -> 1 (5), 0 -> 2 (1), 2 -> 1 (1), 1 -> 3 (1)
+		GraphSnapshot graph = createGraph(5, 0, 1, 0, 2, 2, 1, 1, 3);
+		double[] weights = { 5, 1, 1, 1 };
+		int[] predecessors = new int[5];
+		double[] distances = GraphAlgorithms.shortestPaths(graph, Direction.OUTGOING, 0, weights, predecessors);
+		assertArrayEquals(new double[] { 0, 2, 1, 3, Double.POSITIVE_INFINITY }, distances, 0);
+		assertArrayEquals(new int[] { -1, 2, 0, 1, -1 }, predecessors);
+
+		distances = GraphAlgorithms.shortestPaths(graph, Direction.OUTGOING, 0, null, predecessors);
+		assertArrayEquals(new double[] { 0, 1, 1, 2, Double.POSITIVE_INFINITY }, distances, 0);
+		assertArrayEquals(new int[] { -1, 0, 0, 1, -1 }, predecessors);
+
+		distances = GraphAlgorithms.shortestPaths(graph, Direction.INCOMING, 3, weights, null);
+		assertArrayEquals(new double[] { 3, 1, 2, 0, Double.POSITIVE_INFINITY }, distances, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shortestPathsRejectNegativeWeights() {
+		GraphSnapshot graph = createGraph(2, 0, 1);
+		GraphAlgorithms.shortestPaths(graph, Direction.OUTGOING, 0, new double[] { -1 }, null);
+	}
+
+	@Test
+	public void stronglyConnectedComponents() {
+		// {0, 1, 2} form a cycle, which leads to {3, 4}, which lead to 5
+		GraphSnapshot graph = createGraph(6, 0, 1, 1, 2, 2, 0, 2, 3, 3, 4, 4, 3, 4, 5);
+		int[] components = GraphAlgorithms.stronglyConnectedComponents(graph);
+		assertEquals(components[0], components[1]);
+		assertEquals(components[0], components[2]);
+		assertEquals(components[3], components[4]);
+		assertNotEquals(components[0], components[3]);
+		assertNotEquals(components[3], components[5]);
+		// components are numbered in reverse topological order
+		assertTrue(components[0] > components[3]);
+		assertTrue(components[3] > components[5]);
+	}
+
+	@Test
+	public void topologicalOrder() {
+		GraphSnapshot graph = createGraph(4, 2, 0, 0, 1, 3, 1, 2, 3);
+		int[] order = GraphAlgorithms.topologicalOrder(graph);
+		int[] positions = new int[4];
+		for (int i = 0; i < order.length; i++) {
+			positions[order[i]] = i;
+		}
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			assertTrue(positions[graph.getSource(e)] < positions[graph.getTarget(e)]);
+		}
+		assertNull(GraphAlgorithms.topologicalOrder(createGraph(2, 0, 1, 1, 0)));
+		assertNull(GraphAlgorithms.topologicalOrder(createGraph(1, 0, 0)));
+	}
+
+}
@@ -19,12 +19,15 @@ import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
 
 import org.eclipse.gef.common.attributes.IAttributeCopier;
+import org.eclipse.gef.common.attributes.IAttributeStore;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
 import org.eclipse.gef.graph.GraphCopier;
 import org.eclipse.gef.graph.Node;
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+
 public class GraphCopierTests {
 
 	private static final String ID = "id";
@@ -88,6 +91,59 @@ public class GraphCopierTests {
 		}
 	}
 
+	@Test
+	public void test_bulk_copy() {
+		Graph.Builder gb = new Graph.Builder();
+		for (int id = 0; id < 100; id++) {
+			gb.node(id);
+			if (id > 0) {
+				gb.edge(id - 1, id);
+			}
+		}
+		Graph g = gb.build();
+		// register listeners on the output graph when its attributes are
+		// copied (i.e. before nodes and edges are added)
+		final int[] changes = new int[2];
+		GraphCopier copier = new GraphCopier(IAttributeCopier.NULL_COPY) {
+			@Override
+			protected void copyAttributes(IAttributeStore inputStore,
+					IAttributeStore outputStore) {
+				if (outputStore instanceof Graph) {
+					((Graph) outputStore).getNodes()
+							.addListener(new ListChangeListener<Node>() {
+								@Override
+								public void onChanged(
+										ListChangeListener.Change<? extends Node> c) {
+									changes[0]++;
+								}
+							});
+					((Graph) outputStore).getEdges()
+							.addListener(new ListChangeListener<Edge>() {
+								@Override
+								public void onChanged(
+										ListChangeListener.Change<? extends Edge> c) {
+									changes[1]++;
+								}
+							});
+				}
+				super.copyAttributes(inputStore, outputStore);
+			}
+		};
+		Graph copy = copier.copy(g);
+
+		assertEquals(1, changes[0]);
+		assertEquals(1, changes[1]);
+		assertEquals(100, copy.getNodes().size());
+		assertEquals(99, copy.getEdges().size());
+		for (Node n : copy.getNodes()) {
+			assertSame(copy, n.getGraph());
+		}
+		for (Edge e : copy.getEdges()) {
+			assertSame(copy, e.getGraph());
+			assertTrue(copy.getNodes().contains(e.getSource()));
+		}
+	}
+
 	@Test
 	public void test_node_map_shallow_copy() {
 		Graph g = genGraph(10);
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.GraphSnapshot;
+import org.eclipse.gef.graph.Node;
+import org.junit.Test;
+
+public class GraphSnapshotTests {
+
+	private static Set<Node> getSuccessors(GraphSnapshot snapshot, int node) {
+		Set<Node> successors = new HashSet<>();
+		for (int i = 0; i < snapshot.getOutDegree(node); i++) {
+			successors.add(snapshot.getNode(snapshot.getTarget(snapshot.getOutgoingEdge(node, i))));
+		}
+		return successors;
+	}
+
+	@Test
+	public void adjacencyMatchesGraph() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Edge ac = new Edge(a, c);
+		Edge cb = new Edge(c, b);
+		Edge cc = new Edge(c, c);
+		Graph g = new Graph(Arrays.asList(a, b, c), Arrays.asList(ab, ac, cb, cc));
+		GraphSnapshot snapshot = new GraphSnapshot(g);
+
+		assertEquals(3, snapshot.getNodeCount());
+		assertEquals(4, snapshot.getEdgeCount());
+		for (int i = 0; i < snapshot.getNodeCount(); i++) {
+			Node node = g.getNodes().get(i);
+			assertSame(node, snapshot.getNode(i));
+			assertEquals(i, snapshot.indexOf(node));
+			assertEquals(node.getOutgoingEdges().size(), snapshot.getOutDegree(i));
+			assertEquals(node.getIncomingEdges().size(), snapshot.getInDegree(i));
+			assertEquals(node.getSuccessorNodes(), getSuccessors(snapshot, i));
+		}
+		for (int e = 0; e < snapshot.getEdgeCount(); e++) {
+			Edge edge = snapshot.getEdge(e);
+			assertEquals(e, snapshot.indexOf(edge));
+			assertSame(edge.getSource(), snapshot.getNode(snapshot.getSource(e)));
+			assertSame(edge.getTarget(), snapshot.getNode(snapshot.getTarget(e)));
+		}
+		// incoming edges of b are ab and cb (in edge order)
+		assertEquals(0, snapshot.getIncomingEdge(1, 0));
+		assertEquals(2, snapshot.getIncomingEdge(1, 1));
+	}
+
+	@Test
+	public void edgesToForeignNodesAreSkipped() {
+		Node a = new Node();
+		Node b = new Node();
+		Node foreign = new Node();
+		Edge ab = new Edge(a, b);
+		Edge af = new Edge(a, foreign);
+		GraphSnapshot snapshot = new GraphSnapshot(Arrays.asList(a, b), Arrays.asList(af, ab));
+
+		assertEquals(1, snapshot.getEdgeCount());
+		assertSame(ab, snapshot.getEdge(0));
+		assertEquals(-1, snapshot.indexOf(af));
+		assertEquals(-1, snapshot.indexOf(foreign));
+		assertEquals(1, snapshot.getOutDegree(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void outgoingEdgeIndexIsRangeChecked() {
+		Node a = new Node();
+		Node b = new Node();
+		GraphSnapshot snapshot = new GraphSnapshot(Arrays.asList(a, b), Arrays.asList(new Edge(a, b)));
+		// a has a single outgoing edge, so index 1 would already address the row of b
+		snapshot.getOutgoingEdge(0, 1);
+	}
+
+	@Test
+	public void snapshotIsNotAffectedByGraphChanges() {
+		Node a = new Node();
+		Node b = new Node();
+		Graph g = new Graph(Arrays.asList(a, b), Arrays.asList(new Edge(a, b)));
+		GraphSnapshot snapshot = new GraphSnapshot(g);
+
+		g.getEdges().clear();
+		g.getNodes().add(new Node());
+		assertEquals(2, snapshot.getNodeCount());
+		assertEquals(1, snapshot.getEdgeCount());
+		assertEquals(1, snapshot.getOutDegree(0));
+	}
+
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.junit.Test;
+
+public class NodeTests {
+
+	@Test
+	public void adjacencyFollowsEdgeListChanges() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Edge ac = new Edge(a, c);
+		Graph g = new Graph(Arrays.asList(a, b, c), Arrays.asList(ab));
+
+		assertEquals(Collections.singleton(ab), a.getOutgoingEdges());
+		assertEquals(Collections.singleton(ab), b.getIncomingEdges());
+		assertTrue(c.getIncomingEdges().isEmpty());
+
+		g.getEdges().add(ac);
+		assertEquals(2, a.getOutgoingEdges().size());
+		assertEquals(Collections.singleton(a), c.getPredecessorNodes());
+		assertEquals(2, a.getSuccessorNodes().size());
+
+		g.getEdges().remove(ab);
+		assertEquals(Collections.singleton(ac), a.getOutgoingEdges());
+		assertTrue(b.getIncomingEdges().isEmpty());
+		assertTrue(b.getNeighbors().isEmpty());
+
+		g.getEdges().set(0, ab);
+		assertEquals(Collections.singleton(ab), a.getOutgoingEdges());
+		assertTrue(c.getIncomingEdges().isEmpty());
+
+		g.getEdges().clear();
+		assertTrue(a.getOutgoingEdges().isEmpty());
+		assertTrue(a.getNeighbors().isEmpty());
+	}
+
+	@Test
+	public void adjacencyFollowsSourceAndTargetChanges() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		new Graph(Arrays.asList(a, b, c), Arrays.asList(ab));
+
+		ab.setTarget(c);
+		assertTrue(b.getIncomingEdges().isEmpty());
+		assertEquals(Collections.singleton(ab), c.getIncomingEdges());
+		assertEquals(Collections.singleton(c), a.getSuccessorNodes());
+
+		ab.setSource(b);
+		assertTrue(a.getOutgoingEdges().isEmpty());
+		assertEquals(Collections.singleton(ab), b.getOutgoingEdges());
+		assertEquals(Collections.singleton(b), c.getPredecessorNodes());
+		assertEquals(Collections.singleton(c), b.getNeighbors());
+	}
+
+	@Test
+	public void allAdjacencyIncludesNestingNodes() {
+		Node n = new Node();
+		Node m = new Node();
+		Edge nm = new Edge(n, m);
+		Node ma = new Node();
+		Node mb = new Node();
+		Edge mab = new Edge(ma, mb);
+		Graph mg = new Graph(Arrays.asList(ma, mb), Arrays.asList(mab));
+		m.setNestedGraph(mg);
+		new Graph(Arrays.asList(n, m), Arrays.asList(nm));
+
+		assertEquals(Collections.singleton(mab), mb.getIncomingEdges());
+		assertEquals(2, mb.getAllIncomingEdges().size());
+		assertTrue(mb.getAllIncomingEdges().contains(nm));
+		assertEquals(2, mb.getAllPredecessorNodes().size());
+		assertTrue(mb.getAllNeighbors().contains(n));
+		assertTrue(ma.getAllOutgoingEdges().contains(mab));
+		assertTrue(mb.getAllSuccessorNodes().isEmpty());
+	}
+
+	@Test
+	public void graphFollowsNodeListChanges() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Edge ab = new Edge(a, b);
+		Graph g = new Graph(Arrays.asList(a, b), Arrays.asList(ab));
+		assertSame(g, a.getGraph());
+		assertSame(g, ab.getGraph());
+
+		// nodes and edges that are retained by setAll remain associated
+		g.getNodes().setAll(Arrays.asList(b, c));
+		assertNull(a.getGraph());
+		assertSame(g, b.getGraph());
+		assertSame(g, c.getGraph());
+		g.getEdges().setAll(Arrays.asList(ab));
+		assertSame(g, ab.getGraph());
+
+		g.getNodes().remove(b);
+		assertNull(b.getGraph());
+		g.getEdges().clear();
+		assertNull(ab.getGraph());
+	}
+
+}
@@ -297,7 +297,7 @@ public class Edge implements IAttributeStore {
 	 *            The new {@link Graph} for this {@link Edge}.
 	 */
 	void setGraph(Graph graph) {
-		if (graph != null && !graph.getEdges().contains(this)) {
+		if (graph != null && !graph.contains(this)) {
 			throw new IllegalArgumentException("Edge is not contained in graph " + graph);
 		}
 		this.graph = graph;
@@ -310,7 +310,11 @@ public class Edge implements IAttributeStore {
 	 *            The new source {@link Node} for this {@link Edge}.
 	 */
 	public void setSource(Node source) {
+		Node oldSource = this.source;
 		this.source = source;
+		if (graph != null && oldSource != source) {
+			graph.sourceChanged(this, oldSource);
+		}
 	}
 
 	/**
@@ -320,7 +324,11 @@ public class Edge implements IAttributeStore {
 	 *            The new target {@link Node} for this {@link Edge}.
 	 */
 	public void setTarget(Node target) {
+		Node oldTarget = this.target;
 		this.target = target;
+		if (graph != null && oldTarget != target) {
+			graph.targetChanged(this, oldTarget);
+		}
 	}
 
 	@Override
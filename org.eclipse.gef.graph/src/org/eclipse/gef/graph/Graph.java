@@ -17,10 +17,14 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiConsumer;
@@ -326,6 +330,32 @@ public final class Graph implements IAttributeStore {
 	private final ReadOnlyMapWrapper<String, Object> attributesProperty = new ReadOnlyMapWrapperEx<>(this,
 			ATTRIBUTES_PROPERTY, FXCollections.<String, Object>observableHashMap());
 
+	/**
+	 * The {@link Edge}s of this {@link Graph} indexed by their
+	 * {@link Edge#getTarget() target} {@link Node}. Used to answer
+	 * {@link Node#getIncomingEdges()} without scanning all edges.
+	 */
+	private final Map<Node, List<Edge>> incomingEdgesIndex = new IdentityHashMap<>();
+
+	/**
+	 * The {@link Edge}s of this {@link Graph} indexed by their
+	 * {@link Edge#getSource() source} {@link Node}. Used to answer
+	 * {@link Node#getOutgoingEdges()} without scanning all edges.
+	 */
+	private final Map<Node, List<Edge>> outgoingEdgesIndex = new IdentityHashMap<>();
+
+	/**
+	 * The {@link Node}s of this {@link Graph} (compared by identity). Used to
+	 * check the ownership of a {@link Node} without scanning all nodes.
+	 */
+	private final Set<Node> nodeSet = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+
+	/**
+	 * The {@link Edge}s of this {@link Graph} (compared by identity). Used to
+	 * check the ownership of an {@link Edge} without scanning all edges.
+	 */
+	private final Set<Edge> edgeSet = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
+
 	/**
 	 * {@link Node} which contains this {@link Graph}. May be <code>null</code>
 	 * .
@@ -372,12 +402,16 @@ public final class Graph implements IAttributeStore {
 			@Override
 			public void onChanged(ListChangeListener.Change<? extends Node> c) {
 				while (c.next()) {
-					for (Node n : c.getAddedSubList()) {
-						n.setGraph(Graph.this);
-					}
+					// process removed nodes first, so that nodes that are
+					// replaced by themselves remain associated
 					for (Node n : c.getRemoved()) {
+						nodeSet.remove(n);
 						n.setGraph(null);
 					}
+					for (Node n : c.getAddedSubList()) {
+						nodeSet.add(n);
+						n.setGraph(Graph.this);
+					}
 				}
 			}
 		});
@@ -385,12 +419,20 @@ public final class Graph implements IAttributeStore {
 			@Override
 			public void onChanged(ListChangeListener.Change<? extends Edge> c) {
 				while (c.next()) {
-					for (Edge e : c.getAddedSubList()) {
-						e.setGraph(Graph.this);
-					}
+					// process removed edges first, so that edges that are
+					// replaced by themselves remain associated
 					for (Edge e : c.getRemoved()) {
+						removeFromIndex(outgoingEdgesIndex, e.getSource(), e);
+						removeFromIndex(incomingEdgesIndex, e.getTarget(), e);
+						edgeSet.remove(e);
 						e.setGraph(null);
 					}
+					for (Edge e : c.getAddedSubList()) {
+						addToIndex(outgoingEdgesIndex, e.getSource(), e);
+						addToIndex(incomingEdgesIndex, e.getTarget(), e);
+						edgeSet.add(e);
+						e.setGraph(Graph.this);
+					}
 				}
 			}
 		});
@@ -398,11 +440,80 @@ public final class Graph implements IAttributeStore {
 		this.edgesProperty.addAll(edges);
 	}
 
+	private static void addToIndex(Map<Node, List<Edge>> index, Node node, Edge edge) {
+		List<Edge> edges = index.get(node);
+		if (edges == null) {
+			edges = new ArrayList<>(2);
+			index.put(node, edges);
+		}
+		edges.add(edge);
+	}
+
+	private static int removeFromIndex(Map<Node, List<Edge>> index, Node node, Edge edge, boolean all) {
+		List<Edge> edges = index.get(node);
+		if (edges == null) {
+			return 0;
+		}
+		int removed = 0;
+		// edges are compared by identity (an edge may be contained more than
+		// once in case it was added to the edges list multiple times)
+		for (Iterator<Edge> it = edges.iterator(); it.hasNext();) {
+			if (it.next() == edge) {
+				it.remove();
+				removed++;
+				if (!all) {
+					break;
+				}
+			}
+		}
+		if (edges.isEmpty()) {
+			index.remove(node);
+		}
+		return removed;
+	}
+
+	private static void removeFromIndex(Map<Node, List<Edge>> index, Node node, Edge edge) {
+		removeFromIndex(index, node, edge, false);
+	}
+
+	private static void reindex(Map<Node, List<Edge>> index, Node oldNode, Node newNode, Edge edge) {
+		int count = removeFromIndex(index, oldNode, edge, true);
+		for (int i = 0; i < count; i++) {
+			addToIndex(index, newNode, edge);
+		}
+	}
+
 	@Override
 	public ReadOnlyMapProperty<String, Object> attributesProperty() {
 		return attributesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Checks whether the given {@link Edge} is contained in the
+	 * {@link #getEdges() edges} of this {@link Graph} (in constant time).
+	 *
+	 * @param edge
+	 *            The {@link Edge} to test.
+	 * @return <code>true</code> if the given {@link Edge} is contained,
+	 *         <code>false</code> otherwise.
+	 */
+	boolean contains(Edge edge) {
+		return edgeSet.contains(edge);
+	}
+
+	/**
+	 * Checks whether the given {@link Node} is contained in the
+	 * {@link #getNodes() nodes} of this {@link Graph} (in constant time).
+	 *
+	 * @param node
+	 *            The {@link Node} to test.
+	 * @return <code>true</code> if the given {@link Node} is contained,
+	 *         <code>false</code> otherwise.
+	 */
+	boolean contains(Node node) {
+		return nodeSet.contains(node);
+	}
+
 	/**
 	 * Returns a read-only list property containing the {@link Edge}s of this
 	 * {@link Graph}.
@@ -427,6 +538,20 @@ public final class Graph implements IAttributeStore {
 		return edgesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns the {@link Edge}s of this {@link Graph} whose
+	 * {@link Edge#getTarget() target} is the given {@link Node}. The returned
+	 * list is backed by the internal adjacency index and may not be modified.
+	 *
+	 * @param target
+	 *            The {@link Node} for which to return the incoming edges.
+	 * @return An unmodifiable list of the incoming {@link Edge}s.
+	 */
+	List<Edge> getIncomingEdges(Node target) {
+		List<Edge> incoming = incomingEdgesIndex.get(target);
+		return incoming == null ? Collections.<Edge>emptyList() : Collections.unmodifiableList(incoming);
+	}
+
 	/**
 	 * Returns the {@link Node} in which this {@link Graph} is nested. Returns
 	 * <code>null</code> when this {@link Graph} is not nested.
@@ -447,6 +572,20 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns the {@link Edge}s of this {@link Graph} whose
+	 * {@link Edge#getSource() source} is the given {@link Node}. The returned
+	 * list is backed by the internal adjacency index and may not be modified.
+	 *
+	 * @param source
+	 *            The {@link Node} for which to return the outgoing edges.
+	 * @return An unmodifiable list of the outgoing {@link Edge}s.
+	 */
+	List<Edge> getOutgoingEdges(Node source) {
+		List<Edge> outgoing = outgoingEdgesIndex.get(source);
+		return outgoing == null ? Collections.<Edge>emptyList() : Collections.unmodifiableList(outgoing);
+	}
+
 	/**
 	 * Returns the root graph of this Graph.
 	 *
@@ -470,6 +609,32 @@ public final class Graph implements IAttributeStore {
 		return nodesProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Updates the adjacency index after the {@link Edge#getSource() source} of
+	 * the given {@link Edge} changed.
+	 *
+	 * @param edge
+	 *            The {@link Edge} whose source changed.
+	 * @param oldSource
+	 *            The previous source {@link Node} of the {@link Edge}.
+	 */
+	void sourceChanged(Edge edge, Node oldSource) {
+		reindex(outgoingEdgesIndex, oldSource, edge.getSource(), edge);
+	}
+
+	/**
+	 * Updates the adjacency index after the {@link Edge#getTarget() target} of
+	 * the given {@link Edge} changed.
+	 *
+	 * @param edge
+	 *            The {@link Edge} whose target changed.
+	 * @param oldTarget
+	 *            The previous target {@link Node} of the {@link Edge}.
+	 */
+	void targetChanged(Edge edge, Node oldTarget) {
+		reindex(incomingEdgesIndex, oldTarget, edge.getTarget(), edge);
+	}
+
 	/**
 	 * Sets the nesting {@link Node} of this {@link Graph}.
 	 *
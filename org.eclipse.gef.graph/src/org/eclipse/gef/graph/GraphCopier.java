@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.gef.graph;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.gef.common.attributes.IAttributeCopier;
@@ -99,7 +101,9 @@ public class GraphCopier {
 	 * Copies the given {@link Graph} using the current
 	 * {@link IAttributeCopier}. Records the copied nodes in the
 	 * {@link #getInputToOutputNodeMap()} and the copied edges in the
-	 * {@link #getInputToOutputEdgeMap()}.
+	 * {@link #getInputToOutputEdgeMap()}. The copied nodes and edges are added
+	 * to the output {@link Graph} in bulk (after all nodes or edges have been
+	 * copied, respectively), so that only a single change is fired for each.
 	 *
 	 * @param graph
 	 *            The input {@link Graph} to copy.
@@ -111,21 +115,25 @@ public class GraphCopier {
 		copyAttributes(graph, outputGraph);
 		// copy nodes, keeping track of copied nodes (so we can relocate them to
 		// link edges)
+		List<Node> outputNodes = new ArrayList<>(graph.getNodes().size());
 		for (Node inputNode : graph.getNodes()) {
 			Node outputNode = copyNode(inputNode);
 			if (outputNode != null) {
 				inputToOutputNodes.put(inputNode, outputNode);
-				outputGraph.getNodes().add(outputNode);
+				outputNodes.add(outputNode);
 			}
 		}
+		outputGraph.getNodes().addAll(outputNodes);
 		// copy edges
+		List<Edge> outputEdges = new ArrayList<>(graph.getEdges().size());
 		for (Edge inputEdge : graph.getEdges()) {
 			Edge outputEdge = copyEdge(inputEdge);
 			if (outputEdge != null) {
 				inputToOutputEdges.put(inputEdge, outputEdge);
-				outputGraph.getEdges().add(outputEdge);
+				outputEdges.add(outputEdge);
 			}
 		}
+		outputGraph.getEdges().addAll(outputEdges);
 		return outputGraph;
 	}
 
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, compressed (CSR, compressed sparse row) snapshot of the
+ * adjacency structure of a {@link Graph}. {@link Node}s and {@link Edge}s are
+ * identified by consecutive <code>int</code> indices, and the outgoing and
+ * incoming edges of each node are stored in contiguous ranges of
+ * <code>int</code> arrays, so that the adjacency of a node can be traversed
+ * without accessing any (observable) collections.
+ * <p>
+ * A snapshot is created in O(N + E) and does not reflect later changes of the
+ * graph it was created from. As its state is not changed after construction,
+ * it may be shared between threads.
+ *
+ * @author agent
+ *
+ */
+public final class GraphSnapshot {
+
+	private final Node[] nodes;
+	private final Edge[] edges;
+	private final Map<Node, Integer> nodeIndices;
+	private final Map<Edge, Integer> edgeIndices;
+
+	// source and target node index per edge
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+
+	// outgoing edges of node i are outEdges[outOffsets[i]..outOffsets[i + 1])
+	private final int[] outOffsets;
+	private final int[] outEdges;
+
+	// incoming edges of node i are inEdges[inOffsets[i]..inOffsets[i + 1])
+	private final int[] inOffsets;
+	private final int[] inEdges;
+
+	/**
+	 * Creates a new {@link GraphSnapshot} of the given {@link Graph}, which
+	 * comprises all its {@link Graph#getNodes() nodes} and
+	 * {@link Graph#getEdges() edges}. Edges whose source or target is not
+	 * contained in the graph's nodes (i.e. edges to nodes of a nested or
+	 * nesting graph) are not part of the snapshot.
+	 *
+	 * @param graph
+	 *            The {@link Graph} to create a snapshot of.
+	 */
+	public GraphSnapshot(Graph graph) {
+		this(graph.getNodes(), graph.getEdges());
+	}
+
+	/**
+	 * Creates a new {@link GraphSnapshot} of the given {@link Node}s and
+	 * {@link Edge}s. Nodes and edges are indexed in iteration order of the
+	 * given collections. Edges whose source or target is not contained in the
+	 * given nodes are not part of the snapshot.
+	 *
+	 * @param nodes
+	 *            The {@link Node}s of the snapshot.
+	 * @param edges
+	 *            The {@link Edge}s of the snapshot.
+	 */
+	public GraphSnapshot(Collection<? extends Node> nodes, Collection<? extends Edge> edges) {
+		int n = nodes.size();
+		this.nodes = nodes.toArray(new Node[n]);
+		this.nodeIndices = new IdentityHashMap<>(n);
+		for (int i = 0; i < n; i++) {
+			if (nodeIndices.put(this.nodes[i], i) != null) {
+				throw new IllegalArgumentException("The given nodes may not contain duplicates.");
+			}
+		}
+
+		// index edges whose source and target are part of the snapshot
+		Edge[] candidates = edges.toArray(new Edge[edges.size()]);
+		int[] sources = new int[candidates.length];
+		int[] targets = new int[candidates.length];
+		int m = 0;
+		for (Edge edge : candidates) {
+			Integer source = nodeIndices.get(edge.getSource());
+			Integer target = nodeIndices.get(edge.getTarget());
+			if (source != null && target != null) {
+				candidates[m] = edge;
+				sources[m] = source.intValue();
+				targets[m++] = target.intValue();
+			}
+		}
+		this.edges = m == candidates.length ? candidates : Arrays.copyOf(candidates, m);
+		this.edgeSources = m == sources.length ? sources : Arrays.copyOf(sources, m);
+		this.edgeTargets = m == targets.length ? targets : Arrays.copyOf(targets, m);
+		this.edgeIndices = new IdentityHashMap<>(m);
+		for (int e = 0; e < m; e++) {
+			if (edgeIndices.put(this.edges[e], e) != null) {
+				throw new IllegalArgumentException("The given edges may not contain duplicates.");
+			}
+		}
+
+		this.outOffsets = new int[n + 1];
+		this.outEdges = new int[m];
+		compress(edgeSources, outOffsets, outEdges);
+		this.inOffsets = new int[n + 1];
+		this.inEdges = new int[m];
+		compress(edgeTargets, inOffsets, inEdges);
+	}
+
+	private static void checkRange(int i, int degree) {
+		if (i < 0 || i >= degree) {
+			throw new IndexOutOfBoundsException("Index " + i + " is out of range [0, " + degree + ").");
+		}
+	}
+
+	/**
+	 * Distributes the edge indices into rows (by means of a counting sort),
+	 * keyed by the given per-edge node indices.
+	 */
+	private static void compress(int[] keys, int[] offsets, int[] rows) {
+		int n = offsets.length - 1;
+		for (int key : keys) {
+			offsets[key + 1]++;
+		}
+		for (int i = 0; i < n; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		int[] rowEnds = Arrays.copyOf(offsets, n);
+		for (int e = 0; e < keys.length; e++) {
+			rows[rowEnds[keys[e]]++] = e;
+		}
+	}
+
+	/**
+	 * Returns the {@link Edge} with the given index.
+	 *
+	 * @param edge
+	 *            The index of the {@link Edge}, in range
+	 *            <code>[0, {@link #getEdgeCount()})</code>.
+	 * @return The {@link Edge} with the given index.
+	 */
+	public Edge getEdge(int edge) {
+		return edges[edge];
+	}
+
+	/**
+	 * Returns the number of {@link Edge}s of this {@link GraphSnapshot}.
+	 *
+	 * @return The number of {@link Edge}s.
+	 */
+	public int getEdgeCount() {
+		return edges.length;
+	}
+
+	/**
+	 * Returns the number of incoming edges of the node with the given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The number of incoming edges of the given node.
+	 */
+	public int getInDegree(int node) {
+		return inOffsets[node + 1] - inOffsets[node];
+	}
+
+	/**
+	 * Returns the index of the <i>i</i>-th incoming edge of the node with the
+	 * given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @param i
+	 *            The position of the incoming edge, in range
+	 *            <code>[0, {@link #getInDegree(int)})</code>.
+	 * @return The index of the <i>i</i>-th incoming edge.
+	 */
+	public int getIncomingEdge(int node, int i) {
+		checkRange(i, getInDegree(node));
+		return inEdges[inOffsets[node] + i];
+	}
+
+	/**
+	 * Returns the {@link Node} with the given index.
+	 *
+	 * @param node
+	 *            The index of the {@link Node}, in range
+	 *            <code>[0, {@link #getNodeCount()})</code>.
+	 * @return The {@link Node} with the given index.
+	 */
+	public Node getNode(int node) {
+		return nodes[node];
+	}
+
+	/**
+	 * Returns the number of {@link Node}s of this {@link GraphSnapshot}.
+	 *
+	 * @return The number of {@link Node}s.
+	 */
+	public int getNodeCount() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the number of outgoing edges of the node with the given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The number of outgoing edges of the given node.
+	 */
+	public int getOutDegree(int node) {
+		return outOffsets[node + 1] - outOffsets[node];
+	}
+
+	/**
+	 * Returns the index of the <i>i</i>-th outgoing edge of the node with the
+	 * given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @param i
+	 *            The position of the outgoing edge, in range
+	 *            <code>[0, {@link #getOutDegree(int)})</code>.
+	 * @return The index of the <i>i</i>-th outgoing edge.
+	 */
+	public int getOutgoingEdge(int node, int i) {
+		checkRange(i, getOutDegree(node));
+		return outEdges[outOffsets[node] + i];
+	}
+
+	/**
+	 * Returns the index of the source node of the edge with the given index.
+	 *
+	 * @param edge
+	 *            The index of the edge.
+	 * @return The index of the edge's source node.
+	 */
+	public int getSource(int edge) {
+		return edgeSources[edge];
+	}
+
+	/**
+	 * Returns the index of the target node of the edge with the given index.
+	 *
+	 * @param edge
+	 *            The index of the edge.
+	 * @return The index of the edge's target node.
+	 */
+	public int getTarget(int edge) {
+		return edgeTargets[edge];
+	}
+
+	/**
+	 * Returns the index of the given {@link Edge} within this
+	 * {@link GraphSnapshot}, or <code>-1</code> if the edge is not part of it.
+	 *
+	 * @param edge
+	 *            The {@link Edge} whose index to return.
+	 * @return The index of the given {@link Edge} or <code>-1</code>.
+	 */
+	public int indexOf(Edge edge) {
+		Integer index = edgeIndices.get(edge);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Returns the index of the given {@link Node} within this
+	 * {@link GraphSnapshot}, or <code>-1</code> if the node is not part of it.
+	 *
+	 * @param node
+	 *            The {@link Node} whose index to return.
+	 * @return The index of the given {@link Node} or <code>-1</code>.
+	 */
+	public int indexOf(Node node) {
+		Integer index = nodeIndices.get(node);
+		return index == null ? -1 : index.intValue();
+	}
+
+}
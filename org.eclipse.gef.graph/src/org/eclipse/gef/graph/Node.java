@@ -259,9 +259,8 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Edge> incoming = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		incoming.addAll(getIncomingEdges());
-		if (graph.getNestingNode() != null) {
-			incoming.addAll(graph.getNestingNode().getAllIncomingEdges());
+		for (Node n = this; n != null && n.graph != null; n = n.graph.getNestingNode()) {
+			incoming.addAll(n.graph.getIncomingEdges(n));
 		}
 		return incoming;
 	}
@@ -275,8 +274,14 @@ public class Node implements IAttributeStore {
 	 */
 	public Set<Node> getAllNeighbors() {
 		Set<Node> neighbors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		neighbors.addAll(getAllPredecessorNodes());
-		neighbors.addAll(getAllSuccessorNodes());
+		for (Node n = this; n != null && n.graph != null; n = n.graph.getNestingNode()) {
+			for (Edge incoming : n.graph.getIncomingEdges(n)) {
+				neighbors.add(incoming.getSource());
+			}
+			for (Edge outgoing : n.graph.getOutgoingEdges(n)) {
+				neighbors.add(outgoing.getTarget());
+			}
+		}
 		return neighbors;
 	}
 
@@ -292,9 +297,8 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Edge> outgoing = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		outgoing.addAll(getOutgoingEdges());
-		if (graph.getNestingNode() != null) {
-			outgoing.addAll(graph.getNestingNode().getAllOutgoingEdges());
+		for (Node n = this; n != null && n.graph != null; n = n.graph.getNestingNode()) {
+			outgoing.addAll(n.graph.getOutgoingEdges(n));
 		}
 		return outgoing;
 	}
@@ -311,9 +315,10 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Node> predecessors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		predecessors.addAll(getPredecessorNodes());
-		if (graph.getNestingNode() != null) {
-			predecessors.addAll(graph.getNestingNode().getAllPredecessorNodes());
+		for (Node n = this; n != null && n.graph != null; n = n.graph.getNestingNode()) {
+			for (Edge incoming : n.graph.getIncomingEdges(n)) {
+				predecessors.add(incoming.getSource());
+			}
 		}
 		return predecessors;
 	}
@@ -330,9 +335,10 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Node> successors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		successors.addAll(getSuccessorNodes());
-		if (graph.getNestingNode() != null) {
-			successors.addAll(graph.getNestingNode().getAllSuccessorNodes());
+		for (Node n = this; n != null && n.graph != null; n = n.graph.getNestingNode()) {
+			for (Edge outgoing : n.graph.getOutgoingEdges(n)) {
+				successors.add(outgoing.getTarget());
+			}
 		}
 		return successors;
 	}
@@ -363,11 +369,7 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Edge> incoming = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getTarget() == this) {
-				incoming.add(e);
-			}
-		}
+		incoming.addAll(graph.getIncomingEdges(this));
 		return incoming;
 	}
 
@@ -379,8 +381,14 @@ public class Node implements IAttributeStore {
 	 */
 	public Set<Node> getNeighbors() {
 		Set<Node> neighbors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		neighbors.addAll(getPredecessorNodes());
-		neighbors.addAll(getSuccessorNodes());
+		if (graph != null) {
+			for (Edge incoming : graph.getIncomingEdges(this)) {
+				neighbors.add(incoming.getSource());
+			}
+			for (Edge outgoing : graph.getOutgoingEdges(this)) {
+				neighbors.add(outgoing.getTarget());
+			}
+		}
 		return neighbors;
 	}
 
@@ -407,11 +415,7 @@ public class Node implements IAttributeStore {
 			return Collections.emptySet();
 		}
 		Set<Edge> outgoing = Collections.newSetFromMap(new IdentityHashMap<Edge, Boolean>());
-		for (Edge e : graph.getEdges()) {
-			if (e.getSource() == this) {
-				outgoing.add(e);
-			}
-		}
+		outgoing.addAll(graph.getOutgoingEdges(this));
 		return outgoing;
 	}
 
@@ -424,8 +428,10 @@ public class Node implements IAttributeStore {
 	 */
 	public Set<Node> getPredecessorNodes() {
 		Set<Node> predecessors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge incoming : getIncomingEdges()) {
-			predecessors.add(incoming.getSource());
+		if (graph != null) {
+			for (Edge incoming : graph.getIncomingEdges(this)) {
+				predecessors.add(incoming.getSource());
+			}
 		}
 		return predecessors;
 	}
@@ -439,8 +445,10 @@ public class Node implements IAttributeStore {
 	 */
 	public Set<Node> getSuccessorNodes() {
 		Set<Node> successors = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
-		for (Edge outgoing : getOutgoingEdges()) {
-			successors.add(outgoing.getTarget());
+		if (graph != null) {
+			for (Edge outgoing : graph.getOutgoingEdges(this)) {
+				successors.add(outgoing.getTarget());
+			}
 		}
 		return successors;
 	}
@@ -453,7 +461,7 @@ public class Node implements IAttributeStore {
 	 *            The new {@link Graph} for this {@link Node}.
 	 */
 	void setGraph(Graph graph) {
-		if (graph != null && !graph.getNodes().contains(this)) {
+		if (graph != null && !graph.contains(this)) {
 			throw new IllegalArgumentException("Node is not contained in graph " + graph);
 		}
 		this.graph = graph;
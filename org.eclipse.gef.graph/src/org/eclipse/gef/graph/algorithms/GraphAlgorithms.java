@@ -0,0 +1,563 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.graph.algorithms;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.graph.GraphSnapshot;
+
+/**
+ * Provides graph algorithms that operate on the node and edge indices of a
+ * {@link GraphSnapshot}. Unless stated otherwise, all algorithms run in O(N +
+ * E) time and space, and neither recurse (so that deep graphs do not overflow
+ * the stack) nor access the underlying (observable) graph model.
+ *
+ * @author agent
+ *
+ */
+public class GraphAlgorithms {
+
+	/**
+	 * Specifies which edges are followed when traversing a graph.
+	 */
+	public enum Direction {
+		/**
+		 * Follow outgoing edges, i.e. from source to target.
+		 */
+		OUTGOING,
+
+		/**
+		 * Follow incoming edges, i.e. from target to source.
+		 */
+		INCOMING,
+
+		/**
+		 * Follow edges in both directions, i.e. treat the graph as undirected.
+		 */
+		BOTH
+	}
+
+	// bucket indices of the greedy feedback arc set heuristic
+	private static final int SINKS = 0;
+	private static final int SOURCES = 1;
+
+	/**
+	 * Computes the breadth first order of the nodes that are reachable from
+	 * the given roots. Roots are visited in the given order; a root that was
+	 * already reached from a preceding root is not visited again.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to traverse.
+	 * @param direction
+	 *            The {@link Direction} in which edges are followed.
+	 * @param roots
+	 *            The indices of the nodes to start from.
+	 * @param predecessors
+	 *            An array of length {@link GraphSnapshot#getNodeCount()} that
+	 *            is filled with the index of the node from which each node was
+	 *            reached, or <code>-1</code> for roots and unreached nodes. May
+	 *            be <code>null</code>.
+	 * @return The indices of all reached nodes, in breadth first order.
+	 */
+	public static int[] breadthFirstOrder(GraphSnapshot graph, Direction direction, int[] roots, int[] predecessors) {
+		int n = graph.getNodeCount();
+		boolean[] visited = new boolean[n];
+		if (predecessors != null) {
+			Arrays.fill(predecessors, -1);
+		}
+		int[] queue = new int[n];
+		int tail = 0;
+		for (int root : roots) {
+			if (visited[root]) {
+				continue;
+			}
+			visited[root] = true;
+			int head = tail;
+			queue[tail++] = root;
+			while (head < tail) {
+				int node = queue[head++];
+				int degree = getDegree(graph, direction, node);
+				for (int i = 0; i < degree; i++) {
+					int neighbor = getNeighbor(graph, direction, node, i);
+					if (!visited[neighbor]) {
+						visited[neighbor] = true;
+						if (predecessors != null) {
+							predecessors[neighbor] = node;
+						}
+						queue[tail++] = neighbor;
+					}
+				}
+			}
+		}
+		return tail == n ? queue : Arrays.copyOf(queue, tail);
+	}
+
+	/**
+	 * Computes the (weakly) connected components of the given graph, i.e. the
+	 * components that result when ignoring edge directions. Components are
+	 * numbered in the order of their lowest node index.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to analyze.
+	 * @return An array that holds the component index of each node.
+	 */
+	public static int[] connectedComponents(GraphSnapshot graph) {
+		int n = graph.getNodeCount();
+		int[] components = new int[n];
+		Arrays.fill(components, -1);
+		int[] queue = new int[n];
+		int componentCount = 0;
+		for (int root = 0; root < n; root++) {
+			if (components[root] >= 0) {
+				continue;
+			}
+			int head = 0;
+			int tail = 0;
+			components[root] = componentCount;
+			queue[tail++] = root;
+			while (head < tail) {
+				int node = queue[head++];
+				int degree = getDegree(graph, Direction.BOTH, node);
+				for (int i = 0; i < degree; i++) {
+					int neighbor = getNeighbor(graph, Direction.BOTH, node, i);
+					if (components[neighbor] < 0) {
+						components[neighbor] = componentCount;
+						queue[tail++] = neighbor;
+					}
+				}
+			}
+			componentCount++;
+		}
+		return components;
+	}
+
+	/**
+	 * Computes the depth first (pre-)order of the nodes that are reachable
+	 * from the given roots. Roots are visited in the given order; a root that
+	 * was already reached from a preceding root is not visited again.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to traverse.
+	 * @param direction
+	 *            The {@link Direction} in which edges are followed.
+	 * @param roots
+	 *            The indices of the nodes to start from.
+	 * @return The indices of all reached nodes, in depth first pre-order.
+	 */
+	public static int[] depthFirstOrder(GraphSnapshot graph, Direction direction, int[] roots) {
+		int n = graph.getNodeCount();
+		boolean[] visited = new boolean[n];
+		int[] order = new int[n];
+		int count = 0;
+		// explicit stack of nodes and the position of their next neighbor
+		int[] stack = new int[n];
+		int[] positions = new int[n];
+		for (int root : roots) {
+			if (visited[root]) {
+				continue;
+			}
+			visited[root] = true;
+			order[count++] = root;
+			int top = 0;
+			stack[0] = root;
+			positions[0] = 0;
+			while (top >= 0) {
+				int node = stack[top];
+				if (positions[top] < getDegree(graph, direction, node)) {
+					int neighbor = getNeighbor(graph, direction, node, positions[top]++);
+					if (!visited[neighbor]) {
+						visited[neighbor] = true;
+						order[count++] = neighbor;
+						stack[++top] = neighbor;
+						positions[top] = 0;
+					}
+				} else {
+					top--;
+				}
+			}
+		}
+		return count == n ? order : Arrays.copyOf(order, count);
+	}
+
+	/**
+	 * Computes a feedback arc set of the given graph, i.e. a set of edges
+	 * whose reversal renders the graph acyclic, using the greedy heuristic of
+	 * Eades, Lin, and Smyth ("A fast and effective heuristic for the feedback
+	 * arc set problem", 1993). Self-loops cannot be broken by reversal and are
+	 * thus never part of the returned set.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to analyze.
+	 * @return An array that indicates for each edge whether it is part of the
+	 *         feedback arc set.
+	 */
+	public static boolean[] feedbackArcSet(GraphSnapshot graph) {
+		int n = graph.getNodeCount();
+		int[] ins = new int[n];
+		int[] outs = new int[n];
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			if (graph.getSource(e) != graph.getTarget(e)) {
+				outs[graph.getSource(e)]++;
+				ins[graph.getTarget(e)]++;
+			}
+		}
+
+		// doubly linked bucket lists: sinks, sources, and one bucket per
+		// out-degree minus in-degree value (in range [-maxIn, maxOut])
+		int maxIn = 0;
+		int maxOut = 0;
+		for (int node = 0; node < n; node++) {
+			maxIn = Math.max(maxIn, ins[node]);
+			maxOut = Math.max(maxOut, outs[node]);
+		}
+		int[] heads = new int[maxIn + maxOut + 3];
+		Arrays.fill(heads, -1);
+		int[] next = new int[n];
+		int[] previous = new int[n];
+		int[] buckets = new int[n];
+		int maxBucket = SOURCES;
+		for (int node = 0; node < n; node++) {
+			buckets[node] = getBucket(ins[node], outs[node], maxIn);
+			link(node, heads, next, previous, buckets);
+			maxBucket = Math.max(maxBucket, buckets[node]);
+		}
+
+		// left sequence grows to the right, right sequence grows to the left
+		int[] positions = new int[n];
+		boolean[] removed = new boolean[n];
+		int left = 0;
+		int right = n - 1;
+		for (int remaining = n; remaining > 0; remaining--) {
+			int node;
+			if (heads[SINKS] >= 0) {
+				node = heads[SINKS];
+				positions[node] = right--;
+			} else if (heads[SOURCES] >= 0) {
+				node = heads[SOURCES];
+				positions[node] = left++;
+			} else {
+				while (heads[maxBucket] < 0) {
+					maxBucket--;
+				}
+				node = heads[maxBucket];
+				positions[node] = left++;
+			}
+			unlink(node, heads, next, previous, buckets);
+			removed[node] = true;
+
+			// update degrees of the remaining neighbors
+			for (int i = 0; i < graph.getOutDegree(node); i++) {
+				int target = graph.getTarget(graph.getOutgoingEdge(node, i));
+				if (!removed[target]) {
+					unlink(target, heads, next, previous, buckets);
+					buckets[target] = getBucket(--ins[target], outs[target], maxIn);
+					link(target, heads, next, previous, buckets);
+					maxBucket = Math.max(maxBucket, buckets[target]);
+				}
+			}
+			for (int i = 0; i < graph.getInDegree(node); i++) {
+				int source = graph.getSource(graph.getIncomingEdge(node, i));
+				if (!removed[source]) {
+					unlink(source, heads, next, previous, buckets);
+					buckets[source] = getBucket(ins[source], --outs[source], maxIn);
+					link(source, heads, next, previous, buckets);
+				}
+			}
+		}
+
+		boolean[] feedbackArcs = new boolean[graph.getEdgeCount()];
+		for (int e = 0; e < feedbackArcs.length; e++) {
+			feedbackArcs[e] = positions[graph.getSource(e)] > positions[graph.getTarget(e)];
+		}
+		return feedbackArcs;
+	}
+
+	private static int getBucket(int in, int out, int maxIn) {
+		if (out == 0) {
+			return SINKS;
+		}
+		if (in == 0) {
+			return SOURCES;
+		}
+		return out - in + maxIn + 2;
+	}
+
+	private static int getDegree(GraphSnapshot graph, Direction direction, int node) {
+		switch (direction) {
+		case OUTGOING:
+			return graph.getOutDegree(node);
+		case INCOMING:
+			return graph.getInDegree(node);
+		default:
+			return graph.getOutDegree(node) + graph.getInDegree(node);
+		}
+	}
+
+	private static int getNeighbor(GraphSnapshot graph, Direction direction, int node, int i) {
+		if (direction == Direction.INCOMING) {
+			return graph.getSource(graph.getIncomingEdge(node, i));
+		}
+		int outDegree = graph.getOutDegree(node);
+		if (i < outDegree) {
+			return graph.getTarget(graph.getOutgoingEdge(node, i));
+		}
+		return graph.getSource(graph.getIncomingEdge(node, i - outDegree));
+	}
+
+	private static void link(int node, int[] heads, int[] next, int[] previous, int[] buckets) {
+		int head = heads[buckets[node]];
+		next[node] = head;
+		previous[node] = -1;
+		if (head >= 0) {
+			previous[head] = node;
+		}
+		heads[buckets[node]] = node;
+	}
+
+	/**
+	 * Computes the shortest path distances from the given source node to all
+	 * other nodes. If no edge weights are given, each edge has a length of
+	 * <code>1</code> and distances are computed by a breadth first search in
+	 * O(N + E); otherwise Dijkstra's algorithm is used, which runs in O((N + E)
+	 * log N).
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to analyze.
+	 * @param direction
+	 *            The {@link Direction} in which edges are followed.
+	 * @param source
+	 *            The index of the node to compute the distances from.
+	 * @param weights
+	 *            The non-negative length of each edge, indexed by edge, or
+	 *            <code>null</code> if all edges have unit length.
+	 * @param predecessors
+	 *            An array of length {@link GraphSnapshot#getNodeCount()} that
+	 *            is filled with the index of the preceding node on a shortest
+	 *            path to each node, or <code>-1</code> for the source and
+	 *            unreachable nodes. May be <code>null</code>.
+	 * @return An array holding the distance of each node from the source, which
+	 *         is {@link Double#POSITIVE_INFINITY} for unreachable nodes.
+	 */
+	public static double[] shortestPaths(GraphSnapshot graph, Direction direction, int source, double[] weights,
+			int[] predecessors) {
+		int n = graph.getNodeCount();
+		double[] distances = new double[n];
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+		if (weights == null) {
+			int[] parents = predecessors == null ? new int[n] : predecessors;
+			int[] order = breadthFirstOrder(graph, direction, new int[] { source }, parents);
+			distances[source] = 0;
+			for (int i = 1; i < order.length; i++) {
+				distances[order[i]] = distances[parents[order[i]]] + 1;
+			}
+			return distances;
+		}
+		for (double weight : weights) {
+			if (!(weight >= 0)) {
+				throw new IllegalArgumentException("Edge weights have to be non-negative, but got " + weight + ".");
+			}
+		}
+		if (predecessors != null) {
+			Arrays.fill(predecessors, -1);
+		}
+
+		// binary min-heap of nodes keyed by their tentative distance
+		int[] heap = new int[n];
+		int[] heapPositions = new int[n];
+		Arrays.fill(heapPositions, -1);
+		boolean[] settled = new boolean[n];
+		int size = 0;
+		distances[source] = 0;
+		heap[size] = source;
+		heapPositions[source] = size++;
+		while (size > 0) {
+			int node = heap[0];
+			heapPositions[node] = -1;
+			settled[node] = true;
+			if (--size > 0) {
+				heap[0] = heap[size];
+				heapPositions[heap[0]] = 0;
+				siftDown(heap, heapPositions, size, distances, 0);
+			}
+			int degree = getDegree(graph, direction, node);
+			int outDegree = direction == Direction.INCOMING ? 0 : graph.getOutDegree(node);
+			for (int i = 0; i < degree; i++) {
+				int edge = i < outDegree ? graph.getOutgoingEdge(node, i)
+						: graph.getIncomingEdge(node, i - outDegree);
+				int neighbor = i < outDegree ? graph.getTarget(edge) : graph.getSource(edge);
+				double distance = distances[node] + weights[edge];
+				if (!settled[neighbor] && distance < distances[neighbor]) {
+					distances[neighbor] = distance;
+					if (predecessors != null) {
+						predecessors[neighbor] = node;
+					}
+					if (heapPositions[neighbor] < 0) {
+						heap[size] = neighbor;
+						heapPositions[neighbor] = size++;
+					}
+					siftUp(heap, heapPositions, distances, heapPositions[neighbor]);
+				}
+			}
+		}
+		return distances;
+	}
+
+	private static void siftDown(int[] heap, int[] heapPositions, int size, double[] keys, int position) {
+		int node = heap[position];
+		while (2 * position + 1 < size) {
+			int child = 2 * position + 1;
+			if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+				child++;
+			}
+			if (keys[heap[child]] >= keys[node]) {
+				break;
+			}
+			heap[position] = heap[child];
+			heapPositions[heap[position]] = position;
+			position = child;
+		}
+		heap[position] = node;
+		heapPositions[node] = position;
+	}
+
+	private static void siftUp(int[] heap, int[] heapPositions, double[] keys, int position) {
+		int node = heap[position];
+		while (position > 0) {
+			int parent = (position - 1) / 2;
+			if (keys[heap[parent]] <= keys[node]) {
+				break;
+			}
+			heap[position] = heap[parent];
+			heapPositions[heap[position]] = position;
+			position = parent;
+		}
+		heap[position] = node;
+		heapPositions[node] = position;
+	}
+
+	/**
+	 * Computes the strongly connected components of the given graph (using
+	 * Tarjan's algorithm). Components are numbered in reverse topological
+	 * order, i.e. edges between different components always lead from a
+	 * component with a higher index to one with a lower index.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to analyze.
+	 * @return An array that holds the component index of each node.
+	 */
+	public static int[] stronglyConnectedComponents(GraphSnapshot graph) {
+		int n = graph.getNodeCount();
+		int[] indices = new int[n];
+		Arrays.fill(indices, -1);
+		int[] lowLinks = new int[n];
+		int[] components = new int[n];
+		Arrays.fill(components, -1);
+		// nodes of the components currently being discovered
+		int[] componentStack = new int[n];
+		int componentTop = -1;
+		// explicit call stack of nodes and the position of their next edge
+		int[] callStack = new int[n];
+		int[] positions = new int[n];
+		int index = 0;
+		int componentCount = 0;
+		for (int root = 0; root < n; root++) {
+			if (indices[root] >= 0) {
+				continue;
+			}
+			int top = 0;
+			callStack[0] = root;
+			positions[0] = 0;
+			indices[root] = lowLinks[root] = index++;
+			componentStack[++componentTop] = root;
+			while (top >= 0) {
+				int node = callStack[top];
+				if (positions[top] < graph.getOutDegree(node)) {
+					int target = graph.getTarget(graph.getOutgoingEdge(node, positions[top]++));
+					if (indices[target] < 0) {
+						indices[target] = lowLinks[target] = index++;
+						componentStack[++componentTop] = target;
+						callStack[++top] = target;
+						positions[top] = 0;
+					} else if (components[target] < 0) {
+						// target is on the component stack
+						lowLinks[node] = Math.min(lowLinks[node], indices[target]);
+					}
+				} else {
+					if (lowLinks[node] == indices[node]) {
+						int member;
+						do {
+							member = componentStack[componentTop--];
+							components[member] = componentCount;
+						} while (member != node);
+						componentCount++;
+					}
+					if (--top >= 0) {
+						int parent = callStack[top];
+						lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+					}
+				}
+			}
+		}
+		return components;
+	}
+
+	/**
+	 * Computes a topological order of the nodes of the given graph (using
+	 * Kahn's algorithm), in which the source of each edge precedes its target.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} to sort.
+	 * @return The indices of all nodes in topological order, or
+	 *         <code>null</code> if the graph contains a cycle (including
+	 *         self-loops).
+	 */
+	public static int[] topologicalOrder(GraphSnapshot graph) {
+		int n = graph.getNodeCount();
+		int[] ins = new int[n];
+		for (int node = 0; node < n; node++) {
+			ins[node] = graph.getInDegree(node);
+		}
+		int[] order = new int[n];
+		int tail = 0;
+		for (int node = 0; node < n; node++) {
+			if (ins[node] == 0) {
+				order[tail++] = node;
+			}
+		}
+		for (int head = 0; head < tail; head++) {
+			int node = order[head];
+			for (int i = 0; i < graph.getOutDegree(node); i++) {
+				int target = graph.getTarget(graph.getOutgoingEdge(node, i));
+				if (--ins[target] == 0) {
+					order[tail++] = target;
+				}
+			}
+		}
+		return tail == n ? order : null;
+	}
+
+	private static void unlink(int node, int[] heads, int[] next, int[] previous, int[] buckets) {
+		if (previous[node] >= 0) {
+			next[previous[node]] = next[node];
+		} else {
+			heads[buckets[node]] = next[node];
+		}
+		if (next[node] >= 0) {
+			previous[next[node]] = previous[node];
+		}
+	}
+
+	private GraphAlgorithms() {
+		// this class should not be instantiated by clients
+	}
+
+}
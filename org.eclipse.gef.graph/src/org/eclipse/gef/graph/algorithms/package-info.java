@@ -0,0 +1,17 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors: agent - initial text
+ *
+ *******************************************************************************/
+/**
+ * This package provides graph algorithms (traversals, orderings, components,
+ * cycle breaking, and shortest paths) operating on
+ * {@link org.eclipse.gef.graph.GraphSnapshot}s.
+ */
+package org.eclipse.gef.graph.algorithms;
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how the {@link SpringLayoutAlgorithm} scales with the number of
+ * threads used to compute forces, with and without the Barnes-Hut
+ * approximation, for a random graph.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SpringLayoutAlgorithmBenchmark {
+
+	private static final int ITERATIONS = 20;
+
+	@Param({ "1000", "5000" })
+	private int nodes;
+
+	@Param({ "1", "2", "4" })
+	private int parallelism;
+
+	@Param({ "0", "0.5" })
+	private double theta;
+
+	private LayoutContext context;
+
+	/**
+	 * Lays out the graph.
+	 *
+	 * @return The {@link LayoutContext}.
+	 */
+	@Benchmark
+	public LayoutContext applyLayout() {
+		context.applyLayout(true);
+		return context;
+	}
+
+	/**
+	 * Creates a {@link LayoutContext} for a new random graph, so that each
+	 * layout pass starts from the same node locations.
+	 */
+	@Setup(Level.Invocation)
+	public void setup() {
+		Random random = new Random(0);
+		List<Node> graphNodes = new ArrayList<>();
+		for (int i = 0; i < nodes; i++) {
+			Node node = new Node();
+			LayoutProperties.setLocation(node, new Point(
+					random.nextDouble() * 1000, random.nextDouble() * 1000));
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+			graphNodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < nodes * 3 / 2; i++) {
+			edges.add(new Edge(graphNodes.get(random.nextInt(nodes)),
+					graphNodes.get(random.nextInt(nodes))));
+		}
+		Graph graph = new Graph(graphNodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(ITERATIONS);
+		algorithm.setApproximationTheta(theta);
+		algorithm.setParallelism(parallelism);
+		context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+	}
+
+}
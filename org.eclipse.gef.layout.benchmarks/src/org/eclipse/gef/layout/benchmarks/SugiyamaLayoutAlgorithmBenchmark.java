@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BarycentricCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.GreedyCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SimpleLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SplitCrossingReducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how the {@link SugiyamaLayoutAlgorithm} scales with the size of
+ * the (directed acyclic) graph, for each of the available
+ * {@link CrossingReducer}s.
+ *
+ * @author agent
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SugiyamaLayoutAlgorithmBenchmark {
+
+	private static final int LAYERS = 10;
+
+	@Param({ "5000", "10000", "20000", "50000" })
+	private int nodes;
+
+	@Param({ "barycentric", "split", "greedy" })
+	private String reducer;
+
+	private LayoutContext context;
+
+	/**
+	 * Lays out the graph.
+	 *
+	 * @return The {@link LayoutContext}.
+	 */
+	@Benchmark
+	public LayoutContext applyLayout() {
+		context.applyLayout(true);
+		return context;
+	}
+
+	private CrossingReducer createCrossingReducer() {
+		if ("barycentric".equals(reducer)) {
+			return new BarycentricCrossingReducer();
+		} else if ("split".equals(reducer)) {
+			return new SplitCrossingReducer();
+		}
+		return new GreedyCrossingReducer();
+	}
+
+	/**
+	 * Creates a random DAG whose nodes are distributed among {@link #LAYERS}
+	 * ranks, with edges that point one or two ranks downwards, so that long
+	 * edges (and thus dummy nodes) are part of the layering.
+	 */
+	private Graph createGraph() {
+		Random random = new Random(0);
+		List<List<Node>> ranks = new ArrayList<>();
+		List<Node> graphNodes = new ArrayList<>();
+		for (int r = 0; r < LAYERS; r++) {
+			ranks.add(new ArrayList<Node>());
+		}
+		for (int i = 0; i < nodes; i++) {
+			Node node = new Node();
+			LayoutProperties.setSize(node, new Dimension(
+					20 + random.nextInt(60), 10 + random.nextInt(30)));
+			ranks.get(i * LAYERS / nodes).add(node);
+			graphNodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int r = 1; r < LAYERS; r++) {
+			for (Node target : ranks.get(r)) {
+				// every node has a predecessor on the preceding rank
+				List<Node> sources = ranks.get(r - 1);
+				edges.add(new Edge(sources.get(random.nextInt(sources.size())),
+						target));
+				if (random.nextInt(2) == 0) {
+					int span = r > 1 && random.nextInt(4) == 0 ? 2 : 1;
+					sources = ranks.get(r - span);
+					edges.add(new Edge(
+							sources.get(random.nextInt(sources.size())),
+							target));
+				}
+			}
+		}
+		Graph graph = new Graph(graphNodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		return graph;
+	}
+
+	/**
+	 * Creates a {@link LayoutContext} for a new random graph, so that each
+	 * layout pass starts from the same (not yet laid out) graph.
+	 */
+	@Setup(Level.Invocation)
+	public void setup() {
+		context = new LayoutContext();
+		context.setGraph(createGraph());
+		context.setLayoutAlgorithm(new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL, new SimpleLayerProvider(),
+				createCrossingReducer()));
+	}
+
+}
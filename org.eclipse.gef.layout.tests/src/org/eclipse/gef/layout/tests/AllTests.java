@@ -17,6 +17,8 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ LayoutAlgorithmTests.class })
+@SuiteClasses({ LayoutAlgorithmTests.class, LayoutPropertyStoreTests.class,
+		LayoutSnapshotTests.class, SpringLayoutAlgorithmTests.class,
+		SugiyamaLayoutAlgorithmTests.class })
 public class AllTests {
 }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
+import org.junit.Test;
+
+public class LayoutPropertyStoreTests {
+
+	@Test
+	public void changesAreFlushedBeforePostLayoutPass() {
+		final Node a = new Node();
+		final Node b = new Node();
+		LayoutProperties.setLocation(a, new Point(1, 2));
+		LayoutProperties.setSize(a, new Dimension(3, 4));
+		LayoutProperties.setLocation(b, new Point(5, 6));
+		LayoutContext context = new LayoutContext();
+		context.setGraph(new Graph(Arrays.asList(a, b),
+				Arrays.<Edge> asList()));
+		context.setLayoutAlgorithm(new ILayoutAlgorithm() {
+			@Override
+			public void applyLayout(LayoutContext context, boolean clean) {
+				LayoutPropertyStore store = context.getPropertyStore();
+				assertSame(a, store.getNode(0));
+				assertEquals(1, store.indexOf(b));
+				store.setLocation(0, store.getX(0) + 10, store.getY(0) + 10);
+				store.setSize(0, store.getWidth(0) * 2,
+						store.getHeight(0) * 2);
+				// attributes are not changed during the layout pass
+				assertEquals(new Point(1, 2), LayoutProperties.getLocation(a));
+			}
+		});
+		final Point[] postLayoutLocation = new Point[1];
+		context.schedulePostLayoutPass(new Runnable() {
+			@Override
+			public void run() {
+				postLayoutLocation[0] = LayoutProperties.getLocation(a);
+			}
+		});
+		Point locationB = LayoutProperties.getLocation(b);
+
+		context.applyLayout(true);
+		assertEquals(new Point(11, 12), postLayoutLocation[0]);
+		assertEquals(new Dimension(6, 8), LayoutProperties.getSize(a));
+		// unchanged locations are not written back
+		assertSame(locationB, LayoutProperties.getLocation(b));
+	}
+
+	@Test
+	public void storeIsRecreatedForEachLayoutPass() {
+		final Node a = new Node();
+		LayoutContext context = new LayoutContext();
+		context.setGraph(new Graph(Arrays.asList(a), Arrays.<Edge> asList()));
+		LayoutPropertyStore store = context.getPropertyStore();
+		assertEquals(0, store.getX(0), 0);
+		assertEquals(0, store.getWidth(0), 0);
+		assertSame(store, context.getPropertyStore());
+
+		// attributes changed before the layout pass are read anew
+		context.schedulePreLayoutPass(new Runnable() {
+			@Override
+			public void run() {
+				LayoutProperties.setLocation(a, new Point(7, 8));
+			}
+		});
+		context.preLayout();
+		LayoutPropertyStore passStore = context.getPropertyStore();
+		assertNotSame(store, passStore);
+		assertEquals(7, passStore.getX(0), 0);
+		context.postLayout();
+		// nothing was changed, so nothing is written back
+		assertNull(LayoutProperties.getSize(a));
+	}
+
+}
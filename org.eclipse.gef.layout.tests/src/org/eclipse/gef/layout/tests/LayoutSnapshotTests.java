@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutFilter;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutSnapshot;
+import org.junit.Test;
+
+public class LayoutSnapshotTests {
+
+	@Test
+	public void applyLocations() {
+		Node a = new Node();
+		Node b = new Node();
+		LayoutProperties.setLocation(a, new Point(1, 2));
+		LayoutProperties.setLocation(b, new Point(3, 4));
+		b.getAttributes().put(LayoutProperties.MOVABLE_PROPERTY, false);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(new Graph(Arrays.asList(a, b),
+				Arrays.<Edge> asList()));
+		LayoutSnapshot snapshot = new LayoutSnapshot(context);
+
+		double[] xs = snapshot.getLocationsX();
+		double[] ys = snapshot.getLocationsY();
+		xs[0] = xs[1] = 10;
+		ys[0] = ys[1] = 20;
+		// the returned arrays are copies
+		assertEquals(1, snapshot.getX(0), 0);
+		snapshot.applyLocations(xs, ys);
+		// locations are written to the property store
+		assertEquals(10, context.getPropertyStore().getX(0), 0);
+		assertEquals(new Point(1, 2), LayoutProperties.getLocation(a));
+		context.flushPropertyStore();
+		assertEquals(new Point(10, 20), LayoutProperties.getLocation(a));
+		// immovable nodes are not changed
+		assertEquals(new Point(3, 4), LayoutProperties.getLocation(b));
+	}
+
+	@Test
+	public void readsLayoutProperties() {
+		Node a = new Node();
+		Node b = new Node();
+		Node hidden = new Node();
+		LayoutProperties.setLocation(a, new Point(1, 2));
+		LayoutProperties.setSize(a, new Dimension(3, 4));
+		LayoutProperties.setResizable(b, false);
+		Edge ab = new Edge(a, b);
+		LayoutProperties.setWeight(ab, 0.5);
+		Edge ah = new Edge(a, hidden);
+		Graph graph = new Graph(Arrays.asList(a, b, hidden),
+				Arrays.asList(ah, ab));
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 100, 50));
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		final Node filtered = hidden;
+		context.addLayoutFilter(new ILayoutFilter() {
+			@Override
+			public boolean isLayoutIrrelevant(Edge edge) {
+				return false;
+			}
+
+			@Override
+			public boolean isLayoutIrrelevant(Node node) {
+				return node == filtered;
+			}
+		});
+		LayoutSnapshot snapshot = new LayoutSnapshot(context);
+
+		// layout irrelevant nodes (and their edges) are not part of the
+		// snapshot
+		assertEquals(2, snapshot.getGraph().getNodeCount());
+		assertEquals(1, snapshot.getGraph().getEdgeCount());
+		assertSame(ab, snapshot.getGraph().getEdge(0));
+		assertEquals(0.5, snapshot.getWeight(0), 0);
+		assertEquals(1, snapshot.getX(0), 0);
+		assertEquals(2, snapshot.getY(0), 0);
+		assertEquals(3, snapshot.getWidth(0), 0);
+		assertEquals(4, snapshot.getHeight(0), 0);
+		assertTrue(snapshot.isResizable(0));
+		assertFalse(snapshot.isResizable(1));
+		assertTrue(snapshot.isMovable(1));
+		assertEquals(new Rectangle(0, 0, 100, 50), snapshot.getBounds());
+	}
+
+}
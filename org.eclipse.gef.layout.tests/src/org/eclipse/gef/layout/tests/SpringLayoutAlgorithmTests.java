@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.junit.Test;
+
+public class SpringLayoutAlgorithmTests {
+
+	private static void assertSameLocations(Graph expected, Graph actual,
+			double tolerance) {
+		for (int i = 0; i < expected.getNodes().size(); i++) {
+			Point expectedLocation = LayoutProperties
+					.getLocation(expected.getNodes().get(i));
+			Point actualLocation = LayoutProperties
+					.getLocation(actual.getNodes().get(i));
+			assertEquals(expectedLocation.x, actualLocation.x, tolerance);
+			assertEquals(expectedLocation.y, actualLocation.y, tolerance);
+		}
+	}
+
+	private static Graph createGraph(int nodeCount, int edgeCount, long seed) {
+		Random random = new Random(seed);
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setLocation(node, new Point(
+					random.nextDouble() * 1000, random.nextDouble() * 1000));
+			LayoutProperties.setSize(node, new Dimension(10, 10));
+			nodes.add(node);
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < edgeCount; i++) {
+			edges.add(new Edge(nodes.get(random.nextInt(nodeCount)),
+					nodes.get(random.nextInt(nodeCount))));
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 1000, 1000));
+		return graph;
+	}
+
+	private static SpringLayoutAlgorithm createLayoutAlgorithm(double theta,
+			int iterations) {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(iterations);
+		algorithm.setApproximationTheta(theta);
+		return algorithm;
+	}
+
+	private static void layout(Graph graph, SpringLayoutAlgorithm algorithm) {
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+	}
+
+	@Test
+	public void approximatedLayoutOfLargeGraph() {
+		Graph graph = createGraph(20000, 30000, 2);
+		long startMillis = System.currentTimeMillis();
+		layout(graph, createLayoutAlgorithm(1, 10));
+		long endMillis = System.currentTimeMillis();
+		assertTrue(endMillis - startMillis < 10000);
+		Rectangle bounds = LayoutProperties.getBounds(graph);
+		for (Node node : graph.getNodes()) {
+			Point location = LayoutProperties.getLocation(node);
+			assertTrue(bounds.getExpanded(1, 1).contains(location));
+		}
+	}
+
+	@Test
+	public void approximationConvergesToExactForces() {
+		Graph exactGraph = createGraph(200, 300, 1);
+		Graph approximatedGraph = createGraph(200, 300, 1);
+		layout(exactGraph, createLayoutAlgorithm(0, 20));
+		layout(approximatedGraph, createLayoutAlgorithm(1e-9, 20));
+		assertSameLocations(exactGraph, approximatedGraph, 1e-6);
+	}
+
+	@Test
+	public void parallelComputationIsDeterministic() {
+		for (double theta : new double[] { 0, 1 }) {
+			Graph firstGraph = createGraph(500, 700, 3);
+			SpringLayoutAlgorithm algorithm = createLayoutAlgorithm(theta, 20);
+			algorithm.setParallelism(4);
+			layout(firstGraph, algorithm);
+			Graph secondGraph = createGraph(500, 700, 3);
+			algorithm = createLayoutAlgorithm(theta, 20);
+			algorithm.setParallelism(4);
+			layout(secondGraph, algorithm);
+			assertSameLocations(firstGraph, secondGraph, 0);
+		}
+	}
+
+	@Test
+	public void parallelComputationMatchesSequentialComputation() {
+		for (double theta : new double[] { 0, 1 }) {
+			// forces are summed up in a different order, and rounding errors
+			// may be amplified by subsequent iterations, so compare a single
+			// iteration only
+			Graph sequentialGraph = createGraph(500, 700, 3);
+			layout(sequentialGraph, createLayoutAlgorithm(theta, 1));
+			SpringLayoutAlgorithm algorithm = createLayoutAlgorithm(theta, 1);
+			algorithm.setParallelism(4);
+			Graph parallelGraph = createGraph(500, 700, 3);
+			layout(parallelGraph, algorithm);
+			assertSameLocations(sequentialGraph, parallelGraph, 1e-6);
+		}
+	}
+
+	@Test
+	public void randomPlacementIsReproducibleWithSeed() {
+		Graph firstGraph = createGraph(100, 150, 4);
+		SpringLayoutAlgorithm algorithm = createLayoutAlgorithm(0, 5);
+		algorithm.setRandom(true);
+		algorithm.setRandomSeed(42);
+		layout(firstGraph, algorithm);
+		Graph secondGraph = createGraph(100, 150, 4);
+		algorithm = createLayoutAlgorithm(0, 5);
+		algorithm.setRandom(true);
+		algorithm.setRandomSeed(42);
+		layout(secondGraph, algorithm);
+		assertSameLocations(firstGraph, secondGraph, 0);
+	}
+
+	@Test
+	public void parallelEdgesAccumulateWeights() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Node d = new Node();
+		List<Node> nodes = new ArrayList<>();
+		for (Node n : new Node[] { a, b, c, d }) {
+			LayoutProperties.setSize(n, new Dimension(10, 10));
+			nodes.add(n);
+		}
+		LayoutProperties.setLocation(a, new Point(0, 0));
+		LayoutProperties.setLocation(b, new Point(100, 0));
+		LayoutProperties.setLocation(c, new Point(0, 100));
+		LayoutProperties.setLocation(d, new Point(100, 100));
+		List<Edge> edges = new ArrayList<>();
+		edges.add(new Edge(a, b));
+		edges.add(new Edge(b, a));
+		edges.add(new Edge(c, d));
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 100, 100));
+		for (Edge e : edges) {
+			LayoutProperties.setWeight(e, 1);
+		}
+
+		layout(graph, createLayoutAlgorithm(0, 1));
+		// the doubly connected nodes are pulled together more strongly
+		assertTrue(LayoutProperties.getLocation(a)
+				.getDistance(LayoutProperties.getLocation(b)) < LayoutProperties
+						.getLocation(c)
+						.getDistance(LayoutProperties.getLocation(d)));
+	}
+
+}
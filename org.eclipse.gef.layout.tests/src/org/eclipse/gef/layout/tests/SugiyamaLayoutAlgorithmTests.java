@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BarycentricCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingCounter;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.GreedyCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SimpleLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SplitCrossingReducer;
+import org.junit.Test;
+
+public class SugiyamaLayoutAlgorithmTests {
+
+	/**
+	 * Applies a vertical {@link SugiyamaLayoutAlgorithm} with the given
+	 * {@link LayerProvider} to the given {@link Graph} and returns the nodes
+	 * of each layer (as determined by their y coordinate).
+	 */
+	private static List<Set<Node>> calculateLayers(LayerProvider layerProvider,
+			Graph graph) {
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(new SugiyamaLayoutAlgorithm(
+				Direction.VERTICAL, new Dimension(100, 100), layerProvider,
+				null));
+		context.applyLayout(true);
+		TreeMap<Double, Set<Node>> layers = new TreeMap<>();
+		for (Node node : graph.getNodes()) {
+			double y = LayoutProperties.getLocation(node).y;
+			if (!layers.containsKey(y)) {
+				layers.put(y, new HashSet<Node>());
+			}
+			layers.get(y).add(node);
+		}
+		return new ArrayList<>(layers.values());
+	}
+
+	private static void assertDoNotOverlap(List<Node> nodes) {
+		for (Node n1 : nodes) {
+			for (Node n2 : nodes) {
+				if (n1 == n2) {
+					continue;
+				}
+				Point l1 = LayoutProperties.getLocation(n1);
+				Point l2 = LayoutProperties.getLocation(n2);
+				Dimension s1 = LayoutProperties.getSize(n1);
+				Dimension s2 = LayoutProperties.getSize(n2);
+				assertTrue(Math.abs(l1.x - l2.x) >= (s1.width + s2.width) / 2
+						- 1e-9
+						|| Math.abs(l1.y - l2.y) >= (s1.height + s2.height) / 2
+								- 1e-9);
+			}
+		}
+	}
+
+	/**
+	 * Creates a random DAG of 200 differently sized nodes, which are
+	 * distributed among 5 ranks of 40 nodes each. Every node (except those
+	 * of the first rank) is connected to a node of the preceding rank and
+	 * possibly to another preceding node.
+	 */
+	private static Graph createRandomGraph(long seed) {
+		Random random = new Random(seed);
+		List<Node> nodes = new ArrayList<>();
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			Node node = node(5 + random.nextInt(50), 5 + random.nextInt(20));
+			if (i >= 40) {
+				edges.add(new Edge(
+						nodes.get(i / 40 * 40 - 40 + random.nextInt(40)),
+						node));
+				if (random.nextBoolean()) {
+					edges.add(new Edge(
+							nodes.get(random.nextInt(i / 40 * 40)), node));
+				}
+			}
+			nodes.add(node);
+		}
+		return new Graph(nodes, edges);
+	}
+
+	/**
+	 * Returns the bounds of the given {@link Node}, whose location specifies
+	 * its center.
+	 */
+	private static Rectangle getBounds(Node node) {
+		Dimension size = LayoutProperties.getSize(node);
+		return new Rectangle(LayoutProperties.getLocation(node)
+				.getTranslated(-size.width / 2, -size.height / 2), size);
+	}
+
+	/**
+	 * Applies a vertical {@link SugiyamaLayoutAlgorithm} to the given
+	 * {@link Graph}, without any layout bounds, so that the computed
+	 * coordinates are not stretched.
+	 */
+	private static void layout(Graph graph) {
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(
+				new SugiyamaLayoutAlgorithm(Direction.VERTICAL));
+		context.applyLayout(true);
+	}
+
+	private static Node node(double width, double height) {
+		Node node = new Node();
+		LayoutProperties.setSize(node, new Dimension(width, height));
+		return node;
+	}
+
+	private static Set<Node> setOf(Node... nodes) {
+		return new HashSet<>(Arrays.asList(nodes));
+	}
+
+	@Test
+	public void dfsLayersFollowUndirectedDistance() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Node d = new Node();
+		Node e = new Node();
+		// a -> b -> c, d -> c, e is isolated
+		Graph graph = new Graph(Arrays.asList(a, b, c, d, e),
+				Arrays.asList(new Edge(a, b), new Edge(b, c), new Edge(d, c)));
+
+		assertEquals(
+				Arrays.asList(setOf(a, e), setOf(b), setOf(c), setOf(d)),
+				calculateLayers(new DFSLayerProvider(), graph));
+
+		// assigned nodes keep their layer and are unfolded first
+		DFSLayerProvider layerProvider = new DFSLayerProvider();
+		layerProvider.addAssignedNode(d, 0);
+		assertEquals(
+				Arrays.asList(setOf(d, e), setOf(c), setOf(b), setOf(a)),
+				calculateLayers(layerProvider, graph));
+	}
+
+	@Test
+	public void simpleLayersBreakCycles() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		Node d = new Node();
+		// a -> b -> c -> a, c -> d
+		Graph graph = new Graph(Arrays.asList(a, b, c, d),
+				Arrays.asList(new Edge(a, b), new Edge(b, c), new Edge(c, a),
+						new Edge(c, d)));
+
+		// one edge of the cycle is reversed, so that the nodes of the cycle
+		// are placed on distinct layers
+		List<Set<Node>> layers = calculateLayers(new SimpleLayerProvider(),
+				graph);
+		int[] levels = new int[4];
+		for (int l = 0; l < layers.size(); l++) {
+			for (Node node : layers.get(l)) {
+				levels[graph.getNodes().indexOf(node)] = l;
+			}
+		}
+		assertEquals(3, new HashSet<>(
+				Arrays.asList(levels[0], levels[1], levels[2])).size());
+		assertTrue(levels[3] > levels[2]);
+	}
+
+	@Test
+	public void simpleLayersIgnoreSelfLoops() {
+		Node a = new Node();
+		Node b = new Node();
+		Node c = new Node();
+		// a -> b -> c, a -> c, b -> b
+		Graph graph = new Graph(Arrays.asList(a, b, c),
+				Arrays.asList(new Edge(a, b), new Edge(b, c), new Edge(a, c),
+						new Edge(b, b)));
+
+		assertEquals(Arrays.asList(setOf(a), setOf(b), setOf(c)),
+				calculateLayers(new SimpleLayerProvider(), graph));
+	}
+
+	@Test
+	public void chainIsDrawnStraight() {
+		Node a = node(10, 10);
+		Node b = node(50, 20);
+		Node c = node(30, 10);
+		// a -> b -> c
+		layout(new Graph(Arrays.asList(a, b, c),
+				Arrays.asList(new Edge(a, b), new Edge(b, c))));
+
+		assertEquals(LayoutProperties.getLocation(a).x,
+				LayoutProperties.getLocation(b).x, 0);
+		assertEquals(LayoutProperties.getLocation(a).x,
+				LayoutProperties.getLocation(c).x, 0);
+	}
+
+	@Test
+	public void countCrossings() {
+		// edges of K(2,2)
+		assertEquals(1, CrossingCounter.countCrossings(new int[] { 0, 0, 1, 1 },
+				new int[] { 0, 1, 0, 1 }));
+		// edges sharing an end point do not cross
+		assertEquals(0, CrossingCounter.countCrossings(new int[] { 0, 1, 2 },
+				new int[] { 1, 1, 1 }));
+		assertEquals(0,
+				CrossingCounter.countCrossings(new int[0], new int[0]));
+
+		Random random = new Random(0);
+		for (int run = 0; run < 100; run++) {
+			int[] upper = new int[random.nextInt(50)];
+			int[] lower = new int[upper.length];
+			for (int e = 0; e < upper.length; e++) {
+				upper[e] = random.nextInt(20);
+				lower[e] = random.nextInt(1000);
+			}
+			long expected = 0;
+			for (int e = 0; e < upper.length; e++) {
+				for (int f = 0; f < upper.length; f++) {
+					if (upper[e] < upper[f] && lower[e] > lower[f]) {
+						expected++;
+					}
+				}
+			}
+			assertEquals(expected,
+					CrossingCounter.countCrossings(upper, lower));
+		}
+	}
+
+	@Test
+	public void crossingIsRemoved() {
+		for (CrossingReducer crossingReducer : new CrossingReducer[] {
+				new BarycentricCrossingReducer(), new SplitCrossingReducer(),
+				new GreedyCrossingReducer() }) {
+			Node a = node(10, 10);
+			Node b = node(10, 10);
+			Node c = node(10, 10);
+			Node d = node(10, 10);
+			// a -> d, b -> c
+			LayoutContext context = new LayoutContext();
+			context.setGraph(new Graph(Arrays.asList(a, b, c, d),
+					Arrays.asList(new Edge(a, d), new Edge(b, c))));
+			context.setLayoutAlgorithm(new SugiyamaLayoutAlgorithm(
+					Direction.VERTICAL, crossingReducer));
+			context.applyLayout(true);
+
+			assertEquals(
+					LayoutProperties.getLocation(a).x < LayoutProperties
+							.getLocation(b).x,
+					LayoutProperties.getLocation(d).x < LayoutProperties
+							.getLocation(c).x);
+		}
+	}
+
+	@Test
+	public void nodesDoNotOverlap() {
+		Graph graph = createRandomGraph(0);
+		layout(graph);
+
+		assertDoNotOverlap(graph.getNodes());
+	}
+
+	@Test
+	public void nodesDoNotOverlapWithinBounds() {
+		// the drawing is wider than the bounds, so it may not be shrunk
+		Graph graph = createRandomGraph(1);
+		LayoutProperties.setBounds(graph, new Rectangle(10, 20, 100, 50));
+		layout(graph);
+
+		assertDoNotOverlap(graph.getNodes());
+		for (Node node : graph.getNodes()) {
+			assertTrue(getBounds(node).getX() >= 10);
+			assertTrue(getBounds(node).getY() >= 20);
+		}
+
+		// the drawing is stretched to fill larger bounds
+		graph = createRandomGraph(1);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 10000, 10000));
+		layout(graph);
+
+		assertDoNotOverlap(graph.getNodes());
+		Rectangle bounds = null;
+		for (Node node : graph.getNodes()) {
+			bounds = bounds == null ? getBounds(node)
+					: bounds.union(getBounds(node));
+		}
+		assertTrue(bounds.getWidth() > 9000
+				&& bounds.getWidth() <= 10000 + 1e-6);
+		assertTrue(bounds.getHeight() > 9000
+				&& bounds.getHeight() <= 10000 + 1e-6);
+	}
+
+	@Test
+	public void parentIsCentered() {
+		Node a = node(10, 10);
+		Node b = node(30, 10);
+		Node c = node(30, 10);
+		// a -> b, a -> c
+		layout(new Graph(Arrays.asList(a, b, c),
+				Arrays.asList(new Edge(a, b), new Edge(a, c))));
+
+		assertEquals(
+				(LayoutProperties.getLocation(b).x
+						+ LayoutProperties.getLocation(c).x) / 2,
+				LayoutProperties.getLocation(a).x, 1e-9);
+		assertTrue(Math.abs(LayoutProperties.getLocation(b).x
+				- LayoutProperties.getLocation(c).x) >= 30);
+	}
+
+}
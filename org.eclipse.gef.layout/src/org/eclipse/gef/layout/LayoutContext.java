@@ -47,6 +47,7 @@ public class LayoutContext {
 	private final List<Runnable> postLayoutPass = new ArrayList<>();
 	private final List<Runnable> preLayoutPass = new ArrayList<>();
 	private final List<ILayoutFilter> layoutFilters = new ArrayList<>();
+	private LayoutPropertyStore propertyStore;
 
 	/**
 	 * Adds the given ILayoutFilter to this {@link LayoutContext}.
@@ -55,6 +56,7 @@ public class LayoutContext {
 	 *            The ILayoutFilter to add to this context.
 	 */
 	public void addLayoutFilter(ILayoutFilter layoutFilter) {
+		flushPropertyStore();
 		layoutFilters.add(layoutFilter);
 	}
 
@@ -76,12 +78,49 @@ public class LayoutContext {
 		}
 	}
 
+	/**
+	 * Writes the changes recorded by the current {@link #getPropertyStore()
+	 * property store} (if any) back to the attributes of the respective
+	 * {@link Node}s and discards the store, so that a subsequent call to
+	 * {@link #getPropertyStore()} reads the attributes anew. This is done
+	 * automatically at the beginning of {@link #preLayout()} and
+	 * {@link #postLayout()}. It has to be called explicitly by an
+	 * {@link ILayoutAlgorithm} that reads the {@link LayoutProperties} of
+	 * nodes after another algorithm has used the property store within the
+	 * same layout pass (and vice versa).
+	 */
+	public void flushPropertyStore() {
+		if (propertyStore != null) {
+			LayoutPropertyStore store = propertyStore;
+			propertyStore = null;
+			store.flush();
+		}
+	}
+
+	/**
+	 * Returns the {@link LayoutPropertyStore} that holds the
+	 * {@link LayoutProperties} of the layout relevant {@link Node}s (in the
+	 * order of {@link #getNodes()}) for the current layout pass. The store is
+	 * created from the nodes' attributes on first access and its changes are
+	 * written back by {@link #flushPropertyStore()}, i.e. at the latest when
+	 * {@link #postLayout()} is called.
+	 * 
+	 * @return The {@link LayoutPropertyStore} for the current layout pass.
+	 */
+	public LayoutPropertyStore getPropertyStore() {
+		if (propertyStore == null) {
+			propertyStore = new LayoutPropertyStore(getNodes());
+		}
+		return propertyStore;
+	}
+
 	/**
 	 * Initiated by the context or by an {@link ILayoutAlgorithm} to perform
 	 * steps that are scheduled to be run after the layout pass. Should not be
 	 * called by clients.
 	 */
 	public void postLayout() {
+		flushPropertyStore();
 		for (Runnable r : new ArrayList<>(postLayoutPass)) {
 			r.run();
 		}
@@ -93,6 +132,7 @@ public class LayoutContext {
 	 * called by clients.
 	 */
 	public void preLayout() {
+		flushPropertyStore();
 		for (Runnable r : preLayoutPass) {
 			r.run();
 		}
@@ -119,6 +159,7 @@ public class LayoutContext {
 		if (graph == null) {
 			graph = new Graph();
 		}
+		flushPropertyStore();
 		this.graph = graph;
 	}
 
@@ -227,6 +268,7 @@ public class LayoutContext {
 	 *            The ILayoutFilter to remove to this context.
 	 */
 	public void removeLayoutFilter(ILayoutFilter layoutFilter) {
+		flushPropertyStore();
 		layoutFilters.remove(layoutFilter);
 	}
 
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * A columnar store of the {@link LayoutProperties} of the layout relevant
+ * {@link Node}s of a {@link LayoutContext}, which is used during a layout pass
+ * instead of the nodes' attribute maps. Locations, sizes, and flags are held in
+ * primitive arrays, indexed by the position of a node within
+ * {@link LayoutContext#getNodes()}, so that layout algorithms may read and
+ * update them without boxing, hashing, or firing change notifications.
+ * <p>
+ * A store is obtained via {@link LayoutContext#getPropertyStore()}. Changed
+ * locations and sizes are written back to the nodes' attributes by
+ * {@link #flush()}, which is called by the {@link LayoutContext} once at the
+ * end of a layout pass (see {@link LayoutContext#flushPropertyStore()}).
+ *
+ * @author agent
+ *
+ */
+public class LayoutPropertyStore {
+
+	private final Node[] nodes;
+	private Map<Node, Integer> indices;
+
+	private final double[] x;
+	private final double[] y;
+	private final double[] width;
+	private final double[] height;
+	private final double[] aspectRatio;
+	private final boolean[] movable;
+	private final boolean[] resizable;
+
+	// whether location or size have been changed since the last flush
+	private final boolean[] locationChanged;
+	private final boolean[] sizeChanged;
+
+	/**
+	 * Creates a new {@link LayoutPropertyStore} for the given {@link Node}s,
+	 * reading their current {@link LayoutProperties}. Nodes without a location
+	 * or size are treated as being located at the origin or having an empty
+	 * size, respectively.
+	 *
+	 * @param nodes
+	 *            The {@link Node}s whose properties are stored.
+	 */
+	public LayoutPropertyStore(Node[] nodes) {
+		this.nodes = nodes.clone();
+		int n = nodes.length;
+		x = new double[n];
+		y = new double[n];
+		width = new double[n];
+		height = new double[n];
+		aspectRatio = new double[n];
+		movable = new boolean[n];
+		resizable = new boolean[n];
+		locationChanged = new boolean[n];
+		sizeChanged = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			Node node = nodes[i];
+			Point location = LayoutProperties.getLocation(node);
+			if (location != null) {
+				x[i] = location.x;
+				y[i] = location.y;
+			}
+			Dimension size = LayoutProperties.getSize(node);
+			if (size != null) {
+				width[i] = size.width;
+				height[i] = size.height;
+			}
+			aspectRatio[i] = LayoutProperties.getPreferredAspectRatio(node);
+			movable[i] = LayoutProperties.isMovable(node);
+			resizable[i] = LayoutProperties.isResizable(node);
+		}
+	}
+
+	/**
+	 * Writes all locations and sizes that have been changed since the last
+	 * flush back to the {@link LayoutProperties} of the respective
+	 * {@link Node}s.
+	 */
+	public void flush() {
+		for (int i = 0; i < nodes.length; i++) {
+			if (sizeChanged[i]) {
+				LayoutProperties.setSize(nodes[i],
+						new Dimension(width[i], height[i]));
+				sizeChanged[i] = false;
+			}
+			if (locationChanged[i]) {
+				LayoutProperties.setLocation(nodes[i], new Point(x[i], y[i]));
+				locationChanged[i] = false;
+			}
+		}
+	}
+
+	/**
+	 * Returns the height of the node with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The height of the node.
+	 */
+	public double getHeight(int index) {
+		return height[index];
+	}
+
+	/**
+	 * Returns the {@link Node} with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The {@link Node} with the given index.
+	 */
+	public Node getNode(int index) {
+		return nodes[index];
+	}
+
+	/**
+	 * Returns the number of {@link Node}s in this store.
+	 *
+	 * @return The number of {@link Node}s.
+	 */
+	public int getNodeCount() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the preferred aspect ratio of the node with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The preferred aspect ratio of the node.
+	 */
+	public double getPreferredAspectRatio(int index) {
+		return aspectRatio[index];
+	}
+
+	/**
+	 * Returns the width of the node with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The width of the node.
+	 */
+	public double getWidth(int index) {
+		return width[index];
+	}
+
+	/**
+	 * Returns the x coordinate of the location (center) of the node with the
+	 * given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The x coordinate of the node's location.
+	 */
+	public double getX(int index) {
+		return x[index];
+	}
+
+	/**
+	 * Returns the y coordinate of the location (center) of the node with the
+	 * given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return The y coordinate of the node's location.
+	 */
+	public double getY(int index) {
+		return y[index];
+	}
+
+	/**
+	 * Returns the index of the given {@link Node} within this store, or
+	 * <code>-1</code> if it is not contained.
+	 *
+	 * @param node
+	 *            The {@link Node} whose index to return.
+	 * @return The index of the given {@link Node} or <code>-1</code>.
+	 */
+	public int indexOf(Node node) {
+		if (indices == null) {
+			indices = new IdentityHashMap<>(nodes.length);
+			for (int i = 0; i < nodes.length; i++) {
+				indices.put(nodes[i], i);
+			}
+		}
+		Integer index = indices.get(node);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Returns whether the node with the given index is movable.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return <code>true</code> if the node may be moved, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isMovable(int index) {
+		return movable[index];
+	}
+
+	/**
+	 * Returns whether the node with the given index is resizable.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @return <code>true</code> if the node may be resized, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isResizable(int index) {
+		return resizable[index];
+	}
+
+	/**
+	 * Changes the location (center) of the node with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @param x
+	 *            The new x coordinate.
+	 * @param y
+	 *            The new y coordinate.
+	 */
+	public void setLocation(int index, double x, double y) {
+		this.x[index] = x;
+		this.y[index] = y;
+		locationChanged[index] = true;
+	}
+
+	/**
+	 * Changes the size of the node with the given index.
+	 *
+	 * @param index
+	 *            The index of the node.
+	 * @param width
+	 *            The new width.
+	 * @param height
+	 *            The new height.
+	 */
+	public void setSize(int index, double width, double height) {
+		this.width[index] = width;
+		this.height[index] = height;
+		sizeChanged[index] = true;
+	}
+
+}
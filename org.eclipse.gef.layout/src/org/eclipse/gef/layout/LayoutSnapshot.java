@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.GraphSnapshot;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * A snapshot of the layout relevant {@link Node}s and {@link Edge}s
+ * of a {@link LayoutContext}, which combines the compressed adjacency
+ * structure of a {@link GraphSnapshot} with parallel arrays of the
+ * {@link LayoutProperties} that are read by {@link ILayoutAlgorithm}s (node
+ * locations and sizes, movable and resizable state, edge weights). Nodes and
+ * edges are referred to by their index within {@link #getGraph()}.
+ * <p>
+ * An {@link ILayoutAlgorithm} may create a snapshot at the beginning of a
+ * layout pass, compute on its arrays (possibly in parallel), and write back the
+ * computed locations via {@link #applyLocations(double[], double[])}. The
+ * captured properties are not changed after construction, so that they may be
+ * read by several threads. However, the snapshot is not immutable, as
+ * {@link #applyLocations(double[], double[])} writes to the {@link Node}s (or
+ * to the {@link LayoutPropertyStore} of the {@link LayoutContext} it was
+ * created from), which is why it has to be called by the thread that performs
+ * the layout pass.
+ *
+ * @author agent
+ *
+ */
+public final class LayoutSnapshot {
+
+	private final GraphSnapshot graph;
+	private final Rectangle bounds;
+	// property store to write locations to (if created from a context)
+	private final LayoutPropertyStore store;
+
+	// per node properties
+	private final double[] x;
+	private final double[] y;
+	private final double[] width;
+	private final double[] height;
+	private final boolean[] movable;
+	private final boolean[] resizable;
+
+	// per edge properties
+	private final double[] weight;
+
+	/**
+	 * Creates a new {@link LayoutSnapshot} of the layout relevant {@link Node}s
+	 * and {@link Edge}s of the given {@link LayoutContext}, i.e. those returned
+	 * by {@link LayoutContext#getNodes()} and {@link LayoutContext#getEdges()}.
+	 * Node properties are read from the context's
+	 * {@link LayoutContext#getPropertyStore() property store}, so that nodes
+	 * have the same indices in both.
+	 *
+	 * @param context
+	 *            The {@link LayoutContext} to create a snapshot of.
+	 */
+	public LayoutSnapshot(LayoutContext context) {
+		this(context, context.getPropertyStore());
+	}
+
+	private LayoutSnapshot(LayoutContext context, LayoutPropertyStore store) {
+		int n = store.getNodeCount();
+		List<Node> nodes = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			nodes.add(store.getNode(i));
+		}
+		this.store = store;
+		graph = new GraphSnapshot(nodes, Arrays.asList(context.getEdges()));
+		Rectangle layoutBounds = LayoutProperties.getBounds(context.getGraph());
+		bounds = layoutBounds == null ? null : layoutBounds.getCopy();
+		x = new double[n];
+		y = new double[n];
+		width = new double[n];
+		height = new double[n];
+		movable = new boolean[n];
+		resizable = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = store.getX(i);
+			y[i] = store.getY(i);
+			width[i] = store.getWidth(i);
+			height[i] = store.getHeight(i);
+			movable[i] = store.isMovable(i);
+			resizable[i] = store.isResizable(i);
+		}
+		weight = readWeights(graph);
+	}
+
+	/**
+	 * Creates a new {@link LayoutSnapshot} for the given {@link GraphSnapshot},
+	 * reading the {@link LayoutProperties} of its {@link Node}s and
+	 * {@link Edge}s.
+	 *
+	 * @param graph
+	 *            The {@link GraphSnapshot} providing nodes, edges, and their
+	 *            adjacency.
+	 * @param bounds
+	 *            The bounds in which the nodes can be placed (may be
+	 *            <code>null</code>).
+	 */
+	public LayoutSnapshot(GraphSnapshot graph, Rectangle bounds) {
+		this.graph = graph;
+		this.bounds = bounds == null ? null : bounds.getCopy();
+		this.store = null;
+		int n = graph.getNodeCount();
+		x = new double[n];
+		y = new double[n];
+		width = new double[n];
+		height = new double[n];
+		movable = new boolean[n];
+		resizable = new boolean[n];
+		for (int i = 0; i < n; i++) {
+			Node node = graph.getNode(i);
+			Point location = LayoutProperties.getLocation(node);
+			if (location != null) {
+				x[i] = location.x;
+				y[i] = location.y;
+			}
+			Dimension size = LayoutProperties.getSize(node);
+			if (size != null) {
+				width[i] = size.width;
+				height[i] = size.height;
+			}
+			movable[i] = LayoutProperties.isMovable(node);
+			resizable[i] = LayoutProperties.isResizable(node);
+		}
+		weight = readWeights(graph);
+	}
+
+	private static double[] readWeights(GraphSnapshot graph) {
+		double[] weights = new double[graph.getEdgeCount()];
+		for (int e = 0; e < weights.length; e++) {
+			weights[e] = LayoutProperties.getWeight(graph.getEdge(e));
+		}
+		return weights;
+	}
+
+	/**
+	 * Writes the given locations back to the {@link Node}s of this snapshot,
+	 * i.e. sets the {@link LayoutProperties#LOCATION_PROPERTY} of each
+	 * {@link #isMovable(int) movable} node to the location at its index. If
+	 * this snapshot was created from a {@link LayoutContext}, the locations
+	 * are written to the {@link LayoutPropertyStore} it was created from, so
+	 * they are transferred to the nodes' attributes when the store is flushed
+	 * at the end of the layout pass.
+	 *
+	 * @param xs
+	 *            The x coordinates of the nodes' locations, indexed by node.
+	 * @param ys
+	 *            The y coordinates of the nodes' locations, indexed by node.
+	 */
+	public void applyLocations(double[] xs, double[] ys) {
+		int n = graph.getNodeCount();
+		if (xs.length != n || ys.length != n) {
+			throw new IllegalArgumentException(
+					"Expected " + n + " coordinates, but got " + xs.length
+							+ " x and " + ys.length + " y coordinates.");
+		}
+		for (int i = 0; i < n; i++) {
+			if (!movable[i]) {
+				continue;
+			}
+			if (store != null) {
+				store.setLocation(i, xs[i], ys[i]);
+			} else {
+				LayoutProperties.setLocation(graph.getNode(i),
+						new Point(xs[i], ys[i]));
+			}
+		}
+	}
+
+	/**
+	 * Returns a copy of the {@link LayoutProperties#BOUNDS_PROPERTY} of the
+	 * graph at the time this snapshot was created.
+	 *
+	 * @return The layout bounds, or <code>null</code> if none were set.
+	 */
+	public Rectangle getBounds() {
+		return bounds == null ? null : bounds.getCopy();
+	}
+
+	/**
+	 * Returns the {@link GraphSnapshot} providing the indexed {@link Node}s
+	 * and {@link Edge}s of this {@link LayoutSnapshot}, as well as their
+	 * adjacency.
+	 *
+	 * @return The underlying {@link GraphSnapshot}.
+	 */
+	public GraphSnapshot getGraph() {
+		return graph;
+	}
+
+	/**
+	 * Returns the height of the node with the given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The height of the node.
+	 */
+	public double getHeight(int node) {
+		return height[node];
+	}
+
+	/**
+	 * Returns the x coordinates of the nodes' locations, indexed by node. The
+	 * returned array is a copy that may be modified by the caller, e.g. to
+	 * compute new locations that are then passed to
+	 * {@link #applyLocations(double[], double[])}.
+	 *
+	 * @return A copy of the nodes' x coordinates.
+	 */
+	public double[] getLocationsX() {
+		return x.clone();
+	}
+
+	/**
+	 * Returns the y coordinates of the nodes' locations, indexed by node. The
+	 * returned array is a copy that may be modified by the caller, e.g. to
+	 * compute new locations that are then passed to
+	 * {@link #applyLocations(double[], double[])}.
+	 *
+	 * @return A copy of the nodes' y coordinates.
+	 */
+	public double[] getLocationsY() {
+		return y.clone();
+	}
+
+	/**
+	 * Returns the weight of the edge with the given index.
+	 *
+	 * @param edge
+	 *            The index of the edge.
+	 * @return The weight of the edge.
+	 */
+	public double getWeight(int edge) {
+		return weight[edge];
+	}
+
+	/**
+	 * Returns the width of the node with the given index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The width of the node.
+	 */
+	public double getWidth(int node) {
+		return width[node];
+	}
+
+	/**
+	 * Returns the x coordinate of the location of the node with the given
+	 * index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The x coordinate of the node's location.
+	 */
+	public double getX(int node) {
+		return x[node];
+	}
+
+	/**
+	 * Returns the y coordinate of the location of the node with the given
+	 * index.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return The y coordinate of the node's location.
+	 */
+	public double getY(int node) {
+		return y[node];
+	}
+
+	/**
+	 * Returns whether the node with the given index is movable.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return <code>true</code> if the node may be moved, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isMovable(int node) {
+		return movable[node];
+	}
+
+	/**
+	 * Returns whether the node with the given index is resizable.
+	 *
+	 * @param node
+	 *            The index of the node.
+	 * @return <code>true</code> if the node may be resized, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isResizable(int node) {
+		return resizable[node];
+	}
+
+}
@@ -12,11 +12,12 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Node;
-import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 
 /**
  * The {@link AlgorithmHelper} class contains utility methods for the laying out
@@ -41,107 +42,102 @@ class AlgorithmHelper {
 	private static double PADDING_PERCENT = 0.8;
 
 	/**
-	 * Fits given entities within given bounds, preserving their relative
-	 * locations. If an entity is resizable and the <i>resize</i> flag is set to
-	 * <code>true</code>, then the entity will be scaled according to the bounds
-	 * change, i.e. <code>scale_factor = dst_bounds / start_bounds</code>.
+	 * Fits the nodes of the given {@link LayoutPropertyStore} within given
+	 * bounds, preserving their relative locations. If a node is resizable and
+	 * the <i>resize</i> flag is set to <code>true</code>, then the node will
+	 * be scaled according to the bounds change, i.e.
+	 * <code>scale_factor = dst_bounds / start_bounds</code>.
 	 * 
-	 * @param entities
-	 *            The {@link Node}s to fit.
+	 * @param store
+	 *            The {@link LayoutPropertyStore} holding the nodes to fit.
 	 * @param destinationBounds
 	 *            The {@link Rectangle} representing the layout bounds.
 	 * @param resize
 	 *            <code>true</code> to indicate that the entities can be
 	 *            resized, otherwise <code>false</code>.
 	 */
-	public static void fitWithinBounds(Node[] entities,
+	public static void fitWithinBounds(LayoutPropertyStore store,
 			Rectangle destinationBounds, boolean resize) {
-		if (entities.length == 1) {
-			fitSingleEntity(entities[0], destinationBounds, resize);
+		int n = store.getNodeCount();
+		if (n == 1) {
+			fitSingleEntity(store, destinationBounds, resize);
 			return;
 		}
-		Rectangle startingBounds = getLayoutBounds(entities, false);
+		Rectangle startingBounds = getLayoutBounds(store, false);
 		double sizeScale = Math.min(
 				destinationBounds.getWidth() / startingBounds.getWidth(),
 				destinationBounds.getHeight() / startingBounds.getHeight());
-		for (int i = 0; i < entities.length; i++) {
-			Node entity = entities[i];
-			Dimension size = LayoutProperties.getSize(entity);
-			if (LayoutProperties.isMovable(entity)) {
-				Point location = LayoutProperties.getLocation(entity);
+		for (int i = 0; i < n; i++) {
+			boolean scale = resize && store.isResizable(i);
+			if (scale) {
+				store.setSize(i, store.getWidth(i) * sizeScale,
+						store.getHeight(i) * sizeScale);
+			}
+			if (store.isMovable(i)) {
 				double percentX = startingBounds.getWidth() == 0 ? 0
-						: (location.x - startingBounds.getX())
+						: (store.getX(i) - startingBounds.getX())
 								/ (startingBounds.getWidth());
 				double percentY = startingBounds.getHeight() == 0 ? 0
-						: (location.y - startingBounds.getY())
+						: (store.getY(i) - startingBounds.getY())
 								/ (startingBounds.getHeight());
-				if (resize && LayoutProperties.isResizable(entity)) {
-					size.width *= sizeScale;
-					size.height *= sizeScale;
-					LayoutProperties.setSize(entity, new Dimension(size));
-				}
-				location.x = destinationBounds.getX() + size.width / 2
-						+ percentX
-								* (destinationBounds.getWidth() - size.width);
-				location.y = destinationBounds.getY() + size.height / 2
-						+ percentY
-								* (destinationBounds.getHeight() - size.height);
-			} else if (resize && LayoutProperties.isResizable(entity)) {
-				LayoutProperties.setSize(entity, size.getScaled(sizeScale));
+				double width = store.getWidth(i);
+				double height = store.getHeight(i);
+				store.setLocation(i,
+						destinationBounds.getX() + width / 2 + percentX
+								* (destinationBounds.getWidth() - width),
+						destinationBounds.getY() + height / 2 + percentY
+								* (destinationBounds.getHeight() - height));
 			}
 		}
 	}
 
-	private static void fitSingleEntity(Node entity,
+	private static void fitSingleEntity(LayoutPropertyStore store,
 			Rectangle destinationBounds, boolean resize) {
-		if (LayoutProperties.isMovable(entity)) {
-			LayoutProperties.setLocation(entity,
-					new Point(
-							destinationBounds.getX()
-									+ destinationBounds.getWidth() / 2,
-							destinationBounds.getY()
-									+ destinationBounds.getHeight() / 2));
+		if (store.isMovable(0)) {
+			store.setLocation(0,
+					destinationBounds.getX() + destinationBounds.getWidth() / 2,
+					destinationBounds.getY()
+							+ destinationBounds.getHeight() / 2);
 		}
-		if (resize && LayoutProperties.isResizable(entity)) {
+		if (resize && store.isResizable(0)) {
 			double width = destinationBounds.getWidth();
 			double height = destinationBounds.getHeight();
-			double preferredAspectRatio = LayoutProperties
-					.getPreferredAspectRatio(entity);
+			double preferredAspectRatio = store.getPreferredAspectRatio(0);
 			if (preferredAspectRatio > 0) {
-				LayoutProperties.setSize(entity,
-						fixAspectRatio(width, height, preferredAspectRatio));
+				Dimension size = fixAspectRatio(width, height,
+						preferredAspectRatio);
+				store.setSize(0, size.width, size.height);
 			} else {
-				LayoutProperties.setSize(entity, new Dimension(width, height));
+				store.setSize(0, width, height);
 			}
 		}
 	}
 
 	/**
-	 * Resizes the nodes so that they have a maximal area without overlapping
-	 * each other, with additional empty space of 20% of node's width (or
-	 * height, if bigger). It does nothing if there's less than two nodes.
+	 * Resizes the nodes of the given {@link LayoutPropertyStore} so that they
+	 * have a maximal area without overlapping each other, with additional
+	 * empty space of 20% of node's width (or height, if bigger). It does
+	 * nothing if there's less than two nodes.
 	 * 
-	 * @param entities
-	 *            The {@link Node}s of which the sizes are maximized.
+	 * @param store
+	 *            The {@link LayoutPropertyStore} holding the nodes of which the
+	 *            sizes are maximized.
 	 */
-	public static void maximizeSizes(Node[] entities) {
-		if (entities.length > 1) {
-			Dimension minDistance = getMinimumDistance(entities);
+	public static void maximizeSizes(LayoutPropertyStore store) {
+		int n = store.getNodeCount();
+		if (n > 1) {
+			Dimension minDistance = getMinimumDistance(store);
 			double nodeSize = Math.max(minDistance.width, minDistance.height)
 					* PADDING_PERCENT;
-			double width = nodeSize;
-			double height = nodeSize;
-			for (int i = 0; i < entities.length; i++) {
-				Node entity = entities[i];
-				if (LayoutProperties.isResizable(entity)) {
-					double preferredRatio = LayoutProperties
-							.getPreferredAspectRatio(entity);
+			for (int i = 0; i < n; i++) {
+				if (store.isResizable(i)) {
+					double preferredRatio = store.getPreferredAspectRatio(i);
 					if (preferredRatio > 0) {
-						LayoutProperties.setSize(entity,
-								fixAspectRatio(width, height, preferredRatio));
+						Dimension size = fixAspectRatio(nodeSize, nodeSize,
+								preferredRatio);
+						store.setSize(i, size.width, size.height);
 					} else {
-						LayoutProperties.setSize(entity,
-								new Dimension(width, height));
+						store.setSize(i, nodeSize, nodeSize);
 					}
 				}
 			}
@@ -169,41 +165,34 @@ class AlgorithmHelper {
 	}
 
 	/**
-	 * Find the bounds in which the nodes are located. Using the bounds against
-	 * the real bounds of the screen, the nodes can proportionally be placed
-	 * within the real bounds. The bounds can be determined either including the
-	 * size of the nodes or not. If the size is not included, the bounds will
-	 * only be guaranteed to include the center of each node.
+	 * Find the bounds in which the nodes of the given
+	 * {@link LayoutPropertyStore} are located. Using the bounds against the
+	 * real bounds of the screen, the nodes can proportionally be placed within
+	 * the real bounds. The bounds can be determined either including the size
+	 * of the nodes or not. If the size is not included, the bounds will only be
+	 * guaranteed to include the center of each node.
 	 * 
-	 * @param entities
-	 *            The {@link Node}s for which the layout bounds are computed.
+	 * @param store
+	 *            The {@link LayoutPropertyStore} holding the nodes for which
+	 *            the layout bounds are computed.
 	 * @param includeNodeSize
 	 *            <code>true</code> to indicate that the entities' sizes should
 	 *            be taken into consideration, otherwise <code>false</code>.
-	 * @return A {@link Rectangle} representing the layout bounds of the given
-	 *         {@link Node}s.
+	 * @return A {@link Rectangle} representing the layout bounds of the nodes.
 	 */
-	public static Rectangle getLayoutBounds(Node[] entities,
+	public static Rectangle getLayoutBounds(LayoutPropertyStore store,
 			boolean includeNodeSize) {
 		double rightSide = Double.NEGATIVE_INFINITY;
 		double bottomSide = Double.NEGATIVE_INFINITY;
 		double leftSide = Double.POSITIVE_INFINITY;
 		double topSide = Double.POSITIVE_INFINITY;
-		for (int i = 0; i < entities.length; i++) {
-			Node entity = entities[i];
-			Point location = LayoutProperties.getLocation(entity);
-			Dimension size = LayoutProperties.getSize(entity);
-			if (includeNodeSize) {
-				leftSide = Math.min(location.x - size.width / 2, leftSide);
-				topSide = Math.min(location.y - size.height / 2, topSide);
-				rightSide = Math.max(location.x + size.width / 2, rightSide);
-				bottomSide = Math.max(location.y + size.height / 2, bottomSide);
-			} else {
-				leftSide = Math.min(location.x, leftSide);
-				topSide = Math.min(location.y, topSide);
-				rightSide = Math.max(location.x, rightSide);
-				bottomSide = Math.max(location.y, bottomSide);
-			}
+		for (int i = 0; i < store.getNodeCount(); i++) {
+			double halfWidth = includeNodeSize ? store.getWidth(i) / 2 : 0;
+			double halfHeight = includeNodeSize ? store.getHeight(i) / 2 : 0;
+			leftSide = Math.min(store.getX(i) - halfWidth, leftSide);
+			topSide = Math.min(store.getY(i) - halfHeight, topSide);
+			rightSide = Math.max(store.getX(i) + halfWidth, rightSide);
+			bottomSide = Math.max(store.getY(i) + halfHeight, bottomSide);
 		}
 		return new Rectangle(leftSide, topSide, rightSide - leftSide,
 				bottomSide - topSide);
@@ -231,32 +220,113 @@ class AlgorithmHelper {
 	 *         |_______|
 	 * </pre>
 	 * 
-	 * @param entities
-	 *            The {@link Node}s for which the minimum distance is computed.
+	 * The closest pair of nodes is found in O(n log n) by dividing the nodes
+	 * (sorted by x) into halves and only comparing the nodes within a strip
+	 * around the dividing line (sorted by y) when combining the halves.
+	 * 
+	 * @param store
+	 *            The {@link LayoutPropertyStore} holding the nodes for which
+	 *            the minimum distance is computed.
 	 * @return A {@link Dimension} representing the minimum distance (in x- and
 	 *         y-direction).
 	 */
-	public static Dimension getMinimumDistance(Node[] entities) {
-		Dimension horAndVertdistance = new Dimension(Double.MAX_VALUE,
-				Double.MAX_VALUE);
-		double minDistance = Double.MAX_VALUE;
+	public static Dimension getMinimumDistance(
+			final LayoutPropertyStore store) {
+		int n = store.getNodeCount();
+		Integer[] byX = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			byX[i] = i;
+		}
+		Arrays.sort(byX, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(store.getX(i), store.getX(j));
+			}
+		});
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = byX[i];
+		}
+		// the squared distance of the closest pair and its x and y distances
+		double[] closest = new double[] { Double.MAX_VALUE, Double.MAX_VALUE,
+				Double.MAX_VALUE };
+		findClosestPair(store, order, new int[n], 0, n, closest);
+		return new Dimension(closest[1], closest[2]);
+	}
 
-		// TODO: Very Slow!
-		for (int i = 0; i < entities.length; i++) {
-			Point location1 = LayoutProperties.getLocation(entities[i]);
-			for (int j = i + 1; j < entities.length; j++) {
-				Point location2 = LayoutProperties.getLocation(entities[j]);
-				double distanceX = location1.x - location2.x;
-				double distanceY = location1.y - location2.y;
-				double distance = distanceX * distanceX + distanceY * distanceY;
+	/**
+	 * Finds the closest pair among the nodes within the given range of the
+	 * given order (sorted by x), updating the given closest pair if a closer
+	 * one is found. The range of the order is sorted by y afterwards.
+	 */
+	private static void findClosestPair(LayoutPropertyStore store,
+			int[] order, int[] buffer, int from, int to, double[] closest) {
+		if (to - from <= 3) {
+			for (int i = from; i < to; i++) {
+				for (int j = i + 1; j < to; j++) {
+					updateClosestPair(store, order[i], order[j], closest);
+				}
+			}
+			// insertion sort by y
+			for (int i = from + 1; i < to; i++) {
+				int node = order[i];
+				int j = i;
+				for (; j > from
+						&& store.getY(order[j - 1]) > store.getY(node); j--) {
+					order[j] = order[j - 1];
+				}
+				order[j] = node;
+			}
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		double middleX = store.getX(order[middle]);
+		findClosestPair(store, order, buffer, from, middle, closest);
+		findClosestPair(store, order, buffer, middle, to, closest);
 
-				if (distance < minDistance) {
-					minDistance = distance;
-					horAndVertdistance.width = Math.abs(distanceX);
-					horAndVertdistance.height = Math.abs(distanceY);
+		// merge both halves by y
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || left < middle && store
+					.getY(order[left]) <= store.getY(order[right])) {
+				buffer[i] = order[left++];
+			} else {
+				buffer[i] = order[right++];
+			}
+		}
+		System.arraycopy(buffer, from, order, from, to - from);
+
+		// compare the nodes within the strip around the dividing line to
+		// their successors (by y) within the current minimum distance
+		int stripSize = 0;
+		for (int i = from; i < to; i++) {
+			double distanceX = store.getX(order[i]) - middleX;
+			if (distanceX * distanceX < closest[0]) {
+				buffer[stripSize++] = order[i];
+			}
+		}
+		for (int i = 0; i < stripSize; i++) {
+			for (int j = i + 1; j < stripSize; j++) {
+				double distanceY = store.getY(buffer[j])
+						- store.getY(buffer[i]);
+				if (distanceY * distanceY >= closest[0]) {
+					break;
 				}
+				updateClosestPair(store, buffer[i], buffer[j], closest);
 			}
 		}
-		return horAndVertdistance;
+	}
+
+	private static void updateClosestPair(LayoutPropertyStore store, int i,
+			int j, double[] closest) {
+		double distanceX = store.getX(i) - store.getX(j);
+		double distanceY = store.getY(i) - store.getY(j);
+		double distance = distanceX * distanceX + distanceY * distanceY;
+		if (distance < closest[0]) {
+			closest[0] = distance;
+			closest[1] = Math.abs(distanceX);
+			closest[2] = Math.abs(distanceY);
+		}
 	}
 }
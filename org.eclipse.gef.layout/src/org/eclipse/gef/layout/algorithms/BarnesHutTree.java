@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * A quadtree over a set of points (bodies) that aggregates the number of
+ * bodies and their center of mass per cell. It is used by the
+ * {@link SpringLayoutAlgorithm} to approximate the repulsive forces between
+ * all pairs of nodes in O(n log n) (Barnes-Hut approximation).
+ * <p>
+ * The cells are stored in parallel arrays (rather than as individual objects),
+ * so that the tree can be rebuilt in each iteration without allocating new
+ * memory. Once built, the tree is only read, so that forces may be computed
+ * concurrently.
+ *
+ * @author agent
+ *
+ */
+final class BarnesHutTree {
+
+	/**
+	 * Cells whose half size drops below this fraction of the root's half size
+	 * are not subdivided any further. Bodies that (nearly) coincide are thus
+	 * aggregated within a single leaf.
+	 */
+	private static final double MIN_HALF_SIZE_RATIO = 1e-10;
+
+	private int cellCount;
+	private double[] centerX = new double[0];
+	private double[] centerY = new double[0];
+	private double[] halfSize = new double[0];
+	private int[] mass = new int[0];
+	private double[] massX = new double[0];
+	private double[] massY = new double[0];
+	// index of the first of four consecutive child cells, or -1 for a leaf
+	private int[] firstChild = new int[0];
+	// index of the (first) body stored in a leaf, or -1 if empty
+	private int[] body = new int[0];
+	private double minHalfSize;
+
+	/**
+	 * Rebuilds this tree for the given bodies.
+	 *
+	 * @param x
+	 *            The x-coordinates of the bodies.
+	 * @param y
+	 *            The y-coordinates of the bodies.
+	 * @param n
+	 *            The number of bodies.
+	 */
+	public void build(double[] x, double[] y, int n) {
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+
+		cellCount = 0;
+		if (n == 0) {
+			return;
+		}
+		double rootHalfSize = Math.max(Math.max(maxX - minX, maxY - minY) / 2,
+				Double.MIN_NORMAL);
+		minHalfSize = rootHalfSize * MIN_HALF_SIZE_RATIO;
+		newCell((minX + maxX) / 2, (minY + maxY) / 2, rootHalfSize);
+		for (int i = 0; i < n; i++) {
+			insert(i, x[i], y[i]);
+		}
+	}
+
+	/**
+	 * Adds the (approximated) repulsive force that all bodies exert on the
+	 * given body to the given force arrays. The force between two bodies is
+	 * <code>strength / d<sup>2</sup></code>, where the distance
+	 * <code>d</code> is not considered to be smaller than the given minimum
+	 * distance.
+	 *
+	 * @param i
+	 *            The index of the body for which to compute the force.
+	 * @param x
+	 *            The x-coordinate of the body.
+	 * @param y
+	 *            The y-coordinate of the body.
+	 * @param theta
+	 *            The approximation threshold. A cell is approximated by its
+	 *            center of mass if its size divided by its distance is smaller
+	 *            than this value.
+	 * @param strength
+	 *            The strength of the repulsion between two bodies.
+	 * @param minDistance
+	 *            The minimum distance considered between two bodies.
+	 * @param forcesX
+	 *            The array to whose i-th element the x-component of the force
+	 *            is added.
+	 * @param forcesY
+	 *            The array to whose i-th element the y-component of the force
+	 *            is added.
+	 */
+	public void accumulateRepulsion(int i, double x, double y, double theta,
+			double strength, double minDistance, double[] forcesX,
+			double[] forcesY) {
+		if (cellCount == 0) {
+			return;
+		}
+		double[] force = new double[2];
+		accumulateRepulsion(0, i, x, y, theta * theta, strength,
+				minDistance * minDistance, force);
+		forcesX[i] += force[0];
+		forcesY[i] += force[1];
+	}
+
+	private void accumulateRepulsion(int cell, int i, double x, double y,
+			double thetaSq, double strength, double minDistanceSq,
+			double[] force) {
+		if (mass[cell] == 0 || (body[cell] == i && mass[cell] == 1)) {
+			return;
+		}
+		double dx = x - massX[cell];
+		double dy = y - massY[cell];
+		double distanceSq = dx * dx + dy * dy;
+		int child = firstChild[cell];
+		double size = 2 * halfSize[cell];
+		if (child >= 0 && size * size >= thetaSq * distanceSq) {
+			// cell is too close to be approximated, so descend
+			for (int c = child; c < child + 4; c++) {
+				accumulateRepulsion(c, i, x, y, thetaSq, strength,
+						minDistanceSq, force);
+			}
+			return;
+		}
+		distanceSq = Math.max(minDistanceSq, distanceSq);
+		double distance = Math.sqrt(distanceSq);
+		double f = strength * mass[cell] / distanceSq;
+		force[0] += f * dx / distance;
+		force[1] += f * dy / distance;
+	}
+
+	private void addMass(int cell, double x, double y) {
+		int m = mass[cell];
+		massX[cell] = (massX[cell] * m + x) / (m + 1);
+		massY[cell] = (massY[cell] * m + y) / (m + 1);
+		mass[cell] = m + 1;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= centerX.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, centerX.length * 2);
+		centerX = Arrays.copyOf(centerX, newCapacity);
+		centerY = Arrays.copyOf(centerY, newCapacity);
+		halfSize = Arrays.copyOf(halfSize, newCapacity);
+		mass = Arrays.copyOf(mass, newCapacity);
+		massX = Arrays.copyOf(massX, newCapacity);
+		massY = Arrays.copyOf(massY, newCapacity);
+		firstChild = Arrays.copyOf(firstChild, newCapacity);
+		body = Arrays.copyOf(body, newCapacity);
+	}
+
+	private void insert(int i, double x, double y) {
+		int cell = 0;
+		while (true) {
+			if (firstChild[cell] >= 0) {
+				addMass(cell, x, y);
+				cell = firstChild[cell] + quadrant(cell, x, y);
+			} else if (mass[cell] == 0) {
+				body[cell] = i;
+				addMass(cell, x, y);
+				return;
+			} else if (halfSize[cell] < minHalfSize) {
+				// aggregate coinciding bodies within a single leaf
+				addMass(cell, x, y);
+				return;
+			} else {
+				subdivide(cell);
+			}
+		}
+	}
+
+	private int newCell(double x, double y, double half) {
+		ensureCapacity(cellCount + 1);
+		int cell = cellCount++;
+		centerX[cell] = x;
+		centerY[cell] = y;
+		halfSize[cell] = half;
+		mass[cell] = 0;
+		massX[cell] = 0;
+		massY[cell] = 0;
+		firstChild[cell] = -1;
+		body[cell] = -1;
+		return cell;
+	}
+
+	private int quadrant(int cell, double x, double y) {
+		return (x < centerX[cell] ? 0 : 1) + (y < centerY[cell] ? 0 : 2);
+	}
+
+	private void subdivide(int cell) {
+		double quarter = halfSize[cell] / 2;
+		int child = -1;
+		for (int q = 0; q < 4; q++) {
+			int c = newCell(
+					centerX[cell] + ((q & 1) == 0 ? -quarter : quarter),
+					centerY[cell] + ((q & 2) == 0 ? -quarter : quarter),
+					quarter);
+			if (q == 0) {
+				child = c;
+			}
+		}
+		// move the body of the former leaf into the respective child
+		int c = child + quadrant(cell, massX[cell], massY[cell]);
+		body[c] = body[cell];
+		mass[c] = mass[cell];
+		massX[c] = massX[cell];
+		massY[c] = massY[cell];
+		body[cell] = -1;
+		firstChild[cell] = child;
+	}
+
+}
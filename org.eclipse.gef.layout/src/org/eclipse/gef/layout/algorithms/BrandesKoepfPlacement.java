@@ -0,0 +1,479 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Assigns coordinates within their layers to the nodes of a layered graph,
+ * whose order within each layer has already been fixed, following the
+ * algorithm of Brandes and Köpf ("Fast and Simple Horizontal Coordinate
+ * Assignment", http://dx.doi.org/10.1007/3-540-45848-4_3). It is used by the
+ * {@link SugiyamaLayoutAlgorithm}.
+ * <p>
+ * Nodes are aligned with their median neighbors into vertical blocks in four
+ * different ways (towards the upper or lower layer, preferring left or right
+ * medians). Each alignment is compacted, respecting the sizes of the nodes,
+ * and the final coordinate of a node is the average median of its four
+ * candidates. Inner segments, i.e. segments between two dummy nodes, are
+ * preferred over crossing segments, so that long edges are drawn straight.
+ * <p>
+ * Nodes are identified by consecutive <code>int</code> indices. Only segments
+ * between consecutive layers are taken into account. The whole computation
+ * runs in time linear in the number of nodes and segments.
+ *
+ * @author agent
+ *
+ */
+final class BrandesKoepfPlacement {
+
+	private final int[][] layers;
+	private final boolean[] dummy;
+	private final double[] size;
+	private final double spacing;
+
+	// layer and position of each node
+	private final int[] layerOf;
+	private final int[] positionOf;
+
+	// neighbors in the preceding (upper) and succeeding (lower) layer, sorted
+	// by position, and the indices of the respective segments
+	private final int[][] upper;
+	private final int[][] upperSegments;
+	private final int[][] lower;
+	private final int[][] lowerSegments;
+
+	// segments that cross an inner segment (type 1 conflicts)
+	private final boolean[] marked;
+
+	/**
+	 * Creates a new {@link BrandesKoepfPlacement} for the given layered graph.
+	 *
+	 * @param layers
+	 *            The indices of the nodes of each layer, in their order
+	 *            within the layer.
+	 * @param upperNeighbors
+	 *            The indices of the neighbors of each node within the
+	 *            preceding layer, sorted by their position. Neighbors within
+	 *            other layers are ignored.
+	 * @param dummy
+	 *            Specifies for each node whether it is a dummy node, i.e. part
+	 *            of a long edge.
+	 * @param size
+	 *            The extent of each node along its layer.
+	 * @param spacing
+	 *            The minimum distance between two neighboring nodes of a
+	 *            layer.
+	 */
+	BrandesKoepfPlacement(int[][] layers, int[][] upperNeighbors,
+			boolean[] dummy, double[] size, double spacing) {
+		this.layers = layers;
+		this.dummy = dummy;
+		this.size = size;
+		this.spacing = spacing;
+		int n = dummy.length;
+		layerOf = new int[n];
+		positionOf = new int[n];
+		for (int l = 0; l < layers.length; l++) {
+			for (int p = 0; p < layers[l].length; p++) {
+				layerOf[layers[l][p]] = l;
+				positionOf[layers[l][p]] = p;
+			}
+		}
+
+		// number the segments and index them from both of their ends
+		upper = new int[n][];
+		upperSegments = new int[n][];
+		int[] lowerDegree = new int[n];
+		int segmentCount = 0;
+		for (int v = 0; v < n; v++) {
+			int[] neighbors = upperNeighbors[v];
+			int count = 0;
+			for (int u : neighbors) {
+				if (layerOf[u] == layerOf[v] - 1) {
+					count++;
+				}
+			}
+			upper[v] = new int[count];
+			upperSegments[v] = new int[count];
+			count = 0;
+			for (int u : neighbors) {
+				if (layerOf[u] == layerOf[v] - 1) {
+					upper[v][count] = u;
+					upperSegments[v][count++] = segmentCount++;
+					lowerDegree[u]++;
+				}
+			}
+		}
+		lower = new int[n][];
+		lowerSegments = new int[n][];
+		for (int u = 0; u < n; u++) {
+			lower[u] = new int[lowerDegree[u]];
+			lowerSegments[u] = new int[lowerDegree[u]];
+			lowerDegree[u] = 0;
+		}
+		// traversing the lower layers in order yields sorted lower neighbors
+		for (int[] layer : layers) {
+			for (int v : layer) {
+				for (int i = 0; i < upper[v].length; i++) {
+					int u = upper[v][i];
+					lower[u][lowerDegree[u]] = v;
+					lowerSegments[u][lowerDegree[u]++] = upperSegments[v][i];
+				}
+			}
+		}
+		marked = new boolean[segmentCount];
+	}
+
+	/**
+	 * Aligns each node with a median neighbor in the preceding layer of the
+	 * given (possibly mirrored) order, so that aligned segments do not cross
+	 * each other or a marked segment.
+	 */
+	private static void alignVertically(int[][] order, int[] position,
+			int[][] neighbors, int[][] segments, boolean[] marked, int[] root,
+			int[] align) {
+		for (int v = 0; v < root.length; v++) {
+			root[v] = v;
+			align[v] = v;
+		}
+		for (int l = 1; l < order.length; l++) {
+			int r = -1;
+			for (int v : order[l]) {
+				int d = neighbors[v].length;
+				// lower and upper median (which coincide for odd degrees)
+				for (int m = (d - 1) / 2; m <= d / 2 && d > 0; m++) {
+					int u = neighbors[v][m];
+					if (align[v] == v && !marked[segments[v][m]]
+							&& r < position[u]) {
+						align[u] = v;
+						root[v] = root[u];
+						align[v] = root[v];
+						r = position[u];
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Compacts the blocks of the given alignment towards the beginning of the
+	 * layers of the given (possibly mirrored) order, and returns the
+	 * resulting coordinates.
+	 */
+	private double[] compactHorizontally(int[][] order, int[] layer,
+			int[] position, int[] root, int[] align) {
+		int n = root.length;
+		// blocks are placed in topological order of their left-of relation,
+		// which is acyclic as aligned segments do not cross
+		int[] pending = new int[n];
+		for (int v = 0; v < n; v++) {
+			if (position[v] > 0) {
+				pending[root[v]]++;
+			}
+		}
+		int[] queue = new int[n];
+		int head = 0;
+		int tail = 0;
+		for (int v = 0; v < n; v++) {
+			if (root[v] == v && pending[v] == 0) {
+				queue[tail++] = v;
+			}
+		}
+
+		// place each block relative to the sink of its class, i.e. the
+		// leftmost block it is (transitively) attached to
+		double[] x = new double[n];
+		int[] sink = new int[n];
+		for (int v = 0; v < n; v++) {
+			sink[v] = v;
+		}
+		int blockCount = 0;
+		for (int v = 0; v < n; v++) {
+			if (root[v] == v) {
+				blockCount++;
+			}
+		}
+		boolean[] placed = new boolean[n];
+		while (blockCount > 0) {
+			if (head == tail) {
+				// only reached in case of crossing alignments; place the
+				// first remaining block to break the cycle
+				for (int v = 0; v < n; v++) {
+					if (root[v] == v && !placed[v] && pending[v] > 0) {
+						pending[v] = 0;
+						queue[tail++] = v;
+						break;
+					}
+				}
+			}
+			int v = queue[head++];
+			placed[v] = true;
+			blockCount--;
+			int w = v;
+			do {
+				if (position[w] > 0) {
+					int left = order[layer[w]][position[w] - 1];
+					int u = root[left];
+					if (placed[u]) {
+						if (sink[v] == v) {
+							sink[v] = sink[u];
+						}
+						if (sink[v] == sink[u]) {
+							x[v] = Math.max(x[v],
+									x[u] + separation(left, w));
+						}
+					}
+				}
+				w = align[w];
+			} while (w != v);
+			do {
+				if (position[w] < order[layer[w]].length - 1) {
+					int u = root[order[layer[w]][position[w] + 1]];
+					if (--pending[u] == 0 && !placed[u]) {
+						queue[tail++] = u;
+					}
+				}
+				w = align[w];
+			} while (w != v);
+		}
+
+		// shift the classes towards their right neighbor classes, which are
+		// processed first (in reverse topological order of the classes)
+		int[] classPending = new int[n];
+		int[] classEdges = new int[n + 1];
+		for (int w = 0; w < n; w++) {
+			if (position[w] > 0) {
+				int left = order[layer[w]][position[w] - 1];
+				if (sink[root[left]] != sink[root[w]]) {
+					classEdges[sink[root[left]] + 1]++;
+					classPending[sink[root[w]]]++;
+				}
+			}
+		}
+		for (int c = 0; c < n; c++) {
+			classEdges[c + 1] += classEdges[c];
+		}
+		int[] rightOf = new int[classEdges[n]];
+		int[] rightNode = new int[classEdges[n]];
+		int[] next = Arrays.copyOf(classEdges, n);
+		for (int w = 0; w < n; w++) {
+			if (position[w] > 0) {
+				int left = order[layer[w]][position[w] - 1];
+				int c = sink[root[left]];
+				if (c != sink[root[w]]) {
+					rightOf[next[c]] = left;
+					rightNode[next[c]++] = w;
+				}
+			}
+		}
+		head = 0;
+		tail = 0;
+		for (int c = 0; c < n; c++) {
+			if (sink[c] == c && classPending[c] == 0) {
+				queue[tail++] = c;
+			}
+		}
+		while (head < tail) {
+			int c = queue[head++];
+			for (int e = classEdges[c]; e < classEdges[c + 1]; e++) {
+				int d = sink[root[rightNode[e]]];
+				if (--classPending[d] == 0) {
+					queue[tail++] = d;
+				}
+			}
+		}
+		for (int c = 0; c < n; c++) {
+			if (sink[c] == c && classPending[c] > 0) {
+				// only reached in case of cyclic class dependencies
+				queue[tail++] = c;
+			}
+		}
+		double[] shift = new double[n];
+		for (int i = tail - 1; i >= 0; i--) {
+			int c = queue[i];
+			double s = Double.POSITIVE_INFINITY;
+			for (int e = classEdges[c]; e < classEdges[c + 1]; e++) {
+				int left = rightOf[e];
+				int w = rightNode[e];
+				s = Math.min(s, shift[sink[root[w]]] + x[root[w]]
+						- x[root[left]] - separation(left, w));
+			}
+			shift[c] = s == Double.POSITIVE_INFINITY ? 0 : s;
+		}
+
+		double[] coordinates = new double[n];
+		for (int v = 0; v < n; v++) {
+			coordinates[v] = x[root[v]] + shift[sink[root[v]]];
+		}
+		return coordinates;
+	}
+
+	/**
+	 * Marks all non-inner segments that cross an inner segment (type 1
+	 * conflicts), so that inner segments are preferred during alignment.
+	 */
+	private void markConflicts() {
+		for (int l = 1; l < layers.length; l++) {
+			int[] layer = layers[l];
+			int k0 = 0;
+			int next = 0;
+			for (int l1 = 0; l1 < layer.length; l1++) {
+				int v = layer[l1];
+				int innerUpper = -1;
+				if (dummy[v]) {
+					for (int u : upper[v]) {
+						if (dummy[u]) {
+							innerUpper = u;
+							break;
+						}
+					}
+				}
+				if (l1 == layer.length - 1 || innerUpper >= 0) {
+					int k1 = innerUpper >= 0 ? positionOf[innerUpper]
+							: layers[l - 1].length - 1;
+					for (; next <= l1; next++) {
+						int w = layer[next];
+						for (int i = 0; i < upper[w].length; i++) {
+							int u = upper[w][i];
+							if ((positionOf[u] < k0 || positionOf[u] > k1)
+									&& !(dummy[u] && dummy[w])) {
+								marked[upperSegments[w][i]] = true;
+							}
+						}
+					}
+					k0 = k1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the coordinates of all nodes within their layers, so that the
+	 * nodes of each layer are separated by at least the spacing (with respect
+	 * to their sizes). The leftmost node is not necessarily located at 0.
+	 *
+	 * @return The coordinate (of the center) of each node, indexed by node.
+	 */
+	public double[] place() {
+		int n = dummy.length;
+		markConflicts();
+
+		double[][] candidates = new double[4][];
+		double[] min = new double[4];
+		double[] max = new double[4];
+		int narrowest = 0;
+		for (int a = 0; a < 4; a++) {
+			boolean downwards = a < 2;
+			boolean leftwards = (a & 1) == 0;
+			// mirror layers and positions, so that each alignment can be
+			// computed as an upper-left one
+			int[][] order = new int[layers.length][];
+			for (int l = 0; l < layers.length; l++) {
+				int[] layer = layers[downwards ? l : layers.length - 1 - l];
+				order[l] = leftwards ? layer : reverse(layer);
+			}
+			int[] layer = new int[n];
+			int[] position = new int[n];
+			for (int l = 0; l < order.length; l++) {
+				for (int p = 0; p < order[l].length; p++) {
+					layer[order[l][p]] = l;
+					position[order[l][p]] = p;
+				}
+			}
+			int[][] neighbors = downwards ? upper : lower;
+			int[][] segments = downwards ? upperSegments : lowerSegments;
+			if (!leftwards) {
+				neighbors = reverse(neighbors);
+				segments = reverse(segments);
+			}
+
+			int[] root = new int[n];
+			int[] align = new int[n];
+			alignVertically(order, position, neighbors, segments, marked, root,
+					align);
+			double[] x = compactHorizontally(order, layer, position, root,
+					align);
+			min[a] = Double.POSITIVE_INFINITY;
+			max[a] = Double.NEGATIVE_INFINITY;
+			for (int v = 0; v < n; v++) {
+				if (!leftwards) {
+					x[v] = -x[v];
+				}
+				min[a] = Math.min(min[a], x[v] - size[v] / 2);
+				max[a] = Math.max(max[a], x[v] + size[v] / 2);
+			}
+			candidates[a] = x;
+			if (max[a] - min[a] < max[narrowest] - min[narrowest]) {
+				narrowest = a;
+			}
+		}
+
+		// align the candidates with the narrowest one (at its left border for
+		// leftwards alignments, and at its right border otherwise)
+		for (int a = 0; a < 4; a++) {
+			double delta = (a & 1) == 0 ? min[narrowest] - min[a]
+					: max[narrowest] - max[a];
+			for (int v = 0; v < n; v++) {
+				candidates[a][v] += delta;
+			}
+		}
+
+		// average median of the candidates
+		double[] coordinates = new double[n];
+		double[] values = new double[4];
+		for (int v = 0; v < n; v++) {
+			for (int a = 0; a < 4; a++) {
+				values[a] = candidates[a][v];
+			}
+			Arrays.sort(values);
+			coordinates[v] = (values[1] + values[2]) / 2;
+		}
+
+		// the average median does not necessarily preserve the separation of
+		// neighboring nodes, so restore it where needed
+		for (int[] layer : layers) {
+			for (int p = 1; p < layer.length; p++) {
+				coordinates[layer[p]] = Math.max(coordinates[layer[p]],
+						coordinates[layer[p - 1]]
+								+ separation(layer[p - 1], layer[p]));
+			}
+		}
+		return coordinates;
+	}
+
+	private static int[] reverse(int[] array) {
+		int[] reversed = new int[array.length];
+		for (int i = 0; i < array.length; i++) {
+			reversed[array.length - 1 - i] = array[i];
+		}
+		return reversed;
+	}
+
+	private static int[][] reverse(int[][] arrays) {
+		int[][] reversed = new int[arrays.length][];
+		for (int i = 0; i < arrays.length; i++) {
+			reversed[i] = reverse(arrays[i]);
+		}
+		return reversed;
+	}
+
+	/**
+	 * Returns the minimum distance between the centers of the given nodes,
+	 * when placed next to each other within a layer.
+	 */
+	private double separation(int left, int right) {
+		return (size[left] + size[right]) / 2 + spacing;
+	}
+
+}
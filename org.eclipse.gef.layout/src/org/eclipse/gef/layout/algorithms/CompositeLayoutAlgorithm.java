@@ -43,6 +43,9 @@ public class CompositeLayoutAlgorithm implements ILayoutAlgorithm {
 	public void applyLayout(LayoutContext context, boolean clean) {
 		for (int i = 0; i < algorithms.length; i++) {
 			algorithms[i].applyLayout(context, clean);
+			// algorithms may either use the property store or the node
+			// attributes, so make the results visible to both
+			context.flushPropertyStore();
 		}
 	}
 
@@ -12,13 +12,11 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
-import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 
 /**
  * The {@link GridLayoutAlgorithm} lays out nodes in a grid.
@@ -91,7 +89,8 @@ public class GridLayoutAlgorithm implements ILayoutAlgorithm {
 	public void applyLayout(LayoutContext context, boolean clean) {
 		if (!clean)
 			return;
-		numChildren = context.getNodes().length;
+		LayoutPropertyStore store = context.getPropertyStore();
+		numChildren = store.getNodeCount();
 		Rectangle bounds = LayoutProperties.getBounds(context.getGraph());
 		calculateGrid(bounds);
 
@@ -99,19 +98,17 @@ public class GridLayoutAlgorithm implements ILayoutAlgorithm {
 		for (int i = 0; i < rows; i++) {
 			for (int j = 0; j < cols; j++) {
 				if ((i * cols + j) < numChildren) {
-					Node node = context.getNodes()[index++];
-					if (resize && LayoutProperties.isResizable(node))
-						LayoutProperties.setSize(node, new Dimension(
+					int node = index++;
+					if (resize && store.isResizable(node))
+						store.setSize(node,
 								Math.max(childrenWidth, MIN_ENTITY_SIZE),
-								Math.max(childrenHeight, MIN_ENTITY_SIZE)));
-					Dimension size = LayoutProperties.getSize(node);
+								Math.max(childrenHeight, MIN_ENTITY_SIZE));
 					double xmove = bounds.getX() + j * colWidth + offsetX
-							+ size.width / 2;
+							+ store.getWidth(node) / 2;
 					double ymove = bounds.getY() + i * rowHeight + offsetY
-							+ size.height / 2;
-					if (LayoutProperties.isMovable(node))
-						LayoutProperties.setLocation(node,
-								new Point(xmove, ymove));
+							+ store.getHeight(node) / 2;
+					if (store.isMovable(node))
+						store.setLocation(node, xmove, ymove);
 				}
 			}
 		}
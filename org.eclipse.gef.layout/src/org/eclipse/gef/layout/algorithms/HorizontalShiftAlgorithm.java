@@ -18,13 +18,11 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
-import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 
 /**
  * This layout shifts overlapping nodes to the right.
@@ -42,69 +40,65 @@ public class HorizontalShiftAlgorithm implements ILayoutAlgorithm {
 	public void applyLayout(LayoutContext context, boolean clean) {
 		if (!clean)
 			return;
-		ArrayList<List<Node>> rowsList = new ArrayList<>();
-		Node[] entities = context.getNodes();
+		ArrayList<List<Integer>> rowsList = new ArrayList<>();
+		final LayoutPropertyStore store = context.getPropertyStore();
 
-		for (int i = 0; i < entities.length; i++) {
-			addToRowList(entities[i], rowsList);
+		for (int i = 0; i < store.getNodeCount(); i++) {
+			addToRowList(store, i, rowsList);
 		}
 
-		Collections.sort(rowsList, new Comparator<List<Node>>() {
-			public int compare(List<Node> o1, List<Node> o2) {
-				Node entity0 = o1.get(0);
-				Node entity1 = o2.get(0);
-				return (int) (LayoutProperties.getLocation(entity0).y
-						- LayoutProperties.getLocation(entity1).y);
+		Collections.sort(rowsList, new Comparator<List<Integer>>() {
+			public int compare(List<Integer> o1, List<Integer> o2) {
+				int entity0 = o1.get(0);
+				int entity1 = o2.get(0);
+				return (int) (store.getY(entity0) - store.getY(entity1));
 			}
 		});
 
-		Comparator<Node> entityComparator = new Comparator<Node>() {
-			public int compare(Node o1, Node o2) {
-				return (int) (LayoutProperties.getLocation(o1).y
-						- LayoutProperties.getLocation(o2).y);
+		Comparator<Integer> entityComparator = new Comparator<Integer>() {
+			public int compare(Integer o1, Integer o2) {
+				return (int) (store.getY(o1) - store.getY(o2));
 			}
 		};
 		Rectangle bounds = LayoutProperties.getBounds(context.getGraph());
 		int heightSoFar = 0;
 
-		for (Iterator<List<Node>> iterator = rowsList.iterator(); iterator
+		for (Iterator<List<Integer>> iterator = rowsList.iterator(); iterator
 				.hasNext();) {
-			List<Node> currentRow = iterator.next();
+			List<Integer> currentRow = iterator.next();
 			Collections.sort(currentRow, entityComparator);
 
 			int i = 0;
 			int width = (int) (bounds.getWidth() / 2 - currentRow.size() * 75);
 
-			heightSoFar += LayoutProperties.getSize(currentRow.get(0)).height
-					+ VSPACING;
-			for (Iterator<Node> iterator2 = currentRow.iterator(); iterator2
+			heightSoFar += store.getHeight(currentRow.get(0)) + VSPACING;
+			for (Iterator<Integer> iterator2 = currentRow.iterator(); iterator2
 					.hasNext();) {
-				Node entity = (Node) iterator2.next();
-				Dimension size = LayoutProperties.getSize(entity);
-				LayoutProperties.setLocation(entity,
-						new Point(width + 10 * ++i + size.width / 2,
-								heightSoFar + size.height / 2));
-				width += size.width;
+				int entity = iterator2.next();
+				double entityWidth = store.getWidth(entity);
+				store.setLocation(entity,
+						width + 10 * ++i + entityWidth / 2,
+						heightSoFar + store.getHeight(entity) / 2);
+				width += entityWidth;
 			}
 		}
 	}
 
-	private void addToRowList(Node entity, ArrayList<List<Node>> rowsList) {
-		double layoutY = LayoutProperties.getLocation(entity).y;
+	private void addToRowList(LayoutPropertyStore store, int entity,
+			ArrayList<List<Integer>> rowsList) {
+		double layoutY = store.getY(entity);
 
-		for (Iterator<List<Node>> iterator = rowsList.iterator(); iterator
+		for (Iterator<List<Integer>> iterator = rowsList.iterator(); iterator
 				.hasNext();) {
-			List<Node> currentRow = iterator.next();
-			Node currentRowEntity = currentRow.get(0);
-			double currentRowY = LayoutProperties
-					.getLocation(currentRowEntity).y;
+			List<Integer> currentRow = iterator.next();
+			double currentRowY = store.getY(currentRow.get(0));
 			if (layoutY >= currentRowY - DELTA
 					&& layoutY <= currentRowY + DELTA) {
 				currentRow.add(entity);
 				return;
 			}
 		}
-		List<Node> newRow = new ArrayList<>();
+		List<Integer> newRow = new ArrayList<>();
 		newRow.add(entity);
 		rowsList.add(newRow);
 	}
@@ -12,12 +12,11 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 
 /**
  * This layout will take the given entities, apply a tree layout to them, and
@@ -47,41 +46,38 @@ public class RadialLayoutAlgorithm implements ILayoutAlgorithm {
 		if (!clean)
 			return;
 		treeLayout.internalApplyLayout(layoutContext);
-		Node[] entities = layoutContext.getNodes();
+		LayoutPropertyStore store = layoutContext.getPropertyStore();
 		Rectangle bounds = LayoutProperties.getBounds(layoutContext.getGraph())
 				.getCopy();
-		computeRadialPositions(entities, bounds);
+		computeRadialPositions(store, bounds);
 		if (resize)
-			AlgorithmHelper.maximizeSizes(entities);
+			AlgorithmHelper.maximizeSizes(store);
 		int insets = 4;
 		bounds.setX(bounds.getX() + insets);
 		bounds.setY(bounds.getY() + insets);
 		bounds.setWidth(bounds.getWidth() - 2 * insets);
 		bounds.setHeight(bounds.getHeight() - 2 * insets);
-		AlgorithmHelper.fitWithinBounds(entities, bounds, resize);
+		AlgorithmHelper.fitWithinBounds(store, bounds, resize);
 	}
 
-	private void computeRadialPositions(Node[] entities, Rectangle bounds) {
-		Rectangle layoutBounds = AlgorithmHelper.getLayoutBounds(entities,
-				false);
+	private void computeRadialPositions(LayoutPropertyStore store,
+			Rectangle bounds) {
+		Rectangle layoutBounds = AlgorithmHelper.getLayoutBounds(store, false);
 		layoutBounds.setX(bounds.getX());
 		layoutBounds.setWidth(bounds.getWidth());
-		for (int i = 0; i < entities.length; i++) {
-			Point location = LayoutProperties.getLocation(entities[i]);
+		for (int i = 0; i < store.getNodeCount(); i++) {
 			if (layoutBounds.getWidth() == 0 || layoutBounds.getHeight() == 0) {
-				location.x = 0;
-				location.y = 0;
+				store.setLocation(i, 0, 0);
 			} else {
-				double percenttheta = (location.x - layoutBounds.getX())
+				double percenttheta = (store.getX(i) - layoutBounds.getX())
 						/ layoutBounds.getWidth();
-				double distance = (location.y - layoutBounds.getY())
+				double distance = (store.getY(i) - layoutBounds.getY())
 						/ layoutBounds.getHeight();
 				double theta = startDegree
 						+ Math.abs(endDegree - startDegree) * percenttheta;
-				location.x = distance * Math.cos(theta);
-				location.y = distance * Math.sin(theta);
+				store.setLocation(i, distance * Math.cos(theta),
+						distance * Math.sin(theta));
 			}
-			LayoutProperties.setLocation(entities[i], location);
 		}
 	}
 
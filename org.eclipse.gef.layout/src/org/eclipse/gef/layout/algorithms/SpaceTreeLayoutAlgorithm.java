@@ -21,13 +21,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 
-import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 import org.eclipse.gef.layout.algorithms.TreeLayoutHelper.TreeNode;
 
 /**
@@ -72,9 +72,13 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 	private class SpaceTreeNode extends TreeLayoutHelper.TreeNode {
 		public boolean expanded = true;
 		public double positionInLayer;
+		// the index of the node within the property store, or -1 if it is
+		// not part of it (as the super root and nodes of nesting graphs)
+		private final int index;
 
 		public SpaceTreeNode(Node node, TreeLayoutHelper owner) {
 			super(node, owner);
+			index = node == null ? -1 : store.indexOf(node);
 		}
 
 		protected void addChild(TreeLayoutHelper.TreeNode child) {
@@ -134,16 +138,42 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 		}
 
+		private double getNodeHeight() {
+			return index >= 0 ? store.getHeight(index)
+					: LayoutProperties.getSize(node).height;
+		}
+
+		private double getNodeWidth() {
+			return index >= 0 ? store.getWidth(index)
+					: LayoutProperties.getSize(node).width;
+		}
+
+		private boolean setLocation(double x, double y) {
+			if (index >= 0) {
+				if (store.getX(index) == x && store.getY(index) == y) {
+					return false;
+				}
+				store.setLocation(index, x, y);
+				return true;
+			}
+			Point currentLocation = LayoutProperties.getLocation(node);
+			if (currentLocation.x == x && currentLocation.y == y) {
+				return false;
+			}
+			LayoutProperties.setLocation(node, new Point(x, y));
+			return true;
+		}
+
 		public double spaceRequiredForNode() {
 			if (node == null)
 				return 0;
 			switch (direction) {
 			case TOP_DOWN:
 			case BOTTOM_UP:
-				return LayoutProperties.getSize(node).width;
+				return getNodeWidth();
 			case LEFT_RIGHT:
 			case RIGHT_LEFT:
-				return LayoutProperties.getSize(node).height;
+				return getNodeHeight();
 			}
 			throw new RuntimeException("invalid direction");
 		}
@@ -281,35 +311,32 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		public boolean flushLocationChanges(double thicknessSoFar) {
 			boolean madeChanges = false;
 			if (node != null) {
-				Dimension nodeSize = LayoutProperties.getSize(node);
+				double nodeHeight = getNodeHeight();
 				double x = 0, y = 0;
 				switch (direction) {
 				case TOP_DOWN:
 					x = bounds.getX() + positionInLayer;
-					y = thicknessSoFar + nodeSize.height / 2;
+					y = thicknessSoFar + nodeHeight / 2;
 					break;
 				case BOTTOM_UP:
 					x = bounds.getX() + positionInLayer;
 					y = bounds.getY() + bounds.getHeight() - thicknessSoFar
-							- nodeSize.height / 2;
+							- nodeHeight / 2;
 					break;
 				case LEFT_RIGHT:
-					x = thicknessSoFar + nodeSize.height / 2;
+					x = thicknessSoFar + nodeHeight / 2;
 					y = bounds.getY() + positionInLayer;
 					break;
 				case RIGHT_LEFT:
 					x = bounds.getX() + bounds.getWidth() - thicknessSoFar
-							- nodeSize.height / 2;
+							- nodeHeight / 2;
 					y = bounds.getY() + positionInLayer;
 					break;
 				}
-				Point currentLocation = LayoutProperties.getLocation(node);
-				if (currentLocation.x != x || currentLocation.y != y) {
-					LayoutProperties.setLocation(node, new Point(x, y));
+				if (setLocation(x, y)) {
 					SpaceTreeNode spaceTreeNode = (SpaceTreeNode) treeObserver
 							.getTreeNode(node);
-					spaceTreeNode
-							.adjustPosition(LayoutProperties.getLocation(node));
+					spaceTreeNode.adjustPosition(new Point(x, y));
 					spaceTreeLayers.get(depth).refreshThickness();
 					madeChanges = true;
 				}
@@ -427,9 +454,8 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 
 		public void checkThickness(SpaceTreeNode node) {
 			double nodeThickness = 0;
-			Dimension size = LayoutProperties.getSize(node.node);
 			nodeThickness = (direction == TOP_DOWN || direction == BOTTOM_UP)
-					? size.height : size.width;
+					? node.getNodeHeight() : node.getNodeWidth();
 			this.thickness = Math.max(this.thickness, nodeThickness);
 		}
 
@@ -881,6 +907,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 	private SpaceTreeNode protectedNode = null;
 
 	private Rectangle bounds;
+	private LayoutPropertyStore store;
 
 	/**
 	 * Constructs an instance of <code>SpaceTreeLayoutAlgorithm</code> that
@@ -935,6 +962,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
+		store = layoutContext.getPropertyStore();
 		treeObserver = new TreeLayoutHelper(spaceTreeNodeFactory);
 		treeObserver.computeTree(layoutContext.getNodes());
 
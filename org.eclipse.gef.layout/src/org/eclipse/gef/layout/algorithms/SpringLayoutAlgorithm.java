@@ -14,16 +14,23 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
-import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
-import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.GraphSnapshot;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
+import org.eclipse.gef.layout.LayoutSnapshot;
 
 /**
  * The SpringLayoutAlgorithm has its own data repository and relation
@@ -79,6 +86,18 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private static final double MIN_DISTANCE = 1.0d;
 
+	/**
+	 * The default value for the Barnes-Hut approximation threshold, which
+	 * disables the approximation.
+	 */
+	private static final double DEFAULT_APPROXIMATION_THETA = 0.0d;
+
+	/**
+	 * The default value for the number of threads used to compute forces,
+	 * which disables parallel computation.
+	 */
+	private static final int DEFAULT_PARALLELISM = 1;
+
 	/**
 	 * The variable can be customized to set the number of iterations used.
 	 */
@@ -96,6 +115,11 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private boolean sprRandom = DEFAULT_SPRING_RANDOM;
 
+	/**
+	 * The generator of the random initial locations.
+	 */
+	private Random random = new Random();
+
 	/**
 	 * The variable can be customized to set the spring layout move-control.
 	 */
@@ -122,12 +146,40 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private boolean resize = false;
 
+	/**
+	 * The variable can be customized to set the Barnes-Hut approximation
+	 * threshold used for computing repulsive forces.
+	 */
+	private double theta = DEFAULT_APPROXIMATION_THETA;
+
+	/**
+	 * The variable can be customized to set the number of threads used to
+	 * compute forces.
+	 */
+	private int parallelism = DEFAULT_PARALLELISM;
+	private ForkJoinPool pool;
+
 	private int iteration;
-	private double[][] srcDestToSumOfWeights;
+	// sum of weights of the edges between pairs of adjacent nodes, stored in
+	// compressed rows (the adjacent nodes of node i are stored at indices
+	// adjacencyOffsets[i] to adjacencyOffsets[i + 1] - 1)
+	private int[] adjacencyOffsets;
+	private int[] adjacentEntities;
+	private double[] adjacentWeights;
 	private Node[] entities;
 	private double[] forcesX, forcesY;
 	private double[] locationsX, locationsY;
 	private double[] sizeW, sizeH;
+	private boolean[] movable;
+	// buffers used within computeForces()
+	private double[][] stepForcesX, stepForcesY;
+	private double[] stepLocationsX, stepLocationsY;
+	private double[] scaledLocationsX, scaledLocationsY;
+	private double[] rowWeights;
+	// per partition buffers used for parallel computation of exact forces
+	private double[][] partitionForcesX, partitionForcesY;
+	private double[][] partitionRowWeights;
+	private BarnesHutTree tree = new BarnesHutTree();
 	private Rectangle bounds;
 	private double boundsScaleX = 0.2;
 	private double boundsScaleY = 0.2;
@@ -145,13 +197,18 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
-		while (performAnotherNonContinuousIteration()) {
-			computeOneIteration();
+		try {
+			while (performAnotherNonContinuousIteration()) {
+				computeOneIteration();
+			}
+		} finally {
+			shutdownPool();
 		}
 
 		saveLocations();
+		LayoutPropertyStore store = layoutContext.getPropertyStore();
 		if (resize)
-			AlgorithmHelper.maximizeSizes(entities);
+			AlgorithmHelper.maximizeSizes(store);
 
 		if (fitWithinBounds) {
 			Rectangle bounds2 = new Rectangle(bounds);
@@ -160,7 +217,7 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			bounds2.setY(bounds2.getY() + insets);
 			bounds2.setWidth(bounds2.getWidth() - 2 * insets);
 			bounds2.setHeight(bounds2.getHeight() - 2 * insets);
-			AlgorithmHelper.fitWithinBounds(entities, bounds2, resize);
+			AlgorithmHelper.fitWithinBounds(store, bounds2, resize);
 		}
 	}
 
@@ -173,14 +230,16 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	public void performNIteration(int n) {
 		layoutContext.preLayout();
 		if (iteration == 0) {
-			entities = layoutContext.getNodes();
-			loadLocations();
 			initLayout(layoutContext);
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
-		for (int i = 0; i < n; i++) {
-			computeOneIteration();
-			saveLocations();
+		try {
+			for (int i = 0; i < n; i++) {
+				computeOneIteration();
+				saveLocations();
+			}
+		} finally {
+			shutdownPool();
 		}
 		layoutContext.postLayout();
 	}
@@ -192,12 +251,14 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	public void performOneIteration() {
 		layoutContext.preLayout();
 		if (iteration == 0) {
-			entities = layoutContext.getNodes();
-			loadLocations();
 			initLayout(layoutContext);
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
-		computeOneIteration();
+		try {
+			computeOneIteration();
+		} finally {
+			shutdownPool();
+		}
 		saveLocations();
 		layoutContext.postLayout();
 	}
@@ -360,33 +421,98 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		return sprRandom;
 	}
 
+	/**
+	 * Sets the seed of the generator of the random initial locations (see
+	 * {@link #setRandom(boolean)}), so that the results of subsequent layout
+	 * passes are reproducible.
+	 * 
+	 * @param seed
+	 *            The seed for the random initial locations.
+	 */
+	public void setRandomSeed(long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Sets the threshold for approximating the repulsive forces between nodes
+	 * (Barnes-Hut approximation). If the threshold is greater than zero, the
+	 * nodes are aggregated within a quadtree, and a group of nodes whose
+	 * extent divided by its distance is smaller than the threshold repels
+	 * other nodes from its center of mass as a whole. This reduces the costs
+	 * of an iteration from O(n<sup>2</sup>) to O(n log n), so that larger
+	 * graphs can be laid out. Reasonable values are within 0.5 and 1.2,
+	 * larger values increase the speed at the cost of accuracy. The default
+	 * value is 0, i.e. the forces are computed exactly.
+	 * 
+	 * @param theta
+	 *            The approximation threshold, or 0 to compute the forces
+	 *            exactly.
+	 */
+	public void setApproximationTheta(double theta) {
+		if (theta < 0) {
+			throw new IllegalArgumentException(
+					"The approximation threshold may not be negative.");
+		}
+		this.theta = theta;
+	}
+
+	/**
+	 * Returns the threshold for approximating the repulsive forces between
+	 * nodes (Barnes-Hut approximation).
+	 * 
+	 * @return The approximation threshold, or 0 if the forces are computed
+	 *         exactly.
+	 * @see #setApproximationTheta(double)
+	 */
+	public double getApproximationTheta() {
+		return theta;
+	}
+
+	/**
+	 * Sets the number of threads that are used to compute the forces in each
+	 * iteration. If greater than 1, the force computation is partitioned and
+	 * executed within a {@link ForkJoinPool} of the given parallelism, using
+	 * separate force buffers per partition. The pool is shut down when the
+	 * layout pass (or iteration) finishes. The partitions only depend on the
+	 * number of nodes and the parallelism, so that the results are
+	 * deterministic for a given initial placement. The default value is 1,
+	 * i.e. forces are computed sequentially on the calling thread.
+	 * 
+	 * @param parallelism
+	 *            The number of threads to use for computing forces.
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(
+					"The parallelism has to be greater than 0.");
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the number of threads that are used to compute the forces in
+	 * each iteration.
+	 * 
+	 * @return The number of threads used for computing forces.
+	 * @see #setParallelism(int)
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
 	private long startTime = 0;
 
 	private void initLayout(LayoutContext context) {
-		entities = context.getNodes();
-		bounds = LayoutProperties.getBounds(context.getGraph());
-		loadLocations();
-
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
-		HashMap<Node, Integer> entityToPosition = new HashMap<>();
+		LayoutSnapshot snapshot = new LayoutSnapshot(context);
+		GraphSnapshot graph = snapshot.getGraph();
+		entities = new Node[graph.getNodeCount()];
 		for (int i = 0; i < entities.length; i++) {
-			entityToPosition.put(entities[i], new Integer(i));
+			entities[i] = graph.getNode(i);
 		}
+		bounds = snapshot.getBounds();
+		loadLocations(snapshot);
 
-		Edge[] connections = context.getEdges();
-		for (int i = 0; i < connections.length; i++) {
-			Edge connection = connections[i];
-			Integer source = entityToPosition.get(connection.getSource());
-			Integer target = entityToPosition.get(connection.getTarget());
-			if (source == null || target == null)
-				continue;
-			double weight = LayoutProperties.getWeight(connection);
-			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target
-					.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source
-					.intValue()] += weight;
-		}
+		initAdjacency(snapshot);
 
 		if (sprRandom)
 			placeRandomly(); // put vertices in random places
@@ -396,29 +522,107 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		startTime = System.currentTimeMillis();
 	}
 
-	private void loadLocations() {
+	/**
+	 * Computes the sum of weights of the edges between each pair of adjacent
+	 * nodes. The weights are stored in compressed rows, so that O(n + e)
+	 * memory is needed (instead of a dense n x n matrix).
+	 */
+	private void initAdjacency(LayoutSnapshot snapshot) {
+		GraphSnapshot graph = snapshot.getGraph();
+		int n = graph.getNodeCount();
+		int m = graph.getEdgeCount();
+
+		// determine (symmetric) adjacency entries for all relevant edges
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		double[] weights = new double[m];
+		int entryCount = 0;
+		adjacencyOffsets = new int[n + 1];
+		for (int e = 0; e < m; e++) {
+			int source = graph.getSource(e);
+			int target = graph.getTarget(e);
+			// self-loops do not contribute any force
+			if (source == target)
+				continue;
+			double weight = snapshot.getWeight(e);
+			weight = (weight <= 0 ? 0.1 : weight);
+			sources[entryCount] = source;
+			targets[entryCount] = target;
+			weights[entryCount] = weight;
+			adjacencyOffsets[source + 1]++;
+			adjacencyOffsets[target + 1]++;
+			entryCount++;
+		}
+		for (int i = 0; i < n; i++) {
+			adjacencyOffsets[i + 1] += adjacencyOffsets[i];
+		}
+
+		// distribute entries into rows
+		int[] rowEnds = Arrays.copyOf(adjacencyOffsets, n);
+		int[] rowEntities = new int[2 * entryCount];
+		double[] entityWeights = new double[2 * entryCount];
+		for (int e = 0; e < entryCount; e++) {
+			rowEntities[rowEnds[sources[e]]] = targets[e];
+			entityWeights[rowEnds[sources[e]]++] = weights[e];
+			rowEntities[rowEnds[targets[e]]] = sources[e];
+			entityWeights[rowEnds[targets[e]]++] = weights[e];
+		}
+
+		// merge entries of parallel edges (summing up their weights)
+		int[] positions = new int[n];
+		Arrays.fill(positions, -1);
+		adjacentEntities = new int[2 * entryCount];
+		adjacentWeights = new double[2 * entryCount];
+		int size = 0;
+		for (int i = 0; i < n; i++) {
+			int rowStart = size;
+			for (int p = adjacencyOffsets[i]; p < adjacencyOffsets[i
+					+ 1]; p++) {
+				int j = rowEntities[p];
+				if (positions[j] >= rowStart) {
+					adjacentWeights[positions[j]] += entityWeights[p];
+				} else {
+					positions[j] = size;
+					adjacentEntities[size] = j;
+					adjacentWeights[size++] = entityWeights[p];
+				}
+			}
+			adjacencyOffsets[i] = rowStart;
+		}
+		adjacencyOffsets[n] = size;
+	}
+
+	private void loadLocations(LayoutSnapshot snapshot) {
 		if (locationsX == null || locationsX.length != entities.length) {
 			int length = entities.length;
 			locationsX = new double[length];
 			locationsY = new double[length];
 			sizeW = new double[length];
 			sizeH = new double[length];
+			movable = new boolean[length];
 			forcesX = new double[length];
 			forcesY = new double[length];
+			stepForcesX = new double[2][length];
+			stepForcesY = new double[2][length];
+			stepLocationsX = new double[length];
+			stepLocationsY = new double[length];
+			scaledLocationsX = new double[length];
+			scaledLocationsY = new double[length];
+			rowWeights = new double[length];
 		}
 		for (int i = 0; i < entities.length; i++) {
-			Point location = LayoutProperties.getLocation(entities[i]);
-			locationsX[i] = location.x;
-			locationsY[i] = location.y;
-			Dimension size = LayoutProperties.getSize(entities[i]);
-			sizeW[i] = size.width;
-			sizeH[i] = size.height;
+			locationsX[i] = snapshot.getX(i);
+			locationsY[i] = snapshot.getY(i);
+			sizeW[i] = snapshot.getWidth(i);
+			sizeH[i] = snapshot.getHeight(i);
+			movable[i] = snapshot.isMovable(i);
 		}
 	}
 
 	private void saveLocations() {
 		if (entities == null)
 			return;
+		LayoutPropertyStore store = layoutContext.getPropertyStore();
 		for (int i = 0; i < entities.length; i++) {
 			// TODO ensure no dynamic layout passes are triggered as a result of
 			// storing the positions
@@ -427,8 +631,13 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 				locationsX[i] = 0;
 				locationsY[i] = 0;
 			}
-			LayoutProperties.setLocation(entities[i],
-					new Point(locationsX[i], locationsY[i]));
+			// the store is usually indexed like the entities, unless the
+			// graph has changed since the layout was initialized
+			int index = i < store.getNodeCount()
+					&& store.getNode(i) == entities[i] ? i
+							: store.indexOf(entities[i]);
+			if (index >= 0)
+				store.setLocation(index, locationsX[i], locationsY[i]);
 		}
 	}
 
@@ -513,9 +722,9 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			locationsY[1] = bounds.getY() + bounds.getHeight();
 			for (int i = 2; i < locationsX.length; i++) {
 				locationsX[i] = bounds.getX()
-						+ Math.random() * bounds.getWidth();
+						+ random.nextDouble() * bounds.getWidth();
 				locationsY[i] = bounds.getY()
-						+ Math.random() * bounds.getHeight();
+						+ random.nextDouble() * bounds.getHeight();
 			}
 		}
 	}
@@ -525,11 +734,10 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 * computed force will be stored in the data repository
 	 */
 	protected void computeForces() {
-
-		double forcesX[][] = new double[2][this.forcesX.length];
-		double forcesY[][] = new double[2][this.forcesX.length];
-		double locationsX[] = new double[this.forcesX.length];
-		double locationsY[] = new double[this.forcesX.length];
+		double forcesX[][] = stepForcesX;
+		double forcesY[][] = stepForcesY;
+		double locationsX[] = stepLocationsX;
+		double locationsY[] = stepLocationsY;
 
 		// // initialize all forces to zero
 		for (int j = 0; j < 2; j++) {
@@ -540,51 +748,21 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
 
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j])
-							/ bounds.getWidth() / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j])
-							/ bounds.getHeight() / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
-							distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength)
-								* sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
-				}
+			if (theta > 0) {
+				accumulateApproximatedForces(locationsX, locationsY,
+						forcesX[k], forcesY[k]);
+			} else if (parallelism > 1) {
+				accumulateForcesInParallel(locationsX, locationsY, forcesX[k],
+						forcesY[k]);
+			} else {
+				accumulateForces(0, locationsX.length, locationsX, locationsY,
+						forcesX[k], forcesY[k], rowWeights);
 			}
 
 			for (int i = 0; i < entities.length; i++) {
-				if (LayoutProperties.isMovable(entities[i])) {
+				if (movable[i]) {
 					double deltaX = sprMove * forcesX[k][i];
 					double deltaY = sprMove * forcesY[k][i];
 
@@ -622,6 +800,242 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 
 	}
 
+	/**
+	 * Computes the forces between the nodes of the given range and all
+	 * subsequent nodes exactly, which requires O(n<sup>2</sup>) time for the
+	 * full range.
+	 */
+	private void accumulateForces(int from, int to, double[] locationsX,
+			double[] locationsY, double[] forcesX, double[] forcesY,
+			double[] rowWeights) {
+		for (int i = from; i < to; i++) {
+			// scatter the weights of the adjacent nodes into a dense row
+			for (int p = adjacencyOffsets[i]; p < adjacencyOffsets[i
+					+ 1]; p++) {
+				rowWeights[adjacentEntities[p]] = adjacentWeights[p];
+			}
+
+			for (int j = i + 1; j < locationsX.length; j++) {
+				double dx = (locationsX[i] - locationsX[j]) / bounds.getWidth()
+						/ boundsScaleX;
+				double dy = (locationsY[i] - locationsY[j])
+						/ bounds.getHeight() / boundsScaleY;
+				double distance_sq = dx * dx + dy * dy;
+				// make sure distance and distance squared not too small
+				distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						distance_sq);
+				double distance = Math.sqrt(distance_sq);
+
+				// If there are relationships between srcObj and destObj
+				// then decrease force on srcObj (a pull) in direction of
+				// destObj
+				// If no relation between srcObj and destObj then increase
+				// force on srcObj (a push) from direction of destObj.
+				double sumOfWeights = rowWeights[j];
+
+				double f;
+				if (sumOfWeights > 0) {
+					// nodes are pulled towards each other
+					f = -sprStrain * Math.log(distance / sprLength)
+							* sumOfWeights;
+				} else {
+					// nodes are repelled from each other
+					f = sprGravitation / (distance_sq);
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+
+			for (int p = adjacencyOffsets[i]; p < adjacencyOffsets[i
+					+ 1]; p++) {
+				rowWeights[adjacentEntities[p]] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Computes the forces between all pairs of nodes exactly, partitioning the
+	 * nodes into ranges of similar costs that are processed concurrently.
+	 */
+	private void accumulateForcesInParallel(final double[] locationsX,
+			final double[] locationsY, final double[] forcesX,
+			final double[] forcesY) {
+		final int n = locationsX.length;
+		if (partitionForcesX == null || partitionForcesX.length != parallelism
+				|| partitionForcesX[0].length != n) {
+			partitionForcesX = new double[parallelism][n];
+			partitionForcesY = new double[parallelism][n];
+			partitionRowWeights = new double[parallelism][n];
+		}
+
+		// the costs of row i are proportional to the number of subsequent
+		// nodes, so determine bounds that evenly distribute the node pairs
+		final int[] partitionBounds = new int[parallelism + 1];
+		double pairsPerPartition = (double) n * (n - 1) / 2 / parallelism;
+		double pairs = 0;
+		int partition = 1;
+		for (int i = 0; i < n && partition < parallelism; i++) {
+			pairs += n - 1 - i;
+			while (partition < parallelism
+					&& pairs >= partition * pairsPerPartition) {
+				partitionBounds[partition++] = i + 1;
+			}
+		}
+		while (partition <= parallelism) {
+			partitionBounds[partition++] = n;
+		}
+
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int p = 0; p < parallelism; p++) {
+			final int index = p;
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					Arrays.fill(partitionForcesX[index], 0);
+					Arrays.fill(partitionForcesY[index], 0);
+					accumulateForces(partitionBounds[index],
+							partitionBounds[index + 1], locationsX, locationsY,
+							partitionForcesX[index], partitionForcesY[index],
+							partitionRowWeights[index]);
+					return null;
+				}
+			});
+		}
+		invokeAll(tasks);
+
+		// sum up the partition buffers (in a fixed order)
+		tasks.clear();
+		for (int p = 0; p < parallelism; p++) {
+			final int from = (int) ((long) n * p / parallelism);
+			final int to = (int) ((long) n * (p + 1) / parallelism);
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					for (int q = 0; q < parallelism; q++) {
+						for (int i = from; i < to; i++) {
+							forcesX[i] += partitionForcesX[q][i];
+							forcesY[i] += partitionForcesY[q][i];
+						}
+					}
+					return null;
+				}
+			});
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * Executes the given tasks within the {@link ForkJoinPool} of this
+	 * algorithm and waits for their completion.
+	 */
+	private void invokeAll(List<Callable<Void>> tasks) {
+		if (pool == null) {
+			pool = new ForkJoinPool(parallelism);
+		}
+		for (Future<Void> future : pool.invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(
+						"Interrupted while computing forces.", e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Could not compute forces.",
+						e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Shuts down the {@link ForkJoinPool} (if any) that was created to
+	 * compute the forces, so that its threads do not outlive the layout pass.
+	 */
+	private void shutdownPool() {
+		if (pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	/**
+	 * Approximates the repulsive forces between all pairs of nodes using a
+	 * quadtree (Barnes-Hut), and computes the attractive forces between
+	 * adjacent nodes exactly, which requires O(n log n + e) time.
+	 */
+	private void accumulateApproximatedForces(double[] locationsX,
+			double[] locationsY, final double[] forcesX,
+			final double[] forcesY) {
+		final int n = locationsX.length;
+		for (int i = 0; i < n; i++) {
+			scaledLocationsX[i] = locationsX[i] / bounds.getWidth()
+					/ boundsScaleX;
+			scaledLocationsY[i] = locationsY[i] / bounds.getHeight()
+					/ boundsScaleY;
+		}
+
+		// repel all nodes from each other
+		tree.build(scaledLocationsX, scaledLocationsY, n);
+		if (parallelism > 1) {
+			// the forces of the individual nodes are independent
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int p = 0; p < parallelism; p++) {
+				final int from = (int) ((long) n * p / parallelism);
+				final int to = (int) ((long) n * (p + 1) / parallelism);
+				tasks.add(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						accumulateRepulsion(from, to, forcesX, forcesY);
+						return null;
+					}
+				});
+			}
+			invokeAll(tasks);
+		} else {
+			accumulateRepulsion(0, n, forcesX, forcesY);
+		}
+
+		// pull adjacent nodes towards each other (instead of repelling them)
+		for (int i = 0; i < n; i++) {
+			for (int p = adjacencyOffsets[i]; p < adjacencyOffsets[i
+					+ 1]; p++) {
+				int j = adjacentEntities[p];
+				if (j <= i) {
+					continue;
+				}
+				double dx = scaledLocationsX[i] - scaledLocationsX[j];
+				double dy = scaledLocationsY[i] - scaledLocationsY[j];
+				double distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
+						dx * dx + dy * dy);
+				double distance = Math.sqrt(distance_sq);
+				double f = -sprStrain * Math.log(distance / sprLength)
+						* adjacentWeights[p] - sprGravitation / distance_sq;
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+
+				forcesX[i] += dfx;
+				forcesY[i] += dfy;
+
+				forcesX[j] -= dfx;
+				forcesY[j] -= dfy;
+			}
+		}
+	}
+
+	private void accumulateRepulsion(int from, int to, double[] forcesX,
+			double[] forcesY) {
+		for (int i = from; i < to; i++) {
+			tree.accumulateRepulsion(i, scaledLocationsX[i],
+					scaledLocationsY[i], theta, sprGravitation, MIN_DISTANCE,
+					forcesX, forcesY);
+		}
+	}
+
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position =
@@ -629,7 +1043,7 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	protected void computePositions() {
 		for (int i = 0; i < entities.length; i++) {
-			if (LayoutProperties.isMovable(entities[i])) {
+			if (movable[i]) {
 				double deltaX = sprMove * forcesX[i];
 				double deltaY = sprMove * forcesY[i];
 
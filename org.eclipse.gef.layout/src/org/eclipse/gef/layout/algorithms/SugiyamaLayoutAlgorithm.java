@@ -18,26 +18,27 @@
 package org.eclipse.gef.layout.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 
 import org.eclipse.gef.geometry.planar.Dimension;
-import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.GraphSnapshot;
 import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.graph.algorithms.GraphAlgorithms;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 
 /**
  * The SugiyamaLayoutAlgorithm class implements an algorithm to arrange a
@@ -51,6 +52,11 @@ import org.eclipse.gef.layout.LayoutProperties;
  * 
  * For further information see http://dx.doi.org/10.1109/TSMC.1981.4308636
  * 
+ * Once the layers have been computed and ordered, the coordinates of the
+ * nodes within their layers are assigned according to Brandes and Köpf (see
+ * http://dx.doi.org/10.1007/3-540-45848-4_3), respecting the sizes of the
+ * nodes.
+ * 
  * This layout algorithm works only with - directed graphs (otherwise an
  * appropriate RuntimeException is thrown)
  * 
@@ -92,6 +98,152 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		void crossReduction(List<List<NodeWrapper>> nodes);
 	}
 
+	/**
+	 * Counts the crossings between the edges of two adjacent layers (bilayer
+	 * cross counting) in O(E log V) by means of an accumulator tree, as
+	 * proposed by Barth, Jünger, and Mutzel
+	 * (http://dx.doi.org/10.1007/3-540-36151-0_13). It is used by the
+	 * {@link CrossingReducer} implementations to evaluate orders of layers.
+	 * 
+	 * @author agent
+	 */
+	public static final class CrossingCounter {
+
+		private CrossingCounter() {
+			// this class should not be instantiated by clients
+		}
+
+		/**
+		 * Returns the number of crossings between the given edges, which are
+		 * specified by the positions of their end points within the upper and
+		 * lower layer. Two edges cross if the order of their upper end points
+		 * is the reverse of the order of their lower end points. Edges that
+		 * share an end point do not cross.
+		 * 
+		 * @param upperPositions
+		 *            The (non-negative) positions of the edges' end points
+		 *            within the upper layer, indexed by edge.
+		 * @param lowerPositions
+		 *            The (non-negative) positions of the edges' end points
+		 *            within the lower layer, indexed by edge.
+		 * @return The number of crossings between the given edges.
+		 */
+		public static long countCrossings(int[] upperPositions,
+				int[] lowerPositions) {
+			int edgeCount = upperPositions.length;
+			if (lowerPositions.length != edgeCount)
+				throw new IllegalArgumentException(
+						"Expected " + edgeCount + " lower positions, but got "
+								+ lowerPositions.length + ".");
+			// sort the edges lexicographically by their end points
+			long[] edges = new long[edgeCount];
+			for (int e = 0; e < edgeCount; e++)
+				edges[e] = ((long) upperPositions[e] << 32)
+						| lowerPositions[e];
+			Arrays.sort(edges);
+			// the distinct lower positions are the leaves of the tree
+			int[] leaves = lowerPositions.clone();
+			Arrays.sort(leaves);
+			int leafCount = 0;
+			for (int e = 0; e < edgeCount; e++)
+				if (leafCount == 0 || leaves[leafCount - 1] != leaves[e])
+					leaves[leafCount++] = leaves[e];
+			int firstLeaf = 1;
+			while (firstLeaf < leafCount)
+				firstLeaf *= 2;
+			int[] tree = new int[2 * firstLeaf - 1];
+			firstLeaf--;
+			// insert the lower end points in order, summing up the number of
+			// previously inserted end points right of them
+			long crossings = 0;
+			for (long edge : edges) {
+				int index = firstLeaf + Arrays.binarySearch(leaves, 0,
+						leafCount, (int) edge);
+				tree[index]++;
+				while (index > 0) {
+					if (index % 2 == 1)
+						crossings += tree[index + 1];
+					index = (index - 1) / 2;
+					tree[index]++;
+				}
+			}
+			return crossings;
+		}
+
+		/**
+		 * Returns the number of crossings between the edges connecting the
+		 * given layers, i.e. between the edges from the {@link NodeWrapper}s
+		 * of the upper layer to their successors within the lower layer. The
+		 * positions of the {@link NodeWrapper}s are given by their indices.
+		 * 
+		 * @param upperLayer
+		 *            The {@link NodeWrapper}s of the upper layer.
+		 * @param lowerLayer
+		 *            The {@link NodeWrapper}s of the lower layer.
+		 * @return The number of crossings between the edges connecting the
+		 *         given layers.
+		 */
+		public static long countCrossings(List<NodeWrapper> upperLayer,
+				List<NodeWrapper> lowerLayer) {
+			int edgeCount = 0;
+			for (NodeWrapper node : upperLayer)
+				for (NodeWrapper succ : node.succ)
+					if (isContained(succ, lowerLayer))
+						edgeCount++;
+			int[] upperPositions = new int[edgeCount];
+			int[] lowerPositions = new int[edgeCount];
+			edgeCount = 0;
+			for (NodeWrapper node : upperLayer)
+				for (NodeWrapper succ : node.succ)
+					if (isContained(succ, lowerLayer)) {
+						upperPositions[edgeCount] = node.index;
+						lowerPositions[edgeCount++] = succ.index;
+					}
+			return countCrossings(upperPositions, lowerPositions);
+		}
+
+		/**
+		 * Returns the number of crossings between the edges of the given
+		 * {@link NodeWrapper}s of the same layer, if the first one is placed
+		 * left of the second one. The edges to the predecessors within the
+		 * preceding layer and to the successors within the succeeding layer
+		 * (which include dummies, so that long edges are taken into account)
+		 * are counted separately, and the positions of the adjacent
+		 * {@link NodeWrapper}s are given by their indices.
+		 */
+		static int countCrossings(NodeWrapper left, NodeWrapper right) {
+			if (left == right)
+				return 0;
+			long crossings = countAdjacentCrossings(left.pred, right.pred)
+					+ countAdjacentCrossings(left.succ, right.succ);
+			return (int) Math.min(crossings, Integer.MAX_VALUE);
+		}
+
+		private static long countAdjacentCrossings(
+				List<NodeWrapper> leftAdjacent,
+				List<NodeWrapper> rightAdjacent) {
+			int edgeCount = leftAdjacent.size() + rightAdjacent.size();
+			int[] upperPositions = new int[edgeCount];
+			int[] lowerPositions = new int[edgeCount];
+			edgeCount = 0;
+			for (NodeWrapper adjacent : leftAdjacent) {
+				upperPositions[edgeCount] = 0;
+				lowerPositions[edgeCount++] = adjacent.index;
+			}
+			for (NodeWrapper adjacent : rightAdjacent) {
+				upperPositions[edgeCount] = 1;
+				lowerPositions[edgeCount++] = adjacent.index;
+			}
+			return countCrossings(upperPositions, lowerPositions);
+		}
+
+		private static boolean isContained(NodeWrapper node,
+				List<NodeWrapper> layer) {
+			return node.index >= 0 && node.index < layer.size()
+					&& layer.get(node.index) == node;
+		}
+	}
+
 	/**
 	 * @author Rene Kuhlemann
 	 */
@@ -207,8 +359,10 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 					break;
 				// compute distance to new position
 				int delta = iter.getBaryCenter(iter.pred) - iter.index;
-				for (int i = 0; i < delta; i++)
-					layer.add(iter.index, layer.remove(last));
+				// (moving the last delta elements in front of it)
+				if (delta > 0)
+					Collections.rotate(layer.subList(iter.index, last + 1),
+							delta);
 			}
 			updateIndex(layer);
 		}
@@ -230,8 +384,10 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 					break;
 				// compute distance to new position
 				int delta = iter.getBaryCenter(iter.succ) - iter.index;
-				for (int i = 0; i < delta; i++)
-					layer.add(iter.index, layer.remove(last));
+				// (moving the last delta elements in front of it)
+				if (delta > 0)
+					Collections.rotate(layer.subList(iter.index, last + 1),
+							delta);
 			}
 			updateIndex(layer);
 		}
@@ -243,16 +399,51 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 		}
 
+		/**
+		 * Returns the total number of crossings between all adjacent layers.
+		 */
+		private long countCrossings() {
+			long crossings = 0;
+			for (int index = 1; index < layers.size(); index++)
+				crossings += CrossingCounter.countCrossings(
+						layers.get(index - 1), layers.get(index));
+			return crossings;
+		}
+
+		/**
+		 * Returns a copy of the current order of all layers.
+		 */
+		private List<List<NodeWrapper>> copyLayers() {
+			List<List<NodeWrapper>> copy = new ArrayList<>(layers.size());
+			for (List<NodeWrapper> layer : layers)
+				copy.add(new ArrayList<>(layer));
+			return copy;
+		}
+
 		public void crossReduction(List<List<NodeWrapper>> nodes) {
 			this.layers = nodes;
 			padLayers();
 			// reduce and refine iteratively, depending on the depth of the
-			// graph
-			for (int i = 0; i < layers.size(); i++) {
+			// graph, as long as the number of crossings decreases, and keep
+			// the best order that was found
+			List<List<NodeWrapper>> best = copyLayers();
+			long bestCrossings = countCrossings();
+			for (int i = 0; i <= layers.size() && bestCrossings > 0; i++) {
 				reduceCrossings();
-				refineLayers();
+				if (i < layers.size())
+					refineLayers();
+				long crossings = countCrossings();
+				if (crossings >= bestCrossings)
+					break;
+				best = copyLayers();
+				bestCrossings = crossings;
+			}
+			for (int index = 0; index < layers.size(); index++) {
+				List<NodeWrapper> layer = layers.get(index);
+				layer.clear();
+				layer.addAll(best.get(index));
+				updateIndex(layer);
 			}
-			reduceCrossings();
 			unpadLayers();
 		}
 	}
@@ -267,120 +458,6 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	 * 
 	 */
 	public static class SplitCrossingReducer implements CrossingReducer {
-		private final Map<Node, NodeWrapper> map = new IdentityHashMap<>();
-
-		/**
-		 * Filters the multiple connections from the two arrays
-		 * 
-		 * @param a
-		 * @param b
-		 * @return
-		 */
-		private ArrayList<Node> unionOfNodes(Collection<Node> a,
-				Collection<Node> b) {
-			ArrayList<Node> res = new ArrayList<>(a);
-			for (Node n : b) {
-				if (!res.contains(n)) {
-					res.add(n);
-				}
-			}
-			return res;
-		}
-
-		/**
-		 * Returns the number of crosses between the two nodes and those
-		 * connected to them.
-		 * 
-		 * @param nodeA
-		 * @param nodeB
-		 * @return
-		 */
-		private int numberOfCrosses(NodeWrapper nodeA, NodeWrapper nodeB) {
-			int numOfCrosses = 0;
-			if (nodeA.equals(nodeB))
-				return 0;
-
-			// Filter nodes connected with bidirectional edges
-			ArrayList<Node> adjacentNodesOfA = unionOfNodes(
-					nodeA.node.getPredecessorNodes(),
-					nodeA.node.getSuccessorNodes());
-			ArrayList<Node> adjacentNodesOfB = unionOfNodes(
-					nodeB.node.getPredecessorNodes(),
-					nodeB.node.getSuccessorNodes());
-
-			for (Node aNode : adjacentNodesOfA) {
-				ArrayList<Integer> alreadyCrossed = new ArrayList<>();
-				NodeWrapper aNodeWrapper = map.get(aNode);
-				for (int i = 0; i < adjacentNodesOfB.size(); i++) {
-					NodeWrapper nw = map.get(adjacentNodesOfB.get(i));
-					if (!alreadyCrossed.contains(i) && nw != null) {
-						// only if on the same side
-						if ((nw.layer > nodeA.layer
-								&& aNodeWrapper.layer > nodeA.layer)
-								|| (nw.layer < nodeA.layer
-										&& aNodeWrapper.layer < nodeA.layer)) {
-							if (nodeA.index < nodeB.index) {
-								if (aNodeWrapper.index > nw.index) {
-									numOfCrosses++;
-									alreadyCrossed.add(i);
-								} else if (nw.index == aNodeWrapper.index) {
-									if (nodeA.index >= nw.index) {
-										// implies nodeB.index > nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nodeA.layer < nw.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& nw.layer < nodeA.layer)) {
-											// top-left or bottom-left quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									} else if (nodeB.index <= nw.index) {
-										// implies nodeA.index < nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& aNodeWrapper.layer < nodeB.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& aNodeWrapper.layer > nodeB.layer)) {
-											// top-right or bottom-right quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									}
-								}
-							} else if (nodeA.index > nodeB.index) {
-								if (aNodeWrapper.index < nw.index) {
-									numOfCrosses++;
-									alreadyCrossed.add(i);
-								} else if (nw.index == aNodeWrapper.index) {
-									if (nodeB.index >= nw.index) {
-										// implies nodeB.index > nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nodeB.layer > aNodeWrapper.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& aNodeWrapper.layer > nodeB.layer)) {
-											// top-left or bottom-left quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									} else if (nodeA.index <= nw.index) {
-										// implies nodeA.index < nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nw.layer > nodeA.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& nw.layer < nodeA.layer)) {
-											// top-right or bottom-right quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									}
-								}
-							}
-						}
-					}
-				}
-			}
-
-			return numOfCrosses;
-		}
 
 		/**
 		 * Selects the pivot node by random and decides the order.
@@ -399,27 +476,19 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			// NodeWrapper pivot = layer.get(0);
 			// NodeWrapper pivot = layer.get((int)(layer.size() / 2));
 			for (NodeWrapper node : layer) {
-				if (!node.equals(pivot) && node.node != null
-						&& pivot.node != null) {
-					int num1 = numberOfCrosses(node, pivot);
-					int num2 = numberOfCrosses(pivot, node);
-					if (num1 < num2)
-						left.add(node);
-					else if (num1 > num2)
-						right.add(node);
-					else {
-						if (num1 == num2 && num1 > 0) {
-							int tmpindex = map.get(pivot.node).index;
-							map.get(pivot.node).index = map
-									.get(node.node).index;
-							map.get(node.node).index = tmpindex;
-						}
-						if (node.index < pivot.index)
-							left.add(node);
-						else
-							right.add(node);
-					}
-				}
+				if (node.equals(pivot))
+					continue;
+				int num1 = CrossingCounter.countCrossings(node, pivot);
+				int num2 = CrossingCounter.countCrossings(pivot, node);
+				if (num1 < num2)
+					left.add(node);
+				else if (num1 > num2)
+					right.add(node);
+				else if (node.index < pivot.index)
+					// keep the current order if both are equally good
+					left.add(node);
+				else
+					right.add(node);
 			}
 
 			ArrayList<NodeWrapper> res = new ArrayList<>();
@@ -430,13 +499,14 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		}
 
 		public void crossReduction(List<List<NodeWrapper>> nodes) {
-			// Building the map
-			for (List<NodeWrapper> layer : nodes)
-				for (NodeWrapper nw : layer)
-					map.put(nw.node, nw);
 			for (int i = 0; i < nodes.size(); i++) {
-				if (!nodes.get(i).isEmpty()) {
-					splitHeuristic(nodes.get(i));
+				List<NodeWrapper> layer = nodes.get(i);
+				if (!layer.isEmpty()) {
+					List<NodeWrapper> order = splitHeuristic(layer);
+					layer.clear();
+					layer.addAll(order);
+					for (int index = 0; index < layer.size(); index++)
+						layer.get(index).index = index;
 				}
 			}
 		}
@@ -451,123 +521,9 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	 * 
 	 */
 	public static class GreedyCrossingReducer implements CrossingReducer {
-		private final Map<Node, NodeWrapper> map = new IdentityHashMap<>();
 		private List<List<NodeWrapper>> layers = new ArrayList<>();
 		private Map<Integer, Integer> crossesForLayers = new IdentityHashMap<>();
 
-		/**
-		 * Filters the multiple connections from the two arrays.
-		 * 
-		 * @param a
-		 * @param b
-		 * @return
-		 */
-		private ArrayList<Node> unionOfNodes(Collection<Node> a,
-				Collection<Node> b) {
-			ArrayList<Node> res = new ArrayList<>(a);
-			for (Node n : b) {
-				if (!res.contains(n)) {
-					res.add(n);
-				}
-			}
-			return res;
-		}
-
-		/**
-		 * Returns the number of crosses between the two nodes and those
-		 * connected to them.
-		 * 
-		 * @param nodeA
-		 * @param nodeB
-		 * @return
-		 */
-		private int numberOfCrosses(NodeWrapper nodeA, NodeWrapper nodeB) {
-			int numOfCrosses = 0;
-			if (nodeA.equals(nodeB))
-				return 0;
-
-			// Filter nodes connected with bidirectional edges
-			ArrayList<Node> adjacentNodesOfA = unionOfNodes(
-					nodeA.node.getPredecessorNodes(),
-					nodeA.node.getSuccessorNodes());
-			ArrayList<Node> adjacentNodesOfB = unionOfNodes(
-					nodeB.node.getPredecessorNodes(),
-					nodeB.node.getSuccessorNodes());
-
-			for (Node aNode : adjacentNodesOfA) {
-				ArrayList<Integer> alreadyCrossed = new ArrayList<>();
-				NodeWrapper aNodeWrapper = map.get(aNode);
-				for (int i = 0; i < adjacentNodesOfB.size(); i++) {
-					NodeWrapper nw = map.get(adjacentNodesOfB.get(i));
-					if (!alreadyCrossed.contains(i) && nw != null) {
-						// only if on the same side
-						if ((nw.layer > nodeA.layer
-								&& aNodeWrapper.layer > nodeA.layer)
-								|| (nw.layer < nodeA.layer
-										&& aNodeWrapper.layer < nodeA.layer)) {
-							if (nodeA.index < nodeB.index) {
-								if (aNodeWrapper.index > nw.index) {
-									numOfCrosses++;
-									alreadyCrossed.add(i);
-								} else if (nw.index == aNodeWrapper.index) {
-									if (nodeA.index >= nw.index) {
-										// implies nodeB.index > nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nodeA.layer < nw.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& nw.layer < nodeA.layer)) {
-											// top-left or bottom-left quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									} else if (nodeB.index <= nw.index) {
-										// implies nodeA.index < nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& aNodeWrapper.layer < nodeB.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& aNodeWrapper.layer > nodeB.layer)) {
-											// top-right or bottom-right quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									}
-								}
-							} else if (nodeA.index > nodeB.index) {
-								if (aNodeWrapper.index < nw.index) {
-									numOfCrosses++;
-									alreadyCrossed.add(i);
-								} else if (nw.index == aNodeWrapper.index) {
-									if (nodeB.index >= nw.index) {
-										// implies nodeB.index > nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nodeB.layer > aNodeWrapper.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& aNodeWrapper.layer > nodeB.layer)) {
-											// top-left or bottom-left quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									} else if (nodeA.index <= nw.index) {
-										// implies nodeA.index < nw.index
-										if ((aNodeWrapper.layer > nw.layer
-												&& nw.layer > nodeA.layer)
-												|| (aNodeWrapper.layer < nw.layer
-														&& nw.layer < nodeA.layer)) {
-											// top-right or bottom-right quarter
-											numOfCrosses++;
-											alreadyCrossed.add(i);
-										}
-									}
-								}
-							}
-						}
-					}
-				}
-			}
-
-			return numOfCrosses;
-		}
-
 		/**
 		 * Iterates the list and switches that results in less crossings.
 		 * 
@@ -578,30 +534,26 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			boolean res = false;
 			if (layer.size() > 1) {
 				for (int i = 0; i < layer.size() - 1; i++) {
-					if (layer.get(i).node != null
-							&& layer.get(i + 1).node != null) {
-						int num1 = numberOfCrosses(layer.get(i),
-								layer.get(i + 1));
-						int num2 = numberOfCrosses(layer.get(i + 1),
-								layer.get(i));
-						if (num1 > num2 || (num1 == num2 && num1 > 0)) {
-							if (!crossesForLayers
-									.containsKey((layer.get(i).layer))
-									|| crossesForLayers
-											.get(layer.get(i).layer) > num2) {
-								crossesForLayers.put(layer.get(i).layer, num2);
-								res = true;
-								int level = layer.get(0).layer;
-
-								NodeWrapper tmp = layers.get(level).get(i);
-								int tmpindex = layers.get(level).get(i).index;
-								layers.get(level).get(i).index = layers
-										.get(level).get(i + 1).index;
-								layers.get(level).set(i,
-										layers.get(level).get(i + 1));
-								layers.get(level).get(i + 1).index = tmpindex;
-								layers.get(level).set(i + 1, tmp);
-							}
+					int num1 = CrossingCounter.countCrossings(layer.get(i),
+							layer.get(i + 1));
+					int num2 = CrossingCounter.countCrossings(layer.get(i + 1),
+							layer.get(i));
+					if (num1 > num2 || (num1 == num2 && num1 > 0)) {
+						if (!crossesForLayers.containsKey((layer.get(i).layer))
+								|| crossesForLayers
+										.get(layer.get(i).layer) > num2) {
+							crossesForLayers.put(layer.get(i).layer, num2);
+							res = true;
+							int level = layer.get(0).layer;
+
+							NodeWrapper tmp = layers.get(level).get(i);
+							int tmpindex = layers.get(level).get(i).index;
+							layers.get(level).get(i).index = layers.get(level)
+									.get(i + 1).index;
+							layers.get(level).set(i,
+									layers.get(level).get(i + 1));
+							layers.get(level).get(i + 1).index = tmpindex;
+							layers.get(level).set(i + 1, tmp);
 						}
 					}
 				}
@@ -613,11 +565,6 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			crossesForLayers.clear();
 			layers = nodes;
 
-			// Builds the map
-			for (List<NodeWrapper> layer : nodes)
-				for (NodeWrapper node : layer)
-					map.put(node.node, node);
-
 			// After three iteration with no change it stops
 			int iteration = 0;
 			boolean change = false;
@@ -871,13 +818,6 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			return res;
 		}
 
-		private void addToInitClosedList(Node node, int layout,
-				List<Node> initClosedList, Map<Node, NodeWrapper> map) {
-			NodeWrapper nw = new NodeWrapper(node, layout);
-			map.put(node, nw);
-			initClosedList.add(node);
-		}
-
 		/**
 		 * Finds the root elements in the list of nodes based on their
 		 * connections.
@@ -946,163 +886,57 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			assignedNodes.clear();
 		}
 
-		private static void updateIndex(List<NodeWrapper> list) {
-			for (int index = 0; index < list.size(); index++)
-				list.get(index).index = index;
-		}
-
-		/**
-		 * Creates a new layer and puts the elements of this layer to the map.
-		 * 
-		 * @param list
-		 */
-		private void addLayer(List<Node> list, List<List<NodeWrapper>> layers,
-				Map<Node, NodeWrapper> map) {
-			ArrayList<NodeWrapper> layer = new ArrayList<>(list.size());
-			for (Node node : list) {
-				// wrap each NodeLayout with the internal data object and
-				// provide a corresponding mapping
-				NodeWrapper nw = new NodeWrapper(node, layers.size());
-				map.put(node, nw);
-				layer.add(nw);
-			}
-			layers.add(layer);
-			updateIndex(layer);
-		}
-
-		/**
-		 * Finds the connected nodes to be processed.
-		 * 
-		 * @param toUnfold
-		 * @return
-		 */
-		private ArrayList<Node> Unfold(Node toUnfold, Set<Node> openedList,
-				Set<Node> closedList) {
-			ArrayList<Node> res = new ArrayList<>();
-
-			for (Edge e : toUnfold.getOutgoingEdges()) {
-				Node endPoint = e.getTarget();
-				if (endPoint.equals(toUnfold))
-					endPoint = e.getSource();
-				if (!closedList.contains(endPoint)
-						&& !openedList.contains(endPoint)
-						&& !res.contains(endPoint))
-					res.add(endPoint);
-			}
-			for (Edge e : toUnfold.getIncomingEdges()) {
-				Node endPoint = e.getTarget();
-				if (endPoint.equals(toUnfold))
-					endPoint = e.getSource();
-				if (!closedList.contains(endPoint)
-						&& !openedList.contains(endPoint)
-						&& !res.contains(endPoint))
-					res.add(endPoint);
-			}
-
-			return res;
-		}
-
 		public List<List<NodeWrapper>> calculateLayers(List<Node> nodeLayouts) {
-			List<Node> nodes = new ArrayList<>(nodeLayouts);
-			Set<Node> openedList = new HashSet<>();
-			List<Node> initClosedList = new ArrayList<>();
-			Set<Node> closedList = new HashSet<>();
 			List<List<NodeWrapper>> layers = new ArrayList<>();
-			Map<Node, NodeWrapper> map = new IdentityHashMap<>();
-
-			// Assigns the given nodes to there layers
-			if (assignedNodes.size() > 0) {
-				for (Node node : nodes) {
-					if (assignedNodes.containsKey(node))
-						addToInitClosedList(node, assignedNodes.get(node),
-								initClosedList, map);
+			if (nodeLayouts.isEmpty())
+				return layers;
+			GraphSnapshot graph = createSnapshot(nodeLayouts);
+			int n = graph.getNodeCount();
+
+			// assigned nodes keep their layer
+			int[] levels = new int[n];
+			Arrays.fill(levels, -1);
+			List<Node> nodes = new ArrayList<>();
+			int start = -1;
+			for (int i = 0; i < n; i++) {
+				Integer layer = assignedNodes.get(graph.getNode(i));
+				if (layer == null)
+					nodes.add(graph.getNode(i));
+				else {
+					levels[i] = layer.intValue();
+					if (levels[i] == 0 && start < 0)
+						start = i;
 				}
 			}
-
-			// Only at first iteration, clearing initClosedList, starting to
-			// build layers
-			if (initClosedList.size() > 0) {
-				closedList.addAll(initClosedList);
-				nodes.removeAll(initClosedList);
-				initClosedList.clear();
-
-				for (Node node : closedList) {
-					if (map.get(node).layer < layers.size()) {
-						layers.get(map.get(node).layer).add(map.get(node));
-						updateIndex(layers.get(map.get(node).layer));
-					} else {
-						while (map.get(node).layer != layers.size()) {
-							ArrayList<Node> layer = new ArrayList<>();
-							addLayer(layer, layers, map);
-						}
-						ArrayList<Node> layer = new ArrayList<>();
-						layer.add(node);
-						addLayer(layer, layers, map);
-					}
-				}
+			// starts with the first assigned node of the first layer or with
+			// a root
+			if (start < 0 && !nodes.isEmpty()) {
+				start = graph.indexOf(getRoots(nodes).get(0));
+				levels[start] = 0;
 			}
 
-			ArrayList<Node> startPoints = new ArrayList<>();
-			// Starts by finding a root or selecting the first from the assigned
-			// ones
-			if (layers.size() > 0 && layers.get(0).size() > 0)
-				startPoints.add(layers.get(0).get(0).node);
-			else if (layers.size() == 0) {
-				startPoints.add(getRoots(nodes).get(0));
-				addLayer(startPoints, layers, map);
-			} else {
-				startPoints.add(getRoots(nodes).get(0));
-				for (Node startPoint : startPoints) {
-					if (!map.containsKey(startPoint)) {
-						NodeWrapper nw = new NodeWrapper(startPoint, 0);
-						map.put(startPoint, nw);
-						layers.get(0).add(nw);
-					}
-				}
-				updateIndex(layers.get(0));
-			}
-			openedList.addAll(startPoints);
-			Node toUnfold = startPoints.get(0);
-
-			while (nodes.size() > 0) {
-				// while openedList isn't empty it searches for further nodes
-				// and adding them to the next layer
-				while (openedList.size() != 0) {
-					ArrayList<Node> unfolded = Unfold(toUnfold, openedList,
-							closedList);
-					if (unfolded.size() > 0) {
-						int level = map.get(toUnfold).layer + 1;
-						if (level < layers.size()) {
-							for (Node n : unfolded) {
-								if (!map.containsKey(n)) {
-									NodeWrapper nw = new NodeWrapper(n, level);
-									map.put(n, nw);
-									layers.get(level).add(nw);
-								}
-							}
-							updateIndex(layers.get(level));
-						} else {
-							ArrayList<Node> layer = new ArrayList<>();
-							layer.addAll(unfolded);
-							addLayer(layer, layers, map);
-						}
-						openedList.addAll(unfolded);
-					}
-					closedList.add(toUnfold);
-					openedList.remove(toUnfold);
-					nodes.remove(toUnfold);
-
-					if (openedList.size() != 0)
-						toUnfold = openedList.iterator().next();
-				}
-				if (nodes.size() > 0) {
-					final Node node = nodes.get(0);
-					openedList.add(node);
-					NodeWrapper nw = new NodeWrapper(node, 0);
-					map.put(node, nw);
-					layers.get(0).add(nw);
-				}
+			// unfold the (undirected) neighbors of each node to the next
+			// layer; continue with the first remaining node (on the first
+			// layer) when no further nodes can be reached
+			int[] roots = new int[n + 1];
+			roots[0] = Math.max(start, 0);
+			for (int i = 0; i < n; i++)
+				roots[i + 1] = i;
+			int[] predecessors = new int[n];
+			Map<Node, NodeWrapper> map = new IdentityHashMap<>();
+			for (int i : GraphAlgorithms.breadthFirstOrder(graph,
+					GraphAlgorithms.Direction.BOTH, roots, predecessors)) {
+				if (levels[i] < 0)
+					levels[i] = predecessors[i] < 0 ? 0
+							: levels[predecessors[i]] + 1;
+				while (levels[i] >= layers.size())
+					layers.add(new ArrayList<NodeWrapper>());
+				NodeWrapper nw = new NodeWrapper(graph.getNode(i), levels[i]);
+				nw.index = layers.get(levels[i]).size();
+				layers.get(levels[i]).add(nw);
+				map.put(nw.node, nw);
 			}
+			link(graph, map, layers);
 			return layers;
 		}
 	}
@@ -1115,109 +949,124 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 	public static class SimpleLayerProvider implements LayerProvider {
 
 		private static final int MAX_LAYERS = 10;
-		private final List<List<NodeWrapper>> layers = new ArrayList<>(
-				MAX_LAYERS);
-		private final Map<Node, NodeWrapper> map = new IdentityHashMap<>();
-
-		private static List<Node> findRoots(List<Node> list) {
-			List<Node> roots = new ArrayList<>();
-			for (Node iter : list) {
-				// no predecessors means: this is a root, add it to list
-				if (iter.getPredecessorNodes().size() == 0)
-					roots.add(iter);
-			}
-			return (roots);
-		}
 
 		/**
-		 * Wraps all {@link Node} objects into an internal presentation
-		 * {@link NodeWrapper} and inserts dummy wrappers into the layers
-		 * between an object and their predecessing nodes if necessary. Finally,
-		 * all nodes are chained over immediate adjacent layers down to their
-		 * predecessors. This is necessary to apply the final step of the
-		 * Sugiyama algorithm to refine the node position within a layer.
-		 * 
-		 * @param list
-		 *            : List of all {@link Node} objects within the current
-		 *            layer
+		 * Assigns each {@link Node} to the layer that corresponds to the
+		 * length of the longest path from a root to it. Cycles are broken by
+		 * reversing the edges of a feedback arc set (see
+		 * {@link GraphAlgorithms#feedbackArcSet(GraphSnapshot)}), while
+		 * self-loops are ignored. Finally, dummy wrappers are inserted into
+		 * the layers between the end points of long edges.
 		 */
-		private void addLayer(List<Node> list) {
-			ArrayList<NodeWrapper> layer = new ArrayList<>(list.size());
-			for (Node node : list) {
-				// wrap each NodeLayout with the internal data object and
-				// provide a corresponding mapping
-				NodeWrapper nw = new NodeWrapper(node, layers.size());
-				map.put(node, nw);
-				layer.add(nw);
-				// insert dummy nodes if the adjacent layer does not contain the
-				// predecessor
-				for (Node node_predecessor : node.getPredecessorNodes()) {
-					NodeWrapper nw_predecessor = map.get(node_predecessor);
-					if (nw_predecessor != null) {
-						for (int level = nw_predecessor.layer
-								+ 1; level < nw.layer; level++) {
-							// add "virtual" wrappers (dummies) to the layers in
-							// between
-							// virtual wrappers are in fact parts of a double
-							// linked list
-							NodeWrapper nw_dummy = new NodeWrapper(level);
-							nw_dummy.addPredecessor(nw_predecessor);
-							nw_predecessor.addSuccessor(nw_dummy);
-							nw_predecessor = nw_dummy;
-							layers.get(level).add(nw_dummy);
-						}
-						nw.addPredecessor(nw_predecessor);
-						nw_predecessor.addSuccessor(nw);
-					}
+		public List<List<NodeWrapper>> calculateLayers(List<Node> nodes) {
+			GraphSnapshot graph = createSnapshot(nodes);
+			int n = graph.getNodeCount();
+
+			// reverse the feedback arcs to obtain an acyclic graph
+			boolean[] feedbackArcs = GraphAlgorithms.feedbackArcSet(graph);
+			List<Edge> edges = new ArrayList<>(graph.getEdgeCount());
+			for (int e = 0; e < graph.getEdgeCount(); e++) {
+				Edge edge = graph.getEdge(e);
+				if (feedbackArcs[e])
+					edges.add(new Edge(edge.getTarget(), edge.getSource()));
+				else if (edge.getSource() != edge.getTarget())
+					edges.add(edge);
+			}
+			GraphSnapshot acyclic = new GraphSnapshot(nodes, edges);
+
+			// roots form the first layer, all other nodes are placed below
+			// their predecessors
+			int[] levels = new int[n];
+			int levelCount = n == 0 ? 0 : 1;
+			for (int node : GraphAlgorithms.topologicalOrder(acyclic)) {
+				for (int i = 0; i < acyclic.getOutDegree(node); i++) {
+					int target = acyclic
+							.getTarget(acyclic.getOutgoingEdge(node, i));
+					levels[target] = Math.max(levels[target],
+							levels[node] + 1);
 				}
+				levelCount = Math.max(levelCount, levels[node] + 1);
 			}
-			layers.add(layer);
-			updateIndex(layer);
+			if (levelCount > MAX_LAYERS + 1)
+				throw new RuntimeException(
+						"Graphical tree exceeds maximum depth of " + MAX_LAYERS
+								+ "! (Graph not directed? Cycles?)");
+
+			// nodes are added to a layer in the order they were given
+			List<List<NodeWrapper>> layers = new ArrayList<>(levelCount);
+			for (int l = 0; l < levelCount; l++)
+				layers.add(new ArrayList<NodeWrapper>());
+			Map<Node, NodeWrapper> map = new IdentityHashMap<>();
+			for (int i = 0; i < n; i++) {
+				NodeWrapper nw = new NodeWrapper(graph.getNode(i), levels[i]);
+				nw.index = layers.get(levels[i]).size();
+				layers.get(levels[i]).add(nw);
+				map.put(nw.node, nw);
+			}
+			link(graph, map, layers);
+			return layers;
 		}
 
-		private static void updateIndex(List<NodeWrapper> list) {
-			for (int index = 0; index < list.size(); index++)
-				list.get(index).index = index;
+	}
+
+	/**
+	 * Creates a {@link GraphSnapshot} of the given {@link Node}s and the edges
+	 * between them, so that layer providers can traverse their adjacency by
+	 * index.
+	 */
+	private static GraphSnapshot createSnapshot(List<Node> nodes) {
+		List<Edge> edges = new ArrayList<>();
+		for (Node node : nodes) {
+			edges.addAll(node.getIncomingEdges());
 		}
+		return new GraphSnapshot(nodes, edges);
+	}
 
-		public List<List<NodeWrapper>> calculateLayers(List<Node> nodes) {
-			map.clear();
-
-			List<Node> predecessors = findRoots(nodes);
-			nodes.removeAll(predecessors);
-			// nodes now contains only nodes that are no roots
-			addLayer(predecessors);
-			for (int level = 1; nodes.isEmpty() == false; level++) {
-				if (level > MAX_LAYERS)
-					throw new RuntimeException(
-							"Graphical tree exceeds maximum depth of "
-									+ MAX_LAYERS
-									+ "! (Graph not directed? Cycles?)");
-				List<Node> layer = new ArrayList<>();
-				for (Node item : nodes) {
-					if (predecessors.containsAll(item.getPredecessorNodes()))
-						layer.add(item);
-				}
-				if (layer.size() == 0)
-					layer.add(nodes.get(0));
-				nodes.removeAll(layer);
-				predecessors.addAll(layer);
-				addLayer(layer);
+	/**
+	 * Links the {@link NodeWrapper}s of the given layers along the edges of
+	 * the given {@link GraphSnapshot}, from the upper to the lower layer, and
+	 * inserts dummies into the layers in between, so that only consecutive
+	 * layers are linked. Edges within a layer are ignored.
+	 */
+	private static void link(GraphSnapshot graph, Map<Node, NodeWrapper> map,
+			List<List<NodeWrapper>> layers) {
+		for (int e = 0; e < graph.getEdgeCount(); e++) {
+			NodeWrapper upper = map.get(graph.getNode(graph.getSource(e)));
+			NodeWrapper lower = map.get(graph.getNode(graph.getTarget(e)));
+			if (upper.layer == lower.layer)
+				continue;
+			if (upper.layer > lower.layer) {
+				NodeWrapper swap = upper;
+				upper = lower;
+				lower = swap;
 			}
-
-			return layers;
+			for (int level = upper.layer + 1; level < lower.layer; level++) {
+				NodeWrapper dummy = new NodeWrapper(level);
+				dummy.index = layers.get(level).size();
+				layers.get(level).add(dummy);
+				dummy.addPredecessor(upper);
+				upper.addSuccessor(dummy);
+				upper = dummy;
+			}
+			lower.addPredecessor(upper);
+			upper.addSuccessor(lower);
 		}
-
 	}
 
+	/**
+	 * The minimum distance between two neighboring nodes of a layer.
+	 */
+	private static final double NODE_SPACING = 10;
+
+	/**
+	 * The distance between two adjacent layers.
+	 */
+	private static final double LAYER_SPACING = 40;
+
 	private List<List<NodeWrapper>> layers = new ArrayList<>();
-	private Map<Node, NodeWrapper> map = new IdentityHashMap<>();
 	private final Direction direction;
 	private final Dimension dimension;
 
-	// index of the last element in a layer after padding process
-	private int last;
-
 	private LayerProvider layerProvider;
 	private CrossingReducer crossingReducer;
 
@@ -1334,46 +1183,187 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 		if (!clean)
 			return;
 		layers.clear();
-		map.clear();
 
 		ArrayList<Node> nodes = new ArrayList<>();
-		ArrayList<Node> nodes2 = new ArrayList<>();
 		for (Node node : layoutContext.getNodes()) {
 			nodes.add(node);
-			nodes2.add(node);
 		}
 		layers = layerProvider.calculateLayers(nodes);
 		crossingReducer.crossReduction(layers);
-
-		for (List<NodeWrapper> layer : layers) {
-			if (layer.size() > last)
-				last = layer.size();
-			for (NodeWrapper nw : layer) {
-				map.put(nw.node, nw);
-			}
-		}
 		calculatePositions(layoutContext);
 	}
 
+	/**
+	 * Assigns locations to the nodes, based on the layers and the order
+	 * within the layers. The coordinates within the layers are computed by
+	 * means of the Brandes-Köpf algorithm (see {@link BrandesKoepfPlacement}),
+	 * respecting the node sizes, while each layer is as thick as its largest
+	 * node. The resulting drawing is stretched to the desired size of the
+	 * layout area (if any).
+	 */
 	private void calculatePositions(LayoutContext context) {
+		LayoutPropertyStore store = context.getPropertyStore();
+		boolean vertical = direction == Direction.VERTICAL;
+
+		// number the wrappers (including dummies) consecutively
+		Map<NodeWrapper, Integer> ids = new IdentityHashMap<>();
+		Map<Node, NodeWrapper> map = new IdentityHashMap<>();
+		int[][] order = new int[layers.size()][];
+		for (int l = 0; l < layers.size(); l++) {
+			List<NodeWrapper> layer = layers.get(l);
+			order[l] = new int[layer.size()];
+			for (int p = 0; p < layer.size(); p++) {
+				NodeWrapper nw = layer.get(p);
+				order[l][p] = ids.size();
+				ids.put(nw, ids.size());
+				if (nw.node != null)
+					map.put(nw.node, nw);
+			}
+		}
+		int n = ids.size();
+		NodeWrapper[] wrappers = new NodeWrapper[n];
+		int[] layerOf = new int[n];
+		int[] positionOf = new int[n];
+		for (int l = 0; l < order.length; l++) {
+			for (int p = 0; p < order[l].length; p++) {
+				wrappers[order[l][p]] = layers.get(l).get(p);
+				layerOf[order[l][p]] = l;
+				positionOf[order[l][p]] = p;
+			}
+		}
+
+		// determine sizes (along and across the layers) and the neighbors
+		// within the preceding layer, i.e. the linked predecessors (which
+		// include dummies) and the adjacent nodes (if not linked)
+		boolean[] dummy = new boolean[n];
+		int[] storeIndex = new int[n];
+		double[] size = new double[n];
+		double[] thickness = new double[order.length];
+		int[][] upper = new int[n][];
+		int[] neighbors = new int[n];
+		int[] seen = new int[n];
+		for (int v = 0; v < n; v++) {
+			NodeWrapper nw = wrappers[v];
+			dummy[v] = nw.node == null;
+			storeIndex[v] = dummy[v] ? -1 : store.indexOf(nw.node);
+			if (storeIndex[v] >= 0) {
+				double width = store.getWidth(storeIndex[v]);
+				double height = store.getHeight(storeIndex[v]);
+				size[v] = vertical ? width : height;
+				thickness[layerOf[v]] = Math.max(thickness[layerOf[v]],
+						vertical ? height : width);
+			}
+			int count = 0;
+			for (NodeWrapper pred : nw.pred) {
+				Integer u = ids.get(pred);
+				if (u != null && layerOf[u] == layerOf[v] - 1
+						&& seen[u] != v + 1) {
+					seen[u] = v + 1;
+					neighbors[count++] = u;
+				}
+			}
+			if (!dummy[v]) {
+				for (Node neighbor : nw.node.getNeighbors()) {
+					NodeWrapper adjacent = map.get(neighbor);
+					if (adjacent == null)
+						continue;
+					int u = ids.get(adjacent);
+					if (layerOf[u] == layerOf[v] - 1 && seen[u] != v + 1) {
+						seen[u] = v + 1;
+						neighbors[count++] = u;
+					}
+				}
+			}
+			// sort by position (all neighbors are within the same layer)
+			int[] positions = new int[count];
+			for (int i = 0; i < count; i++)
+				positions[i] = positionOf[neighbors[i]];
+			Arrays.sort(positions);
+			upper[v] = new int[count];
+			for (int i = 0; i < count; i++)
+				upper[v][i] = order[layerOf[v] - 1][positions[i]];
+		}
+
+		double[] coordinates = new BrandesKoepfPlacement(order, upper, dummy,
+				size, NODE_SPACING).place();
+		double[] layerCoordinates = new double[order.length];
+		double offset = 0;
+		for (int l = 0; l < order.length; l++) {
+			layerCoordinates[l] = offset + thickness[l] / 2;
+			offset += thickness[l] + LAYER_SPACING;
+		}
+
+		// stretch the drawing (of the non-dummy nodes) to the layout area
 		Rectangle boundary = LayoutProperties.getBounds(context.getGraph());
 		if (dimension != null)
 			boundary = new Rectangle(0, 0, dimension.getWidth(),
 					dimension.getHeight());
-		double dx = boundary.getWidth() / layers.size();
-		double dy = boundary.getHeight() / (last + 1);
-		if (direction == Direction.HORIZONTAL)
-			for (Node node : context.getNodes()) {
-				NodeWrapper nw = map.get(node);
-				LayoutProperties.setLocation(node, new Point(
-						(nw.layer + 0.5d) * dx, (nw.index + 0.5d) * dy));
+		int[] indices = new int[store.getNodeCount()];
+		double[] xs = new double[store.getNodeCount()];
+		double[] ys = new double[store.getNodeCount()];
+		int m = 0;
+		for (int v = 0; v < n; v++) {
+			if (storeIndex[v] >= 0) {
+				indices[m] = storeIndex[v];
+				xs[m] = vertical ? coordinates[v]
+						: layerCoordinates[layerOf[v]];
+				ys[m++] = vertical ? layerCoordinates[layerOf[v]]
+						: coordinates[v];
 			}
-		else
-			for (Node node : context.getNodes()) {
-				NodeWrapper nw = map.get(node);
-				LayoutProperties.setLocation(node, new Point(
-						(nw.index + 0.5d) * dx, (nw.layer + 0.5d) * dy));
+		}
+		if (boundary != null) {
+			double[] widths = new double[m];
+			double[] heights = new double[m];
+			for (int i = 0; i < m; i++) {
+				widths[i] = store.getWidth(indices[i]);
+				heights[i] = store.getHeight(indices[i]);
 			}
+			fit(xs, widths, m, boundary.getX(), boundary.getWidth());
+			fit(ys, heights, m, boundary.getY(), boundary.getHeight());
+		}
+		for (int i = 0; i < m; i++) {
+			store.setLocation(indices[i], xs[i], ys[i]);
+		}
+	}
+
+	/**
+	 * Maps the given (center) coordinates, so that the extent of the nodes
+	 * (given by their sizes) starts at the given interval start and is
+	 * stretched to the given interval length. As the sizes of the nodes are
+	 * not scaled, the drawing is only ever scaled up (otherwise the nodes
+	 * would overlap), i.e. it exceeds the interval if it does not fit into
+	 * it. As the same mapping is applied to all coordinates, nodes of the
+	 * same layer remain aligned.
+	 */
+	private static void fit(double[] coordinates, double[] sizes, int count,
+			double start, double length) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			min = Math.min(min, coordinates[i] - sizes[i] / 2);
+			max = Math.max(max, coordinates[i] + sizes[i] / 2);
+		}
+		if (max <= min) {
+			for (int i = 0; i < count; i++)
+				coordinates[i] = start + length / 2;
+			return;
+		}
+		// scale the distances between the centers, so that the extent of the
+		// outermost nodes (whose sizes remain the same) fills the interval
+		double lowest = Double.POSITIVE_INFINITY;
+		double highest = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			lowest = Math.min(lowest, coordinates[i]);
+			highest = Math.max(highest, coordinates[i]);
+		}
+		double scale = 1;
+		if (highest > lowest)
+			scale = Math.max(1,
+					(length - (max - min - (highest - lowest)))
+							/ (highest - lowest));
+		for (int i = 0; i < count; i++)
+			coordinates[i] = start + (lowest - min)
+					+ (coordinates[i] - lowest) * scale;
 	}
 
-}
\ No newline at end of file
+}
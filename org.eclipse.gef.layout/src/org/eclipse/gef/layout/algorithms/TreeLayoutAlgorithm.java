@@ -23,6 +23,7 @@ import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.LayoutPropertyStore;
 import org.eclipse.gef.layout.algorithms.TreeLayoutHelper.TreeNode;
 
 /**
@@ -171,14 +172,14 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 
 		internalApplyLayout(layoutContext);
 
-		Node[] entities = layoutContext.getNodes();
+		LayoutPropertyStore store = layoutContext.getPropertyStore();
 		if (resize) {
-			AlgorithmHelper.maximizeSizes(entities);
+			AlgorithmHelper.maximizeSizes(store);
 		}
-		scaleEntities(entities);
+		scaleEntities(store);
 	}
 
-	private void scaleEntities(Node[] entities) {
+	private void scaleEntities(LayoutPropertyStore store) {
 		if (nodeSpace == null) {
 			Rectangle resizedBounds = new Rectangle(bounds);
 			int insets = 4;
@@ -186,13 +187,15 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 			resizedBounds.setY(resizedBounds.getY() + insets);
 			resizedBounds.setWidth(resizedBounds.getWidth() - 2 * insets);
 			resizedBounds.setHeight(resizedBounds.getHeight() - 2 * insets);
-			AlgorithmHelper.fitWithinBounds(entities, resizedBounds, resize);
+			AlgorithmHelper.fitWithinBounds(store, resizedBounds, resize);
 		}
 	}
 
 	/**
 	 * Performs a layout pass for the tree without scaling the entities to
-	 * maximum size / use the whole bounds.
+	 * maximum size / use the whole bounds. The locations are recorded in the
+	 * {@link LayoutContext#getPropertyStore() property store} of the given
+	 * {@link LayoutContext}.
 	 * 
 	 * @param context
 	 *            The {@link LayoutContext} to use.
@@ -204,11 +207,12 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 		TreeNode superRoot = treeObserver.getSuperRoot();
 		bounds = LayoutProperties.getBounds(context.getGraph());
 		updateLeafAndLayerSizes();
+		LayoutPropertyStore store = context.getPropertyStore();
 		int leafCountSoFar = 0;
 		for (Iterator<TreeNode> iterator = superRoot.getChildren()
 				.iterator(); iterator.hasNext();) {
 			TreeNode rootInfo = iterator.next();
-			computePositionRecursively(rootInfo, leafCountSoFar);
+			computePositionRecursively(store, rootInfo, leafCountSoFar);
 			leafCountSoFar = leafCountSoFar + rootInfo.numOfLeaves;
 		}
 	}
@@ -237,41 +241,56 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 	/**
 	 * Computes positions recursively until the leaf nodes are reached.
 	 */
-	private void computePositionRecursively(TreeNode entityInfo,
-			int relativePosition) {
+	private void computePositionRecursively(LayoutPropertyStore store,
+			TreeNode entityInfo, int relativePosition) {
 		double breadthPosition = relativePosition
 				+ entityInfo.numOfLeaves / 2.0;
 		double depthPosition = (entityInfo.depth + 0.5);
 
 		switch (direction) {
 		case TOP_DOWN:
-			LayoutProperties.setLocation(entityInfo.getNode(), new Point(
-					breadthPosition * leafSize, depthPosition * layerSize));
+			setLocation(store, entityInfo.getNode(),
+					breadthPosition * leafSize, depthPosition * layerSize);
 			break;
 		case BOTTOM_UP:
-			LayoutProperties.setLocation(entityInfo.getNode(),
-					new Point(breadthPosition * leafSize,
-							bounds.getHeight() - depthPosition * layerSize));
+			setLocation(store, entityInfo.getNode(),
+					breadthPosition * leafSize,
+					bounds.getHeight() - depthPosition * layerSize);
 			break;
 		case LEFT_RIGHT:
-			LayoutProperties.setLocation(entityInfo.getNode(), new Point(
-					depthPosition * layerSize, breadthPosition * leafSize));
+			setLocation(store, entityInfo.getNode(),
+					depthPosition * layerSize, breadthPosition * leafSize);
 			break;
 		case RIGHT_LEFT:
-			LayoutProperties.setLocation(entityInfo.getNode(),
-					new Point(bounds.getWidth() - depthPosition * layerSize,
-							breadthPosition * leafSize));
+			setLocation(store, entityInfo.getNode(),
+					bounds.getWidth() - depthPosition * layerSize,
+					breadthPosition * leafSize);
 			break;
 		}
 
 		for (Iterator<TreeNode> iterator = entityInfo.children
 				.iterator(); iterator.hasNext();) {
 			TreeNode childInfo = iterator.next();
-			computePositionRecursively(childInfo, relativePosition);
+			computePositionRecursively(store, childInfo, relativePosition);
 			relativePosition += childInfo.numOfLeaves;
 		}
 	}
 
+	/**
+	 * Records the given location in the given {@link LayoutPropertyStore}.
+	 * The tree may contain nodes of nesting graphs, which are not part of the
+	 * store, so that their location is set directly.
+	 */
+	private static void setLocation(LayoutPropertyStore store, Node node,
+			double x, double y) {
+		int index = store.indexOf(node);
+		if (index >= 0) {
+			store.setLocation(index, x, y);
+		} else {
+			LayoutProperties.setLocation(node, new Point(x, y));
+		}
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer sb = new StringBuffer();
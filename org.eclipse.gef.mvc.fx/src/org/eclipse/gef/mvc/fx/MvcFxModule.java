@@ -30,6 +30,7 @@ import org.eclipse.gef.mvc.fx.behaviors.HoverIntentBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.RevealPrimarySelectionBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.SelectionBehavior;
 import org.eclipse.gef.mvc.fx.behaviors.SnappingBehavior;
+import org.eclipse.gef.mvc.fx.behaviors.SpatialNodeIndexBehavior;
 import org.eclipse.gef.mvc.fx.domain.HistoricizingDomain;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
 import org.eclipse.gef.mvc.fx.gestures.ClickDragGesture;
@@ -1062,6 +1063,22 @@ public class MvcFxModule extends AbstractModule {
 				.to(SnappingBehavior.class);
 	}
 
+	/**
+	 * Adds a binding for the {@link SpatialNodeIndexBehavior} to the given
+	 * adapter map binder. This binding is not registered by
+	 * {@link #bindIRootPartAdaptersForContentViewer(MapBinder)}, but may be
+	 * registered by subclasses (overriding that method) to speed up picking
+	 * within viewers that contain a large number of content parts.
+	 *
+	 * @param adapterMapBinder
+	 *            An adapter map binder for {@link IRootPart}.
+	 */
+	protected void bindSpatialNodeIndexBehaviorAsIRootPartAdapter(
+			MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole())
+				.to(SpatialNodeIndexBehavior.class);
+	}
+
 	/**
 	 * Binds the {@link IFeedbackPartFactory} that is used to generate snapping
 	 * feedback.
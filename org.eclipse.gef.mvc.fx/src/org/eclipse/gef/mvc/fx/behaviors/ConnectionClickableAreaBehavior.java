@@ -23,7 +23,9 @@ import javafx.beans.value.ObservableValue;
 
 /**
  * A behavior that regulates the clickable area width of an {@link IVisualPart}
- * 's connection visual dependent on the zoom level.
+ * 's connection visual dependent on the zoom level. The clickable area is
+ * computed from a flattened representation of the curve, using a tolerance
+ * that is also dependent on the zoom level.
  *
  * @author anyssen
  *
@@ -31,13 +33,16 @@ import javafx.beans.value.ObservableValue;
 public class ConnectionClickableAreaBehavior extends AbstractBehavior {
 
 	private static final double ABSOLUTE_CLICKABLE_WIDTH = 8;
+	private static final double ABSOLUTE_CLICKABLE_TOLERANCE = 0.5;
 	private DoubleBinding clickableAreaBinding;
+	private DoubleBinding clickableAreaToleranceBinding;
 
 	private final ChangeListener<? super Number> scaleXListener = new ChangeListener<Number>() {
 		@Override
 		public void changed(ObservableValue<? extends Number> observable,
 				Number oldValue, Number newValue) {
 			clickableAreaBinding.invalidate();
+			clickableAreaToleranceBinding.invalidate();
 		}
 	};
 
@@ -53,10 +58,21 @@ public class ConnectionClickableAreaBehavior extends AbstractBehavior {
 				return Math.min(localClickableWidth, ABSOLUTE_CLICKABLE_WIDTH);
 			}
 		};
+		clickableAreaToleranceBinding = new DoubleBinding() {
+			@Override
+			protected double computeValue() {
+				return ABSOLUTE_CLICKABLE_TOLERANCE
+						/ ((InfiniteCanvasViewer) getHost().getRoot().getViewer()).getCanvas()
+								.getContentTransform().getMxx();
+			}
+		};
 		// TODO: bind to the curve property of the connection and update the
 		// binding in case the curve node is changed
 		((GeometryNode<ICurve>) getHost().getVisual().getCurve())
 				.clickableAreaWidthProperty().bind(clickableAreaBinding);
+		((GeometryNode<ICurve>) getHost().getVisual().getCurve())
+				.clickableAreaToleranceProperty()
+				.bind(clickableAreaToleranceBinding);
 		((InfiniteCanvasViewer) getHost().getRoot().getViewer()).getCanvas()
 				.getContentTransform().mxxProperty()
 				.addListener(scaleXListener);
@@ -65,6 +81,7 @@ public class ConnectionClickableAreaBehavior extends AbstractBehavior {
 	@Override
 	protected void doDeactivate() {
 		clickableAreaBinding.dispose();
+		clickableAreaToleranceBinding.dispose();
 		((InfiniteCanvasViewer) getHost().getRoot().getViewer()).getCanvas()
 				.getContentTransform().mxxProperty()
 				.removeListener(scaleXListener);
@@ -16,6 +16,8 @@ package org.eclipse.gef.mvc.fx.behaviors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -56,24 +58,12 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				ListChangeListener.Change<? extends Object> change) {
 			// System.out.println("Content changed " + change);
 			// XXX: An atomic operation (including setAll()) on the
-			// ObservableList will lead to an atomic change here; we do not have
-			// to iterate through the individual changes but may simply
-			// synchronize with the list as it emerges after the changes have
-			// been applied.
-			// while (change.next()) {
-			// if (change.wasRemoved()) {
-			// removeContentPartChildren(getHost(),
-			// ImmutableList.copyOf(change.getRemoved()));
-			// } else if (change.wasAdded()) {
-			// addContentPartChildren(getHost(),
-			// ImmutableList.copyOf(change.getAddedSubList()),
-			// change.getFrom());
-			// } else if (change.wasPermutated()) {
-			// throw new UnsupportedOperationException(
-			// "Reorder not yet implemented");
-			// }
-			// }
-			synchronizeContentPartChildren(getHost(), change.getList());
+			// ObservableList will lead to an atomic change here; if it cannot
+			// be processed incrementally, we synchronize with the list as it
+			// emerges after the changes have been applied.
+			if (!synchronizeContentPartChildren(getHost(), change)) {
+				synchronizeContentPartChildren(getHost(), change.getList());
+			}
 		}
 	};
 
@@ -84,26 +74,14 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				final ListChangeListener.Change<? extends Object> change) {
 			// System.out.println("Content children changed " + change);
 			// XXX: An atomic operation (including setAll()) on the
-			// ObservableList will lead to an atomic change here; we do not have
-			// to iterate through the individual changes but may simply
-			// synchronize with the list as it emerges after the changes have
-			// been applied.
+			// ObservableList will lead to an atomic change here; if it cannot
+			// be processed incrementally, we synchronize with the list as it
+			// emerges after the changes have been applied.
 			IContentPart<? extends Node> parent = (IContentPart<? extends Node>) ((ReadOnlyProperty<?>) change
 					.getList()).getBean();
-			// while (change.next()) {
-			// if (change.wasRemoved()) {
-			// removeContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getRemoved()));
-			// } else if (change.wasAdded()) {
-			// addContentPartChildren(parent,
-			// ImmutableList.copyOf(change.getAddedSubList()),
-			// change.getFrom());
-			// } else if (change.wasPermutated()) {
-			// throw new UnsupportedOperationException(
-			// "Reorder not yet implemented");
-			// }
-			// }
-			synchronizeContentPartChildren(parent, change.getList());
+			if (!synchronizeContentPartChildren(parent, change)) {
+				synchronizeContentPartChildren(parent, change.getList());
+			}
 		}
 	};
 
@@ -159,35 +137,50 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		List<IContentPart<? extends Node>> added = new ArrayList<>();
 		// store the existing content parts in a map using the contents as keys
 		Map<Object, IContentPart<? extends Node>> contentPartMap = new HashMap<>();
-		// find all content parts for which no content element exists in
-		// contentChildren, and therefore have to be removed
 		for (IContentPart<? extends Node> contentPart : childContentParts) {
-			// store content part in map
 			contentPartMap.put(contentPart.getContent(), contentPart);
 		}
-		int contentChildrenSize = contentChildren.size();
-		int childContentPartsSize = childContentParts.size();
-		for (int i = 0; i < contentChildrenSize; i++) {
-			Object content = contentChildren.get(i);
-			// Do a quick check to see if the existing content part is at
-			// the correct location in the children list.
-			if (i < childContentPartsSize
-					&& childContentParts.get(i).getContent() == content) {
-				continue;
-			}
-			// Look to see if the ContentPart is already around but in the
-			// wrong location.
-			IContentPart<? extends Node> contentPart = findOrCreatePartFor(
-					content);
-			if (contentPartMap.containsKey(content)) {
-				// Re-order the existing content part to its designated
-				// location in the children list.
-				// TODO: this is wrong, it has to take into consideration
-				// the visual parts in between
-				parent.reorderChild(contentPart, i);
+		// determine the existing content parts that may stay where they are,
+		// so that only the remaining ones have to be reordered
+		Set<IContentPart<? extends Node>> unmovedContentParts = findUnmovedContentParts(
+				childContentParts, contentChildren);
+
+		List<? extends IVisualPart<? extends Node>> children = parent
+				.getChildrenUnmodifiable();
+		// content parts that precede the current index but still have to be
+		// reordered
+		Set<IContentPart<? extends Node>> passedContentParts = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		// the index within the children list (which may also contain parts
+		// other than content parts) after the last processed content part
+		int index = 0;
+		for (Object content : contentChildren) {
+			IContentPart<? extends Node> contentPart = contentPartMap
+					.remove(content);
+			if (contentPart != null
+					&& unmovedContentParts.contains(contentPart)) {
+				// skip all children up to the existing content part
+				while (children.get(index) != contentPart) {
+					if (children.get(index) instanceof IContentPart) {
+						passedContentParts.add(
+								(IContentPart<? extends Node>) children.get(index));
+					}
+					index++;
+				}
+				index++;
+			} else if (contentPart != null) {
+				// re-order the existing content part to its designated
+				// location in the children list
+				if (passedContentParts.remove(contentPart)) {
+					// removing the part shifts the designated location
+					index--;
+				}
+				parent.reorderChild(contentPart, index);
+				index++;
 			} else {
-				// A ContentPart for this model does not exist yet. Create
-				// and insert one.
+				// Look to see if the ContentPart is already around (i.e. bound
+				// to another parent or pooled)
+				contentPart = findOrCreatePartFor(content);
 				if (contentPart.getParent() != null) {
 					// TODO: Up to now a model element may only be
 					// controlled by a single content part; unless we
@@ -199,7 +192,8 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 					throw new IllegalStateException(
 							"Located a ContentPart which controls the same (or an equal) content element but is already bound to a parent. A content element may only be controlled by a single ContentPart.");
 				}
-				parent.addChild(contentPart, i);
+				parent.addChild(contentPart, index);
+				index++;
 				added.add(contentPart);
 				added.addAll(addAll(contentPart,
 						contentPart.getContentChildrenUnmodifiable()));
@@ -211,7 +205,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 	@SuppressWarnings("unchecked")
 	private List<IContentPart<? extends Node>> detachAll(
 			IVisualPart<? extends Node> parent,
-			final List<? extends Object> contentChildren) {
+			final Set<? extends Object> contentChildren) {
 		List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
 		// only synchronize IContentPart children
 		// find all content parts for which no content element exists in
@@ -222,7 +216,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 			// mark for removal
 			if (!contentChildren.contains(contentPart.getContent())) {
 				toRemove.addAll(
-						detachAll(contentPart, Collections.emptyList()));
+						detachAll(contentPart, Collections.emptySet()));
 				toRemove.add(contentPart);
 				synchronizeContentPartAnchorages(contentPart,
 						HashMultimap.create());
@@ -231,6 +225,28 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		return toRemove;
 	}
 
+	private void addContentPartChildren(IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren, int index) {
+		List<IContentPart<? extends Node>> added = new ArrayList<>();
+		for (Object content : contentChildren) {
+			IContentPart<? extends Node> contentPart = findOrCreatePartFor(
+					content);
+			if (contentPart.getParent() != null) {
+				// see addAll()
+				throw new IllegalStateException(
+						"Located a ContentPart which controls the same (or an equal) content element but is already bound to a parent. A content element may only be controlled by a single ContentPart.");
+			}
+			parent.addChild(contentPart, index++);
+			added.add(contentPart);
+			added.addAll(addAll(contentPart,
+					contentPart.getContentChildrenUnmodifiable()));
+		}
+		for (IContentPart<? extends Node> cp : added) {
+			synchronizeContentPartAnchorages(cp,
+					cp.getContentAnchoragesUnmodifiable());
+		}
+	}
+
 	@Override
 	public void dispose() {
 		// the content part pool is shared by all content behaviors of a viewer,
@@ -328,6 +344,68 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 	}
 
+	/**
+	 * Determines those of the given {@link IContentPart}s that do not need to
+	 * be reordered to match the order of the given content children, i.e. the
+	 * largest subset of the given parts whose relative order is equal to the
+	 * relative order of their contents within the given content children
+	 * (longest increasing subsequence).
+	 *
+	 * @param contentParts
+	 *            The {@link IContentPart}s in their current order. Their
+	 *            contents are expected to be contained in the given content
+	 *            children.
+	 * @param contentChildren
+	 *            The content children in their designated order.
+	 * @return The {@link IContentPart}s that do not need to be reordered.
+	 */
+	private static Set<IContentPart<? extends Node>> findUnmovedContentParts(
+			List<IContentPart<? extends Node>> contentParts,
+			List<? extends Object> contentChildren) {
+		Map<Object, Integer> designatedIndices = new HashMap<>();
+		for (int i = contentChildren.size() - 1; i >= 0; i--) {
+			designatedIndices.put(contentChildren.get(i), i);
+		}
+		int size = contentParts.size();
+		int[] indices = new int[size];
+		// tails[l] refers to the content part with the smallest designated
+		// index that ends an increasing subsequence of length l + 1
+		int[] tails = new int[size];
+		int[] predecessors = new int[size];
+		int length = 0;
+		for (int i = 0; i < size; i++) {
+			Integer designatedIndex = designatedIndices
+					.get(contentParts.get(i).getContent());
+			if (designatedIndex == null) {
+				continue;
+			}
+			indices[i] = designatedIndex;
+			// binary search for the longest subsequence that can be extended
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (indices[tails[mid]] < indices[i]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		Set<IContentPart<? extends Node>> unmovedContentParts = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0;) {
+			unmovedContentParts.add(contentParts.get(i));
+			i = predecessors[i];
+		}
+		return unmovedContentParts;
+	}
+
 	/**
 	 * Returns the {@link IContentPartFactory} of the current viewer.
 	 *
@@ -349,6 +427,55 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 				.getAdapter(ContentPartPool.class);
 	}
 
+	private IContentPart<? extends Node> getContentPartChild(
+			IVisualPart<? extends Node> parent, Object content) {
+		IContentPart<? extends Node> contentPart = getHost().getRoot()
+				.getViewer().getContentPartMap().get(content);
+		return contentPart != null && contentPart.getParent() == parent
+				? contentPart : null;
+	}
+
+	/**
+	 * Returns the index within the children of the given parent at which the
+	 * {@link IContentPart} for the content at the given position within the
+	 * given content children is to be inserted, i.e. the index after the
+	 * {@link IContentPart} of the preceding content, or <code>-1</code> if the
+	 * preceding content is not controlled by a child of the given parent.
+	 */
+	private int getInsertionIndex(IVisualPart<? extends Node> parent,
+			List<? extends Object> contentChildren, int position) {
+		if (position == 0) {
+			return 0;
+		}
+		IContentPart<? extends Node> predecessor = getContentPartChild(parent,
+				contentChildren.get(position - 1));
+		if (predecessor == null) {
+			return -1;
+		}
+		List<? extends IVisualPart<? extends Node>> children = parent
+				.getChildrenUnmodifiable();
+		// fast path for appending
+		if (children.get(children.size() - 1) == predecessor) {
+			return children.size();
+		}
+		return children.indexOf(predecessor) + 1;
+	}
+
+	private void removeContentPartChildren(
+			List<IContentPart<? extends Node>> contentPartChildren) {
+		List<IContentPart<? extends Node>> toRemove = new ArrayList<>();
+		for (IContentPart<? extends Node> contentPart : contentPartChildren) {
+			toRemove.addAll(detachAll(contentPart, Collections.emptySet()));
+			toRemove.add(contentPart);
+			synchronizeContentPartAnchorages(contentPart,
+					HashMultimap.create());
+		}
+		for (IContentPart<? extends Node> contentPart : toRemove) {
+			contentPart.getParent().removeChild(contentPart);
+			disposeIfObsolete(contentPart);
+		}
+	}
+
 	/**
 	 * Updates the host {@link IVisualPart}'s {@link IContentPart} anchorages
 	 * (see {@link IVisualPart#getAnchoragesUnmodifiable()}) so that it is in
@@ -446,7 +573,7 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 		}
 
 		List<IContentPart<? extends Node>> toRemove = detachAll(parent,
-				contentChildren);
+				new HashSet<>(contentChildren));
 		for (IContentPart<? extends Node> contentPart : toRemove) {
 			contentPart.getParent().removeChild(contentPart);
 			disposeIfObsolete(contentPart);
@@ -459,4 +586,99 @@ public class ContentBehavior extends AbstractBehavior implements IDisposable {
 					cp.getContentAnchoragesUnmodifiable());
 		}
 	}
+
+	/**
+	 * Updates the {@link IContentPart} children of the given parent
+	 * {@link IVisualPart} incrementally, i.e. by only processing those
+	 * {@link IContentPart}s that are affected by the given
+	 * {@link ListChangeListener.Change} of its content children. This is
+	 * possible if the change consists of a single addition, removal, or
+	 * permutation (in which case only those parts are reordered that do not
+	 * retain their relative order), or of a replacement (as performed by
+	 * <code>setAll()</code>) that only adds or only removes elements, apart
+	 * from a common prefix and suffix. Otherwise, nothing is changed.
+	 *
+	 * @param parent
+	 *            The parent {@link IVisualPart} whose content part children to
+	 *            synchronize.
+	 * @param change
+	 *            The {@link ListChangeListener.Change} of the content children.
+	 * @return <code>true</code> if the change could be processed
+	 *         incrementally, <code>false</code> if a full synchronization (see
+	 *         {@link #synchronizeContentPartChildren(IVisualPart, List)}) is
+	 *         required.
+	 */
+	private boolean synchronizeContentPartChildren(
+			IVisualPart<? extends Node> parent,
+			ListChangeListener.Change<? extends Object> change) {
+		if (!change.next()) {
+			return true;
+		}
+		List<? extends Object> contentChildren = change.getList();
+		int from = change.getFrom();
+		int to = change.getTo();
+		boolean permutated = change.wasPermutated();
+		boolean updated = change.wasUpdated();
+		List<? extends Object> removed = change.getRemoved();
+		if (change.next()) {
+			// more than one sub-change
+			change.reset();
+			return false;
+		}
+		change.reset();
+		if (updated) {
+			return true;
+		}
+
+		if (permutated) {
+			// no parts have to be added or removed, so only reorder the
+			// content part children (which only touches those parts that
+			// have to be moved)
+			for (IContentPart<? extends Node> cp : addAll(parent,
+					contentChildren)) {
+				// only in case the children were out of sync before
+				synchronizeContentPartAnchorages(cp,
+						cp.getContentAnchoragesUnmodifiable());
+			}
+			return true;
+		}
+
+		// ignore common prefix and suffix of removed and added elements
+		int removedFrom = 0;
+		int removedTo = removed.size();
+		while (removedFrom < removedTo && from < to
+				&& removed.get(removedFrom).equals(contentChildren.get(from))) {
+			removedFrom++;
+			from++;
+		}
+		while (removedFrom < removedTo && from < to && removed
+				.get(removedTo - 1).equals(contentChildren.get(to - 1))) {
+			removedTo--;
+			to--;
+		}
+		if (removedFrom < removedTo && from < to) {
+			// elements were exchanged
+			return false;
+		}
+		if (from < to) {
+			int index = getInsertionIndex(parent, contentChildren, from);
+			if (index < 0) {
+				return false;
+			}
+			addContentPartChildren(parent, contentChildren.subList(from, to),
+					index);
+		} else if (removedFrom < removedTo) {
+			List<IContentPart<? extends Node>> removedParts = new ArrayList<>();
+			for (Object content : removed.subList(removedFrom, removedTo)) {
+				IContentPart<? extends Node> contentPart = getContentPartChild(
+						parent, content);
+				if (contentPart == null) {
+					return false;
+				}
+				removedParts.add(contentPart);
+			}
+			removeContentPartChildren(removedParts);
+		}
+		return true;
+	}
 }
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.fx.behaviors;
+
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.SpatialNodeIndex;
+import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.mvc.fx.parts.IRootPart;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.collections.MapChangeListener;
+import javafx.scene.Node;
+
+/**
+ * The {@link SpatialNodeIndexBehavior} can be registered on an
+ * {@link IRootPart} to maintain a {@link SpatialNodeIndex} for the root
+ * visual, in which the visuals of all {@link IContentPart}s of the
+ * {@link IViewer} are registered. Picking via
+ * {@link NodeUtils#getNodesAt(Node, double, double)} below the root visual
+ * can thereby skip the content part visuals whose bounds do not contain the
+ * pick position, while yielding the same result.
+ *
+ * @author agent
+ *
+ */
+public class SpatialNodeIndexBehavior extends AbstractBehavior {
+
+	private SpatialNodeIndex index;
+
+	private MapChangeListener<Object, IContentPart<? extends Node>> contentPartMapObserver = new MapChangeListener<Object, IContentPart<? extends Node>>() {
+		@Override
+		public void onChanged(
+				MapChangeListener.Change<? extends Object, ? extends IContentPart<? extends Node>> change) {
+			if (change.wasRemoved()) {
+				index.remove(change.getValueRemoved().getVisual());
+			}
+			if (change.wasAdded()) {
+				index.add(change.getValueAdded().getVisual());
+			}
+		}
+	};
+
+	@Override
+	protected void doActivate() {
+		index = new SpatialNodeIndex(getHost().getVisual());
+		IViewer viewer = getHost().getRoot().getViewer();
+		for (IContentPart<? extends Node> contentPart : viewer
+				.getContentPartMap().values()) {
+			index.add(contentPart.getVisual());
+		}
+		viewer.contentPartMapProperty().addListener(contentPartMapObserver);
+	}
+
+	@Override
+	protected void doDeactivate() {
+		getHost().getRoot().getViewer().contentPartMapProperty()
+				.removeListener(contentPartMapObserver);
+		index.dispose();
+		index = null;
+	}
+
+	/**
+	 * Returns the {@link SpatialNodeIndex} that is maintained by this
+	 * {@link SpatialNodeIndexBehavior}, or <code>null</code> if it is not
+	 * active.
+	 *
+	 * @return The {@link SpatialNodeIndex} that is maintained by this
+	 *         {@link SpatialNodeIndexBehavior}.
+	 */
+	public SpatialNodeIndex getSpatialNodeIndex() {
+		return index;
+	}
+
+}
@@ -15,13 +15,17 @@ package org.eclipse.gef.mvc.tests.fx;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.gef.common.adapt.AdapterKey;
+import org.eclipse.gef.common.collections.CollectionUtils;
 import org.eclipse.gef.mvc.fx.MvcFxModule;
 import org.eclipse.gef.mvc.fx.behaviors.ContentBehavior;
 import org.eclipse.gef.mvc.fx.domain.IDomain;
@@ -81,6 +85,74 @@ public class ContentSynchronizationTests {
 		});
 	}
 
+	/**
+	 * This scenario tests if individual additions, removals, and permutations
+	 * of the contents are reflected by the content part children, without
+	 * affecting the other content parts.
+	 */
+	@Test
+	public void addRemoveAndPermutateContents() throws Throwable {
+		List<Cell> contents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			contents.add(new Cell("C" + i, new Cell("C" + i + "0")));
+		}
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		IContentPart<? extends Node> part5 = contentPartMap.get(contents.get(5));
+
+		Cell added = new Cell("C10", new Cell("C100"));
+		ctx.runAndWait(() -> {
+			viewer.getContents().add(3, added);
+			viewer.getContents().remove(contents.get(7));
+			CollectionUtils.sort(viewer.getContents(), (c1, c2) -> ((Cell) c2).name.compareTo(((Cell) c1).name));
+		});
+		List<Object> childContents = new ArrayList<>();
+		for (IContentPart<? extends Node> part : viewer.getRootPart().getContentPartChildren()) {
+			childContents.add(part.getContent());
+		}
+		assertEquals(viewer.getContents(), childContents);
+		assertNotNull(contentPartMap.get(added.children.get(0)));
+		assertNull(contentPartMap.get(contents.get(7)));
+		assertNull(contentPartMap.get(contents.get(7).children.get(0)));
+		assertSame(part5, contentPartMap.get(contents.get(5)));
+	}
+
+	/**
+	 * This scenario tests if the order of the content part children matches
+	 * the order of the contents after the contents have been reordered, and if
+	 * only those content parts are re-created whose content was added.
+	 */
+	@Test
+	public void reorderContents() throws Throwable {
+		List<Cell> contents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			contents.add(new Cell("C" + i));
+		}
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(contents);
+		});
+		Map<Object, IContentPart<? extends Node>> contentPartMap = viewer.getContentPartMap();
+		IContentPart<? extends Node> part5 = contentPartMap.get(contents.get(5));
+
+		// reverse the contents, remove one and insert a new one
+		List<Cell> reorderedContents = new ArrayList<>(contents);
+		Collections.reverse(reorderedContents);
+		reorderedContents.remove(3);
+		reorderedContents.add(7, new Cell("C10"));
+		ctx.runAndWait(() -> {
+			viewer.getContents().setAll(reorderedContents);
+		});
+
+		List<Object> childContents = new ArrayList<>();
+		for (IContentPart<? extends Node> part : viewer.getRootPart().getContentPartChildren()) {
+			childContents.add(part.getContent());
+		}
+		assertEquals(reorderedContents, childContents);
+		assertSame(part5, contentPartMap.get(contents.get(5)));
+	}
+
 	/**
 	 * This scenario tests if the synchronization works correctly, when the
 	 * contents are replaced with a previously nested content element.
@@ -47,6 +47,7 @@ import org.eclipse.gef.zest.fx.behaviors.EdgeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLayoutBehavior;
 import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.LayoutScheduler;
 import org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.NodeLayoutBehavior;
 import org.eclipse.gef.zest.fx.handlers.BendFirstAnchorageAndRelocateLabelsOnSegmentHandleDragHandler;
@@ -304,6 +305,21 @@ public class ZestFxModule extends MvcFxModule {
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LabelOffsetSupport.class);
 	}
 
+	/**
+	 * Adds a binding for {@link LayoutScheduler} to the given adapter map
+	 * binder that will insert the bindings into {@link IViewer}s. The
+	 * {@link LayoutScheduler} is not bound by default, so that layout passes
+	 * are performed synchronously. Sub-classes may call this method from
+	 * {@link #bindIViewerAdaptersForContentViewer(MapBinder)} to opt-in to
+	 * coalescing layout passes per pulse.
+	 *
+	 * @param adapterMapBinder
+	 *            The adapter map binder to which the binding is added.
+	 */
+	protected void bindLayoutSchedulerAsContentViewerAdapter(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LayoutScheduler.class);
+	}
+
 	/**
 	 * Adds a binding for {@link NavigationModel} to the given adapter map
 	 * binder that will insert the bindings into {@link IViewer}s.
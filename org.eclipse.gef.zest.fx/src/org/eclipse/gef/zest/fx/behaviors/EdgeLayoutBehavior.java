@@ -20,7 +20,9 @@ import javafx.scene.Node;
 
 /**
  * The {@link EdgeLayoutBehavior} is an {@link EdgePart}-specific
- * {@link AbstractLayoutBehavior} implementation.
+ * {@link AbstractLayoutBehavior} implementation. Its {@link #postLayout()} is
+ * called by the {@link GraphLayoutBehavior} after the connections of all edges
+ * have been routed within a single batch.
  *
  * @author mwienand
  *
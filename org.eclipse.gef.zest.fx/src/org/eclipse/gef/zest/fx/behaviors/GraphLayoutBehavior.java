@@ -12,10 +12,25 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.behaviors;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.gef.fx.nodes.BatchRouter;
+import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Graph;
@@ -35,6 +50,7 @@ import org.eclipse.gef.zest.fx.models.NavigationModel.ViewportState;
 import org.eclipse.gef.zest.fx.parts.GraphPart;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener;
@@ -53,6 +69,12 @@ import javafx.scene.Parent;
 // only applicable for GraphPart (see #getHost())
 public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
+	// layout algorithms are stateful, so each one is guarded by a lock that
+	// is held while it is applied, so that layout passes (of different
+	// behaviors, or synchronous and asynchronous ones) that use the same
+	// algorithm are not executed concurrently
+	private static final Map<ILayoutAlgorithm, ReentrantLock> layoutLocks = new WeakHashMap<>();
+
 	private Runnable postLayout = new Runnable() {
 		@Override
 		public void run() {
@@ -88,19 +110,122 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 	private ListChangeListener<IVisualPart<? extends Node>> childrenObserver = new ListChangeListener<IVisualPart<? extends Node>>() {
 		@Override
 		public void onChanged(ListChangeListener.Change<? extends IVisualPart<? extends Node>> c) {
-			applyLayout(true, null);
+			scheduleLayout();
 		}
 	};
 
 	private SetChangeListener<org.eclipse.gef.graph.Node> hidingModelObserver = new SetChangeListener<org.eclipse.gef.graph.Node>() {
 		@Override
 		public void onChanged(SetChangeListener.Change<? extends org.eclipse.gef.graph.Node> change) {
-			applyLayout(true, null);
+			scheduleLayout();
 		}
 	};
 
 	private boolean skipNextLayout;
 
+	private boolean asynchronous = false;
+	// incremented for each asynchronous layout pass, so that the results of
+	// superseded passes can be discarded
+	private volatile long layoutGeneration = 0;
+	// the executor that runs the asynchronous layout passes (and routing) of
+	// this behavior; a single thread is used, so that the passes are executed
+	// one after the other; it is created on demand and shut down when the
+	// behavior is deactivated
+	private ExecutorService layoutExecutor;
+	// the asynchronous layout pass that was submitted last
+	private Future<?> layoutFuture;
+	// whether a synchronous layout pass was deferred, because its layout
+	// algorithm was in use by an asynchronous layout pass
+	private boolean isLayoutDeferred = false;
+
+	private static Map<String, Object> copyAttributes(Map<String, Object> attributes) {
+		Map<String, Object> copy = new HashMap<>(attributes);
+		// copy (mutable) geometric values, so they are not shared between
+		// threads
+		for (Entry<String, Object> entry : copy.entrySet()) {
+			if (entry.getValue() instanceof Point) {
+				entry.setValue(((Point) entry.getValue()).getCopy());
+			} else if (entry.getValue() instanceof Dimension) {
+				entry.setValue(((Dimension) entry.getValue()).getCopy());
+			} else if (entry.getValue() instanceof Rectangle) {
+				entry.setValue(((Rectangle) entry.getValue()).getCopy());
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Copies the layout relevant nodes and edges of the given
+	 * {@link LayoutContext} (including their attributes) into a new
+	 * {@link Graph}, which is detached from the content (and from the
+	 * viewer), so that it can be laid out on a background thread.
+	 *
+	 * @param layoutContext
+	 *            The {@link LayoutContext} to copy.
+	 * @param copies
+	 *            A {@link Map} to which the copy of each node and edge is put.
+	 * @param snapshots
+	 *            A {@link Map} to which a snapshot of the attributes of each
+	 *            node and edge (as copied) is put.
+	 * @return The detached {@link Graph}.
+	 */
+	private static Graph createDetachedGraph(LayoutContext layoutContext, Map<Object, Object> copies,
+			Map<Object, Map<String, Object>> snapshots) {
+		List<org.eclipse.gef.graph.Node> nodeCopies = new ArrayList<>();
+		for (org.eclipse.gef.graph.Node node : layoutContext.getNodes()) {
+			Map<String, Object> snapshot = copyAttributes(node.getAttributes());
+			org.eclipse.gef.graph.Node copy = new org.eclipse.gef.graph.Node(copyAttributes(snapshot));
+			copies.put(node, copy);
+			snapshots.put(node, snapshot);
+			nodeCopies.add(copy);
+		}
+		List<Edge> edgeCopies = new ArrayList<>();
+		for (Edge edge : layoutContext.getEdges()) {
+			org.eclipse.gef.graph.Node source = (org.eclipse.gef.graph.Node) copies.get(edge.getSource());
+			org.eclipse.gef.graph.Node target = (org.eclipse.gef.graph.Node) copies.get(edge.getTarget());
+			if (source != null && target != null) {
+				Map<String, Object> snapshot = copyAttributes(edge.getAttributes());
+				Edge copy = new Edge(copyAttributes(snapshot), source, target);
+				copies.put(edge, copy);
+				snapshots.put(edge, snapshot);
+				edgeCopies.add(copy);
+			}
+		}
+		return new Graph(copyAttributes(layoutContext.getGraph().getAttributes()), nodeCopies, edgeCopies);
+	}
+
+	private static synchronized ReentrantLock getLayoutLock(ILayoutAlgorithm layoutAlgorithm) {
+		ReentrantLock layoutLock = layoutLocks.get(layoutAlgorithm);
+		if (layoutLock == null) {
+			layoutLock = new ReentrantLock();
+			layoutLocks.put(layoutAlgorithm, layoutLock);
+		}
+		return layoutLock;
+	}
+
+	/**
+	 * Transfers the attributes that were changed by a layout pass on a
+	 * detached copy back to the original. Only those attributes whose values
+	 * differ from the snapshot that was taken when the copy was created are
+	 * transferred, so that concurrent changes of other attributes (that were
+	 * applied to the original in the meantime) are not overwritten.
+	 *
+	 * @param snapshot
+	 *            The attributes of the copy before the layout pass.
+	 * @param source
+	 *            The attributes of the copy after the layout pass.
+	 * @param target
+	 *            The attributes of the original.
+	 */
+	private static void transferAttributes(Map<String, Object> snapshot, Map<String, Object> source,
+			Map<String, Object> target) {
+		for (Entry<String, Object> entry : source.entrySet()) {
+			if (!Objects.equals(snapshot.get(entry.getKey()), entry.getValue())) {
+				target.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
 	/**
 	 * Performs one layout pass using the static layout algorithm that is
 	 * configured for the layout context.
@@ -152,7 +277,96 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		}
 
 		// apply layout (if no algorithm is set, will be a no-op)
-		layoutContext.applyLayout(true);
+		if (asynchronous) {
+			applyLayoutAsynchronously();
+		} else if (layoutAlgorithm != null) {
+			// do not block the JavaFX application thread in case the layout
+			// algorithm is in use by an asynchronous layout pass, but defer
+			// the layout pass until it is finished
+			ReentrantLock layoutLock = getLayoutLock(layoutAlgorithm);
+			if (layoutLock.tryLock()) {
+				try {
+					layoutContext.applyLayout(true);
+				} finally {
+					layoutLock.unlock();
+				}
+			} else {
+				deferLayout(layoutLock);
+			}
+		} else {
+			layoutContext.applyLayout(true);
+		}
+	}
+
+	/**
+	 * Performs an asynchronous layout pass: The layout information is
+	 * transferred to the layout model (pre-layout) and copied into a detached
+	 * {@link Graph} on the JavaFX application thread. The layout algorithm is
+	 * then applied to the detached graph on a background thread, before the
+	 * results are transferred back into the layout model and to the visuals
+	 * (post-layout), again on the JavaFX application thread. In case another
+	 * layout pass is started in the meantime, the pending pass is cancelled,
+	 * or its results are discarded if it is already running.
+	 */
+	private void applyLayoutAsynchronously() {
+		final LayoutContext layoutContext = getLayoutContext();
+		final ILayoutAlgorithm layoutAlgorithm = layoutContext.getLayoutAlgorithm();
+		if (layoutAlgorithm == null) {
+			return;
+		}
+		final long generation = ++layoutGeneration;
+		if (layoutFuture != null) {
+			layoutFuture.cancel(false);
+		}
+
+		// snapshot layout information
+		layoutContext.preLayout();
+		final Map<Object, Object> copies = new IdentityHashMap<>();
+		final Map<Object, Map<String, Object>> snapshots = new IdentityHashMap<>();
+		final Graph detachedGraph = createDetachedGraph(layoutContext, copies, snapshots);
+
+		layoutFuture = getLayoutExecutor().submit(new Runnable() {
+			@Override
+			public void run() {
+				if (generation != layoutGeneration) {
+					// superseded by a subsequent layout pass
+					return;
+				}
+				LayoutContext detachedContext = new LayoutContext();
+				detachedContext.setGraph(detachedGraph);
+				detachedContext.setLayoutAlgorithm(layoutAlgorithm);
+				ReentrantLock layoutLock = getLayoutLock(layoutAlgorithm);
+				layoutLock.lock();
+				try {
+					detachedContext.applyLayout(true);
+				} finally {
+					layoutLock.unlock();
+				}
+
+				Platform.runLater(new Runnable() {
+					@Override
+					public void run() {
+						if (generation != layoutGeneration || !isActive()) {
+							// superseded by a subsequent layout pass
+							return;
+						}
+						// transfer results back to the layout model
+						for (Entry<Object, Object> entry : copies.entrySet()) {
+							Map<String, Object> snapshot = snapshots.get(entry.getKey());
+							if (entry.getKey() instanceof org.eclipse.gef.graph.Node) {
+								transferAttributes(snapshot,
+										((org.eclipse.gef.graph.Node) entry.getValue()).getAttributes(),
+										((org.eclipse.gef.graph.Node) entry.getKey()).getAttributes());
+							} else {
+								transferAttributes(snapshot, ((Edge) entry.getValue()).getAttributes(),
+										((Edge) entry.getKey()).getAttributes());
+							}
+						}
+						layoutContext.postLayout();
+					}
+				});
+			}
+		});
 	}
 
 	/**
@@ -181,6 +395,38 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		return newBounds;
 	}
 
+	/**
+	 * Defers a synchronous layout pass until the given lock (of the layout
+	 * algorithm) is released by the asynchronous layout pass that holds it.
+	 * The lock is awaited on the layout thread, and the layout pass is
+	 * re-scheduled on the JavaFX application thread afterwards.
+	 *
+	 * @param layoutLock
+	 *            The lock of the layout algorithm.
+	 */
+	private void deferLayout(final ReentrantLock layoutLock) {
+		if (isLayoutDeferred || !isActive()) {
+			return;
+		}
+		isLayoutDeferred = true;
+		getLayoutExecutor().submit(new Runnable() {
+			@Override
+			public void run() {
+				layoutLock.lock();
+				layoutLock.unlock();
+				Platform.runLater(new Runnable() {
+					@Override
+					public void run() {
+						isLayoutDeferred = false;
+						if (isActive()) {
+							scheduleLayout();
+						}
+					}
+				});
+			}
+		});
+	}
+
 	@Override
 	protected void doActivate() {
 		getHost().getChildrenUnmodifiable().addListener(childrenObserver);
@@ -264,6 +510,20 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 
 	@Override
 	protected void doDeactivate() {
+		// discard pending layout passes
+		layoutGeneration++;
+		if (layoutFuture != null) {
+			layoutFuture.cancel(false);
+			layoutFuture = null;
+		}
+		if (layoutExecutor != null) {
+			layoutExecutor.shutdown();
+			layoutExecutor = null;
+		}
+		LayoutScheduler layoutScheduler = getLayoutScheduler();
+		if (layoutScheduler != null) {
+			layoutScheduler.unscheduleLayout(this);
+		}
 		getHost().getChildrenUnmodifiable().removeListener(childrenObserver);
 
 		final HidingModel hidingModel = getHost().getRoot().getViewer().getAdapter(HidingModel.class);
@@ -300,11 +560,44 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		return ((InfiniteCanvasViewer) getHost().getRoot().getViewer()).getCanvas();
 	}
 
+	/**
+	 * Returns the {@link ExecutorService} that is used to run the asynchronous
+	 * layout passes of this behavior, creating it if necessary. A single
+	 * (daemon) thread is used, so that the layout passes are executed one
+	 * after the other.
+	 *
+	 * @return The {@link ExecutorService} for asynchronous layout passes.
+	 */
+	private ExecutorService getLayoutExecutor() {
+		if (layoutExecutor == null) {
+			layoutExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "Zest Layout");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return layoutExecutor;
+	}
+
 	@Override
 	protected LayoutContext getLayoutContext() {
 		return getHost().getAdapter(LayoutContext.class);
 	}
 
+	/**
+	 * Returns the {@link LayoutScheduler} of the {@link IViewer} of the
+	 * {@link #getHost() host}.
+	 *
+	 * @return The {@link LayoutScheduler} of the {@link IViewer} of the
+	 *         {@link #getHost() host}, or <code>null</code> if none is bound.
+	 */
+	protected LayoutScheduler getLayoutScheduler() {
+		return getHost().getRoot().getViewer().getAdapter(LayoutScheduler.class);
+	}
+
 	/**
 	 * Returns the {@link NodePart} that contains the nested graph to which the
 	 * behavior corresponds, if this behavior is related to a nested graph.
@@ -319,9 +612,42 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		return null;
 	}
 
+	/**
+	 * Returns whether layout passes are performed asynchronously.
+	 *
+	 * @return <code>true</code> if the layout algorithm is executed on a
+	 *         background thread, <code>false</code> if it is executed on the
+	 *         JavaFX application thread.
+	 * @see #setAsynchronous(boolean)
+	 */
+	public boolean isAsynchronous() {
+		return asynchronous;
+	}
+
 	@Override
 	protected void postLayout() {
-		// execute post-layout of all nodes and edges
+		// defer the refreshes of the edges while the nodes are relocated, so
+		// that each edge is routed only once afterwards
+		List<EdgeLayoutBehavior> edgeLayoutBehaviors = new ArrayList<>();
+		List<Connection> connections = new ArrayList<>();
+		List<Connection> deferredConnections = new ArrayList<>();
+		for (IVisualPart<? extends Node> child : getHost().getChildrenUnmodifiable()) {
+			if (child.getViewer() == null) {
+				continue;
+			}
+			AbstractLayoutBehavior childLayoutBehavior = child.getAdapter(AbstractLayoutBehavior.class);
+			if (childLayoutBehavior instanceof EdgeLayoutBehavior) {
+				edgeLayoutBehaviors.add((EdgeLayoutBehavior) childLayoutBehavior);
+				Connection connection = ((EdgeLayoutBehavior) childLayoutBehavior).getHost().getVisual();
+				connections.add(connection);
+				if (!connection.isDeferredRefresh()) {
+					connection.setDeferredRefresh(true);
+					deferredConnections.add(connection);
+				}
+			}
+		}
+
+		// execute post-layout of all nodes
 		for (IVisualPart<? extends Node> child : getHost().getChildrenUnmodifiable()) {
 			// FIXME: Layout should only be triggered when content-part-map
 			// is changed, not when the children are changed.
@@ -329,10 +655,22 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 				continue;
 			}
 			AbstractLayoutBehavior childLayoutBehavior = child.getAdapter(AbstractLayoutBehavior.class);
-			if (childLayoutBehavior != null) {
+			if (childLayoutBehavior != null && !(childLayoutBehavior instanceof EdgeLayoutBehavior)) {
 				childLayoutBehavior.postLayout();
 			}
 		}
+
+		// route all edges within a single batch (which fulfills the deferred
+		// refreshes)
+		routeEdges(connections, edgeLayoutBehaviors);
+		for (Connection connection : deferredConnections) {
+			connection.setDeferredRefresh(false);
+		}
+
+		// execute post-layout of all edges
+		for (EdgeLayoutBehavior edgeLayoutBehavior : edgeLayoutBehaviors) {
+			edgeLayoutBehavior.postLayout();
+		}
 	}
 
 	@Override
@@ -351,6 +689,75 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		}
 	}
 
+	/**
+	 * Routes the given {@link Connection}s (of the edges) after the nodes have
+	 * been relocated by a layout pass, using a {@link BatchRouter}. If layout
+	 * passes are performed {@link #isAsynchronous() asynchronously}, the
+	 * connections are routed asynchronously as well, and the labels of the
+	 * edges are laid out again after the results have been applied.
+	 *
+	 * @param connections
+	 *            The {@link Connection}s to route.
+	 * @param edgeLayoutBehaviors
+	 *            The {@link EdgeLayoutBehavior}s of the edges.
+	 */
+	protected void routeEdges(List<Connection> connections, final List<EdgeLayoutBehavior> edgeLayoutBehaviors) {
+		// do not (re-)create the layout executor in case the behavior is
+		// already deactivated
+		if (!asynchronous || !isActive()) {
+			BatchRouter.route(connections);
+			return;
+		}
+		final long generation = layoutGeneration;
+		BatchRouter.routeAsynchronously(connections, getLayoutExecutor()).thenRun(new Runnable() {
+			@Override
+			public void run() {
+				if (generation != layoutGeneration || !isActive()) {
+					// superseded by a subsequent layout pass
+					return;
+				}
+				for (EdgeLayoutBehavior edgeLayoutBehavior : edgeLayoutBehaviors) {
+					if (edgeLayoutBehavior.isActive()) {
+						edgeLayoutBehavior.layoutLabels();
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Requests a layout pass, which is performed by the {@link LayoutScheduler}
+	 * of the viewer (so that successive requests are coalesced), or
+	 * immediately in case no {@link LayoutScheduler} is available.
+	 */
+	protected void scheduleLayout() {
+		LayoutScheduler layoutScheduler = getLayoutScheduler();
+		if (layoutScheduler != null) {
+			layoutScheduler.scheduleLayout(this);
+		} else {
+			applyLayout(true, null);
+		}
+	}
+
+	/**
+	 * Sets whether layout passes are performed asynchronously. If enabled,
+	 * the layout algorithm is executed on a background thread against a
+	 * detached copy of the layout relevant nodes and edges, so that the JavaFX
+	 * application thread is not blocked while a layout is computed. The
+	 * results are transferred to the visuals on the JavaFX application thread
+	 * afterwards. The results of layout passes that are superseded by a
+	 * subsequent one are discarded. Asynchronous layout is disabled by
+	 * default.
+	 *
+	 * @param asynchronous
+	 *            <code>true</code> to execute the layout algorithm on a
+	 *            background thread, <code>false</code> to execute it on the
+	 *            JavaFX application thread.
+	 */
+	public void setAsynchronous(boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
 	/**
 	 * Updates the bounds property from the visual (viewport or nesting node)
 	 */
@@ -364,7 +771,7 @@ public class GraphLayoutBehavior extends AbstractLayoutBehavior {
 		Rectangle oldBounds = LayoutProperties.getBounds(getHost().getContent());
 		if (oldBounds != newBounds && (oldBounds == null || !oldBounds.equals(newBounds))) {
 			LayoutProperties.setBounds(getHost().getContent(), newBounds);
-			applyLayout(true, null);
+			scheduleLayout();
 		}
 	}
 }
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+
+import javafx.application.Platform;
+
+/**
+ * The {@link LayoutScheduler} coalesces layout requests of the
+ * {@link GraphLayoutBehavior}s of an {@link IViewer}, so that each graph is
+ * laid out at most once per pulse, no matter how many changes (e.g. of the
+ * children or the hidden nodes) requested a layout pass. It is not bound by
+ * default (so that layout passes are performed synchronously), but may be
+ * bound as an adapter to the content {@link IViewer} (see
+ * {@link org.eclipse.gef.zest.fx.ZestFxModule#bindLayoutSchedulerAsContentViewerAdapter(com.google.inject.multibindings.MapBinder)
+ * ZestFxModule}).
+ * <p>
+ * Clients that perform a series of changes may additionally enclose them in
+ * {@link #beginBatch()} and {@link #endBatch()} (or perform them via
+ * {@link #runInBatch(LayoutScheduler, Runnable)}), so that no layout pass is
+ * performed before all changes have been applied.
+ *
+ * @author agent
+ *
+ */
+public class LayoutScheduler {
+
+	private final Set<GraphLayoutBehavior> dirtyBehaviors = new LinkedHashSet<>();
+	private int batchDepth = 0;
+	private boolean isFlushScheduled = false;
+
+	/**
+	 * Starts a batch of changes. Layout passes that are requested until the
+	 * batch is ended via {@link #endBatch()} are deferred. Batches may be
+	 * nested, in which case the layout passes are deferred until the
+	 * outermost batch is ended.
+	 */
+	public void beginBatch() {
+		batchDepth++;
+	}
+
+	/**
+	 * Ends a batch of changes that was started via {@link #beginBatch()}. If
+	 * the outermost batch is ended, the layout passes that were requested in
+	 * the meantime are scheduled for the next pulse.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batch was started.
+	 */
+	public void endBatch() {
+		if (batchDepth <= 0) {
+			throw new IllegalStateException("No batch was started.");
+		}
+		batchDepth--;
+		if (batchDepth == 0 && !dirtyBehaviors.isEmpty()) {
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Performs all pending layout passes immediately.
+	 */
+	public void flush() {
+		List<GraphLayoutBehavior> behaviors = new ArrayList<>(dirtyBehaviors);
+		dirtyBehaviors.clear();
+		for (GraphLayoutBehavior behavior : behaviors) {
+			if (behavior.isActive()) {
+				behavior.applyLayout(true, null);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a batch of changes is in progress, i.e.
+	 * {@link #beginBatch()} was called more often than {@link #endBatch()}.
+	 *
+	 * @return <code>true</code> if a batch is in progress, <code>false</code>
+	 *         otherwise.
+	 */
+	public boolean isBatching() {
+		return batchDepth > 0;
+	}
+
+	/**
+	 * Returns whether a layout pass is pending for the given
+	 * {@link GraphLayoutBehavior}.
+	 *
+	 * @param behavior
+	 *            The {@link GraphLayoutBehavior} to test.
+	 * @return <code>true</code> if a layout pass is pending for the given
+	 *         {@link GraphLayoutBehavior}, <code>false</code> otherwise.
+	 */
+	public boolean isLayoutScheduled(GraphLayoutBehavior behavior) {
+		return dirtyBehaviors.contains(behavior);
+	}
+
+	/**
+	 * Runs the given {@link Runnable} within a batch of changes of the given
+	 * {@link LayoutScheduler} (see {@link #beginBatch()} and
+	 * {@link #endBatch()}), so that a single layout pass is performed for all
+	 * resulting changes. If no {@link LayoutScheduler} is given, the
+	 * {@link Runnable} is simply run.
+	 *
+	 * @param layoutScheduler
+	 *            The {@link LayoutScheduler} to use, or <code>null</code>.
+	 * @param runnable
+	 *            The {@link Runnable} that performs the changes.
+	 */
+	public static void runInBatch(LayoutScheduler layoutScheduler,
+			Runnable runnable) {
+		if (layoutScheduler == null) {
+			runnable.run();
+			return;
+		}
+		layoutScheduler.beginBatch();
+		try {
+			runnable.run();
+		} finally {
+			layoutScheduler.endBatch();
+		}
+	}
+
+	private void scheduleFlush() {
+		if (isFlushScheduled) {
+			return;
+		}
+		isFlushScheduled = true;
+		Platform.runLater(new Runnable() {
+			@Override
+			public void run() {
+				isFlushScheduled = false;
+				if (!isBatching()) {
+					flush();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Marks the given {@link GraphLayoutBehavior} as requiring a layout pass.
+	 * The layout pass is performed within the next pulse, or after the
+	 * current batch has been ended, respectively.
+	 *
+	 * @param behavior
+	 *            The {@link GraphLayoutBehavior} for which to schedule a
+	 *            layout pass.
+	 */
+	public void scheduleLayout(GraphLayoutBehavior behavior) {
+		dirtyBehaviors.add(behavior);
+		if (!isBatching()) {
+			scheduleFlush();
+		}
+	}
+
+	/**
+	 * Removes a pending layout pass for the given {@link GraphLayoutBehavior}
+	 * (if any).
+	 *
+	 * @param behavior
+	 *            The {@link GraphLayoutBehavior} for which to cancel a pending
+	 *            layout pass.
+	 */
+	public void unscheduleLayout(GraphLayoutBehavior behavior) {
+		dirtyBehaviors.remove(behavior);
+	}
+
+}
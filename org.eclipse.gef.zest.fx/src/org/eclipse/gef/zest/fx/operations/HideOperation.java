@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.zest.fx.behaviors.LayoutScheduler;
 import org.eclipse.gef.zest.fx.models.HidingModel;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
@@ -35,6 +36,7 @@ public class HideOperation extends AbstractOperation implements ITransactionalOp
 	private NodePart nodePart;
 	private IViewer viewer;
 	private HidingModel hidingModel;
+	private LayoutScheduler layoutScheduler;
 	private boolean initialHiddenStatus;
 
 	/**
@@ -51,14 +53,21 @@ public class HideOperation extends AbstractOperation implements ITransactionalOp
 		this.viewer = viewer;
 		this.nodePart = nodePart;
 		hidingModel = viewer.<HidingModel>getAdapter(HidingModel.class);
+		layoutScheduler = viewer.<LayoutScheduler>getAdapter(LayoutScheduler.class);
 		initialHiddenStatus = hidingModel.isHidden(nodePart);
 	}
 
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
 		if (!viewer.getAdapter(HidingModel.class).isHidden(nodePart)) {
-			hidingModel.hide(nodePart);
-			nodePart.deactivate();
+			// perform a single layout pass for all resulting changes
+			LayoutScheduler.runInBatch(layoutScheduler, new Runnable() {
+				@Override
+				public void run() {
+					hidingModel.hide(nodePart);
+					nodePart.deactivate();
+				}
+			});
 		}
 		return Status.OK_STATUS;
 	}
@@ -81,8 +90,14 @@ public class HideOperation extends AbstractOperation implements ITransactionalOp
 	@Override
 	public IStatus undo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
 		if (viewer.getAdapter(HidingModel.class).isHidden(nodePart)) {
-			nodePart.activate();
-			hidingModel.show(nodePart);
+			// perform a single layout pass for all resulting changes
+			LayoutScheduler.runInBatch(layoutScheduler, new Runnable() {
+				@Override
+				public void run() {
+					nodePart.activate();
+					hidingModel.show(nodePart);
+				}
+			});
 		}
 		return Status.OK_STATUS;
 	}
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.gef.mvc.fx.operations.ITransactionalOperation;
 import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.zest.fx.behaviors.LayoutScheduler;
 import org.eclipse.gef.zest.fx.models.HidingModel;
 import org.eclipse.gef.zest.fx.parts.NodePart;
 
@@ -39,6 +40,7 @@ public class ShowHiddenNeighborsOperation extends AbstractOperation implements I
 
 	private NodePart nodePart;
 	private HidingModel hidingModel;
+	private LayoutScheduler layoutScheduler;
 	private List<NodePart> shownNeighbors = new ArrayList<>();
 
 	/**
@@ -56,19 +58,26 @@ public class ShowHiddenNeighborsOperation extends AbstractOperation implements I
 		super("ShowHiddenNeighbors");
 		this.nodePart = nodePart;
 		hidingModel = viewer.getAdapter(HidingModel.class);
+		layoutScheduler = viewer.getAdapter(LayoutScheduler.class);
 	}
 
 	@Override
 	public IStatus execute(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
 		// save the graph nodes that are removed from the hiding model
 		shownNeighbors.clear();
-		Set<NodePart> hiddenNeighbors = hidingModel.getHiddenNeighborParts(nodePart);
+		final Set<NodePart> hiddenNeighbors = hidingModel.getHiddenNeighborParts(nodePart);
 		if (hiddenNeighbors != null && !hiddenNeighbors.isEmpty()) {
-			for (NodePart neighborPart : hiddenNeighbors) {
-				neighborPart.activate();
-				hidingModel.show(neighborPart);
-				shownNeighbors.add(neighborPart);
-			}
+			// perform a single layout pass for all neighbors
+			LayoutScheduler.runInBatch(layoutScheduler, new Runnable() {
+				@Override
+				public void run() {
+					for (NodePart neighborPart : hiddenNeighbors) {
+						neighborPart.activate();
+						hidingModel.show(neighborPart);
+						shownNeighbors.add(neighborPart);
+					}
+				}
+			});
 		}
 		return Status.OK_STATUS;
 	}
@@ -91,10 +100,16 @@ public class ShowHiddenNeighborsOperation extends AbstractOperation implements I
 
 	@Override
 	public IStatus undo(IProgressMonitor monitor, IAdaptable info) throws ExecutionException {
-		for (NodePart neighborPart : shownNeighbors) {
-			hidingModel.hide(neighborPart);
-			neighborPart.deactivate();
-		}
+		// perform a single layout pass for all neighbors
+		LayoutScheduler.runInBatch(layoutScheduler, new Runnable() {
+			@Override
+			public void run() {
+				for (NodePart neighborPart : shownNeighbors) {
+					hidingModel.hide(neighborPart);
+					neighborPart.deactivate();
+				}
+			}
+		});
 		return Status.OK_STATUS;
 	}
 
@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule.RunnableWithResult;
+import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.LayoutScheduler;
+import org.eclipse.gef.zest.fx.parts.GraphPart;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+
+/**
+ * Tests asynchronous layout passes of the {@link GraphLayoutBehavior}. As the
+ * results of an asynchronous layout pass are transferred on the JavaFX
+ * application thread, the tests are not executed on it, but only access the
+ * behavior and the graph from it.
+ */
+public class GraphLayoutBehaviorTests {
+
+	/**
+	 * An {@link ILayoutAlgorithm} that moves all nodes to (n, n) in its n-th
+	 * pass, and that records the threads and graphs it is applied to. The
+	 * first pass may be blocked until it is released.
+	 */
+	private static class RecordingLayoutAlgorithm implements ILayoutAlgorithm {
+		final List<Boolean> isFxApplicationThread = Collections.synchronizedList(new ArrayList<Boolean>());
+		final List<Graph> graphs = Collections.synchronizedList(new ArrayList<Graph>());
+		final CountDownLatch firstPassStarted = new CountDownLatch(1);
+		CountDownLatch firstPassReleased = new CountDownLatch(0);
+
+		@Override
+		public void applyLayout(LayoutContext layoutContext, boolean clean) {
+			isFxApplicationThread.add(Platform.isFxApplicationThread());
+			graphs.add(layoutContext.getGraph());
+			int pass = graphs.size();
+			if (pass == 1) {
+				firstPassStarted.countDown();
+				try {
+					firstPassReleased.await();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			for (Node node : layoutContext.getNodes()) {
+				LayoutProperties.setLocation(node, new Point(pass, pass));
+			}
+		}
+	}
+
+	private static final long TIMEOUT_MILLIS = 10000;
+
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private static Graph createGraph(ILayoutAlgorithm layoutAlgorithm) {
+		Graph graph = new Graph.Builder().nodes(new Node(), new Node()).build();
+		for (Node node : graph.getNodes()) {
+			LayoutProperties.setLocation(node, new Point());
+		}
+		ZestProperties.setLayoutAlgorithm(graph, layoutAlgorithm);
+		return graph;
+	}
+
+	private void applyLayout(final GraphLayoutBehavior behavior) throws Throwable {
+		ctx.runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				behavior.applyLayout(true, null);
+			}
+		});
+	}
+
+	private GraphLayoutBehavior createGraphLayoutBehavior(final Graph graph, final boolean asynchronous)
+			throws Throwable {
+		return ctx.runAndWait(new RunnableWithResult<GraphLayoutBehavior>() {
+			@Override
+			public GraphLayoutBehavior run() {
+				final GraphPart host = new GraphPart() {
+					@Override
+					public Graph getContent() {
+						return graph;
+					}
+				};
+				final LayoutContext layoutContext = new LayoutContext();
+				GraphLayoutBehavior behavior = new GraphLayoutBehavior() {
+					@Override
+					protected void doActivate() {
+						// do not register any listeners
+					}
+
+					@Override
+					protected void doDeactivate() {
+						// nothing to unregister
+					}
+
+					@Override
+					public GraphPart getHost() {
+						return host;
+					}
+
+					@Override
+					protected LayoutContext getLayoutContext() {
+						return layoutContext;
+					}
+
+					@Override
+					protected LayoutScheduler getLayoutScheduler() {
+						return null;
+					}
+				};
+				behavior.setAsynchronous(asynchronous);
+				behavior.activate();
+				return behavior;
+			}
+		});
+	}
+
+	private void waitForLocation(final Graph graph, final Point location) throws Throwable {
+		long startMillis = System.currentTimeMillis();
+		while (!ctx.runAndWait(new RunnableWithResult<Boolean>() {
+			@Override
+			public Boolean run() {
+				for (Node node : graph.getNodes()) {
+					if (!location.equals(LayoutProperties.getLocation(node))) {
+						return false;
+					}
+				}
+				return true;
+			}
+		})) {
+			if (System.currentTimeMillis() - startMillis > TIMEOUT_MILLIS) {
+				throw new IllegalStateException("TIMEOUT");
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	@Test
+	public void asynchronousLayoutIsAppliedToDetachedGraph() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		Graph graph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior behavior = createGraphLayoutBehavior(graph, true);
+
+		applyLayout(behavior);
+		waitForLocation(graph, new Point(1, 1));
+
+		assertEquals(1, layoutAlgorithm.graphs.size());
+		assertNotSame(graph, layoutAlgorithm.graphs.get(0));
+		assertEquals(graph.getNodes().size(), layoutAlgorithm.graphs.get(0).getNodes().size());
+		assertFalse(layoutAlgorithm.isFxApplicationThread.get(0));
+	}
+
+	@Test
+	public void supersededLayoutPassesAreDiscarded() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		layoutAlgorithm.firstPassReleased = new CountDownLatch(1);
+		final Graph graph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior behavior = createGraphLayoutBehavior(graph, true);
+
+		// record all locations that are transferred to the graph
+		final List<Point> locations = Collections.synchronizedList(new ArrayList<Point>());
+		ctx.runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				for (final Node node : graph.getNodes()) {
+					node.getAttributes().addListener(new MapChangeListener<String, Object>() {
+						@Override
+						public void onChanged(MapChangeListener.Change<? extends String, ? extends Object> change) {
+							locations.add(LayoutProperties.getLocation(node));
+						}
+					});
+				}
+			}
+		});
+
+		// start a first pass, and request two more while it is running
+		applyLayout(behavior);
+		assertTrue(layoutAlgorithm.firstPassStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		applyLayout(behavior);
+		applyLayout(behavior);
+		layoutAlgorithm.firstPassReleased.countDown();
+
+		// the second pass is cancelled, and the results of the first one are
+		// discarded
+		waitForLocation(graph, new Point(2, 2));
+		assertEquals(2, layoutAlgorithm.graphs.size());
+		assertFalse(locations.contains(new Point(1, 1)));
+	}
+
+	@Test
+	public void synchronousLayoutIsDeferredWhileAlgorithmIsInUse() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		layoutAlgorithm.firstPassReleased = new CountDownLatch(1);
+		Graph asynchronousGraph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior asynchronousBehavior = createGraphLayoutBehavior(asynchronousGraph, true);
+		Graph synchronousGraph = createGraph(layoutAlgorithm);
+		GraphLayoutBehavior synchronousBehavior = createGraphLayoutBehavior(synchronousGraph, false);
+
+		// start an asynchronous pass that blocks the algorithm; the
+		// synchronous pass may not block the JavaFX application thread
+		applyLayout(asynchronousBehavior);
+		assertTrue(layoutAlgorithm.firstPassStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		applyLayout(synchronousBehavior);
+		assertEquals(1, layoutAlgorithm.graphs.size());
+
+		// the synchronous pass is performed once the algorithm is released
+		layoutAlgorithm.firstPassReleased.countDown();
+		waitForLocation(asynchronousGraph, new Point(1, 1));
+		waitForLocation(synchronousGraph, new Point(2, 2));
+		assertEquals(2, layoutAlgorithm.graphs.size());
+		assertTrue(layoutAlgorithm.isFxApplicationThread.get(1));
+	}
+
+	@Test
+	public void unchangedAttributesAreNotTransferred() throws Throwable {
+		RecordingLayoutAlgorithm layoutAlgorithm = new RecordingLayoutAlgorithm();
+		layoutAlgorithm.firstPassReleased = new CountDownLatch(1);
+		final Graph graph = createGraph(layoutAlgorithm);
+		for (Node node : graph.getNodes()) {
+			ZestProperties.setLabel(node, "initial");
+		}
+		GraphLayoutBehavior behavior = createGraphLayoutBehavior(graph, true);
+
+		// change an attribute (that is not changed by the algorithm) while
+		// the layout pass is running
+		applyLayout(behavior);
+		assertTrue(layoutAlgorithm.firstPassStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		ctx.runAndWait(new Runnable() {
+			@Override
+			public void run() {
+				for (Node node : graph.getNodes()) {
+					ZestProperties.setLabel(node, "changed");
+				}
+			}
+		});
+		layoutAlgorithm.firstPassReleased.countDown();
+
+		// only the location is transferred back
+		waitForLocation(graph, new Point(1, 1));
+		for (Node node : graph.getNodes()) {
+			assertEquals("changed", ZestProperties.getLabel(node));
+		}
+	}
+
+}
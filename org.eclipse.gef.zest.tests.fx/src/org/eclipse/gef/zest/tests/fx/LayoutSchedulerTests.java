@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 agent and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     agent - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.LayoutScheduler;
+import org.eclipse.gef.zest.fx.models.HidingModel;
+import org.eclipse.gef.zest.fx.operations.HideOperation;
+import org.eclipse.gef.zest.fx.operations.ShowHiddenNeighborsOperation;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.collections.SetChangeListener;
+
+public class LayoutSchedulerTests {
+
+	private static class CountingGraphLayoutBehavior extends GraphLayoutBehavior {
+		int layoutPasses = 0;
+
+		@Override
+		public void applyLayout(boolean clean, Object extra) {
+			layoutPasses++;
+		}
+
+		@Override
+		protected void doActivate() {
+			// do not register any listeners
+		}
+
+		@Override
+		protected void doDeactivate() {
+			// nothing to unregister
+		}
+	}
+
+	/**
+	 * Creates a {@link CountingGraphLayoutBehavior} that requests a layout pass
+	 * for each change of the given {@link HidingModel} (as the
+	 * {@link GraphLayoutBehavior} does), and records whether the change was
+	 * applied within a batch.
+	 */
+	private static CountingGraphLayoutBehavior createHidingModelObserver(final HidingModel hidingModel,
+			final LayoutScheduler scheduler, final List<Boolean> batching) {
+		final CountingGraphLayoutBehavior behavior = new CountingGraphLayoutBehavior();
+		behavior.activate();
+		hidingModel.hiddenProperty().addListener(new SetChangeListener<Node>() {
+			@Override
+			public void onChanged(SetChangeListener.Change<? extends Node> change) {
+				batching.add(scheduler.isBatching());
+				scheduler.scheduleLayout(behavior);
+			}
+		});
+		return behavior;
+	}
+
+	private static NodePart createNodePart(final Node node) {
+		return new NodePart() {
+			@Override
+			public Node getContent() {
+				return node;
+			}
+		};
+	}
+
+	private static InfiniteCanvasViewer createViewer(HidingModel hidingModel, LayoutScheduler scheduler) {
+		InfiniteCanvasViewer viewer = new InfiniteCanvasViewer();
+		viewer.setAdapter(hidingModel);
+		viewer.setAdapter(scheduler);
+		return viewer;
+	}
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	@Test
+	public void batchDefersLayout() {
+		LayoutScheduler scheduler = new LayoutScheduler();
+		CountingGraphLayoutBehavior behavior = new CountingGraphLayoutBehavior();
+		behavior.activate();
+
+		scheduler.beginBatch();
+		scheduler.beginBatch();
+		scheduler.scheduleLayout(behavior);
+		scheduler.endBatch();
+		assertTrue(scheduler.isBatching());
+		scheduler.scheduleLayout(behavior);
+		scheduler.endBatch();
+		assertFalse(scheduler.isBatching());
+		assertTrue(scheduler.isLayoutScheduled(behavior));
+
+		scheduler.flush();
+		assertEquals(1, behavior.layoutPasses);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void endBatchWithoutBeginBatch() {
+		new LayoutScheduler().endBatch();
+	}
+
+	@Test
+	public void hideOperationIsBatched() throws ExecutionException {
+		LayoutScheduler scheduler = new LayoutScheduler();
+		HidingModel hidingModel = new HidingModel();
+		InfiniteCanvasViewer viewer = createViewer(hidingModel, scheduler);
+		List<Boolean> batching = new ArrayList<>();
+		CountingGraphLayoutBehavior behavior = createHidingModelObserver(hidingModel, scheduler, batching);
+		NodePart nodePart = createNodePart(new Node());
+
+		HideOperation operation = new HideOperation(viewer, nodePart);
+		operation.execute(null, null);
+		assertTrue(hidingModel.isHidden(nodePart));
+		operation.undo(null, null);
+		assertFalse(hidingModel.isHidden(nodePart));
+
+		// all changes are applied within a batch, and result in a single
+		// layout pass
+		assertEquals(Arrays.asList(true, true), batching);
+		assertFalse(scheduler.isBatching());
+		assertTrue(scheduler.isLayoutScheduled(behavior));
+		scheduler.flush();
+		assertEquals(1, behavior.layoutPasses);
+	}
+
+	@Test
+	public void inactiveBehaviorsAreSkipped() {
+		LayoutScheduler scheduler = new LayoutScheduler();
+		CountingGraphLayoutBehavior behavior = new CountingGraphLayoutBehavior();
+		scheduler.scheduleLayout(behavior);
+		scheduler.flush();
+		assertEquals(0, behavior.layoutPasses);
+	}
+
+	@Test
+	public void showHiddenNeighborsOperationIsBatched() throws ExecutionException {
+		final Set<NodePart> neighborParts = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			neighborParts.add(createNodePart(new Node()));
+		}
+		HidingModel hidingModel = new HidingModel() {
+			@Override
+			public Set<NodePart> getHiddenNeighborParts(NodePart nodePart) {
+				Set<NodePart> hiddenNeighborParts = new HashSet<>();
+				for (NodePart neighborPart : neighborParts) {
+					if (isHidden(neighborPart)) {
+						hiddenNeighborParts.add(neighborPart);
+					}
+				}
+				return hiddenNeighborParts;
+			}
+		};
+		for (NodePart neighborPart : neighborParts) {
+			hidingModel.hide(neighborPart);
+		}
+		LayoutScheduler scheduler = new LayoutScheduler();
+		InfiniteCanvasViewer viewer = createViewer(hidingModel, scheduler);
+		List<Boolean> batching = new ArrayList<>();
+		CountingGraphLayoutBehavior behavior = createHidingModelObserver(hidingModel, scheduler, batching);
+
+		ShowHiddenNeighborsOperation operation = new ShowHiddenNeighborsOperation(viewer,
+				createNodePart(new Node()));
+		operation.execute(null, null);
+		assertTrue(hidingModel.getHiddenNodesUnmodifiable().isEmpty());
+
+		// all neighbors are shown within a single batch, and result in a
+		// single layout pass
+		assertEquals(Collections.nCopies(3, true), batching);
+		assertFalse(scheduler.isBatching());
+		scheduler.flush();
+		assertEquals(1, behavior.layoutPasses);
+
+		// the same applies to undo
+		batching.clear();
+		operation.undo(null, null);
+		assertEquals(3, hidingModel.getHiddenNodesUnmodifiable().size());
+		assertEquals(Collections.nCopies(3, true), batching);
+		scheduler.flush();
+		assertEquals(2, behavior.layoutPasses);
+	}
+
+	@Test
+	public void successiveRequestsAreCoalesced() {
+		LayoutScheduler scheduler = new LayoutScheduler();
+		CountingGraphLayoutBehavior first = new CountingGraphLayoutBehavior();
+		first.activate();
+		CountingGraphLayoutBehavior second = new CountingGraphLayoutBehavior();
+		second.activate();
+
+		for (int i = 0; i < 100; i++) {
+			scheduler.scheduleLayout(first);
+			scheduler.scheduleLayout(second);
+		}
+		scheduler.unscheduleLayout(second);
+		assertTrue(scheduler.isLayoutScheduled(first));
+		assertFalse(scheduler.isLayoutScheduled(second));
+
+		scheduler.flush();
+		assertEquals(1, first.layoutPasses);
+		assertEquals(0, second.layoutPasses);
+		assertFalse(scheduler.isLayoutScheduled(first));
+	}
+
+}